@@ -0,0 +1,57 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 이전 정규식 파서와 한 번 훑는 파서의 콘티 파싱 시간을 비교한다. {@code ./gradlew jmh}로 실행한다.
+ */
+@State(Scope.Benchmark)
+public class ContiParserBenchmark {
+
+  @Param({"4", "12", "40"})
+  private int songCount;
+
+  private final User creator = User.builder()
+      .id(1L)
+      .email("suming@example.com")
+      .name("수밍")
+      .role(Role.USER)
+      .build();
+
+  private String contiText;
+  private LegacyContiParser legacyContiParser;
+  private ContiParserService contiParserService;
+
+  @Setup
+  public void setUp() {
+    contiText = buildContiText(songCount);
+    legacyContiParser = new LegacyContiParser();
+    contiParserService = new ContiParserService(null);
+  }
+
+  @Benchmark
+  public Conti legacyRegexParser() {
+    return legacyContiParser.parseContiText(contiText, creator);
+  }
+
+  @Benchmark
+  public Conti lexerParser() {
+    return contiParserService.parseContiText(contiText, creator);
+  }
+
+  private String buildContiText(int songs) {
+    StringBuilder text = new StringBuilder("20250405 찬양집회 콘티\n\n");
+    for (int i = 1; i <= songs; i++) {
+      text.append(i).append(". 정직한 예배 G-Ab / 제이어스 (후렴 2번)\n")
+          .append("https://youtu.be/R9tUikvBv5M?si=_Njl-T7VYU7c1hvb\n")
+          .append("[간주 후 전조]\n\n");
+    }
+    return text.append("주제 : Alive\n").toString();
+  }
+}
@@ -17,4 +17,10 @@ public class AppConfig {
   @Value("${file.max-size}")
   private long fileMaxSize;
 
+  @Value("${file.audio-storage.max-bytes:10737418240}")
+  private long audioStorageMaxBytes;
+
+  @Value("${file.audio-storage.pin-days:7}")
+  private int audioStoragePinDays;
+
 }
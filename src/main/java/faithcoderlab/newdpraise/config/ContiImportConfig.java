@@ -0,0 +1,67 @@
+package faithcoderlab.newdpraise.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+@Configuration
+public class ContiImportConfig {
+
+  @Bean(name = "contiImportExecutor")
+  public ThreadPoolTaskExecutor contiImportExecutor(
+      @Value("${conti-import.concurrency:1}") int concurrency,
+      @Value("${conti-import.queue-capacity:10}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("conti-import-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(name = "contiParseExecutor")
+  public ThreadPoolTaskExecutor contiParseExecutor(
+      @Value("${conti-import.parse-threads:4}") int parseThreads
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(parseThreads);
+    executor.setMaxPoolSize(parseThreads);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("conti-parse-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 콘티 일괄 가져오기 업로드에만 큰 multipart 한도를 적용한다.
+   * 한도는 서블릿 단위로 적용되므로 같은 컨텍스트를 쓰는 DispatcherServlet을 업로드 경로에만 따로 등록하고,
+   * 나머지 요청은 spring.servlet.multipart의 기본 한도를 그대로 따른다.
+   */
+  @Bean
+  public ServletRegistrationBean<DispatcherServlet> contiImportServlet(
+      WebApplicationContext applicationContext,
+      @Value("${conti-import.max-file-size:100MB}") DataSize maxFileSize,
+      @Value("${conti-import.max-request-size:100MB}") DataSize maxRequestSize
+  ) {
+    ServletRegistrationBean<DispatcherServlet> registration =
+        new ServletRegistrationBean<>(new DispatcherServlet(applicationContext), "/conti/import");
+    registration.setName("contiImportServlet");
+    registration.setLoadOnStartup(1);
+    registration.setMultipartConfig(new MultipartConfigElement(
+        "", maxFileSize.toBytes(), maxRequestSize.toBytes(), 0));
+    return registration;
+  }
+}
@@ -0,0 +1,44 @@
+package faithcoderlab.newdpraise.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PrefetchConfig {
+
+  @Bean(name = "prefetchExecutor")
+  public ThreadPoolTaskExecutor prefetchExecutor(
+      @Value("${prefetch.concurrency:2}") int concurrency,
+      @Value("${prefetch.queue-capacity:200}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadPriority(Thread.MIN_PRIORITY);
+    executor.setThreadNamePrefix("audio-prefetch-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(name = "hlsExecutor")
+  public ThreadPoolTaskExecutor hlsExecutor(
+      @Value("${hls.concurrency:${prefetch.concurrency:2}}") int concurrency,
+      @Value("${hls.queue-capacity:50}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("audio-hls-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+    executor.initialize();
+    return executor;
+  }
+}
@@ -45,6 +45,8 @@ public class SecurityConfig {
             .requestMatchers("/auth/refresh").permitAll()
             .requestMatchers("/swagger-ui/**").permitAll()
             .requestMatchers("/v3/api-docs/**").permitAll()
+            // 웹소켓 핸드셰이크는 ContiCollaborationHandshakeInterceptor가 토큰과 편집 권한을 확인한다.
+            .requestMatchers("/ws/**").permitAll()
             .anyRequest().authenticated()
         )
         .exceptionHandling(exception -> exception
@@ -0,0 +1,29 @@
+package faithcoderlab.newdpraise.config;
+
+import faithcoderlab.newdpraise.domain.conti.collab.ContiCollaborationHandler;
+import faithcoderlab.newdpraise.domain.conti.collab.ContiCollaborationHandshakeInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+  private final ContiCollaborationHandler contiCollaborationHandler;
+  private final ContiCollaborationHandshakeInterceptor contiCollaborationHandshakeInterceptor;
+
+  @Value("${conti-collab.allowed-origins:http://localhost:3000}")
+  private String[] allowedOrigins;
+
+  @Override
+  public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+    registry.addHandler(contiCollaborationHandler, "/ws/conti/*")
+        .addInterceptors(contiCollaborationHandshakeInterceptor)
+        .setAllowedOriginPatterns(allowedOrigins);
+  }
+}
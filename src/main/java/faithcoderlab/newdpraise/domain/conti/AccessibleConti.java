@@ -0,0 +1,16 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import faithcoderlab.newdpraise.domain.conti.share.ContiSharePermission;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자가 볼 수 있는 콘티 한 행. 공유받은 콘티면 수락한 공유의 권한을, 직접 만든 콘티면 null을 함께 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccessibleConti {
+
+  private final Conti conti;
+  private final ContiSharePermission sharePermission;
+}
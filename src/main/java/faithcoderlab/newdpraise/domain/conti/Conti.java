@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -19,6 +20,7 @@ import jakarta.persistence.OrderColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -29,7 +31,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "conti")
+@Table(name = "conti", indexes = {
+    @Index(name = "idx_conti_creator_scheduled", columnList = "creator_id, scheduled_at, id"),
+    @Index(name = "idx_conti_scheduled", columnList = "scheduled_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -65,6 +70,13 @@ public class Conti {
   @Column(nullable = false)
   private String version;
 
+  /**
+   * 낙관적 잠금 버전. 수정이 커밋될 때마다 1씩 오르고, 그 사이 다른 사람이 먼저 커밋했으면 수정이 거절된다.
+   */
+  @Version
+  @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+  private long lockVersion;
+
   @Column(columnDefinition = "TEXT")
   private String originalText;
 
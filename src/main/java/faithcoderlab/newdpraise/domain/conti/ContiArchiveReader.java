@@ -0,0 +1,188 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import faithcoderlab.newdpraise.domain.conti.ContiTextLexer.DateToken;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여러 콘티가 이어 붙은 텍스트(콘티 모음, 카카오톡 대화 내보내기)를 날짜로 시작하는 줄마다 끊어 하나씩 읽는다.
+ * 메모리에는 읽고 있는 콘티 하나만 두며, 최대 길이를 넘는 콘티는 내용을 버리고 끝까지 건너뛴다.
+ * 첫 날짜 줄 앞의 내용은 콘티로 보지 않는다.
+ */
+public class ContiArchiveReader implements Iterator<ContiArchiveReader.Entry>, Closeable {
+
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+  private static final String KAKAO_SEPARATOR = "-----";
+
+  private final BufferedReader reader;
+  private final int maxEntryLength;
+
+  private long lineNumber;
+  private int entryIndex;
+  private String headerLine;
+  private long headerLineNumber;
+  private Entry next;
+
+  public ContiArchiveReader(Reader reader, int maxEntryLength) {
+    this.reader = reader instanceof BufferedReader bufferedReader
+        ? bufferedReader : new BufferedReader(reader);
+    this.maxEntryLength = maxEntryLength;
+  }
+
+  /**
+   * 콘티 하나. 최대 길이를 넘으면 {@code text}는 null이다.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Entry {
+
+    private final int index;
+    private final long lineNumber;
+    private final String text;
+
+    public boolean isTooLong() {
+      return text == null;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readEntry();
+    }
+    return next != null;
+  }
+
+  @Override
+  public Entry next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Entry entry = next;
+    next = null;
+    return entry;
+  }
+
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  /**
+   * 카카오톡 "[이름] [오후 3:12]" 머리를 뗀 줄이 날짜로 시작하면 그 줄, 아니면 null.
+   */
+  static String toHeader(String line) {
+    String body = stripKakaoPrefix(line).trim();
+    DateToken date = ContiTextLexer.dateAt(body, 0);
+    if (date == null || date.month < 1 || date.month > 12 || date.day < 1 || date.day > 31) {
+      return null;
+    }
+    return body;
+  }
+
+  private Entry readEntry() {
+    while (headerLine == null) {
+      String line = readLine();
+      if (line == null) {
+        return null;
+      }
+      headerLine = toHeader(line);
+      headerLineNumber = lineNumber;
+    }
+
+    long startLineNumber = headerLineNumber;
+    StringBuilder text = new StringBuilder(headerLine);
+    boolean tooLong = headerLine.length() > maxEntryLength;
+    headerLine = null;
+
+    String line;
+    while ((line = readLine()) != null) {
+      String header = toHeader(line);
+      if (header != null) {
+        headerLine = header;
+        headerLineNumber = lineNumber;
+        break;
+      }
+      if (tooLong || isKakaoSeparator(line)) {
+        continue;
+      }
+
+      String body = stripKakaoPrefix(line);
+      if (text.length() + 1 + body.length() > maxEntryLength) {
+        tooLong = true;
+        text = new StringBuilder();
+      } else {
+        text.append('\n').append(body);
+      }
+    }
+
+    entryIndex++;
+    return new Entry(entryIndex, startLineNumber, tooLong ? null : text.toString());
+  }
+
+  /**
+   * 줄 하나를 읽는다. 최대 길이를 넘는 부분은 버려서 줄바꿈 없는 큰 파일도 메모리를 더 쓰지 않는다.
+   */
+  private String readLine() {
+    try {
+      StringBuilder line = new StringBuilder();
+      boolean read = false;
+      int c;
+      while ((c = reader.read()) != -1) {
+        read = true;
+        if (c == '\n') {
+          break;
+        }
+        if (line.length() <= maxEntryLength) {
+          line.append((char) c);
+        }
+      }
+      if (!read) {
+        return null;
+      }
+
+      lineNumber++;
+      int length = line.length();
+      if (length > 0 && line.charAt(length - 1) == '\r') {
+        line.setLength(length - 1);
+      }
+      if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+        line.deleteCharAt(0);
+      }
+      return line.toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String stripKakaoPrefix(String line) {
+    if (!line.startsWith("[")) {
+      return line;
+    }
+    int nameEnd = line.indexOf("] [");
+    if (nameEnd < 0) {
+      return line;
+    }
+    int timeEnd = line.indexOf(']', nameEnd + 3);
+    if (timeEnd < 0 || line.lastIndexOf(':', timeEnd) < nameEnd) {
+      return line;
+    }
+    return line.substring(timeEnd + 1);
+  }
+
+  private static boolean isKakaoSeparator(String line) {
+    String trimmed = line.trim();
+    return trimmed.startsWith(KAKAO_SEPARATOR) && trimmed.endsWith(KAKAO_SEPARATOR);
+  }
+}
@@ -0,0 +1,31 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import faithcoderlab.newdpraise.domain.conti.search.ContiSearchDocument;
+import lombok.Getter;
+
+/**
+ * 콘티를 저장하거나 지웠을 때 트랜잭션 안에서 발행한다. 저장일 때는 발행 시점의 색인용 값을 함께 담는다.
+ */
+@Getter
+public class ContiChangedEvent {
+
+  private final Long contiId;
+  private final ContiSearchDocument document;
+
+  private ContiChangedEvent(Long contiId, ContiSearchDocument document) {
+    this.contiId = contiId;
+    this.document = document;
+  }
+
+  public static ContiChangedEvent saved(Conti conti) {
+    return new ContiChangedEvent(conti.getId(), ContiSearchDocument.of(conti));
+  }
+
+  public static ContiChangedEvent deleted(Long contiId) {
+    return new ContiChangedEvent(contiId, null);
+  }
+
+  public boolean isDeleted() {
+    return document == null;
+  }
+}
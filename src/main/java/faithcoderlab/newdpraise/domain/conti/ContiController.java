@@ -1,37 +1,44 @@
 package faithcoderlab.newdpraise.domain.conti;
 
 import faithcoderlab.newdpraise.domain.conti.dto.ContiCreateRequest;
+import faithcoderlab.newdpraise.domain.conti.dto.ContiParseCacheStats;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiParseRequest;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiParseResponse;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiResponse;
+import faithcoderlab.newdpraise.domain.conti.dto.ContiResponseCacheStats;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiSearchRequest;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiUpdateRequest;
 import faithcoderlab.newdpraise.domain.conti.share.ContiShare;
-import faithcoderlab.newdpraise.domain.conti.share.ContiSharePermission;
-import faithcoderlab.newdpraise.domain.conti.share.ContiShareService;
+import faithcoderlab.newdpraise.domain.song.dto.AudioArchive;
+import faithcoderlab.newdpraise.domain.song.service.AudioArchiveService;
 import faithcoderlab.newdpraise.domain.user.User;
 import faithcoderlab.newdpraise.domain.user.UserRepository;
 import faithcoderlab.newdpraise.global.exception.AuthenticationException;
 import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import faithcoderlab.newdpraise.global.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -51,9 +58,10 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Conti", description = "콘티 관련 API")
 public class ContiController {
 
-  private final ContiParserService contiParserService;
+  private final ContiParseCache contiParseCache;
   private final ContiService contiService;
-  private final ContiShareService contiShareService;
+  private final ContiResponseCache contiResponseCache;
+  private final AudioArchiveService audioArchiveService;
   private final UserRepository userRepository;
 
   @Operation(summary = "콘티 텍스트 파싱", description = "텍스트 형태의 콘티를 파싱하여 구조화된 데이터로 변환합니다.")
@@ -69,12 +77,37 @@ public class ContiController {
   ) {
 
     User user = getUserFromPrincipal(principal);
-    Conti conti = contiParserService.parseContiText(request.getContiText(), user);
-    ContiParseResponse response = mapToParseResponse(conti);
+    ContiParseResponse response = contiParseCache.parse(request.getContiText(), user);
 
     return ResponseEntity.ok(response);
   }
 
+  @Operation(summary = "콘티 파싱 캐시 통계", description = "콘티 텍스트 파싱 캐시의 적중률과 크기를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공",
+          content = @Content(schema = @Schema(implementation = ContiParseCacheStats.class))),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/parse/cache-stats")
+  public ResponseEntity<ContiParseCacheStats> getParseCacheStats(Principal principal) {
+    getUserFromPrincipal(principal);
+
+    return ResponseEntity.ok(contiParseCache.getStats());
+  }
+
+  @Operation(summary = "콘티 응답 캐시 통계", description = "콘티 조회 응답 캐시와 공유 권한 캐시의 적중률과 크기를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공",
+          content = @Content(schema = @Schema(implementation = ContiResponseCacheStats.class))),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/cache-stats")
+  public ResponseEntity<ContiResponseCacheStats> getResponseCacheStats(Principal principal) {
+    getUserFromPrincipal(principal);
+
+    return ResponseEntity.ok(contiResponseCache.getStats());
+  }
+
   @Operation(summary = "콘티 생성", description = "새로운 콘티를 생성합니다.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "201", description = "콘티 생성 성공",
@@ -100,7 +133,8 @@ public class ContiController {
           content = @Content(schema = @Schema(implementation = ContiResponse.class))),
       @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 데이터"),
       @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-      @ApiResponse(responseCode = "404", description = "콘티를 찾을 수 없음")
+      @ApiResponse(responseCode = "404", description = "콘티를 찾을 수 없음"),
+      @ApiResponse(responseCode = "409", description = "다른 사용자가 먼저 수정함")
   })
   @PutMapping("/{contiId}")
   public ResponseEntity<ContiResponse> updateConti(
@@ -115,21 +149,27 @@ public class ContiController {
     return ResponseEntity.ok(response);
   }
 
-  @Operation(summary = "모든 콘티 목록 조회", description = "사용자의 모든 콘티 목록(생성 + 공유)을 조회합니다.")
+  @Operation(summary = "모든 콘티 목록 조회",
+      description = "사용자가 만든 콘티와 공유받은 콘티를 예정일 내림차순으로 함께 조회합니다. "
+          + "응답의 nextCursor를 다음 요청의 cursor로 넘깁니다.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서"),
       @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
   })
   @GetMapping("/all")
-  public ResponseEntity<List<ContiResponse>> getAllContiList(Principal principal) {
+  @Transactional(readOnly = true)
+  public ResponseEntity<CursorPage<ContiResponse>> getAllContiList(
+      Principal principal,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
     User user = getUserFromPrincipal(principal);
-    List<Conti> contiList = contiService.getAllUserContis(user);
-
-    List<ContiResponse> responseList = contiList.stream()
-        .map(this::mapToContiResponse)
-        .collect(Collectors.toList());
+    CursorPage<AccessibleConti> contiPage = contiService.getAllUserContis(user, cursor, size);
 
-    return ResponseEntity.ok(responseList);
+    List<ContiResponse> responses = contiResponseCache.renderAccessible(contiPage.getItems(), user);
+    return ResponseEntity.ok(
+        new CursorPage<>(responses, contiPage.getNextCursor(), contiPage.isHasNext()));
   }
 
   @Operation(summary = "콘티 목록 조회", description = "사용자의 콘티 목록을 조회합니다.")
@@ -158,9 +198,7 @@ public class ContiController {
       contiList = contiService.getUserContiList(user);
     }
 
-    List<ContiResponse> responseList = contiList.stream()
-        .map(this::mapToContiResponse)
-        .collect(Collectors.toList());
+    List<ContiResponse> responseList = mapToContiResponses(contiList, user);
 
     return ResponseEntity.ok(responseList);
   }
@@ -187,11 +225,32 @@ public class ContiController {
     Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
     Page<Conti> contiPage = contiService.getUserContiList(user, pageable);
-    Page<ContiResponse> responsePage = contiPage.map(this::mapToContiResponse);
+    Page<ContiResponse> responsePage = mapToContiResponses(contiPage, user);
 
     return ResponseEntity.ok(responsePage);
   }
 
+  @Operation(summary = "커서 기반 콘티 목록 조회",
+      description = "예정일 내림차순으로 다음 페이지를 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘기며, 전체 개수는 세지 않습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/cursor")
+  @Transactional(readOnly = true)
+  public ResponseEntity<CursorPage<ContiResponse>> getContiListByCursor(
+      Principal principal,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    User user = getUserFromPrincipal(principal);
+
+    CursorPage<Conti> contiPage = contiService.getUserContiList(user, cursor, size);
+
+    return ResponseEntity.ok(mapToContiResponses(contiPage, user));
+  }
+
   @Operation(summary = "고급 검색", description = "다양한 조건으로 콘티를 검색합니다.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "검색 성공"),
@@ -207,7 +266,7 @@ public class ContiController {
       @RequestParam(defaultValue = "desc") String direction,
       Principal principal
   ) {
-    getUserFromPrincipal(principal);
+    User user = getUserFromPrincipal(principal);
 
     Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") ?
         Sort.Direction.ASC : Sort.Direction.DESC;
@@ -215,16 +274,39 @@ public class ContiController {
     Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
     Page<Conti> contiPage = contiService.advancedSearch(request, pageable);
-    Page<ContiResponse> responsePage = contiPage.map(this::mapToContiResponse);
+    Page<ContiResponse> responsePage = mapToContiResponses(contiPage, user);
 
     return ResponseEntity.ok(responsePage);
   }
 
+  @Operation(summary = "커서 기반 고급 검색",
+      description = "다양한 조건으로 콘티를 예정일 내림차순으로 검색합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘깁니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "검색 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @PostMapping("/search/cursor")
+  @Transactional(readOnly = true)
+  public ResponseEntity<CursorPage<ContiResponse>> advancedSearchByCursor(
+      @RequestBody ContiSearchRequest request,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+
+    CursorPage<Conti> contiPage = contiService.advancedSearch(request, cursor, size);
+
+    return ResponseEntity.ok(mapToContiResponses(contiPage, user));
+  }
+
   @Operation(summary = "콘티 상태 업데이트", description = "콘티의 상태를 업데이트합니다.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "상태 업데이트 성공"),
       @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-      @ApiResponse(responseCode = "404", description = "콘티를 찾을 수 없음")
+      @ApiResponse(responseCode = "404", description = "콘티를 찾을 수 없음"),
+      @ApiResponse(responseCode = "409", description = "다른 사용자가 먼저 수정함")
   })
   @PutMapping("/{contiId}/status")
   public ResponseEntity<ContiResponse> updateContiStatus(
@@ -269,14 +351,12 @@ public class ContiController {
       @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate date,
       Principal principal
   ) {
-    getUserFromPrincipal(principal);
+    User user = getUserFromPrincipal(principal);
 
     LocalDate searchDate = date != null ? date : LocalDate.now();
     List<Conti> contiList = contiService.getUpcomingContis(searchDate);
 
-    List<ContiResponse> responseList = contiList.stream()
-        .map(this::mapToContiResponse)
-        .collect(Collectors.toList());
+    List<ContiResponse> responseList = mapToContiResponses(contiList, user);
 
     return ResponseEntity.ok(responseList);
   }
@@ -292,14 +372,12 @@ public class ContiController {
       @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate date,
       Principal principal
   ) {
-    getUserFromPrincipal(principal);
+    User user = getUserFromPrincipal(principal);
 
     LocalDate searchDate = date != null ? date : LocalDate.now();
     List<Conti> contiList = contiService.getPastContis(searchDate);
 
-    List<ContiResponse> responseList = contiList.stream()
-        .map(this::mapToContiResponse)
-        .collect(Collectors.toList());
+    List<ContiResponse> responseList = mapToContiResponses(contiList, user);
 
     return ResponseEntity.ok(responseList);
   }
@@ -325,9 +403,7 @@ public class ContiController {
       contiList = contiService.getContisByStatus(status);
     }
 
-    List<ContiResponse> responseList = contiList.stream()
-        .map(this::mapToContiResponse)
-        .collect(Collectors.toList());
+    List<ContiResponse> responseList = mapToContiResponses(contiList, user);
 
     return ResponseEntity.ok(responseList);
   }
@@ -351,6 +427,32 @@ public class ContiController {
     return ResponseEntity.ok(response);
   }
 
+  @Operation(summary = "콘티 오디오 일괄 다운로드",
+      description = "콘티에 포함된 곡의 오디오 파일을 ZIP으로 내려받습니다. "
+          + "준비되지 않은 곡은 백그라운드에서 다운로드를 시작하고 manifest.json에 기록합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "다운로드 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자 또는 조회 권한 없음"),
+      @ApiResponse(responseCode = "404", description = "콘티를 찾을 수 없음")
+  })
+  @GetMapping("/{contiId}/audio-archive")
+  public void downloadAudioArchive(
+      @PathVariable Long contiId, Principal principal, HttpServletResponse response
+  ) throws IOException {
+    User user = getUserFromPrincipal(principal);
+    AudioArchive archive = audioArchiveService.prepareArchive(contiId, user);
+
+    String fileName = (archive.getContiTitle() != null ? archive.getContiTitle() : "conti-" + contiId)
+        + ".zip";
+    response.setContentType("application/zip");
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+        .filename(fileName, StandardCharsets.UTF_8)
+        .build()
+        .toString());
+
+    audioArchiveService.writeArchive(archive, response.getOutputStream());
+  }
+
   private User getUserFromPrincipal(Principal principal) {
     if (principal == null) {
       throw new AuthenticationException("인증되지 않은 사용자입니다.");
@@ -360,93 +462,29 @@ public class ContiController {
         .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
   }
 
-  private ContiParseResponse mapToParseResponse(Conti conti) {
-    List<ContiParseResponse.SongDto> songDtos = conti.getSongs().stream()
-        .map(song -> ContiParseResponse.SongDto.builder()
-            .title(song.getTitle())
-            .originalKey(song.getOriginalKey())
-            .performanceKey(song.getPerformanceKey())
-            .youtubeUrl(song.getYoutubeUrl())
-            .specialInstructions(song.getSpecialInstructions())
-            .bpm(song.getBpm())
-            .build())
-        .toList();
-
-    return ContiParseResponse.builder()
-        .title(conti.getTitle())
-        .scheduledAt(conti.getScheduledAt())
-        .songs(songDtos)
-        .version(conti.getVersion())
-        .status(conti.getStatus().name())
-        .build();
-  }
-
   private ContiResponse mapToContiResponse(Conti conti) {
     return mapToContiResponse(conti, null);
   }
 
   private ContiResponse mapToContiResponse(Conti conti, User currentUser) {
-    List<ContiResponse.SongDto> songDtos = new ArrayList<>();
-    if (conti.getSongs() != null) {
-      songDtos = conti.getSongs().stream()
-          .map(song -> ContiResponse.SongDto.builder()
-              .id(song.getId())
-              .title(song.getTitle())
-              .originalKey(song.getOriginalKey())
-              .performanceKey(song.getPerformanceKey())
-              .artist(song.getArtist())
-              .youtubeUrl(song.getYoutubeUrl())
-              .specialInstructions(song.getSpecialInstructions())
-              .build())
-          .toList();
-    }
+    return contiResponseCache.render(conti, currentUser);
+  }
 
-    boolean isCreator = false;
-    boolean isShared = false;
-    boolean canEdit = false;
-    boolean canShare = false;
-    String permissionType = "NONE";
-
-    if (currentUser != null && conti.getCreator() != null) {
-      isCreator = conti.getCreator().getId().equals(currentUser.getId());
-
-      if (isCreator) {
-        canEdit = true;
-        canShare = true;
-        permissionType = "CREATOR";
-      } else {
-        isShared = contiShareService.hasPermission(conti.getId(), currentUser.getId(),
-            ContiSharePermission.VIEW, ContiSharePermission.EDIT, ContiSharePermission.ADMIN);
-        canEdit = contiShareService.hasPermission(conti.getId(), currentUser.getId(),
-            ContiSharePermission.EDIT, ContiSharePermission.ADMIN);
-        canShare = contiShareService.hasPermission(conti.getId(), currentUser.getId(),
-            ContiSharePermission.ADMIN);
-
-        if (canShare) {
-          permissionType = "ADMIN";
-        } else if (canEdit) {
-          permissionType = "EDIT";
-        } else if (isShared) {
-          permissionType = "VIEW";
-        }
-      }
-    }
+  /**
+   * 목록을 응답으로 바꾼다. 바뀌지 않은 콘티는 캐시한 응답에 사용자 권한만 덧씌운다.
+   */
+  private List<ContiResponse> mapToContiResponses(List<Conti> contis, User currentUser) {
+    return contiResponseCache.render(contis, currentUser);
+  }
+
+  private Page<ContiResponse> mapToContiResponses(Page<Conti> contiPage, User currentUser) {
+    List<ContiResponse> responses = contiResponseCache.render(contiPage.getContent(), currentUser);
+    return new PageImpl<>(responses, contiPage.getPageable(), contiPage.getTotalElements());
+  }
 
-    return ContiResponse.builder()
-        .id(conti.getId())
-        .title(conti.getTitle())
-        .description(conti.getDescription())
-        .scheduledAt(conti.getScheduledAt())
-        .creatorId(conti.getCreator() != null ? conti.getCreator().getId() : null)
-        .creatorName(conti.getCreator() != null ? conti.getCreator().getName() : null)
-        .songs(songDtos)
-        .status(conti.getStatus().name())
-        .createdAt(conti.getCreatedAt())
-        .updatedAt(conti.getUpdatedAt())
-        .isShared(isShared)
-        .canEdit(canEdit)
-        .canShare(canShare)
-        .permissionType(permissionType)
-        .build();
+  private CursorPage<ContiResponse> mapToContiResponses(CursorPage<Conti> contiPage,
+      User currentUser) {
+    List<ContiResponse> responses = contiResponseCache.render(contiPage.getItems(), currentUser);
+    return new CursorPage<>(responses, contiPage.getNextCursor(), contiPage.isHasNext());
   }
 }
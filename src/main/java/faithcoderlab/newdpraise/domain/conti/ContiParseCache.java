@@ -0,0 +1,184 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import faithcoderlab.newdpraise.domain.conti.dto.ContiParseCacheStats;
+import faithcoderlab.newdpraise.domain.conti.dto.ContiParseResponse;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 편집기가 입력이 멈출 때마다 보내는 콘티 파싱 요청의 결과를 캐시한다.
+ * 정규화한 텍스트의 해시로 전체 결과를 찾고, 없으면 다시 파싱하되 곡 블록(곡 줄과 추가 정보 줄)이 같으면 그 곡은 이전 결과를 쓴다.
+ * 날짜가 없는 콘티는 오늘 날짜로 해석하므로 날짜가 바뀌면 전체 결과를 버린다.
+ */
+@Slf4j
+@Component
+public class ContiParseCache {
+
+  private static final Song NO_SONG = new Song();
+
+  private final ContiParserService contiParserService;
+  private final int maxEntries;
+  private final int maxBlockEntries;
+
+  private final Map<String, CachedResponse> responses;
+  private final Map<String, Song> blocks;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder blockHits = new LongAdder();
+  private final LongAdder blockMisses = new LongAdder();
+
+  public ContiParseCache(
+      ContiParserService contiParserService,
+      @Value("${conti-parse-cache.max-entries:500}") int maxEntries,
+      @Value("${conti-parse-cache.max-block-entries:5000}") int maxBlockEntries
+  ) {
+    this.contiParserService = contiParserService;
+    this.maxEntries = maxEntries;
+    this.maxBlockEntries = maxBlockEntries;
+    this.responses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+        if (size() > maxEntries) {
+          evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    });
+    this.blocks = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Song> eldest) {
+        return size() > maxBlockEntries;
+      }
+    });
+  }
+
+  private static final class CachedResponse {
+
+    final LocalDate parsedOn;
+    final ContiParseResponse response;
+
+    CachedResponse(LocalDate parsedOn, ContiParseResponse response) {
+      this.parsedOn = parsedOn;
+      this.response = response;
+    }
+  }
+
+  /**
+   * 콘티 텍스트를 파싱한 응답. 파싱 결과에 작성자가 들어가지 않으므로 사용자와 관계없이 공유한다.
+   * 돌려준 응답은 다른 요청과 공유되므로 고치지 않는다.
+   */
+  public ContiParseResponse parse(String contiText, User creator) {
+    String normalized = normalize(contiText);
+    String key = hash(normalized);
+    LocalDate today = LocalDate.now();
+
+    CachedResponse cached = responses.get(key);
+    if (cached != null && cached.parsedOn.equals(today)) {
+      hits.increment();
+      return cached.response;
+    }
+    misses.increment();
+
+    Conti conti = contiParserService.parseContiText(normalized, creator, this::parseSongBlock);
+    ContiParseResponse response = ContiParseResponse.fromConti(conti);
+    responses.put(key, new CachedResponse(today, response));
+    return response;
+  }
+
+  public ContiParseCacheStats getStats() {
+    long hitCount = hits.sum();
+    long missCount = misses.sum();
+    long blockHitCount = blockHits.sum();
+    long blockMissCount = blockMisses.sum();
+
+    return ContiParseCacheStats.builder()
+        .entries(responses.size())
+        .maxEntries(maxEntries)
+        .hits(hitCount)
+        .misses(missCount)
+        .hitRatio(ratio(hitCount, missCount))
+        .evictions(evictions.sum())
+        .blockEntries(blocks.size())
+        .maxBlockEntries(maxBlockEntries)
+        .blockHits(blockHitCount)
+        .blockMisses(blockMissCount)
+        .blockHitRatio(ratio(blockHitCount, blockMissCount))
+        .build();
+  }
+
+  public void clear() {
+    responses.clear();
+    blocks.clear();
+    log.info("콘티 파싱 캐시 비움");
+  }
+
+  /**
+   * 줄바꿈을 \n으로 맞추고 끝의 공백과 첫 줄 앞의 공백을 지운다. 파싱 결과가 바뀌지 않는 차이만 없앤다.
+   */
+  static String normalize(String contiText) {
+    String text = contiText.replace("\r\n", "\n").stripTrailing();
+    int start = 0;
+    while (start < text.length() && text.charAt(start) != '\n'
+        && Character.isWhitespace(text.charAt(start))) {
+      start++;
+    }
+    return text.substring(start);
+  }
+
+  private Song parseSongBlock(String songLine, String additionalInfo) {
+    String key = songLine + '\n' + additionalInfo;
+    Song cached = blocks.get(key);
+    if (cached != null) {
+      blockHits.increment();
+      return cached == NO_SONG ? null : copyOf(cached);
+    }
+    blockMisses.increment();
+
+    Song song = contiParserService.parseSongBlock(songLine, additionalInfo);
+    blocks.put(key, song == null ? NO_SONG : copyOf(song));
+    return song;
+  }
+
+  private static Song copyOf(Song song) {
+    return Song.builder()
+        .title(song.getTitle())
+        .originalKey(song.getOriginalKey())
+        .performanceKey(song.getPerformanceKey())
+        .artist(song.getArtist())
+        .youtubeUrl(song.getYoutubeUrl())
+        .referenceUrl(song.getReferenceUrl())
+        .urlType(song.getUrlType())
+        .specialInstructions(song.getSpecialInstructions())
+        .bpm(song.getBpm())
+        .build();
+  }
+
+  private static String hash(String text) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+    }
+  }
+
+  private static double ratio(long hits, long misses) {
+    long total = hits + misses;
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+}
@@ -1,72 +1,104 @@
 package faithcoderlab.newdpraise.domain.conti;
 
+import faithcoderlab.newdpraise.domain.conti.ContiTextLexer.DateToken;
 import faithcoderlab.newdpraise.domain.song.Song;
 import faithcoderlab.newdpraise.domain.song.SongRepository;
 import faithcoderlab.newdpraise.domain.song.UrlType;
 import faithcoderlab.newdpraise.domain.user.User;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+/**
+ * 콘티 텍스트를 줄 단위로 한 번 훑으며 제목, 날짜, 곡 목록을 만든다.
+ * 곡 줄 뒤의 추가 정보 줄은 다음 곡 번호, 빈 줄, 주제 줄이 나올 때까지 열린 곡에 이어 붙인다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ContiParserService {
 
-  private static final Pattern DATE_PATTERN = Pattern.compile(
-      "\\d{8}|" +
-          "\\d{4}[-./]\\d{1,2}[-./]\\d{1,2}|" +
-          "\\d{4}년\\s*\\d{1,2}월\\s*\\d{1,2}일|" +
-          "\\d{1,2}[-./]\\d{1,2}[-./]\\d{4}|" +
-          "\\d{1,2}[-./]\\d{1,2}"
-  );
+  static final String UNTITLED = "무제";
 
-  private static final Pattern SONG_LINE_PATTERN = Pattern.compile(
-      "(?im)^\\s*(?:(\\d+)[.\\s]+)([^\\r\\n]+)$");
-
-  private static final Pattern KEY_PATTERN = Pattern.compile(
-      "\\b([A-Ga-g][#b♯♭]?m?(?:-[A-Ga-g][#b♯♭]?m?)?)\\b");
-
-  private static final Pattern YOUTUBE_URL_PATTERN = Pattern.compile(
-      "(?:https?://)?(?:www\\.)?(?:youtube\\.com/watch\\?v=|youtu\\.be/)([a-zA-Z0-9_-]{11})(?:[?&][^\\s]*)?");
+  private final SongRepository songRepository;
 
-  private static final Pattern GENERAL_URL_PATTERN = Pattern.compile(
-      "(?:https?://)?(?:www\\.)?[-a-zA-Z0-9@:%._\\+~#=]{1,256}\\.[a-zA-Z0-9()]{1,6}\\b(?:[-a-zA-Z0-9()@:%_\\+.~#?&//=]*)"
-  );
+  public Conti parseContiText(String contiText, User creator) {
+    return parseContiText(contiText, creator, this::parseSongBlock);
+  }
 
-  private static final Pattern BPM_PATTERN = Pattern.compile(
-      "\\b(?:BPM|템포)[:\\s]*([0-9]+)\\b");
+  /**
+   * 곡 블록(곡 줄과 뒤따르는 추가 정보 줄)마다 {@code songBlockParser}로 곡을 만든다.
+   * 바뀌지 않은 블록의 결과를 재사용하는 캐시가 이 자리에 들어온다.
+   */
+  Conti parseContiText(String contiText, User creator, SongBlockParser songBlockParser) {
+    log.debug("콘티 텍스트 파싱 시작: {} 글자", contiText.length());
 
-  private static final Pattern ARTIST_PATTERN = Pattern.compile(
-      "/\\s*([^/\\r\\n]+)(?:\\s*$|\\s*(?=[/\\(\\[]))");
+    String theme = null;
+    String firstLine = null;
+    DateToken date = null;
+    List<Song> songs = new ArrayList<>();
+    List<PendingSong> openSongs = new ArrayList<>();
+
+    int lineIndex = 0;
+    int lineStart = 0;
+    int length = contiText.length();
+    while (lineStart < length) {
+      int newline = contiText.indexOf('\n', lineStart);
+      int nextLineStart = newline < 0 ? length : newline + 1;
+
+      for (int i = lineStart; i < nextLineStart && (theme == null || date == null); i++) {
+        if (theme == null) {
+          theme = ContiTextLexer.themeAt(contiText, i);
+        }
+        if (date == null) {
+          date = ContiTextLexer.dateAt(contiText, i);
+        }
+      }
 
-  private static final Pattern THEME_PATTERN = Pattern.compile(
-      "(?i)주제\\s*[:\\s]+(.+)$");
+      int lineEnd = newline < 0 ? length : newline;
+      if (newline > lineStart && contiText.charAt(newline - 1) == '\r') {
+        lineEnd--;
+      }
+      String line = contiText.substring(lineStart, lineEnd).trim();
+      if (lineIndex == 0) {
+        firstLine = line;
+      }
 
-  private final SongRepository songRepository;
+      boolean themeLine = !line.isEmpty() && ContiTextLexer.isThemeLine(line);
+      if (!openSongs.isEmpty()) {
+        if (line.isEmpty() || themeLine || ContiTextLexer.isNumberedLine(line)) {
+          closeSongs(openSongs, songs, songBlockParser);
+        } else {
+          for (PendingSong openSong : openSongs) {
+            openSong.additionalInfo.append(line).append('\n');
+          }
+        }
+      }
 
-  public Conti parseContiText(String contiText, User creator) {
-    log.debug("콘티 텍스트 파싱 시작: {} 글자", contiText.length());
+      if (lineIndex > 0 && !line.isEmpty() && !themeLine) {
+        int songNumberEnd = ContiTextLexer.songNumberEnd(line);
+        if (songNumberEnd >= 0) {
+          openSongs.add(new PendingSong(line.substring(songNumberEnd).trim()));
+        }
+      }
 
-    String title = extractThemeAsTitle(contiText);
+      lineIndex++;
+      lineStart = nextLineStart;
+    }
+    closeSongs(openSongs, songs, songBlockParser);
 
+    String title = theme != null ? theme.trim() : null;
     if (title == null || title.isEmpty()) {
-      String[] lines = contiText.split("\\r?\\n");
-      title = extractTitle(lines);
+      title = firstLine == null || firstLine.isEmpty() ? UNTITLED : firstLine;
     }
 
-    LocalDate scheduledAt = extractDate(contiText);
-
-    List<Song> songs = extractSongs(contiText);
-
     Conti conti = Conti.builder()
         .title(title)
-        .scheduledAt(scheduledAt != null ? scheduledAt : LocalDate.now())
+        .scheduledAt(toLocalDate(date))
         .creator(creator)
         .songs(songs)
         .version("1.0")
@@ -80,264 +112,100 @@ public class ContiParserService {
     return conti;
   }
 
-  private String extractThemeAsTitle(String text) {
-    Pattern themePattern = Pattern.compile("(?i)주제\\s*[:\\s]+(.+)$", Pattern.MULTILINE);
-    Matcher matcher = themePattern.matcher(text);
-    if (matcher.find()) {
-      return matcher.group(1).trim();
-    }
-    return null;
-  }
-
-  private String extractTitle(String[] lines) {
-    if (lines.length == 0) {
-      return "무제";
-    }
-
-    String firstLine = lines[0].trim();
-
-    return firstLine.isEmpty() ? "무제" : firstLine;
-  }
-
-  private LocalDate extractDate(String text) {
-    Matcher matcher = DATE_PATTERN.matcher(text);
-    if (matcher.find()) {
-      String dateStr = matcher.group();
-
-      try {
-        if (dateStr.matches("\\d{8}")) {
-          int year = Integer.parseInt(dateStr.substring(0, 4));
-          int month = Integer.parseInt(dateStr.substring(4, 6));
-          int day = Integer.parseInt(dateStr.substring(6, 8));
-          return LocalDate.of(year, month, day);
-        }
-
-        Matcher ymdMatcher = Pattern.compile("(\\d{4})[-./](\\d{1,2})[-./](\\d{1,2})").matcher(dateStr);
-        if (ymdMatcher.find()) {
-          int year = Integer.parseInt(ymdMatcher.group(1));
-          int month = Integer.parseInt(ymdMatcher.group(2));
-          int day = Integer.parseInt(ymdMatcher.group(3));
-          return LocalDate.of(year, month, day);
-        }
-
-        Matcher koreanMatcher = Pattern.compile("(\\d{4})년\\s*(\\d{1,2})월\\s*(\\d{1,2})일").matcher(dateStr);
-        if (koreanMatcher.find()) {
-          int year = Integer.parseInt(koreanMatcher.group(1));
-          int month = Integer.parseInt(koreanMatcher.group(2));
-          int day = Integer.parseInt(koreanMatcher.group(3));
-          return LocalDate.of(year, month, day);
-        }
-
-        Matcher mdyMatcher = Pattern.compile("(\\d{1,2})[-./](\\d{1,2})[-./](\\d{4})").matcher(dateStr);
-        if (mdyMatcher.find()) {
-          int month = Integer.parseInt(mdyMatcher.group(1));
-          int day = Integer.parseInt(mdyMatcher.group(2));
-          int year = Integer.parseInt(mdyMatcher.group(3));
-          return LocalDate.of(year, month, day);
-        }
-
-        Matcher mdMatcher = Pattern.compile("(\\d{1,2})[-./](\\d{1,2})").matcher(dateStr);
-        if (mdMatcher.find() && !mdyMatcher.find()) {
-          int month = Integer.parseInt(mdMatcher.group(1));
-          int day = Integer.parseInt(mdMatcher.group(2));
-          return LocalDate.of(LocalDate.now().getYear(), month, day);
-        }
-
-        log.warn("인식할 수 없는 날짜 형식: {}", dateStr);
-      } catch (Exception e) {
-        log.warn("날짜 파싱 실패: {}", dateStr, e);
-      }
-    }
-
-    return LocalDate.now();
-  }
-
-  private List<Song> extractSongs(String text) {
-    List<Song> songs = new ArrayList<>();
-    String[] lines = text.split("\\r?\\n");
-
-    boolean foundSongLine = false;
-
-    for (int i = 0; i < lines.length; i++) {
-      String line = lines[i].trim();
-
-      if (line.isEmpty()) {
-        continue;
-      }
-
-      if (line.matches("(?i).*주제\\s*[:\\s]+.*")) {
+  /**
+   * 텍스트에 실제로 적힌 예정일. 날짜가 없거나 올바르지 않으면 {@code null}이고, 연도가 없으면
+   * {@code yearOf}의 연도를 쓴다. 이미 있는 콘티를 고칠 때 오늘이나 올해로 옮겨 버리지 않기 위한 것이다.
+   */
+  LocalDate scheduledAtOf(String contiText, LocalDate yearOf) {
+    for (int i = 0; i < contiText.length(); i++) {
+      DateToken date = ContiTextLexer.dateAt(contiText, i);
+      if (date == null) {
         continue;
       }
-
-      if (i == 0) {
-        continue;
-      }
-
-      Matcher songNumberMatcher = Pattern.compile("^\\s*(\\d+)[.\\s]+").matcher(line);
-      if (songNumberMatcher.find()) {
-        foundSongLine = true;
-
-        String songLine = line.substring(songNumberMatcher.end()).trim();
-
-        String title = extractSongTitle(songLine);
-        String key = extractKey(songLine);
-        String artist = extractArtist(songLine);
-
-        StringBuilder additionalInfo = new StringBuilder();
-        int j = i + 1;
-        while (j < lines.length) {
-          String nextLine = lines[j].trim();
-
-          if (nextLine.isEmpty() ||
-              nextLine.matches("^\\s*\\d+[.\\s]+.*") ||
-              nextLine.matches("(?i).*주제\\s*[:\\s]+.*")) {
-            break;
-          }
-
-          additionalInfo.append(nextLine).append("\n");
-          j++;
-        }
-
-        String url = extractUrl(additionalInfo.toString());
-        if (url == null) {
-          url = extractUrl(songLine);
-        }
-
-        UrlType urlType = UrlType.fromUrl(url);
-
-        String youtubeUrl = null;
-        String referenceUrl = null;
-
-        if (url != null) {
-          if (urlType == UrlType.YOUTUBE) {
-            youtubeUrl = url;
-          } else {
-            referenceUrl = url;
-          }
-        }
-
-        String specialInstructions = extractSpecialInstructions(
-            songLine + "\n" + additionalInfo.toString(),
-            title, key, artist, url
-        );
-
-        String bpm = extractBpm(additionalInfo.toString());
-
-        if (!title.isEmpty()) {
-          Song song = Song.builder()
-              .title(title)
-              .originalKey(key)
-              .performanceKey(key)
-              .artist(artist)
-              .youtubeUrl(youtubeUrl)
-              .referenceUrl(referenceUrl)
-              .urlType(urlType)
-              .specialInstructions(specialInstructions)
-              .bpm(bpm)
-              .build();
-
-          songs.add(song);
-        }
+      try {
+        int year = date.year != DateToken.CURRENT_YEAR ? date.year
+            : (yearOf != null ? yearOf : LocalDate.now()).getYear();
+        return LocalDate.of(year, date.month, date.day);
+      } catch (DateTimeException e) {
+        log.warn("날짜 파싱 실패: {}", date.text, e);
+        return null;
       }
     }
-
-    return songs;
+    return null;
   }
 
-  private String extractSongTitle(String songLine) {
-    String line = songLine.replaceAll(YOUTUBE_URL_PATTERN.pattern(), "").trim();
-
-    int slashIndex = line.indexOf('/');
-    if (slashIndex > 0) {
-      line = line.substring(0, slashIndex).trim();
+  private LocalDate toLocalDate(DateToken date) {
+    if (date == null) {
+      return LocalDate.now();
     }
 
-    line = line.replaceAll("\\([^)]*\\)", "").replaceAll("\\[[^\\]]*\\]", "").trim();
-
-    String[] words = line.split("\\s+");
-    StringBuilder titleBuilder = new StringBuilder();
-
-    for (int i = 0; i < words.length; i++) {
-      String word = words[i];
-
-      if (i >= words.length - 2 && isKeyPattern(word)) {
-        continue;
-      }
+    try {
+      int year = date.year == DateToken.CURRENT_YEAR ? LocalDate.now().getYear() : date.year;
+      return LocalDate.of(year, date.month, date.day);
+    } catch (DateTimeException e) {
+      log.warn("날짜 파싱 실패: {}", date.text, e);
+      return LocalDate.now();
+    }
+  }
 
-      if (!titleBuilder.isEmpty()) {
-        titleBuilder.append(" ");
+  private void closeSongs(List<PendingSong> openSongs, List<Song> songs,
+      SongBlockParser songBlockParser) {
+    for (PendingSong openSong : openSongs) {
+      Song song = songBlockParser.parse(openSong.songLine, openSong.additionalInfo.toString());
+      if (song != null) {
+        songs.add(song);
       }
-      titleBuilder.append(word);
     }
-
-    return titleBuilder.toString().trim();
+    openSongs.clear();
   }
 
-  private boolean isKeyPattern(String text) {
-    if (text.matches("[A-Ga-g][#b♯♭]?m?")) {
-      return true;
+  /**
+   * 곡 줄 하나와 추가 정보로 곡을 만든다. 제목이 없으면 null.
+   */
+  Song parseSongBlock(String songLine, String additionalInfo) {
+    ContiSongLine parsed = ContiSongLine.parse(songLine);
+    if (parsed.getTitle().isEmpty()) {
+      return null;
     }
 
-    if (text.matches("[A-Ga-g][#b♯♭]?m?(?:->|[-])[A-Ga-g][#b♯♭]?m?")) {
-      return true;
+    String url = extractUrl(additionalInfo);
+    if (url == null) {
+      url = extractUrl(songLine);
     }
 
-    return false;
-  }
-
-  private String extractKey(String songLine) {
-    String[] words = songLine.split("\\s+");
+    UrlType urlType = UrlType.fromUrl(url);
 
-    for (int i = words.length - 1; i >= 0; i--) {
-      String word = words[i];
+    String youtubeUrl = null;
+    String referenceUrl = null;
 
-      if (isKeyPattern(word)) {
-        return word;
+    if (url != null) {
+      if (urlType == UrlType.YOUTUBE) {
+        youtubeUrl = url;
+      } else {
+        referenceUrl = url;
       }
     }
 
-    return null;
-  }
-
-  private String extractArtist(String songLine) {
-    int slashIndex = songLine.indexOf('/');
-    if (slashIndex >= 0 && slashIndex + 1 < songLine.length()) {
-      String artistPart = songLine.substring(slashIndex + 1).trim();
-
-      artistPart = artistPart.replaceAll("\\([^)]*\\)", "").trim();
-
-      int bracketIndex = artistPart.indexOf('(');
-      if (bracketIndex > 0) {
-        artistPart = artistPart.substring(0, bracketIndex).trim();
-      }
-
-      int nextSlashIndex = artistPart.indexOf('/');
-      if (nextSlashIndex > 0) {
-        artistPart = artistPart.substring(0, nextSlashIndex).trim();
-      }
-
-      return artistPart;
-    }
-    return null;
+    return Song.builder()
+        .title(parsed.getTitle())
+        .originalKey(parsed.getKey())
+        .performanceKey(parsed.getKey())
+        .artist(parsed.getArtist())
+        .youtubeUrl(youtubeUrl)
+        .referenceUrl(referenceUrl)
+        .urlType(urlType)
+        .specialInstructions(parsed.specialInstructions(additionalInfo))
+        .bpm(extractBpm(additionalInfo))
+        .build();
   }
 
-  private String extractUrl(String songLine) {
-    Matcher youtubeMatcher = YOUTUBE_URL_PATTERN.matcher(songLine);
-    if (youtubeMatcher.find()) {
-      String videoId = youtubeMatcher.group(1);
-      return "https://youtube.com/watch?v=" + youtubeMatcher.group(1);
-    }
-
-    Matcher generalMatcher = GENERAL_URL_PATTERN.matcher(songLine);
-    if (generalMatcher.find()) {
-      return generalMatcher.group();
+  private String extractUrl(String text) {
+    String videoId = ContiTextLexer.firstYoutubeId(text);
+    if (videoId != null) {
+      return "https://youtube.com/watch?v=" + videoId;
     }
 
-    return null;
-  }
-
-  private UrlType determineUrlType(String url) {
-    return UrlType.fromUrl(url);
+    return ContiTextLexer.firstGeneralUrl(text);
   }
 
   private String extractBpm(String text) {
@@ -345,54 +213,19 @@ public class ContiParserService {
     return "";
   }
 
-  private String extractSpecialInstructions(String songLine, String title, String key, String artist, String url) {
-    String line = songLine;
-
-    if (title != null) {
-      line = line.replaceAll(title, "");
-    }
+  @FunctionalInterface
+  interface SongBlockParser {
 
-    if (key != null) {
-      line = line.replaceAll(key, "");
-    }
-
-    if (artist != null) {
-      line = line.replace("/ " + artist, "").replace("/" + artist, "");
-    }
-
-    if (url != null) {
-      line = line.replace(url, "");
-    }
-
-    Matcher youtubeMatcher = YOUTUBE_URL_PATTERN.matcher(line);
-    if (youtubeMatcher.find()) {
-      line = line.replace(youtubeMatcher.group(), "");
-    }
+    Song parse(String songLine, String additionalInfo);
+  }
 
-    Matcher generalMatcher = GENERAL_URL_PATTERN.matcher(line);
-    if (generalMatcher.find()) {
-      line = line.replace(generalMatcher.group(), "");
-    }
+  private static class PendingSong {
 
-    StringBuilder instructions = new StringBuilder();
-    Matcher bracketMatcher = Pattern.compile("\\(([^)]*)\\)|\\[([^\\]]*)\\]").matcher(line);
+    private final String songLine;
+    private final StringBuilder additionalInfo = new StringBuilder();
 
-    while (bracketMatcher.find()) {
-      String content =
-          bracketMatcher.group(1) != null ? bracketMatcher.group(1) : bracketMatcher.group(2);
-      if (content != null && !content.isEmpty()) {
-        instructions.append(content.trim()).append("\n");
-      }
+    PendingSong(String songLine) {
+      this.songLine = songLine;
     }
-
-    line = line.replaceAll("\\([^)]*\\)", "").replaceAll("\\[[^\\]]*\\]", "");
-    line = line.replaceAll("\\s+", " ").trim();
-
-    if (!line.isEmpty()) {
-      instructions.append(line);
-    }
-
-    String result = instructions.toString().trim();
-    return result.isEmpty() ? null : result;
   }
 }
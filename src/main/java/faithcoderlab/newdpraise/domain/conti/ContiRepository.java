@@ -1,18 +1,34 @@
 package faithcoderlab.newdpraise.domain.conti;
 
+import faithcoderlab.newdpraise.domain.song.SongPlay;
+import faithcoderlab.newdpraise.domain.song.SongUsageContribution;
 import faithcoderlab.newdpraise.domain.user.User;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ContiRepository extends JpaRepository<Conti, Long> {
 
+  /**
+   * (예정일 DESC, ID DESC) 키셋에서 커서 뒤의 행. 예정일이 없는 행은 내림차순에서 맨 뒤에 오므로,
+   * 날짜 커서 뒤에는 날짜가 더 이른 행과 날짜 없는 행이 모두 오고, 날짜 없는 커서 뒤에는 날짜 없는 행만 ID로 잇는다.
+   */
+  String KEYSET_AFTER_CURSOR = "(:cursorId IS NULL "
+      + "OR (:cursorDate IS NULL AND c.scheduledAt IS NULL AND c.id < :cursorId) "
+      + "OR (:cursorDate IS NOT NULL AND (c.scheduledAt IS NULL OR c.scheduledAt < :cursorDate "
+      + "OR (c.scheduledAt = :cursorDate AND c.id < :cursorId)))) ";
+
   List<Conti> findByCreatorOrderByScheduledAtDesc(User creator);
 
   List<Conti> findByScheduledAtBetweenOrderByScheduledAtDesc(LocalDate startDate,
@@ -54,4 +70,111 @@ public interface ContiRepository extends JpaRepository<Conti, Long> {
       @Param("status") ContiStatus status,
       Pageable pageable
   );
+
+  /**
+   * 수락한 공유 콘티를 (예정일, ID) 내림차순으로 읽는다. 공유 행은 (사용자, 수락 여부, 콘티) 인덱스로 이 사용자 것만
+   * 찾으므로, 다른 사용자의 콘티를 훑지 않는다. 직접 만든 콘티는 {@link #findByCreatorBeforeCursor}로 따로 읽는다.
+   */
+  @Query("SELECT new faithcoderlab.newdpraise.domain.conti.AccessibleConti(c, s.permission) "
+      + "FROM ContiShare s JOIN s.conti c "
+      + "WHERE s.user = :user AND s.accepted = true AND "
+      + KEYSET_AFTER_CURSOR
+      + "ORDER BY c.scheduledAt DESC NULLS LAST, c.id DESC")
+  List<AccessibleConti> findSharedBeforeCursor(
+      @Param("user") User user,
+      @Param("cursorDate") LocalDate cursorDate,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable
+  );
+
+  @Query("SELECT c FROM Conti c WHERE c.creator = :creator AND "
+      + KEYSET_AFTER_CURSOR
+      + "ORDER BY c.scheduledAt DESC NULLS LAST, c.id DESC")
+  List<Conti> findByCreatorBeforeCursor(
+      @Param("creator") User creator,
+      @Param("cursorDate") LocalDate cursorDate,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable
+  );
+
+  @Query("SELECT c FROM Conti c WHERE "
+      + "(:startDate IS NULL OR c.scheduledAt >= :startDate) AND "
+      + "(:endDate IS NULL OR c.scheduledAt <= :endDate) AND "
+      + "(:title IS NULL OR LOWER(c.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND "
+      + "(:creatorId IS NULL OR c.creator.id = :creatorId) AND "
+      + "(:status IS NULL OR c.status = :status) AND "
+      + KEYSET_AFTER_CURSOR
+      + "ORDER BY c.scheduledAt DESC NULLS LAST, c.id DESC")
+  List<Conti> searchContisBeforeCursor(
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate,
+      @Param("title") String title,
+      @Param("creatorId") Long creatorId,
+      @Param("status") ContiStatus status,
+      @Param("cursorDate") LocalDate cursorDate,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable
+  );
+
+  /**
+   * 내보내기용으로 직접 만든 콘티와 수락한 공유 콘티를 예정일 내림차순으로 한 행씩 읽는다.
+   * 트랜잭션 안에서 닫을 때까지 커서를 열어 두며, MySQL은 JDBC URL에 useCursorFetch=true가 있어야
+   * 가져오기 크기만큼씩 읽는다.
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query("SELECT c FROM Conti c LEFT JOIN FETCH c.creator WHERE "
+      + "(c.creator = :user OR EXISTS (SELECT s.id FROM ContiShare s "
+      + "WHERE s.conti = c AND s.user = :user AND s.accepted = true)) AND "
+      + "(:startDate IS NULL OR c.scheduledAt >= :startDate) AND "
+      + "(:endDate IS NULL OR c.scheduledAt <= :endDate) "
+      + "ORDER BY c.scheduledAt DESC, c.id DESC")
+  Stream<Conti> streamAccessible(
+      @Param("user") User user,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate
+  );
+
+  @Query("SELECT c FROM Conti c WHERE c.id > :afterId ORDER BY c.id")
+  List<Conti> findAllAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+  /**
+   * 인도자의 콘티 중 주어진 상태이고 예정일이 [from, to)에 드는 콘티의 곡을 카탈로그 곡마다 한 행씩 읽는다.
+   * 기간을 비우면 전체 기간을 읽는다. 예정일이 없는 콘티는 어느 달에도 넣을 수 없으므로 읽지 않는다.
+   */
+  @Query("SELECT new faithcoderlab.newdpraise.domain.song.SongPlay("
+      + "s.catalogSong.id, COALESCE(s.performanceKey, s.originalKey), s.bpm, c.scheduledAt) "
+      + "FROM Conti c JOIN c.songs s "
+      + "WHERE c.creator.id = :creatorId AND c.status IN :statuses "
+      + "AND s.catalogSong IS NOT NULL AND c.scheduledAt IS NOT NULL AND "
+      + "(:from IS NULL OR c.scheduledAt >= :from) AND "
+      + "(:to IS NULL OR c.scheduledAt < :to)")
+  List<SongPlay> findSongPlays(
+      @Param("creatorId") Long creatorId,
+      @Param("statuses") Collection<ContiStatus> statuses,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to
+  );
+
+  /**
+   * 인도자의 콘티마다 사용 통계에 들어갈 자리를 읽는다. 월에는 예정일이 그대로 담기므로 부르는 쪽에서 월 첫날로 내린다.
+   * 예정일이 없는 콘티는 자리가 없으므로 뺀다.
+   */
+  @Query("SELECT new faithcoderlab.newdpraise.domain.song.SongUsageContribution("
+      + "c.id, c.creator.id, c.scheduledAt) FROM Conti c "
+      + "WHERE c.creator.id = :creatorId AND c.scheduledAt IS NOT NULL")
+  List<SongUsageContribution> findUsageContributions(@Param("creatorId") Long creatorId);
+
+  @Query("SELECT DISTINCT c.creator.id FROM Conti c WHERE c.creator IS NOT NULL")
+  List<Long> findCreatorIds();
+
+  @Query("SELECT DISTINCT s.youtubeUrl FROM Conti c JOIN c.songs s "
+      + "WHERE c.scheduledAt BETWEEN :startDate AND :endDate AND s.youtubeUrl IS NOT NULL")
+  List<String> findYoutubeUrlsScheduledBetween(
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate
+  );
 }
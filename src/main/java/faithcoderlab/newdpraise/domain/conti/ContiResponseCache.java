@@ -0,0 +1,284 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import faithcoderlab.newdpraise.domain.conti.dto.ContiResponse;
+import faithcoderlab.newdpraise.domain.conti.dto.ContiResponseCacheStats;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShare;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareChangedEvent;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareRepository;
+import faithcoderlab.newdpraise.domain.conti.share.ContiSharePermission;
+import faithcoderlab.newdpraise.domain.song.SongChangedEvent;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 콘티 응답에서 사용자와 관계없는 부분(콘티, 곡, 작성자)을 콘티 ID와 잠금 버전으로 캐시한다.
+ * 사용자별 권한은 콘티마다 수락된 공유의 사용자별 권한을 따로 캐시해 두고 응답을 돌려줄 때 덧씌운다.
+ * 콘티가 바뀌거나 지워지면 응답을, 곡 행이 바뀌면 그 곡을 담은 응답을, 공유가 바뀌면 권한을 커밋된 뒤에 비운다.
+ */
+@Component
+public class ContiResponseCache {
+
+  private final ContiShareRepository contiShareRepository;
+  private final int maxEntries;
+
+  private final Map<Long, CachedResponse> responses;
+  private final Map<Long, Map<Long, ContiSharePermission>> sharePermissions;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder permissionHits = new LongAdder();
+  private final LongAdder permissionMisses = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  public ContiResponseCache(
+      ContiShareRepository contiShareRepository,
+      @Value("${conti-response-cache.max-entries:1000}") int maxEntries
+  ) {
+    this.contiShareRepository = contiShareRepository;
+    this.maxEntries = maxEntries;
+    this.responses = lru(maxEntries);
+    this.sharePermissions = lru(maxEntries);
+  }
+
+  private static final class CachedResponse {
+
+    final long lockVersion;
+    final ContiResponse response;
+
+    CachedResponse(long lockVersion, ContiResponse response) {
+      this.lockVersion = lockVersion;
+      this.response = response;
+    }
+  }
+
+  public ContiResponse render(Conti conti, User currentUser) {
+    return render(List.of(conti), currentUser).get(0);
+  }
+
+  /**
+   * 콘티 목록을 응답으로 바꾼다. 캐시에 없거나 잠금 버전이 다른 콘티만 곡과 작성자를 읽어 새로 만들고,
+   * 권한 캐시에 없는 콘티의 공유는 쿼리 한 번으로 읽는다.
+   */
+  public List<ContiResponse> render(List<Conti> contis, User currentUser) {
+    Map<Long, Map<Long, ContiSharePermission>> permissions =
+        currentUser != null ? sharePermissions(contis, currentUser) : Map.of();
+
+    List<ContiResponse> rendered = new ArrayList<>(contis.size());
+    for (Conti conti : contis) {
+      Map<Long, ContiSharePermission> contiPermissions = permissions.get(conti.getId());
+      ContiSharePermission sharePermission = contiPermissions != null
+          ? contiPermissions.get(currentUser.getId())
+          : null;
+      rendered.add(withPermission(base(conti), currentUser, sharePermission));
+    }
+    return rendered;
+  }
+
+  /**
+   * 공유 권한이 이미 행에 담겨 온 목록을 응답으로 바꾼다. 권한 캐시와 공유 조회를 거치지 않는다.
+   */
+  public List<ContiResponse> renderAccessible(List<AccessibleConti> rows, User currentUser) {
+    List<ContiResponse> rendered = new ArrayList<>(rows.size());
+    for (AccessibleConti row : rows) {
+      rendered.add(withPermission(base(row.getConti()), currentUser, row.getSharePermission()));
+    }
+    return rendered;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onContiChanged(ContiChangedEvent event) {
+    invalidations.increment();
+    responses.remove(event.getContiId());
+    if (event.isDeleted()) {
+      sharePermissions.remove(event.getContiId());
+    }
+  }
+
+  /**
+   * 바뀐 곡을 하나라도 담은 응답을 비운다. 캐시 크기만큼만 훑는다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onSongChanged(SongChangedEvent event) {
+    invalidations.increment();
+    synchronized (responses) {
+      responses.values().removeIf(cached -> cached.response.getSongs().stream()
+          .anyMatch(song -> song.getId() != null && event.getSongIds().contains(song.getId())));
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onShareChanged(ContiShareChangedEvent event) {
+    invalidations.increment();
+    sharePermissions.remove(event.getContiId());
+  }
+
+  public ContiResponseCacheStats getStats() {
+    long hitCount = hits.sum();
+    long missCount = misses.sum();
+    long permissionHitCount = permissionHits.sum();
+    long permissionMissCount = permissionMisses.sum();
+
+    return ContiResponseCacheStats.builder()
+        .entries(responses.size())
+        .maxEntries(maxEntries)
+        .hits(hitCount)
+        .misses(missCount)
+        .hitRatio(ratio(hitCount, missCount))
+        .permissionEntries(sharePermissions.size())
+        .permissionHits(permissionHitCount)
+        .permissionMisses(permissionMissCount)
+        .permissionHitRatio(ratio(permissionHitCount, permissionMissCount))
+        .invalidations(invalidations.sum())
+        .build();
+  }
+
+  public void clear() {
+    responses.clear();
+    sharePermissions.clear();
+  }
+
+  private ContiResponse base(Conti conti) {
+    CachedResponse cached = responses.get(conti.getId());
+    if (cached != null && cached.lockVersion == conti.getLockVersion()) {
+      hits.increment();
+      return cached.response;
+    }
+
+    misses.increment();
+    ContiResponse response = toResponse(conti);
+    if (conti.getId() != null) {
+      responses.put(conti.getId(), new CachedResponse(conti.getLockVersion(), response));
+    }
+    return response;
+  }
+
+  /**
+   * 사용자가 만들지 않은 콘티의 공유 권한. 캐시에 없는 콘티는 모아서 한 번에 읽고, 공유가 없는 콘티도 빈 값으로 캐시한다.
+   */
+  private Map<Long, Map<Long, ContiSharePermission>> sharePermissions(List<Conti> contis,
+      User currentUser) {
+    Map<Long, Map<Long, ContiSharePermission>> permissions = new HashMap<>();
+    Set<Long> missing = new LinkedHashSet<>();
+    for (Conti conti : contis) {
+      if (conti.getId() == null || conti.getCreator() == null
+          || conti.getCreator().getId().equals(currentUser.getId())
+          || permissions.containsKey(conti.getId())) {
+        continue;
+      }
+      Map<Long, ContiSharePermission> cached = sharePermissions.get(conti.getId());
+      if (cached != null) {
+        permissionHits.increment();
+        permissions.put(conti.getId(), cached);
+      } else if (missing.add(conti.getId())) {
+        permissionMisses.increment();
+      }
+    }
+    if (missing.isEmpty()) {
+      return permissions;
+    }
+
+    // 읽는 동안 공유가 바뀌었으면 읽은 값은 이번 응답에만 쓰고 캐시에 넣지 않는다.
+    long invalidationsBeforeLoad = invalidations.sum();
+    Map<Long, Map<Long, ContiSharePermission>> loaded = new HashMap<>();
+    for (Long contiId : missing) {
+      loaded.put(contiId, new HashMap<>());
+    }
+    for (ContiShare share : contiShareRepository.findAcceptedSharesByContiIds(missing)) {
+      loaded.get(share.getConti().getId()).put(share.getUser().getId(), share.getPermission());
+    }
+    boolean cacheable = invalidations.sum() == invalidationsBeforeLoad;
+    loaded.forEach((contiId, byUser) -> {
+      Map<Long, ContiSharePermission> unmodifiable = Collections.unmodifiableMap(byUser);
+      if (cacheable) {
+        sharePermissions.put(contiId, unmodifiable);
+      }
+      permissions.put(contiId, unmodifiable);
+    });
+    return permissions;
+  }
+
+  private static ContiResponse withPermission(ContiResponse base, User currentUser,
+      ContiSharePermission sharePermission) {
+    boolean isShared = false;
+    boolean canEdit = false;
+    boolean canShare = false;
+    String permissionType = "NONE";
+
+    if (currentUser != null && base.getCreatorId() != null) {
+      if (base.getCreatorId().equals(currentUser.getId())) {
+        canEdit = true;
+        canShare = true;
+        permissionType = "CREATOR";
+      } else if (sharePermission != null) {
+        isShared = true;
+        canEdit = sharePermission == ContiSharePermission.EDIT
+            || sharePermission == ContiSharePermission.ADMIN;
+        canShare = sharePermission == ContiSharePermission.ADMIN;
+        permissionType = sharePermission.name();
+      }
+    }
+
+    return base.toBuilder()
+        .isShared(isShared)
+        .canEdit(canEdit)
+        .canShare(canShare)
+        .permissionType(permissionType)
+        .build();
+  }
+
+  private static ContiResponse toResponse(Conti conti) {
+    List<ContiResponse.SongDto> songDtos = new ArrayList<>();
+    if (conti.getSongs() != null) {
+      songDtos = conti.getSongs().stream()
+          .map(song -> ContiResponse.SongDto.builder()
+              .id(song.getId())
+              .title(song.getTitle())
+              .originalKey(song.getOriginalKey())
+              .performanceKey(song.getPerformanceKey())
+              .artist(song.getArtist())
+              .youtubeUrl(song.getYoutubeUrl())
+              .specialInstructions(song.getSpecialInstructions())
+              .build())
+          .toList();
+    }
+
+    return ContiResponse.builder()
+        .id(conti.getId())
+        .title(conti.getTitle())
+        .description(conti.getDescription())
+        .scheduledAt(conti.getScheduledAt())
+        .creatorId(conti.getCreator() != null ? conti.getCreator().getId() : null)
+        .creatorName(conti.getCreator() != null ? conti.getCreator().getName() : null)
+        .songs(songDtos)
+        .status(conti.getStatus().name())
+        .createdAt(conti.getCreatedAt())
+        .updatedAt(conti.getUpdatedAt())
+        .lockVersion(conti.getLockVersion())
+        .build();
+  }
+
+  private static double ratio(long hits, long misses) {
+    long total = hits + misses;
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+
+  private static <V> Map<Long, V> lru(int maxEntries) {
+    return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+        return size() > maxEntries;
+      }
+    });
+  }
+}
@@ -3,20 +3,34 @@ package faithcoderlab.newdpraise.domain.conti;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiCreateRequest;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiSearchRequest;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiUpdateRequest;
-import faithcoderlab.newdpraise.domain.conti.share.ContiShare;
+import faithcoderlab.newdpraise.domain.conti.history.ContiHistoryService;
 import faithcoderlab.newdpraise.domain.conti.share.ContiSharePermission;
 import faithcoderlab.newdpraise.domain.conti.share.ContiShareService;
 import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.SongChangedEvent;
 import faithcoderlab.newdpraise.domain.song.SongRepository;
+import faithcoderlab.newdpraise.domain.song.service.SongCatalogService;
 import faithcoderlab.newdpraise.domain.user.User;
 import faithcoderlab.newdpraise.global.exception.AuthenticationException;
 import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import faithcoderlab.newdpraise.global.pagination.CursorPage;
+import faithcoderlab.newdpraise.global.pagination.CursorToken;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,10 +39,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ContiService {
 
+  /**
+   * 커서 페이지의 정렬 순서. 예정일 내림차순이고 예정일이 없는 콘티는 맨 뒤에, 같은 날이면 ID 내림차순이다.
+   */
+  private static final Comparator<Conti> KEYSET_ORDER = Comparator.<Conti, LocalDate>comparing(
+      Conti::getScheduledAt, Comparator.nullsLast(Comparator.reverseOrder()))
+      .thenComparing(Conti::getId, Comparator.reverseOrder());
+
   private final ContiRepository contiRepository;
   private final SongRepository songRepository;
   private final ContiParserService contiParserService;
   private final ContiShareService contiShareService;
+  private final SongCatalogService songCatalogService;
+  private final ContiHistoryService contiHistoryService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public Conti createConti(ContiCreateRequest request, User creator) {
@@ -36,6 +60,7 @@ public class ContiService {
 
     if (request.getContiText() != null && !request.getContiText().isEmpty()) {
       conti = contiParserService.parseContiText(request.getContiText(), creator);
+      songCatalogService.resolveAll(conti.getSongs());
     } else {
       conti = Conti.builder()
           .title(request.getTitle())
@@ -60,14 +85,22 @@ public class ContiService {
                 .build())
             .collect(Collectors.toList());
 
+        songCatalogService.resolveAll(songs);
         songs = songRepository.saveAll(songs);
         conti.setSongs(songs);
       }
     }
 
-    return contiRepository.save(conti);
+    Conti savedConti = contiRepository.save(conti);
+    contiHistoryService.record(savedConti, creator);
+    eventPublisher.publishEvent(ContiChangedEvent.saved(savedConti));
+    return savedConti;
   }
 
+  /**
+   * 요청에 마지막으로 읽은 잠금 버전이 있으면 그 사이 다른 사람이 수정했는지 먼저 확인한다.
+   * 확인한 뒤 커밋 전에 끼어든 수정은 커밋할 때 {@code @Version}이 막는다.
+   */
   @Transactional
   public Conti updateConti(Long contiId, ContiUpdateRequest request, User user) {
     Conti conti = contiRepository.findById(contiId)
@@ -77,6 +110,14 @@ public class ContiService {
       throw new AuthenticationException("콘티를 수정할 권한이 없습니다.");
     }
 
+    if (request.getLockVersion() != null && request.getLockVersion() != conti.getLockVersion()) {
+      throw new ObjectOptimisticLockingFailureException(Conti.class, contiId);
+    }
+
+    if (request.getContiText() != null) {
+      applyContiText(conti, request.getContiText());
+    }
+
     if (request.getTitle() != null) {
       conti.setTitle(request.getTitle());
     }
@@ -93,44 +134,248 @@ public class ContiService {
       conti.setStatus(request.getStatus());
     }
 
-    if (request.getSongs() != null) {
-      List<Song> updatedSongs = request.getSongs().stream()
-          .map(songDto -> {
-            Song song;
-            if (songDto.getId() != null) {
-              song = songRepository.findById(songDto.getId())
-                  .orElseThrow(
-                      () -> new ResourceNotFoundException("곡을 찾을 수 없습니다. ID: " + songDto.getId()));
-
-              song.setTitle(songDto.getTitle());
-              song.setOriginalKey(songDto.getOriginalKey());
-              song.setPerformanceKey(songDto.getPerformanceKey());
-              song.setArtist(songDto.getArtist());
-              song.setYoutubeUrl(songDto.getYoutubeUrl());
-              song.setReferenceUrl(songDto.getReferenceUrl());
-              song.setSpecialInstructions(songDto.getSpecialInstructions());
-              song.setBpm(songDto.getBpm());
-            } else {
-              song = Song.builder()
-                  .title(songDto.getTitle())
-                  .originalKey(songDto.getOriginalKey())
-                  .performanceKey(songDto.getPerformanceKey())
-                  .artist(songDto.getArtist())
-                  .youtubeUrl(songDto.getYoutubeUrl())
-                  .referenceUrl(songDto.getReferenceUrl())
-                  .specialInstructions(songDto.getSpecialInstructions())
-                  .bpm(songDto.getBpm())
-                  .build();
-            }
-            return song;
-          })
-          .collect(Collectors.toList());
-
-      List<Song> savedSongs = songRepository.saveAll(updatedSongs);
-      conti.setSongs(savedSongs);
-    }
-
-    return contiRepository.save(conti);
+    if (request.getContiText() == null && request.getSongs() != null) {
+      applySongs(conti, request.getSongs());
+    }
+
+    // 곡만 바뀌어도 콘티 행을 고쳐 잠금 버전을 올려야 응답 캐시가 이전 응답을 쓰지 않는다.
+    conti.setUpdatedAt(LocalDateTime.now());
+    Conti savedConti = contiRepository.save(conti);
+    contiHistoryService.record(savedConti, user);
+    eventPublisher.publishEvent(ContiChangedEvent.saved(savedConti));
+    return savedConti;
+  }
+
+  /**
+   * 수정한 콘티 텍스트를 기존 텍스트와 곡 블록 단위로 비교해, 바뀐 곡만 고치고 새 곡만 넣고 빠진 곡만 목록에서 뺀다.
+   * 곡 목록을 따로 수정해 기존 곡이 기존 텍스트와 맞지 않으면 위치 순서대로 짝지어 고친다.
+   * 빠진 곡은 템플릿이 함께 쓰고 있을 수 있어 콘티 목록에서만 뺀다.
+   */
+  private void applyContiText(Conti conti, String contiText) {
+    if (conti.getSongs() == null) {
+      conti.setSongs(new ArrayList<>());
+    }
+    List<Song> currentSongs = conti.getSongs();
+
+    List<String> oldBlocks = new ArrayList<>();
+    Conti oldParsed = null;
+    if (conti.getOriginalText() != null) {
+      oldParsed = contiParserService.parseContiText(conti.getOriginalText(), conti.getCreator(),
+          recordingBlocks(oldBlocks));
+    }
+    if (oldBlocks.size() != currentSongs.size()) {
+      oldBlocks.clear();
+      for (int i = 0; i < currentSongs.size(); i++) {
+        oldBlocks.add("\0" + i);
+      }
+    }
+
+    List<String> newBlocks = new ArrayList<>();
+    Conti parsed = contiParserService.parseContiText(contiText, conti.getCreator(),
+        recordingBlocks(newBlocks));
+    ContiSongDiff diff = ContiSongDiff.compute(oldBlocks, newBlocks);
+
+    List<Song> parsedSongs = parsed.getSongs();
+    List<Song> targetSongs = new ArrayList<>(parsedSongs.size());
+    List<Song> changedSongs = new ArrayList<>();
+    List<Song> newSongs = new ArrayList<>();
+    for (int i = 0; i < parsedSongs.size(); i++) {
+      Song parsedSong = parsedSongs.get(i);
+      int oldIndex = diff.oldIndexOf(i);
+      if (oldIndex == ContiSongDiff.NEW_SONG) {
+        newSongs.add(parsedSong);
+        targetSongs.add(parsedSong);
+        continue;
+      }
+
+      Song song = currentSongs.get(oldIndex);
+      if (!diff.isUnchanged(i)) {
+        copyParsedFields(parsedSong, song);
+        changedSongs.add(song);
+      }
+      targetSongs.add(song);
+    }
+
+    publishSongsChanged(changedSongs);
+    changedSongs.addAll(newSongs);
+    if (!changedSongs.isEmpty()) {
+      songCatalogService.resolveAll(changedSongs);
+    }
+    if (!newSongs.isEmpty()) {
+      songRepository.saveAll(newSongs);
+    }
+    replaceInPlace(currentSongs, targetSongs);
+
+    applyHeader(conti, oldParsed, parsed, contiText);
+    conti.setOriginalText(contiText);
+  }
+
+  /**
+   * 제목과 예정일은 새 텍스트에 실제로 적혀 있고 기존 텍스트에서 읽은 값과 다를 때만 바꾼다.
+   * 날짜가 없는 텍스트는 오늘로, 연도가 없는 날짜는 올해로 읽히므로 그대로 쓰면 한 단어만 고쳐도 콘티가 옮겨진다.
+   */
+  private void applyHeader(Conti conti, Conti oldParsed, Conti parsed, String contiText) {
+    String title = parsed.getTitle();
+    if (!ContiParserService.UNTITLED.equals(title)
+        && (oldParsed == null || !title.equals(oldParsed.getTitle()))) {
+      conti.setTitle(title);
+    }
+
+    LocalDate scheduledAt = contiParserService.scheduledAtOf(contiText, conti.getScheduledAt());
+    LocalDate oldScheduledAt = oldParsed != null
+        ? contiParserService.scheduledAtOf(conti.getOriginalText(), conti.getScheduledAt())
+        : null;
+    if (scheduledAt != null && !scheduledAt.equals(oldScheduledAt)) {
+      conti.setScheduledAt(scheduledAt);
+    }
+  }
+
+  /**
+   * 요청한 곡 목록을 집합 단위로 반영한다. 콘티에 없는 기존 곡은 한 번에 읽고, 값이 바뀐 곡만 고치고,
+   * 새 곡만 저장하고, 콘티-곡 연결은 순서가 달라진 위치만 바꾼다.
+   */
+  private void applySongs(Conti conti, List<ContiUpdateRequest.SongDto> songDtos) {
+    if (conti.getSongs() == null) {
+      conti.setSongs(new ArrayList<>());
+    }
+    List<Song> currentSongs = conti.getSongs();
+
+    Map<Long, Song> songsById = new HashMap<>();
+    for (Song song : currentSongs) {
+      songsById.put(song.getId(), song);
+    }
+    Set<Long> missingIds = new LinkedHashSet<>();
+    for (ContiUpdateRequest.SongDto songDto : songDtos) {
+      if (songDto.getId() != null && !songsById.containsKey(songDto.getId())) {
+        missingIds.add(songDto.getId());
+      }
+    }
+    if (!missingIds.isEmpty()) {
+      for (Song song : songRepository.findAllById(missingIds)) {
+        songsById.put(song.getId(), song);
+      }
+      for (Long songId : missingIds) {
+        if (!songsById.containsKey(songId)) {
+          throw new ResourceNotFoundException("곡을 찾을 수 없습니다. ID: " + songId);
+        }
+      }
+    }
+
+    List<Song> targetSongs = new ArrayList<>(songDtos.size());
+    List<Song> changedSongs = new ArrayList<>();
+    List<Song> newSongs = new ArrayList<>();
+    for (ContiUpdateRequest.SongDto songDto : songDtos) {
+      Song song = songDto.getId() != null ? songsById.get(songDto.getId()) : new Song();
+      if (songDto.getId() == null) {
+        newSongs.add(song);
+      }
+      if (copySongFields(songDto, song) && songDto.getId() != null) {
+        changedSongs.add(song);
+      }
+      targetSongs.add(song);
+    }
+
+    publishSongsChanged(changedSongs);
+    changedSongs.addAll(newSongs);
+    if (!changedSongs.isEmpty()) {
+      songCatalogService.resolveAll(changedSongs);
+    }
+    if (!newSongs.isEmpty()) {
+      songRepository.saveAll(newSongs);
+    }
+    replaceInPlace(currentSongs, targetSongs);
+  }
+
+  /**
+   * 고친 기존 곡은 템플릿에서 만든 다른 콘티도 함께 쓸 수 있으므로, 그 콘티들의 캐시된 응답도 비우게 한다.
+   */
+  private void publishSongsChanged(List<Song> changedSongs) {
+    Set<Long> songIds = changedSongs.stream()
+        .map(Song::getId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    if (!songIds.isEmpty()) {
+      eventPublisher.publishEvent(new SongChangedEvent(songIds));
+    }
+  }
+
+  /**
+   * 요청 값을 곡에 옮긴다. 같은 값은 건드리지 않아 바뀌지 않은 곡에는 UPDATE가 나가지 않는다.
+   */
+  private boolean copySongFields(ContiUpdateRequest.SongDto songDto, Song song) {
+    boolean changed = false;
+    if (!Objects.equals(song.getTitle(), songDto.getTitle())) {
+      song.setTitle(songDto.getTitle());
+      changed = true;
+    }
+    if (!Objects.equals(song.getOriginalKey(), songDto.getOriginalKey())) {
+      song.setOriginalKey(songDto.getOriginalKey());
+      changed = true;
+    }
+    if (!Objects.equals(song.getPerformanceKey(), songDto.getPerformanceKey())) {
+      song.setPerformanceKey(songDto.getPerformanceKey());
+      changed = true;
+    }
+    if (!Objects.equals(song.getArtist(), songDto.getArtist())) {
+      song.setArtist(songDto.getArtist());
+      changed = true;
+    }
+    if (!Objects.equals(song.getYoutubeUrl(), songDto.getYoutubeUrl())) {
+      song.setYoutubeUrl(songDto.getYoutubeUrl());
+      changed = true;
+    }
+    if (!Objects.equals(song.getReferenceUrl(), songDto.getReferenceUrl())) {
+      song.setReferenceUrl(songDto.getReferenceUrl());
+      changed = true;
+    }
+    if (!Objects.equals(song.getSpecialInstructions(), songDto.getSpecialInstructions())) {
+      song.setSpecialInstructions(songDto.getSpecialInstructions());
+      changed = true;
+    }
+    if (!Objects.equals(song.getBpm(), songDto.getBpm())) {
+      song.setBpm(songDto.getBpm());
+      changed = true;
+    }
+    return changed;
+  }
+
+  private ContiParserService.SongBlockParser recordingBlocks(List<String> blocks) {
+    return (songLine, additionalInfo) -> {
+      Song song = contiParserService.parseSongBlock(songLine, additionalInfo);
+      if (song != null) {
+        blocks.add(songLine + '\n' + additionalInfo);
+      }
+      return song;
+    };
+  }
+
+  private void copyParsedFields(Song parsed, Song song) {
+    song.setTitle(parsed.getTitle());
+    song.setOriginalKey(parsed.getOriginalKey());
+    song.setPerformanceKey(parsed.getPerformanceKey());
+    song.setArtist(parsed.getArtist());
+    song.setYoutubeUrl(parsed.getYoutubeUrl());
+    song.setReferenceUrl(parsed.getReferenceUrl());
+    song.setUrlType(parsed.getUrlType());
+    song.setSpecialInstructions(parsed.getSpecialInstructions());
+    song.setBpm(parsed.getBpm());
+  }
+
+  /**
+   * 영속 컬렉션을 새로 만들지 않고 달라진 위치만 바꿔, 콘티-곡 연결 테이블 전체를 다시 쓰지 않게 한다.
+   */
+  private void replaceInPlace(List<Song> songs, List<Song> targetSongs) {
+    for (int i = 0; i < targetSongs.size(); i++) {
+      Song target = targetSongs.get(i);
+      if (i >= songs.size()) {
+        songs.add(target);
+      } else if (songs.get(i) != target) {
+        songs.set(i, target);
+      }
+    }
+    while (songs.size() > targetSongs.size()) {
+      songs.remove(songs.size() - 1);
+    }
   }
 
   public List<Conti> getUserContiList(User user) {
@@ -141,6 +386,19 @@ public class ContiService {
     return contiRepository.findByCreator(user, pageable);
   }
 
+  /**
+   * (예정일, ID) 내림차순 키셋 페이지. 커서 뒤의 행만 읽고 전체 개수는 세지 않는다.
+   */
+  public CursorPage<Conti> getUserContiList(User user, String cursor, int size) {
+    CursorToken token = CursorToken.decode(cursor);
+    int pageSize = CursorPage.pageSize(size);
+    List<Conti> rows = contiRepository.findByCreatorBeforeCursor(user,
+        token != null ? token.keyAsDate() : null,
+        token != null ? token.getId() : null,
+        CursorPage.fetchRange(pageSize));
+    return CursorPage.of(rows, pageSize, ContiService::cursorOf);
+  }
+
   public Conti getContiById(Long contiId) {
     return contiRepository.findById(contiId)
         .orElseThrow(() -> new ResourceNotFoundException("콘티를 찾을 수 없습니다. ID: " + contiId));
@@ -178,6 +436,8 @@ public class ContiService {
 
     conti.setStatus(status);
     contiRepository.save(conti);
+    contiHistoryService.record(conti, user);
+    eventPublisher.publishEvent(ContiChangedEvent.saved(conti));
   }
 
   @Transactional
@@ -189,6 +449,8 @@ public class ContiService {
     }
 
     contiRepository.delete(conti);
+    contiHistoryService.deleteHistory(contiId);
+    eventPublisher.publishEvent(ContiChangedEvent.deleted(contiId));
   }
 
   public List<Conti> searchByDateRange(LocalDate startDate, LocalDate endDate) {
@@ -221,6 +483,22 @@ public class ContiService {
     );
   }
 
+  public CursorPage<Conti> advancedSearch(ContiSearchRequest request, String cursor, int size) {
+    CursorToken token = CursorToken.decode(cursor);
+    int pageSize = CursorPage.pageSize(size);
+    List<Conti> rows = contiRepository.searchContisBeforeCursor(
+        request.getStartDate(),
+        request.getEndDate(),
+        request.getTitle(),
+        request.getCreatorId(),
+        request.getStatus(),
+        token != null ? token.keyAsDate() : null,
+        token != null ? token.getId() : null,
+        CursorPage.fetchRange(pageSize)
+    );
+    return CursorPage.of(rows, pageSize, ContiService::cursorOf);
+  }
+
   public List<Conti> getUpcomingContis(LocalDate date) {
     return contiRepository.findByScheduledAtGreaterThanEqualOrderByScheduledAtAsc(date);
   }
@@ -237,15 +515,50 @@ public class ContiService {
     return contiRepository.findByCreatorAndStatus(user, status);
   }
 
-  public List<Conti> getAllUserContis(User user) {
-    List<Conti> ownedContis = contiRepository.findByCreatorOrderByScheduledAtDesc(user);
-    List<Conti> sharedContis = contiShareService.getSharedContis(user).stream()
-        .map(ContiShare::getConti)
-        .collect(Collectors.toList());
+  /**
+   * 직접 만든 콘티와 수락한 공유 콘티를 (예정일, ID) 내림차순 키셋 페이지로 읽는다. 두 목록을 각자의 인덱스로
+   * 한 페이지씩만 읽어 합치므로, 다른 사용자의 콘티가 많아도 읽는 양이 페이지 크기에 묶인다.
+   * 공유 권한은 공유 행에 담겨 오므로 권한을 따로 조회하지 않아도 된다.
+   */
+  public CursorPage<AccessibleConti> getAllUserContis(User user, String cursor, int size) {
+    CursorToken token = CursorToken.decode(cursor);
+    int pageSize = CursorPage.pageSize(size);
+    LocalDate cursorDate = token != null ? token.keyAsDate() : null;
+    Long cursorId = token != null ? token.getId() : null;
+    List<Conti> owned = contiRepository.findByCreatorBeforeCursor(user, cursorDate, cursorId,
+        CursorPage.fetchRange(pageSize));
+    List<AccessibleConti> shared = contiRepository.findSharedBeforeCursor(user, cursorDate,
+        cursorId, CursorPage.fetchRange(pageSize));
+    return CursorPage.of(mergeAccessible(owned, shared, pageSize + 1), pageSize,
+        row -> cursorOf(row.getConti()));
+  }
 
-    sharedContis.removeAll(ownedContis);
-    ownedContis.addAll(sharedContis);
+  /**
+   * 같은 순서로 정렬된 두 목록을 합쳐 앞에서 {@code limit}개를 남긴다. 직접 만든 콘티를 자신에게 공유한 경우에는
+   * 공유 행만 남긴다.
+   */
+  static List<AccessibleConti> mergeAccessible(List<Conti> owned, List<AccessibleConti> shared,
+      int limit) {
+    List<AccessibleConti> rows = new ArrayList<>(limit);
+    int i = 0;
+    int j = 0;
+    while (rows.size() < limit && (i < owned.size() || j < shared.size())) {
+      int order = i == owned.size() ? 1
+          : j == shared.size() ? -1
+              : KEYSET_ORDER.compare(owned.get(i), shared.get(j).getConti());
+      if (order < 0) {
+        rows.add(new AccessibleConti(owned.get(i++), null));
+      } else {
+        if (order == 0) {
+          i++;
+        }
+        rows.add(shared.get(j++));
+      }
+    }
+    return rows;
+  }
 
-    return ownedContis;
+  private static String cursorOf(Conti conti) {
+    return CursorToken.encode(conti.getScheduledAt(), conti.getId());
   }
 }
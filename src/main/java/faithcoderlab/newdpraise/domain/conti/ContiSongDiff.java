@@ -0,0 +1,97 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 수정 전후 콘티 텍스트의 곡 블록(곡 줄과 추가 정보 줄) 목록을 비교해, 새 곡마다 재사용할 기존 곡의 위치를 정한다.
+ * 최장 공통 부분열로 그대로인 블록을 맞추고, 두 공통 블록 사이에서 바뀐 블록은 앞에서부터 기존 곡과 짝지어 고쳐 쓴다.
+ * 짝이 남는 새 블록은 새 곡, 남는 기존 곡은 빠진 곡이다.
+ */
+final class ContiSongDiff {
+
+  static final int NEW_SONG = -1;
+
+  private final int[] oldIndexOf;
+  private final boolean[] unchanged;
+  private final boolean[] oldKept;
+
+  private ContiSongDiff(int[] oldIndexOf, boolean[] unchanged, boolean[] oldKept) {
+    this.oldIndexOf = oldIndexOf;
+    this.unchanged = unchanged;
+    this.oldKept = oldKept;
+  }
+
+  static ContiSongDiff compute(List<String> oldBlocks, List<String> newBlocks) {
+    int oldSize = oldBlocks.size();
+    int newSize = newBlocks.size();
+
+    int[][] common = new int[oldSize + 1][newSize + 1];
+    for (int i = oldSize - 1; i >= 0; i--) {
+      for (int j = newSize - 1; j >= 0; j--) {
+        common[i][j] = oldBlocks.get(i).equals(newBlocks.get(j))
+            ? common[i + 1][j + 1] + 1
+            : Math.max(common[i + 1][j], common[i][j + 1]);
+      }
+    }
+
+    int[] oldIndexOf = new int[newSize];
+    Arrays.fill(oldIndexOf, NEW_SONG);
+    boolean[] unchanged = new boolean[newSize];
+    boolean[] oldKept = new boolean[oldSize];
+
+    int i = 0;
+    int j = 0;
+    int hunkOld = 0;
+    int hunkNew = 0;
+    while (i < oldSize && j < newSize) {
+      if (oldBlocks.get(i).equals(newBlocks.get(j))) {
+        pairHunk(hunkOld, i, hunkNew, j, oldIndexOf, oldKept);
+        oldIndexOf[j] = i;
+        unchanged[j] = true;
+        oldKept[i] = true;
+        i++;
+        j++;
+        hunkOld = i;
+        hunkNew = j;
+      } else if (common[i + 1][j] >= common[i][j + 1]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    pairHunk(hunkOld, oldSize, hunkNew, newSize, oldIndexOf, oldKept);
+
+    return new ContiSongDiff(oldIndexOf, unchanged, oldKept);
+  }
+
+  /**
+   * 새 위치의 곡이 재사용할 기존 곡의 위치. 새로 만들 곡이면 {@link #NEW_SONG}.
+   */
+  int oldIndexOf(int newIndex) {
+    return oldIndexOf[newIndex];
+  }
+
+  /**
+   * 새 위치의 곡 블록이 기존 블록과 글자 하나 다르지 않은지 여부.
+   */
+  boolean isUnchanged(int newIndex) {
+    return unchanged[newIndex];
+  }
+
+  /**
+   * 기존 위치의 곡이 새 목록에 남는지 여부.
+   */
+  boolean isKept(int oldIndex) {
+    return oldKept[oldIndex];
+  }
+
+  private static void pairHunk(int oldFrom, int oldTo, int newFrom, int newTo, int[] oldIndexOf,
+      boolean[] oldKept) {
+    int pairs = Math.min(oldTo - oldFrom, newTo - newFrom);
+    for (int k = 0; k < pairs; k++) {
+      oldIndexOf[newFrom + k] = oldFrom + k;
+      oldKept[oldFrom + k] = true;
+    }
+  }
+}
@@ -0,0 +1,272 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import java.util.List;
+
+/**
+ * 곡 번호를 뗀 곡 줄 하나에서 찾은 제목, 키, 아티스트와 각 글자의 위치.
+ * 특이사항은 이 위치와 링크를 뺀 나머지 글자로 만들기 때문에, 사용자가 적은 제목을 다시 검색하거나 정규식으로 해석하지 않는다.
+ */
+final class ContiSongLine {
+
+  private final String text;
+  private final boolean[] consumed;
+  private final String title;
+  private final String key;
+  private final String artist;
+
+  private ContiSongLine(String text, boolean[] consumed, String title, String key, String artist) {
+    this.text = text;
+    this.consumed = consumed;
+    this.title = title;
+    this.key = key;
+    this.artist = artist;
+  }
+
+  static ContiSongLine parse(String songLine) {
+    boolean[] consumed = new boolean[songLine.length()];
+    String title = extractTitle(songLine, consumed);
+    String key = extractKey(songLine, consumed);
+    String artist = extractArtist(songLine, consumed);
+    return new ContiSongLine(songLine, consumed, title, key, artist);
+  }
+
+  String getTitle() {
+    return title;
+  }
+
+  String getKey() {
+    return key;
+  }
+
+  String getArtist() {
+    return artist;
+  }
+
+  /**
+   * 곡 줄과 추가 정보 줄에서 제목, 키, 아티스트, 링크를 뺀 나머지. 괄호 안 내용을 먼저 한 줄씩 적고 남은 글을 붙인다.
+   */
+  String specialInstructions(String additionalInfo) {
+    StringBuilder remaining = new StringBuilder(text.length() + additionalInfo.length() + 1);
+    boolean generalUrlRemoved = appendRemaining(text, consumed, false, remaining);
+
+    int lineStart = 0;
+    while (lineStart < additionalInfo.length()) {
+      int lineEnd = additionalInfo.indexOf('\n', lineStart);
+      if (lineEnd < 0) {
+        lineEnd = additionalInfo.length();
+      }
+      String line = additionalInfo.substring(lineStart, lineEnd);
+      generalUrlRemoved = appendRemaining(line, new boolean[line.length()], generalUrlRemoved, remaining);
+      lineStart = lineEnd + 1;
+    }
+
+    String line = remaining.toString();
+    StringBuilder instructions = new StringBuilder();
+    ContiTextLexer.collectBracketContents(line, instructions);
+
+    line = Slice.of(line).without(ContiTextLexer.enclosedRanges(line, '(', ')')).text;
+    line = Slice.of(line).without(ContiTextLexer.enclosedRanges(line, '[', ']')).text;
+    line = ContiTextLexer.collapseSpaces(line).trim();
+
+    if (!line.isEmpty()) {
+      instructions.append(line);
+    }
+
+    String result = instructions.toString().trim();
+    return result.isEmpty() ? null : result;
+  }
+
+  /**
+   * 한 줄에서 이미 쓰인 글자와 유튜브 링크를 빼고, 아직 지우지 않았다면 처음 나온 일반 링크도 뺀 뒤 줄바꿈과 함께 붙인다.
+   */
+  private static boolean appendRemaining(String line, boolean[] removed, boolean generalUrlRemoved,
+      StringBuilder remaining) {
+    for (int[] range : ContiTextLexer.youtubeUrlRanges(line)) {
+      for (int i = range[0]; i < range[1]; i++) {
+        removed[i] = true;
+      }
+    }
+
+    StringBuilder kept = new StringBuilder(line.length());
+    for (int i = 0; i < line.length(); i++) {
+      if (!removed[i]) {
+        kept.append(line.charAt(i));
+      }
+    }
+
+    if (!generalUrlRemoved) {
+      String keptText = kept.toString();
+      for (int i = 0; i < keptText.length(); i++) {
+        int end = ContiTextLexer.generalUrlEnd(keptText, i);
+        if (end >= 0) {
+          kept.delete(i, end);
+          generalUrlRemoved = true;
+          break;
+        }
+      }
+    }
+
+    remaining.append(kept).append('\n');
+    return generalUrlRemoved;
+  }
+
+  private static String extractTitle(String songLine, boolean[] consumed) {
+    Slice line = Slice.of(songLine).without(ContiTextLexer.youtubeUrlRanges(songLine)).trim();
+
+    int slashIndex = line.text.indexOf('/');
+    if (slashIndex > 0) {
+      line = line.head(slashIndex).trim();
+    }
+
+    line = line.without(ContiTextLexer.enclosedRanges(line.text, '(', ')'));
+    line = line.without(ContiTextLexer.enclosedRanges(line.text, '[', ']')).trim();
+
+    List<int[]> words = ContiTextLexer.wordRanges(line.text);
+    StringBuilder titleBuilder = new StringBuilder();
+
+    for (int i = 0; i < words.size(); i++) {
+      int[] range = words.get(i);
+      String word = line.text.substring(range[0], range[1]);
+
+      if (i >= words.size() - 2 && ContiTextLexer.isKey(word)) {
+        continue;
+      }
+
+      if (!titleBuilder.isEmpty()) {
+        titleBuilder.append(" ");
+      }
+      titleBuilder.append(word);
+      line.mark(range[0], range[1], consumed);
+    }
+
+    return titleBuilder.toString().trim();
+  }
+
+  private static String extractKey(String songLine, boolean[] consumed) {
+    List<int[]> words = ContiTextLexer.wordRanges(songLine);
+
+    for (int i = words.size() - 1; i >= 0; i--) {
+      int[] range = words.get(i);
+      String word = songLine.substring(range[0], range[1]);
+
+      if (ContiTextLexer.isKey(word)) {
+        for (int j = range[0]; j < range[1]; j++) {
+          consumed[j] = true;
+        }
+        return word;
+      }
+    }
+
+    return null;
+  }
+
+  private static String extractArtist(String songLine, boolean[] consumed) {
+    int slashIndex = songLine.indexOf('/');
+    if (slashIndex < 0 || slashIndex + 1 >= songLine.length()) {
+      return null;
+    }
+
+    Slice artistPart = Slice.of(songLine).tail(slashIndex + 1).trim();
+
+    artistPart = artistPart.without(ContiTextLexer.enclosedRanges(artistPart.text, '(', ')')).trim();
+
+    int bracketIndex = artistPart.text.indexOf('(');
+    if (bracketIndex > 0) {
+      artistPart = artistPart.head(bracketIndex).trim();
+    }
+
+    int nextSlashIndex = artistPart.text.indexOf('/');
+    if (nextSlashIndex > 0) {
+      artistPart = artistPart.head(nextSlashIndex).trim();
+    }
+
+    consumed[slashIndex] = true;
+    artistPart.mark(0, artistPart.text.length(), consumed);
+    return artistPart.text;
+  }
+
+  /**
+   * 원래 곡 줄에서의 위치를 기억하는 부분 문자열. 글자를 지우거나 잘라도 남은 글자가 어디서 왔는지 알 수 있다.
+   */
+  private static final class Slice {
+
+    private final String text;
+    private final int[] offsets;
+
+    private Slice(String text, int[] offsets) {
+      this.text = text;
+      this.offsets = offsets;
+    }
+
+    static Slice of(String text) {
+      int[] offsets = new int[text.length()];
+      for (int i = 0; i < offsets.length; i++) {
+        offsets[i] = i;
+      }
+      return new Slice(text, offsets);
+    }
+
+    Slice head(int end) {
+      return range(0, end);
+    }
+
+    Slice tail(int start) {
+      return range(start, text.length());
+    }
+
+    Slice trim() {
+      int start = 0;
+      int end = text.length();
+      while (start < end && text.charAt(start) <= ' ') {
+        start++;
+      }
+      while (end > start && text.charAt(end - 1) <= ' ') {
+        end--;
+      }
+      return range(start, end);
+    }
+
+    /**
+     * 겹치지 않고 정렬된 [시작, 끝) 구간들을 지운다.
+     */
+    Slice without(List<int[]> ranges) {
+      if (ranges.isEmpty()) {
+        return this;
+      }
+
+      StringBuilder kept = new StringBuilder(text.length());
+      int[] keptOffsets = new int[text.length()];
+      int copied = 0;
+      for (int[] range : ranges) {
+        for (int i = copied; i < range[0]; i++) {
+          keptOffsets[kept.length()] = offsets[i];
+          kept.append(text.charAt(i));
+        }
+        copied = range[1];
+      }
+      for (int i = copied; i < text.length(); i++) {
+        keptOffsets[kept.length()] = offsets[i];
+        kept.append(text.charAt(i));
+      }
+
+      int[] trimmedOffsets = new int[kept.length()];
+      System.arraycopy(keptOffsets, 0, trimmedOffsets, 0, kept.length());
+      return new Slice(kept.toString(), trimmedOffsets);
+    }
+
+    void mark(int start, int end, boolean[] consumed) {
+      for (int i = start; i < end; i++) {
+        consumed[offsets[i]] = true;
+      }
+    }
+
+    private Slice range(int start, int end) {
+      if (start == 0 && end == text.length()) {
+        return this;
+      }
+      int[] rangeOffsets = new int[end - start];
+      System.arraycopy(offsets, start, rangeOffsets, 0, rangeOffsets.length);
+      return new Slice(text.substring(start, end), rangeOffsets);
+    }
+  }
+}
@@ -0,0 +1,570 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 콘티 텍스트를 문자 단위로 읽어 날짜, 주제, 곡 번호, 키, 링크, 괄호를 인식하는 수작업 렉서.
+ * 이전 정규식 규칙과 같은 위치, 같은 길이로 매치되도록 각 규칙의 우선순위와 되추적 순서를 그대로 옮겼다.
+ */
+final class ContiTextLexer {
+
+  static final String THEME_KEYWORD = "주제";
+
+  private static final String[] SCHEME_PREFIXES = {"https://", "http://", ""};
+  private static final String[] WWW_PREFIXES = {"www.", ""};
+  private static final String YOUTUBE_WATCH = "youtube.com/watch?v=";
+  private static final String YOUTUBE_SHORT = "youtu.be/";
+  private static final int YOUTUBE_ID_LENGTH = 11;
+  private static final int URL_HOST_MAX_LENGTH = 256;
+  private static final int URL_TLD_MAX_LENGTH = 6;
+
+  private ContiTextLexer() {
+  }
+
+  /**
+   * 날짜 토큰. 월/일만 적힌 경우 {@code year}는 {@link #CURRENT_YEAR}이고 올해로 해석한다.
+   */
+  static final class DateToken {
+
+    static final int CURRENT_YEAR = -1;
+
+    final String text;
+    final int year;
+    final int month;
+    final int day;
+
+    DateToken(String text, int year, int month, int day) {
+      this.text = text;
+      this.year = year;
+      this.month = month;
+      this.day = day;
+    }
+  }
+
+  /**
+   * {@code pos}에서 시작하는 날짜. 8자리 숫자, 년-월-일, 한글 년월일, 월-일-년, 월-일 순으로 시도한다.
+   */
+  static DateToken dateAt(String text, int pos) {
+    int length = text.length();
+    if (pos >= length || !isDigit(text.charAt(pos))) {
+      return null;
+    }
+
+    if (digitRun(text, pos, 8) == 8) {
+      return new DateToken(text.substring(pos, pos + 8), number(text, pos, 4),
+          number(text, pos + 4, 2), number(text, pos + 6, 2));
+    }
+
+    if (digitRun(text, pos, 4) == 4) {
+      int sep = pos + 4;
+      if (isDateSeparator(text, sep)) {
+        int monthLength = digitRun(text, sep + 1, 2);
+        int sep2 = sep + 1 + monthLength;
+        if (monthLength > 0 && isDateSeparator(text, sep2)) {
+          int dayLength = digitRun(text, sep2 + 1, 2);
+          if (dayLength > 0) {
+            return new DateToken(text.substring(pos, sep2 + 1 + dayLength), number(text, pos, 4),
+                number(text, sep + 1, monthLength), number(text, sep2 + 1, dayLength));
+          }
+        }
+      }
+
+      if (sep < length && text.charAt(sep) == '년') {
+        int monthStart = skipSpaces(text, sep + 1);
+        int monthLength = digitRun(text, monthStart, 2);
+        int monthEnd = monthStart + monthLength;
+        if (monthLength > 0 && monthEnd < length && text.charAt(monthEnd) == '월') {
+          int dayStart = skipSpaces(text, monthEnd + 1);
+          int dayLength = digitRun(text, dayStart, 2);
+          int dayEnd = dayStart + dayLength;
+          if (dayLength > 0 && dayEnd < length && text.charAt(dayEnd) == '일') {
+            return new DateToken(text.substring(pos, dayEnd + 1), number(text, pos, 4),
+                number(text, monthStart, monthLength), number(text, dayStart, dayLength));
+          }
+        }
+      }
+    }
+
+    int monthLength = digitRun(text, pos, 2);
+    int sep = pos + monthLength;
+    if (!isDateSeparator(text, sep)) {
+      return null;
+    }
+    int dayLength = digitRun(text, sep + 1, 2);
+    if (dayLength == 0) {
+      return null;
+    }
+    int month = number(text, pos, monthLength);
+    int day = number(text, sep + 1, dayLength);
+    int sep2 = sep + 1 + dayLength;
+    if (isDateSeparator(text, sep2) && digitRun(text, sep2 + 1, 4) == 4) {
+      return new DateToken(text.substring(pos, sep2 + 5), number(text, sep2 + 1, 4), month, day);
+    }
+    return new DateToken(text.substring(pos, sep2), DateToken.CURRENT_YEAR, month, day);
+  }
+
+  /**
+   * {@code pos}에서 시작하는 "주제: ..." 의 내용. 구분 문자 뒤 줄이 비어 있으면 다음 줄 내용을 쓴다.
+   */
+  static String themeAt(String text, int pos) {
+    if (!text.startsWith(THEME_KEYWORD, pos)) {
+      return null;
+    }
+
+    int length = text.length();
+    int start = pos + THEME_KEYWORD.length();
+    int runEnd = start;
+    while (runEnd < length && isThemeSeparator(text.charAt(runEnd))) {
+      runEnd++;
+    }
+
+    int contentStart = runEnd;
+    while (contentStart > start
+        && (contentStart >= length || isLineTerminator(text.charAt(contentStart)))) {
+      contentStart--;
+    }
+    if (contentStart == start) {
+      return null;
+    }
+
+    int contentEnd = contentStart;
+    while (contentEnd < length && !isLineTerminator(text.charAt(contentEnd))) {
+      contentEnd++;
+    }
+    return text.substring(contentStart, contentEnd);
+  }
+
+  /**
+   * 다듬어진 한 줄이 "주제: ..." 줄인지 여부.
+   */
+  static boolean isThemeLine(String line) {
+    int index = line.indexOf(THEME_KEYWORD);
+    while (index >= 0) {
+      if (!containsLineTerminator(line, 0, index)) {
+        int runEnd = index + THEME_KEYWORD.length();
+        while (runEnd < line.length() && isThemeSeparator(line.charAt(runEnd))) {
+          runEnd++;
+        }
+        if (runEnd > index + THEME_KEYWORD.length()
+            && !containsLineTerminator(line, runEnd, line.length())) {
+          return true;
+        }
+      }
+      index = line.indexOf(THEME_KEYWORD, index + 1);
+    }
+    return false;
+  }
+
+  /**
+   * 다듬어진 줄 앞의 곡 번호("1." 또는 "1 ")가 끝나는 위치. 곡 번호가 없으면 -1.
+   */
+  static int songNumberEnd(String line) {
+    int digits = 0;
+    while (digits < line.length() && isDigit(line.charAt(digits))) {
+      digits++;
+    }
+    if (digits == 0) {
+      return -1;
+    }
+
+    int end = digits;
+    while (end < line.length() && (line.charAt(end) == '.' || isSpace(line.charAt(end)))) {
+      end++;
+    }
+    return end > digits ? end : -1;
+  }
+
+  /**
+   * 곡 번호로 시작해 줄 끝까지 이어지는 줄인지 여부. 앞 곡의 추가 정보가 여기서 끝난다.
+   */
+  static boolean isNumberedLine(String line) {
+    int end = songNumberEnd(line);
+    return end >= 0 && !containsLineTerminator(line, end, line.length());
+  }
+
+  static boolean isKey(String word) {
+    int end = keyEnd(word, 0);
+    if (end < 0) {
+      return false;
+    }
+    if (end == word.length()) {
+      return true;
+    }
+    if (word.startsWith("->", end)) {
+      return keyEnd(word, end + 2) == word.length();
+    }
+    return word.charAt(end) == '-' && keyEnd(word, end + 1) == word.length();
+  }
+
+  private static int keyEnd(String word, int pos) {
+    if (pos >= word.length() || !isKeyLetter(word.charAt(pos))) {
+      return -1;
+    }
+    int end = pos + 1;
+    if (end < word.length() && isAccidental(word.charAt(end))) {
+      end++;
+    }
+    if (end < word.length() && word.charAt(end) == 'm') {
+      end++;
+    }
+    return end;
+  }
+
+  /**
+   * 공백 문자로 나눈 단어들의 [시작, 끝) 위치.
+   */
+  static List<int[]> wordRanges(String text) {
+    List<int[]> ranges = new ArrayList<>();
+    int i = 0;
+    while (i < text.length()) {
+      while (i < text.length() && isSpace(text.charAt(i))) {
+        i++;
+      }
+      int start = i;
+      while (i < text.length() && !isSpace(text.charAt(i))) {
+        i++;
+      }
+      if (i > start) {
+        ranges.add(new int[]{start, i});
+      }
+    }
+    return ranges;
+  }
+
+  /**
+   * {@code pos}에서 시작하는 유튜브 링크가 끝나는 위치. 링크가 아니면 -1.
+   */
+  static int youtubeUrlEnd(String text, int pos) {
+    int idStart = youtubeIdStart(text, pos);
+    if (idStart < 0) {
+      return -1;
+    }
+
+    int end = idStart + YOUTUBE_ID_LENGTH;
+    if (end < text.length() && (text.charAt(end) == '?' || text.charAt(end) == '&')) {
+      end++;
+      while (end < text.length() && !isSpace(text.charAt(end))) {
+        end++;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * {@code pos}에서 시작하는 유튜브 링크의 영상 ID 시작 위치. 링크가 아니면 -1.
+   */
+  static int youtubeIdStart(String text, int pos) {
+    for (String scheme : SCHEME_PREFIXES) {
+      if (!text.startsWith(scheme, pos)) {
+        continue;
+      }
+      int afterScheme = pos + scheme.length();
+      for (String www : WWW_PREFIXES) {
+        if (!text.startsWith(www, afterScheme)) {
+          continue;
+        }
+        int host = afterScheme + www.length();
+        int idStart;
+        if (text.startsWith(YOUTUBE_WATCH, host)) {
+          idStart = host + YOUTUBE_WATCH.length();
+        } else if (text.startsWith(YOUTUBE_SHORT, host)) {
+          idStart = host + YOUTUBE_SHORT.length();
+        } else {
+          continue;
+        }
+        if (youtubeIdRun(text, idStart) == YOUTUBE_ID_LENGTH) {
+          return idStart;
+        }
+      }
+    }
+    return -1;
+  }
+
+  static String firstYoutubeId(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      int idStart = youtubeIdStart(text, i);
+      if (idStart >= 0) {
+        return text.substring(idStart, idStart + YOUTUBE_ID_LENGTH);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 유튜브 링크들의 [시작, 끝) 위치. 한 링크가 끝난 다음 위치부터 이어서 찾는다.
+   */
+  static List<int[]> youtubeUrlRanges(String text) {
+    List<int[]> ranges = new ArrayList<>();
+    int i = 0;
+    while (i < text.length()) {
+      int end = youtubeUrlEnd(text, i);
+      if (end < 0) {
+        i++;
+        continue;
+      }
+      ranges.add(new int[]{i, end});
+      i = end;
+    }
+    return ranges;
+  }
+
+  /**
+   * {@code pos}에서 시작하는 일반 링크(도메인.최상위도메인/경로)가 끝나는 위치. 링크가 아니면 -1.
+   * 호스트와 최상위 도메인은 가능한 한 길게 잡고, 단어 경계가 나올 때까지 한 글자씩 줄여 본다.
+   */
+  static int generalUrlEnd(String text, int pos) {
+    for (String scheme : SCHEME_PREFIXES) {
+      if (!text.startsWith(scheme, pos)) {
+        continue;
+      }
+      int afterScheme = pos + scheme.length();
+      for (String www : WWW_PREFIXES) {
+        if (!text.startsWith(www, afterScheme)) {
+          continue;
+        }
+        int end = urlBodyEnd(text, afterScheme + www.length());
+        if (end >= 0) {
+          return end;
+        }
+      }
+    }
+    return -1;
+  }
+
+  static String firstGeneralUrl(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      int end = generalUrlEnd(text, i);
+      if (end >= 0) {
+        return text.substring(i, end);
+      }
+    }
+    return null;
+  }
+
+  private static int urlBodyEnd(String text, int start) {
+    int length = text.length();
+    int hostLength = 0;
+    while (hostLength < URL_HOST_MAX_LENGTH && start + hostLength < length
+        && isUrlHostChar(text.charAt(start + hostLength))) {
+      hostLength++;
+    }
+
+    for (int host = hostLength; host >= 1; host--) {
+      int dot = start + host;
+      if (dot >= length || text.charAt(dot) != '.') {
+        continue;
+      }
+
+      int tldStart = dot + 1;
+      int tldLength = 0;
+      while (tldLength < URL_TLD_MAX_LENGTH && tldStart + tldLength < length
+          && isUrlTldChar(text.charAt(tldStart + tldLength))) {
+        tldLength++;
+      }
+
+      for (int tld = tldLength; tld >= 1; tld--) {
+        int boundary = tldStart + tld;
+        if (isWordBoundary(text, boundary)) {
+          int end = boundary;
+          while (end < length && isUrlPathChar(text.charAt(end))) {
+            end++;
+          }
+          return end;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 괄호 "(...)" 와 대괄호 "[...]" 안의 내용을 나온 순서대로 {@code contents}에 모은다.
+   */
+  static void collectBracketContents(String text, StringBuilder contents) {
+    boolean parenClosable = true;
+    boolean bracketClosable = true;
+    int i = 0;
+    while (i < text.length()) {
+      char c = text.charAt(i);
+      int close = -1;
+      if (c == '(' && parenClosable) {
+        close = text.indexOf(')', i + 1);
+        parenClosable = close >= 0;
+      } else if (c == '[' && bracketClosable) {
+        close = text.indexOf(']', i + 1);
+        bracketClosable = close >= 0;
+      }
+      if (close < 0) {
+        i++;
+        continue;
+      }
+      if (close > i + 1) {
+        contents.append(text.substring(i + 1, close).trim()).append('\n');
+      }
+      i = close + 1;
+    }
+  }
+
+  /**
+   * 짝이 맞는 {@code open}...{@code close} 구간들의 [시작, 끝) 위치. 짝이 없는 여는 괄호는 건너뛴다.
+   */
+  static List<int[]> enclosedRanges(String text, char open, char close) {
+    List<int[]> ranges = new ArrayList<>();
+    int openIndex = text.indexOf(open);
+    while (openIndex >= 0) {
+      int closeIndex = text.indexOf(close, openIndex + 1);
+      if (closeIndex < 0) {
+        break;
+      }
+      ranges.add(new int[]{openIndex, closeIndex + 1});
+      openIndex = text.indexOf(open, closeIndex + 1);
+    }
+    return ranges;
+  }
+
+  /**
+   * 연속된 공백 문자를 공백 하나로 줄인다.
+   */
+  static String collapseSpaces(String text) {
+    StringBuilder result = new StringBuilder(text.length());
+    boolean inSpace = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (isSpace(c)) {
+        if (!inSpace) {
+          result.append(' ');
+          inSpace = true;
+        }
+      } else {
+        result.append(c);
+        inSpace = false;
+      }
+    }
+    return result.toString();
+  }
+
+  static boolean isSpace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  private static boolean containsLineTerminator(String text, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (isLineTerminator(text.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isAsciiLetterOrDigit(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c);
+  }
+
+  private static boolean isThemeSeparator(char c) {
+    return c == ':' || isSpace(c);
+  }
+
+  private static boolean isDateSeparator(String text, int pos) {
+    if (pos >= text.length()) {
+      return false;
+    }
+    char c = text.charAt(pos);
+    return c == '-' || c == '.' || c == '/';
+  }
+
+  private static boolean isKeyLetter(char c) {
+    return (c >= 'A' && c <= 'G') || (c >= 'a' && c <= 'g');
+  }
+
+  private static boolean isAccidental(char c) {
+    return c == '#' || c == 'b' || c == '♯' || c == '♭';
+  }
+
+  private static boolean isUrlHostChar(char c) {
+    return isAsciiLetterOrDigit(c) || "-@:%._+~#=".indexOf(c) >= 0;
+  }
+
+  private static boolean isUrlTldChar(char c) {
+    return isAsciiLetterOrDigit(c) || c == '(' || c == ')';
+  }
+
+  private static boolean isUrlPathChar(char c) {
+    return isAsciiLetterOrDigit(c) || "-()@:%_+.~#?&/=".indexOf(c) >= 0;
+  }
+
+  private static int youtubeIdRun(String text, int pos) {
+    int run = 0;
+    while (run < YOUTUBE_ID_LENGTH && pos + run < text.length()) {
+      char c = text.charAt(pos + run);
+      if (!isAsciiLetterOrDigit(c) && c != '_' && c != '-') {
+        break;
+      }
+      run++;
+    }
+    return run;
+  }
+
+  private static int digitRun(String text, int pos, int max) {
+    int run = 0;
+    while (run < max && pos + run < text.length() && isDigit(text.charAt(pos + run))) {
+      run++;
+    }
+    return run;
+  }
+
+  private static int skipSpaces(String text, int pos) {
+    while (pos < text.length() && isSpace(text.charAt(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static int number(String text, int pos, int length) {
+    int value = 0;
+    for (int i = pos; i < pos + length; i++) {
+      value = value * 10 + (text.charAt(i) - '0');
+    }
+    return value;
+  }
+
+  private static boolean isWordBoundary(String text, int pos) {
+    boolean left = false;
+    if (pos > 0) {
+      int c = Character.codePointBefore(text, pos);
+      left = isWordChar(c)
+          || (Character.getType(c) == Character.NON_SPACING_MARK && hasBaseCharacter(text, pos - 1));
+    }
+    boolean right = false;
+    if (pos < text.length()) {
+      int c = Character.codePointAt(text, pos);
+      right = isWordChar(c)
+          || (Character.getType(c) == Character.NON_SPACING_MARK && hasBaseCharacter(text, pos));
+    }
+    return left != right;
+  }
+
+  private static boolean isWordChar(int c) {
+    return c == '_' || Character.isLetterOrDigit(c);
+  }
+
+  private static boolean hasBaseCharacter(String text, int pos) {
+    for (int i = pos; i >= 0; i--) {
+      int c = Character.codePointAt(text, i);
+      if (Character.isLetterOrDigit(c)) {
+        return true;
+      }
+      if (Character.getType(c) != Character.NON_SPACING_MARK) {
+        return false;
+      }
+    }
+    return false;
+  }
+}
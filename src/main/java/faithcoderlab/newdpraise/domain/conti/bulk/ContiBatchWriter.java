@@ -0,0 +1,201 @@
+package faithcoderlab.newdpraise.domain.conti.bulk;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiChangedEvent;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.service.SongCatalogService;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 파싱된 콘티 묶음을 JPA를 거치지 않고 JDBC 배치로 저장한다.
+ * 곡을 카탈로그에 연결한 뒤 콘티, 곡, 콘티-곡 연결을 각각 한 번의 배치로 넣고 생성된 ID를 엔티티에 채운다.
+ * 묶음 하나가 트랜잭션 하나다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContiBatchWriter {
+
+  private static final String INSERT_CONTI = "INSERT INTO conti "
+      + "(title, description, scheduled_at, creator_id, version, original_text, status, created_at, updated_at) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_SONG = "INSERT INTO songs "
+      + "(title, original_key, performance_key, artist, youtube_url, reference_url, url_type, "
+      + "duration_seconds, special_instructions, bpm, catalog_song_id, created_at, updated_at) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_CONTI_SONG =
+      "INSERT INTO conti_songs (conti_id, song_id, position) VALUES (?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final SongCatalogService songCatalogService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Transactional
+  public void insertAll(List<Conti> contis) {
+    if (contis.isEmpty()) {
+      return;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    for (Conti conti : contis) {
+      conti.setCreatedAt(now);
+      conti.setUpdatedAt(now);
+    }
+    insertContis(contis);
+
+    List<Song> songs = new ArrayList<>();
+    for (Conti conti : contis) {
+      for (Song song : conti.getSongs()) {
+        song.setCreatedAt(now);
+        song.setUpdatedAt(now);
+        songs.add(song);
+      }
+    }
+    if (songs.isEmpty()) {
+      publishSaved(contis);
+      return;
+    }
+    songCatalogService.resolveAll(songs);
+    insertSongs(songs);
+    insertContiSongs(contis);
+    publishSaved(contis);
+  }
+
+  private void publishSaved(List<Conti> contis) {
+    for (Conti conti : contis) {
+      eventPublisher.publishEvent(ContiChangedEvent.saved(conti));
+    }
+  }
+
+  private void insertContis(List<Conti> contis) {
+    List<Long> ids = batchInsert(INSERT_CONTI, contis.size(), (ps, i) -> {
+      Conti conti = contis.get(i);
+      ps.setString(1, conti.getTitle());
+      ps.setString(2, conti.getDescription());
+      ps.setObject(3, conti.getScheduledAt());
+      if (conti.getCreator() != null) {
+        ps.setLong(4, conti.getCreator().getId());
+      } else {
+        ps.setNull(4, Types.BIGINT);
+      }
+      ps.setString(5, conti.getVersion());
+      ps.setString(6, conti.getOriginalText());
+      ps.setString(7, conti.getStatus().name());
+      ps.setTimestamp(8, Timestamp.valueOf(conti.getCreatedAt()));
+      ps.setTimestamp(9, Timestamp.valueOf(conti.getUpdatedAt()));
+    });
+
+    for (int i = 0; i < contis.size(); i++) {
+      contis.get(i).setId(ids.get(i));
+    }
+  }
+
+  private void insertSongs(List<Song> songs) {
+    List<Long> ids = batchInsert(INSERT_SONG, songs.size(), (ps, i) -> {
+      Song song = songs.get(i);
+      ps.setString(1, song.getTitle());
+      ps.setString(2, song.getOriginalKey());
+      ps.setString(3, song.getPerformanceKey());
+      ps.setString(4, song.getArtist());
+      ps.setString(5, song.getYoutubeUrl());
+      ps.setString(6, song.getReferenceUrl());
+      ps.setString(7, song.getUrlType() != null ? song.getUrlType().name() : null);
+      if (song.getDurationSeconds() != null) {
+        ps.setInt(8, song.getDurationSeconds());
+      } else {
+        ps.setNull(8, Types.INTEGER);
+      }
+      ps.setString(9, song.getSpecialInstructions());
+      ps.setString(10, song.getBpm());
+      if (song.getCatalogSong() != null) {
+        ps.setLong(11, song.getCatalogSong().getId());
+      } else {
+        ps.setNull(11, Types.BIGINT);
+      }
+      ps.setTimestamp(12, Timestamp.valueOf(song.getCreatedAt()));
+      ps.setTimestamp(13, Timestamp.valueOf(song.getUpdatedAt()));
+    });
+
+    for (int i = 0; i < songs.size(); i++) {
+      songs.get(i).setId(ids.get(i));
+    }
+  }
+
+  private void insertContiSongs(List<Conti> contis) {
+    List<long[]> rows = new ArrayList<>();
+    for (Conti conti : contis) {
+      List<Song> songs = conti.getSongs();
+      for (int position = 0; position < songs.size(); position++) {
+        rows.add(new long[]{conti.getId(), songs.get(position).getId(), position});
+      }
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_CONTI_SONG, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        long[] row = rows.get(i);
+        ps.setLong(1, row[0]);
+        ps.setLong(2, row[1]);
+        ps.setInt(3, (int) row[2]);
+      }
+
+      @Override
+      public int getBatchSize() {
+        return rows.size();
+      }
+    });
+  }
+
+  private List<Long> batchInsert(String sql, int size, RowSetter rowSetter) {
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(sql, new String[]{"id"}),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            rowSetter.setValues(ps, i);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return size;
+          }
+        },
+        keyHolder);
+
+    List<Map<String, Object>> keys = keyHolder.getKeyList();
+    if (keys.size() != size) {
+      throw new DataRetrievalFailureException(
+          "생성된 ID 수가 저장한 행 수와 다릅니다: " + keys.size() + " / " + size);
+    }
+
+    List<Long> ids = new ArrayList<>(size);
+    for (Map<String, Object> key : keys) {
+      ids.add(((Number) key.values().iterator().next()).longValue());
+    }
+    return ids;
+  }
+
+  @FunctionalInterface
+  private interface RowSetter {
+
+    void setValues(PreparedStatement ps, int i) throws SQLException;
+  }
+}
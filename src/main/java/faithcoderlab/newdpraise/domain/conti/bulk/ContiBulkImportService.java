@@ -0,0 +1,264 @@
+package faithcoderlab.newdpraise.domain.conti.bulk;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiArchiveReader;
+import faithcoderlab.newdpraise.domain.conti.ContiArchiveReader.Entry;
+import faithcoderlab.newdpraise.domain.conti.ContiParserService;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.global.exception.FileException;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 여러 해의 콘티가 담긴 텍스트 파일을 한 번에 가져온다.
+ * 업로드를 임시 파일로 옮긴 뒤 백그라운드에서 날짜 줄마다 끊어 읽고, 일정 개수씩 병렬로 파싱해 묶음 단위 JDBC 배치로 저장한다.
+ * 메모리에는 저장 중인 묶음 하나만 두므로 파일 크기와 관계없이 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+public class ContiBulkImportService {
+
+  private static final String IMPORT_SUBDIRECTORY = "imports";
+
+  private final ContiParserService contiParserService;
+  private final ContiBatchWriter contiBatchWriter;
+  private final AppConfig appConfig;
+  private final TaskExecutor contiImportExecutor;
+  private final Executor contiParseExecutor;
+  private final int batchSize;
+  private final int maxEntryLength;
+  private final int maxErrors;
+
+  private final Map<String, ContiImportJob> jobs;
+
+  public ContiBulkImportService(
+      ContiParserService contiParserService,
+      ContiBatchWriter contiBatchWriter,
+      AppConfig appConfig,
+      @Qualifier("contiImportExecutor") TaskExecutor contiImportExecutor,
+      @Qualifier("contiParseExecutor") Executor contiParseExecutor,
+      @Value("${conti-import.batch-size:100}") int batchSize,
+      @Value("${conti-import.max-entry-length:65536}") int maxEntryLength,
+      @Value("${conti-import.max-errors:100}") int maxErrors,
+      @Value("${conti-import.max-jobs:50}") int maxJobs
+  ) {
+    this.contiParserService = contiParserService;
+    this.contiBatchWriter = contiBatchWriter;
+    this.appConfig = appConfig;
+    this.contiImportExecutor = contiImportExecutor;
+    this.contiParseExecutor = contiParseExecutor;
+    this.batchSize = batchSize;
+    this.maxEntryLength = maxEntryLength;
+    this.maxErrors = maxErrors;
+    this.jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, ContiImportJob> eldest) {
+        return size() > maxJobs;
+      }
+    });
+  }
+
+  public ContiImportJob startImport(MultipartFile file, User creator) {
+    if (file == null || file.isEmpty()) {
+      throw new FileException("업로드할 파일이 비어있습니다.");
+    }
+
+    Path upload = storeUpload(file);
+    ContiImportJob job = new ContiImportJob(UUID.randomUUID().toString(), creator.getId(),
+        file.getOriginalFilename(), file.getSize(), maxErrors);
+    jobs.put(job.getId(), job);
+
+    try {
+      contiImportExecutor.execute(() -> runImport(job, upload, creator));
+    } catch (TaskRejectedException e) {
+      jobs.remove(job.getId());
+      deleteUpload(upload);
+      throw new FileException("진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    log.info("콘티 일괄 가져오기 예약: 작업={}, 파일={}, {} bytes",
+        job.getId(), job.getFileName(), job.getTotalBytes());
+    return job;
+  }
+
+  public ContiImportJob getJob(String jobId, User user) {
+    ContiImportJob job = jobs.get(jobId);
+    if (job == null || !job.getUserId().equals(user.getId())) {
+      throw new ResourceNotFoundException("가져오기 작업을 찾을 수 없습니다. ID: " + jobId);
+    }
+    return job;
+  }
+
+  void importArchive(ContiImportJob job, InputStream input, User creator) {
+    job.start();
+    log.info("콘티 일괄 가져오기 시작: 작업={}", job.getId());
+
+    InputStreamReader reader = new InputStreamReader(new CountingInputStream(input, job),
+        StandardCharsets.UTF_8);
+    try (ContiArchiveReader archive = new ContiArchiveReader(reader, maxEntryLength)) {
+      List<Entry> chunk = new ArrayList<>(batchSize);
+      while (archive.hasNext()) {
+        chunk.add(archive.next());
+        if (chunk.size() == batchSize) {
+          importChunk(job, chunk, creator);
+          chunk.clear();
+        }
+      }
+      importChunk(job, chunk, creator);
+
+      job.complete();
+      log.info("콘티 일괄 가져오기 완료: 작업={}, 콘티 {}개, 곡 {}개, 실패 {}개",
+          job.getId(), job.getImportedContis(), job.getImportedSongs(), job.getFailedEntries());
+    } catch (IOException | RuntimeException e) {
+      log.error("콘티 일괄 가져오기 실패: 작업={}", job.getId(), e);
+      job.fail("가져오기 중 오류가 발생했습니다: " + e.getMessage());
+    }
+  }
+
+  private void runImport(ContiImportJob job, Path upload, User creator) {
+    try (InputStream input = Files.newInputStream(upload)) {
+      importArchive(job, input, creator);
+    } catch (IOException e) {
+      log.error("업로드 파일 읽기 실패: 작업={}", job.getId(), e);
+      job.fail("업로드 파일을 읽을 수 없습니다: " + e.getMessage());
+    } finally {
+      deleteUpload(upload);
+    }
+  }
+
+  private void importChunk(ContiImportJob job, List<Entry> chunk, User creator) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+
+    List<CompletableFuture<Conti>> parsing = new ArrayList<>(chunk.size());
+    for (Entry entry : chunk) {
+      parsing.add(entry.isTooLong()
+          ? CompletableFuture.completedFuture(null)
+          : CompletableFuture.supplyAsync(
+              () -> contiParserService.parseContiText(entry.getText(), creator), contiParseExecutor));
+    }
+
+    List<Conti> contis = new ArrayList<>(chunk.size());
+    List<Entry> parsedEntries = new ArrayList<>(chunk.size());
+    for (int i = 0; i < chunk.size(); i++) {
+      Entry entry = chunk.get(i);
+      if (entry.isTooLong()) {
+        job.entryFailed(entry.getIndex(), entry.getLineNumber(),
+            "콘티가 최대 길이(" + maxEntryLength + "자)를 넘어 건너뛰었습니다.");
+        continue;
+      }
+
+      try {
+        Conti conti = parsing.get(i).join();
+        if (conti.getSongs().isEmpty()) {
+          job.entryFailed(entry.getIndex(), entry.getLineNumber(), "곡을 찾을 수 없습니다.");
+          continue;
+        }
+        contis.add(conti);
+        parsedEntries.add(entry);
+      } catch (CompletionException e) {
+        job.entryFailed(entry.getIndex(), entry.getLineNumber(),
+            "파싱 실패: " + e.getCause().getMessage());
+      }
+    }
+
+    try {
+      contiBatchWriter.insertAll(contis);
+      for (Conti conti : contis) {
+        job.entryImported(conti.getSongs().size());
+      }
+    } catch (DataAccessException e) {
+      log.warn("콘티 묶음 저장 실패, 한 개씩 다시 저장: 작업={}, 콘티 {}개", job.getId(), contis.size(), e);
+      for (int i = 0; i < contis.size(); i++) {
+        insertOne(job, parsedEntries.get(i), contis.get(i));
+      }
+    }
+  }
+
+  private void insertOne(ContiImportJob job, Entry entry, Conti conti) {
+    try {
+      contiBatchWriter.insertAll(List.of(conti));
+      job.entryImported(conti.getSongs().size());
+    } catch (DataAccessException e) {
+      job.entryFailed(entry.getIndex(), entry.getLineNumber(),
+          "저장 실패: " + e.getMostSpecificCause().getMessage());
+    }
+  }
+
+  private Path storeUpload(MultipartFile file) {
+    try {
+      Path directory = Paths.get(appConfig.getFileUploadDir(), IMPORT_SUBDIRECTORY);
+      Files.createDirectories(directory);
+      Path upload = Files.createTempFile(directory, "conti-import-", ".txt");
+      file.transferTo(upload);
+      return upload;
+    } catch (IOException e) {
+      throw new FileException("업로드 파일 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
+    }
+  }
+
+  private void deleteUpload(Path upload) {
+    try {
+      Files.deleteIfExists(upload);
+    } catch (IOException e) {
+      log.warn("업로드 임시 파일 삭제 실패: {}", upload, e);
+    }
+  }
+
+  /**
+   * 읽은 바이트 수를 작업 진행률에 더한다.
+   */
+  private static class CountingInputStream extends FilterInputStream {
+
+    private final ContiImportJob job;
+
+    CountingInputStream(InputStream input, ContiImportJob job) {
+      super(input);
+      this.job = job;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        job.addProcessedBytes(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = super.read(buffer, offset, length);
+      if (read > 0) {
+        job.addProcessedBytes(read);
+      }
+      return read;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package faithcoderlab.newdpraise.domain.conti.bulk;
+
+import faithcoderlab.newdpraise.domain.conti.bulk.dto.ContiImportResponse;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.domain.user.UserRepository;
+import faithcoderlab.newdpraise.global.exception.AuthenticationException;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/conti/import")
+@RequiredArgsConstructor
+@Tag(name = "ContiImport", description = "콘티 일괄 가져오기 API")
+public class ContiImportController {
+
+  private final ContiBulkImportService contiBulkImportService;
+  private final UserRepository userRepository;
+
+  @Operation(summary = "콘티 일괄 가져오기",
+      description = "여러 콘티가 담긴 텍스트 파일(콘티 모음, 카카오톡 대화 내보내기)을 날짜 줄 단위로 나눠 백그라운드에서 가져옵니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "202", description = "가져오기 작업 시작",
+          content = @Content(schema = @Schema(implementation = ContiImportResponse.class))),
+      @ApiResponse(responseCode = "400", description = "빈 파일이거나 진행 중인 작업이 많음"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<ContiImportResponse> startImport(
+      @RequestParam("file") MultipartFile file, Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+    ContiImportJob job = contiBulkImportService.startImport(file, user);
+
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(ContiImportResponse.fromJob(job));
+  }
+
+  @Operation(summary = "콘티 일괄 가져오기 진행 상황", description = "가져오기 작업의 진행률과 콘티별 오류를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공",
+          content = @Content(schema = @Schema(implementation = ContiImportResponse.class))),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+      @ApiResponse(responseCode = "404", description = "가져오기 작업을 찾을 수 없음")
+  })
+  @GetMapping("/{jobId}")
+  public ResponseEntity<ContiImportResponse> getImport(
+      @PathVariable String jobId, Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+    ContiImportJob job = contiBulkImportService.getJob(jobId, user);
+
+    return ResponseEntity.ok(ContiImportResponse.fromJob(job));
+  }
+
+  private User getUserFromPrincipal(Principal principal) {
+    if (principal == null) {
+      throw new AuthenticationException("인증되지 않은 사용자입니다.");
+    }
+
+    return userRepository.findByEmail(principal.getName())
+        .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+  }
+}
@@ -0,0 +1,112 @@
+package faithcoderlab.newdpraise.domain.conti.bulk;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 콘티 일괄 가져오기 작업 하나의 진행 상황. 가져오는 스레드가 갱신하고 조회 요청이 동시에 읽는다.
+ * 콘티별 오류는 처음 {@code maxErrors}개만 보관하고 나머지는 개수만 센다.
+ */
+@Getter
+public class ContiImportJob {
+
+  private final String id;
+  private final Long userId;
+  private final String fileName;
+  private final long totalBytes;
+  private final int maxErrors;
+  private final LocalDateTime createdAt = LocalDateTime.now();
+
+  private final AtomicLong processedBytes = new AtomicLong();
+  private final AtomicInteger processedEntries = new AtomicInteger();
+  private final AtomicInteger importedContis = new AtomicInteger();
+  private final AtomicInteger importedSongs = new AtomicInteger();
+  private final AtomicInteger failedEntries = new AtomicInteger();
+  private final List<EntryError> errors = new ArrayList<>();
+
+  private volatile ContiImportStatus status = ContiImportStatus.QUEUED;
+  private volatile String message;
+  private volatile LocalDateTime startedAt;
+  private volatile LocalDateTime finishedAt;
+
+  public ContiImportJob(String id, Long userId, String fileName, long totalBytes, int maxErrors) {
+    this.id = id;
+    this.userId = userId;
+    this.fileName = fileName;
+    this.totalBytes = totalBytes;
+    this.maxErrors = maxErrors;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class EntryError {
+
+    private final int entryIndex;
+    private final long lineNumber;
+    private final String message;
+  }
+
+  public void start() {
+    startedAt = LocalDateTime.now();
+    status = ContiImportStatus.RUNNING;
+  }
+
+  public void complete() {
+    finishedAt = LocalDateTime.now();
+    status = ContiImportStatus.COMPLETED;
+  }
+
+  public void fail(String message) {
+    this.message = message;
+    finishedAt = LocalDateTime.now();
+    status = ContiImportStatus.FAILED;
+  }
+
+  public void addProcessedBytes(long bytes) {
+    processedBytes.addAndGet(bytes);
+  }
+
+  public void entryImported(int songCount) {
+    processedEntries.incrementAndGet();
+    importedContis.incrementAndGet();
+    importedSongs.addAndGet(songCount);
+  }
+
+  public void entryFailed(int entryIndex, long lineNumber, String message) {
+    processedEntries.incrementAndGet();
+    failedEntries.incrementAndGet();
+    synchronized (errors) {
+      if (errors.size() < maxErrors) {
+        errors.add(new EntryError(entryIndex, lineNumber, message));
+      }
+    }
+  }
+
+  public List<EntryError> getErrors() {
+    synchronized (errors) {
+      return List.copyOf(errors);
+    }
+  }
+
+  public boolean isFinished() {
+    return status == ContiImportStatus.COMPLETED || status == ContiImportStatus.FAILED;
+  }
+
+  /**
+   * 읽은 바이트 기준 진행률(0~100).
+   */
+  public int getProgress() {
+    if (status == ContiImportStatus.COMPLETED) {
+      return 100;
+    }
+    if (totalBytes <= 0) {
+      return 0;
+    }
+    return (int) Math.min(99, processedBytes.get() * 100 / totalBytes);
+  }
+}
@@ -0,0 +1,8 @@
+package faithcoderlab.newdpraise.domain.conti.bulk;
+
+public enum ContiImportStatus {
+  QUEUED, // 대기 중
+  RUNNING, // 가져오는 중
+  COMPLETED, // 완료
+  FAILED // 실패
+}
@@ -0,0 +1,69 @@
+package faithcoderlab.newdpraise.domain.conti.bulk.dto;
+
+import faithcoderlab.newdpraise.domain.conti.bulk.ContiImportJob;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiImportResponse {
+  private String jobId;
+  private String fileName;
+  private String status;
+  private int progress;
+  private long totalBytes;
+  private long processedBytes;
+  private int processedEntries;
+  private int importedContis;
+  private int importedSongs;
+  private int failedEntries;
+  private List<EntryErrorDto> errors;
+  private String message;
+  private LocalDateTime createdAt;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class EntryErrorDto {
+    private int entryIndex;
+    private long lineNumber;
+    private String message;
+  }
+
+  public static ContiImportResponse fromJob(ContiImportJob job) {
+    List<EntryErrorDto> errors = job.getErrors().stream()
+        .map(error -> EntryErrorDto.builder()
+            .entryIndex(error.getEntryIndex())
+            .lineNumber(error.getLineNumber())
+            .message(error.getMessage())
+            .build())
+        .toList();
+
+    return ContiImportResponse.builder()
+        .jobId(job.getId())
+        .fileName(job.getFileName())
+        .status(job.getStatus().name())
+        .progress(job.getProgress())
+        .totalBytes(job.getTotalBytes())
+        .processedBytes(job.getProcessedBytes().get())
+        .processedEntries(job.getProcessedEntries().get())
+        .importedContis(job.getImportedContis().get())
+        .importedSongs(job.getImportedSongs().get())
+        .failedEntries(job.getFailedEntries().get())
+        .errors(errors)
+        .message(job.getMessage())
+        .createdAt(job.getCreatedAt())
+        .startedAt(job.getStartedAt())
+        .finishedAt(job.getFinishedAt())
+        .build();
+  }
+}
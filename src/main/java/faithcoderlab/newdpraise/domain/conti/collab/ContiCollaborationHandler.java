@@ -0,0 +1,139 @@
+package faithcoderlab.newdpraise.domain.conti.collab;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * 콘티별 협업 채널. 받은 연산에 편집자와 순번을 붙여 같은 콘티의 모든 편집자에게 방송하고, 저장은
+ * {@link ContiEditBuffer}에 맡긴다. 권한은 핸드셰이크에서 이미 확인했으므로 메시지마다 다시 보지 않는다.
+ * 방송한 연산을 저장하지 못하면 편집자들에게 다시 맞출 잠금 버전을 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContiCollaborationHandler extends TextWebSocketHandler {
+
+  private static final int SEND_TIME_LIMIT_MILLIS = 5000;
+  private static final int BUFFER_SIZE_LIMIT_BYTES = 64 * 1024;
+
+  private final ContiEditBuffer contiEditBuffer;
+  private final ObjectMapper objectMapper;
+
+  private final Map<Long, Map<String, WebSocketSession>> sessionsByConti =
+      new ConcurrentHashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+
+  @Override
+  public void afterConnectionEstablished(WebSocketSession session) {
+    WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session,
+        SEND_TIME_LIMIT_MILLIS, BUFFER_SIZE_LIMIT_BYTES);
+    sessionsByConti.computeIfAbsent(contiIdOf(session), id -> new ConcurrentHashMap<>())
+        .put(session.getId(), concurrentSession);
+  }
+
+  @Override
+  protected void handleTextMessage(WebSocketSession session, TextMessage message)
+      throws IOException {
+    Long contiId = contiIdOf(session);
+    ContiEditOperation operation;
+    try {
+      operation = objectMapper.readValue(message.getPayload(), ContiEditOperation.class);
+    } catch (JsonProcessingException e) {
+      sendError(session, "편집 연산을 읽을 수 없습니다.");
+      return;
+    }
+
+    String error = validate(operation);
+    if (error != null) {
+      sendError(session, error);
+      return;
+    }
+
+    ContiEditOperation accepted = operation.toBuilder()
+        .editorId((Long) session.getAttributes().get(ContiCollaborationHandshakeInterceptor.USER_ID))
+        .editorName(
+            (String) session.getAttributes().get(ContiCollaborationHandshakeInterceptor.USER_NAME))
+        .sequence(sequence.incrementAndGet())
+        .build();
+    contiEditBuffer.submit(contiId, accepted);
+    broadcast(contiId, new TextMessage(objectMapper.writeValueAsString(accepted)));
+  }
+
+  @Override
+  public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+    Long contiId = contiIdOf(session);
+    sessionsByConti.computeIfPresent(contiId, (id, sessions) -> {
+      sessions.remove(session.getId());
+      return sessions.isEmpty() ? null : sessions;
+    });
+  }
+
+  @EventListener
+  public void onEditRejected(ContiEditRejectedEvent event) throws JsonProcessingException {
+    Map<String, Object> resync = new HashMap<>();
+    resync.put("resync", true);
+    resync.put("lockVersion", event.getLockVersion());
+    broadcast(event.getContiId(), new TextMessage(objectMapper.writeValueAsString(resync)));
+  }
+
+  private void broadcast(Long contiId, TextMessage message) {
+    Map<String, WebSocketSession> sessions = sessionsByConti.get(contiId);
+    if (sessions == null) {
+      return;
+    }
+    for (WebSocketSession session : sessions.values()) {
+      if (!session.isOpen()) {
+        continue;
+      }
+      try {
+        session.sendMessage(message);
+      } catch (IOException | RuntimeException e) {
+        log.debug("협업 메시지 전송에 실패했습니다. 세션: {}, {}", session.getId(), e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 방송과 같은 세션에 동시에 쓰지 않도록 등록해 둔 동시 전송용 세션으로 보낸다.
+   */
+  private void sendError(WebSocketSession session, String message) throws IOException {
+    Map<String, WebSocketSession> sessions = sessionsByConti.get(contiIdOf(session));
+    WebSocketSession target = sessions != null
+        ? sessions.getOrDefault(session.getId(), session)
+        : session;
+    target.sendMessage(new TextMessage(
+        objectMapper.writeValueAsString(Map.of("error", message))));
+  }
+
+  private static String validate(ContiEditOperation operation) {
+    if (operation.getType() == null) {
+      return "편집 연산 종류가 없습니다.";
+    }
+    if (operation.getSongId() == null) {
+      return "곡 ID가 없습니다.";
+    }
+    if (operation.getType() == ContiEditOperationType.MOVE_SONG
+        && operation.getToIndex() == null) {
+      return "이동할 위치가 없습니다.";
+    }
+    return null;
+  }
+
+  private static Long contiIdOf(WebSocketSession session) {
+    return (Long) session.getAttributes().get(ContiCollaborationHandshakeInterceptor.CONTI_ID);
+  }
+}
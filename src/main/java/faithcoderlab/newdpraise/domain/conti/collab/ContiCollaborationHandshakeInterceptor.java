@@ -0,0 +1,107 @@
+package faithcoderlab.newdpraise.domain.conti.collab;
+
+import faithcoderlab.newdpraise.config.JwtProperties;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.domain.user.UserRepository;
+import faithcoderlab.newdpraise.global.exception.AuthenticationException;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import faithcoderlab.newdpraise.global.security.JwtProvider;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 협업 채널 핸드셰이크에서 토큰과 콘티 편집 권한을 한 번 확인하고, 확인한 사용자와 콘티를 세션 속성에 남긴다.
+ * 브라우저 웹소켓은 헤더를 붙일 수 없어 {@code token} 쿼리 파라미터도 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContiCollaborationHandshakeInterceptor implements HandshakeInterceptor {
+
+  static final String CONTI_ID = "contiId";
+  static final String USER_ID = "userId";
+  static final String USER_NAME = "userName";
+
+  private final JwtProvider jwtProvider;
+  private final JwtProperties jwtProperties;
+  private final UserRepository userRepository;
+  private final ContiCollaborationService contiCollaborationService;
+
+  @Override
+  public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+      WebSocketHandler wsHandler, Map<String, Object> attributes) {
+    Long contiId = contiIdOf(request);
+    if (contiId == null) {
+      response.setStatusCode(HttpStatus.BAD_REQUEST);
+      return false;
+    }
+
+    User user = authenticate(request);
+    if (user == null) {
+      response.setStatusCode(HttpStatus.UNAUTHORIZED);
+      return false;
+    }
+
+    try {
+      contiCollaborationService.checkCanEdit(contiId, user);
+    } catch (ResourceNotFoundException e) {
+      response.setStatusCode(HttpStatus.NOT_FOUND);
+      return false;
+    } catch (AuthenticationException e) {
+      response.setStatusCode(HttpStatus.FORBIDDEN);
+      return false;
+    }
+
+    attributes.put(CONTI_ID, contiId);
+    attributes.put(USER_ID, user.getId());
+    attributes.put(USER_NAME, user.getName());
+    return true;
+  }
+
+  @Override
+  public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+      WebSocketHandler wsHandler, Exception exception) {
+  }
+
+  private User authenticate(ServerHttpRequest request) {
+    String token = tokenOf(request);
+    if (token == null) {
+      return null;
+    }
+
+    try {
+      User user = userRepository.findByEmail(jwtProvider.extractUsername(token)).orElse(null);
+      return user != null && jwtProvider.validateToken(token, user) ? user : null;
+    } catch (Exception e) {
+      log.debug("협업 채널 토큰 검증에 실패했습니다: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private String tokenOf(ServerHttpRequest request) {
+    String header = request.getHeaders().getFirst(jwtProperties.getHeaderString());
+    if (header != null && header.startsWith(jwtProperties.getTokenPrefix())) {
+      return header.substring(jwtProperties.getTokenPrefix().length());
+    }
+    return UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams()
+        .getFirst("token");
+  }
+
+  private static Long contiIdOf(ServerHttpRequest request) {
+    String path = request.getURI().getPath();
+    String lastSegment = path.substring(path.lastIndexOf('/') + 1);
+    try {
+      return Long.valueOf(lastSegment);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package faithcoderlab.newdpraise.domain.conti.collab;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiChangedEvent;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.conti.history.ContiHistoryService;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareService;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.SongChangedEvent;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.domain.user.UserRepository;
+import faithcoderlab.newdpraise.global.exception.AuthenticationException;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ContiCollaborationService {
+
+  private final ContiRepository contiRepository;
+  private final UserRepository userRepository;
+  private final ContiShareService contiShareService;
+  private final ContiHistoryService contiHistoryService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 협업 세션을 열 때 한 번만 편집 권한을 확인한다. 세션이 열린 뒤의 연산은 다시 확인하지 않는다.
+   */
+  public void checkCanEdit(Long contiId, User user) {
+    Conti conti = contiRepository.findById(contiId)
+        .orElseThrow(() -> new ResourceNotFoundException("콘티를 찾을 수 없습니다. ID: " + contiId));
+    if (!contiShareService.canEditConti(conti, user)) {
+      throw new AuthenticationException("콘티를 수정할 권한이 없습니다.");
+    }
+  }
+
+  /**
+   * 편집자들이 다시 맞춰야 할 현재 잠금 버전. 콘티가 지워졌으면 {@code null}이다.
+   */
+  public Long getLockVersion(Long contiId) {
+    return contiRepository.findById(contiId)
+        .map(Conti::getLockVersion)
+        .orElse(null);
+  }
+
+  /**
+   * 모아 둔 연산을 트랜잭션 하나로 적용한다. 같은 곡의 같은 종류 연산은 마지막 것만 적용하고,
+   * 콘티에 없는 곡을 가리키는 연산은 건너뛴다. 실제로 바뀐 것이 없으면 저장하지 않는다.
+   */
+  @Transactional
+  public boolean applyOperations(Long contiId, List<ContiEditOperation> operations) {
+    Conti conti = contiRepository.findById(contiId).orElse(null);
+    if (conti == null) {
+      log.debug("삭제된 콘티의 편집 연산을 버립니다. ID: {}", contiId);
+      return false;
+    }
+
+    boolean changed = false;
+    Set<Long> changedSongIds = new HashSet<>();
+    for (ContiEditOperation operation : coalesce(operations)) {
+      if (apply(conti.getSongs(), operation)) {
+        changed = true;
+        if (operation.getType() != ContiEditOperationType.MOVE_SONG) {
+          changedSongIds.add(operation.getSongId());
+        }
+      }
+    }
+    if (!changed) {
+      return false;
+    }
+
+    conti.setUpdatedAt(LocalDateTime.now());
+    Conti savedConti = contiRepository.save(conti);
+    Long editorId = operations.get(operations.size() - 1).getEditorId();
+    User editor = editorId != null ? userRepository.findById(editorId).orElse(null) : null;
+    contiHistoryService.record(savedConti, editor);
+    eventPublisher.publishEvent(ContiChangedEvent.saved(savedConti));
+    if (!changedSongIds.isEmpty()) {
+      eventPublisher.publishEvent(new SongChangedEvent(changedSongIds));
+    }
+    return true;
+  }
+
+  /**
+   * 키와 특이사항은 곡마다 마지막 값만 남긴다. 이동은 순서가 결과를 바꾸므로 바로 이어진 같은 곡의 이동만 합친다.
+   */
+  static List<ContiEditOperation> coalesce(List<ContiEditOperation> operations) {
+    List<ContiEditOperation> coalesced = new ArrayList<>(operations.size());
+    Map<String, Integer> lastValueIndex = new HashMap<>();
+    for (ContiEditOperation operation : operations) {
+      if (operation.getType() == ContiEditOperationType.MOVE_SONG) {
+        int last = coalesced.size() - 1;
+        if (last >= 0 && coalesced.get(last).getType() == ContiEditOperationType.MOVE_SONG
+            && Objects.equals(coalesced.get(last).getSongId(), operation.getSongId())) {
+          coalesced.set(last, operation);
+        } else {
+          coalesced.add(operation);
+        }
+        continue;
+      }
+
+      String key = operation.getType() + ":" + operation.getSongId();
+      Integer index = lastValueIndex.get(key);
+      if (index != null) {
+        coalesced.set(index, operation);
+      } else {
+        lastValueIndex.put(key, coalesced.size());
+        coalesced.add(operation);
+      }
+    }
+    return coalesced;
+  }
+
+  private static boolean apply(List<Song> songs, ContiEditOperation operation) {
+    int index = indexOf(songs, operation.getSongId());
+    if (index < 0) {
+      return false;
+    }
+    Song song = songs.get(index);
+
+    switch (operation.getType()) {
+      case MOVE_SONG -> {
+        int target = Math.max(0, Math.min(operation.getToIndex(), songs.size() - 1));
+        if (target == index) {
+          return false;
+        }
+        songs.add(target, songs.remove(index));
+        return true;
+      }
+      case CHANGE_KEY -> {
+        if (Objects.equals(song.getPerformanceKey(), operation.getPerformanceKey())) {
+          return false;
+        }
+        song.setPerformanceKey(operation.getPerformanceKey());
+        return true;
+      }
+      case EDIT_INSTRUCTIONS -> {
+        if (Objects.equals(song.getSpecialInstructions(), operation.getSpecialInstructions())) {
+          return false;
+        }
+        song.setSpecialInstructions(operation.getSpecialInstructions());
+        return true;
+      }
+      default -> {
+        return false;
+      }
+    }
+  }
+
+  private static int indexOf(List<Song> songs, Long songId) {
+    for (int i = 0; i < songs.size(); i++) {
+      if (Objects.equals(songs.get(i).getId(), songId)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,153 @@
+package faithcoderlab.newdpraise.domain.conti.collab;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 협업 채널로 들어온 연산을 콘티별로 모았다가, 입력이 잠시 멈추거나 가장 오래된 연산이 너무 오래 기다렸을 때
+ * 한 번에 DB에 쓴다. 키 입력마다 트랜잭션을 열지 않기 위한 것이다.
+ * 다른 저장과 부딪혀 잠금 버전 충돌이 나면 연산을 되돌려 두고 다음 차례에 새 상태 위에 다시 적용한다.
+ * 연산은 저장 전에 이미 방송되었으므로, 끝내 저장하지 못하면 {@link ContiEditRejectedEvent}를 발행해
+ * 편집자들이 저장된 상태로 다시 맞추게 한다.
+ */
+@Slf4j
+@Component
+public class ContiEditBuffer {
+
+  private final ContiCollaborationService contiCollaborationService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final long debounceMillis;
+  private final long maxDelayMillis;
+  private final int maxRetries;
+
+  private final Map<Long, PendingEdits> pending = new ConcurrentHashMap<>();
+
+  public ContiEditBuffer(
+      ContiCollaborationService contiCollaborationService,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${conti-collab.debounce-ms:500}") long debounceMillis,
+      @Value("${conti-collab.max-delay-ms:3000}") long maxDelayMillis,
+      @Value("${conti-collab.max-retries:3}") int maxRetries
+  ) {
+    this.contiCollaborationService = contiCollaborationService;
+    this.eventPublisher = eventPublisher;
+    this.debounceMillis = debounceMillis;
+    this.maxDelayMillis = maxDelayMillis;
+    this.maxRetries = maxRetries;
+  }
+
+  private static final class PendingEdits {
+
+    final List<ContiEditOperation> operations = new ArrayList<>();
+    long firstAt;
+    long lastAt;
+    int attempts;
+  }
+
+  public void submit(Long contiId, ContiEditOperation operation) {
+    submit(contiId, operation, System.currentTimeMillis());
+  }
+
+  void submit(Long contiId, ContiEditOperation operation, long now) {
+    pending.compute(contiId, (id, edits) -> {
+      if (edits == null) {
+        edits = new PendingEdits();
+        edits.firstAt = now;
+      }
+      edits.operations.add(operation);
+      edits.lastAt = now;
+      return edits;
+    });
+  }
+
+  @Scheduled(fixedDelayString = "${conti-collab.flush-interval:200}")
+  public void flushDue() {
+    flushDue(System.currentTimeMillis());
+  }
+
+  void flushDue(long now) {
+    for (Long contiId : Set.copyOf(pending.keySet())) {
+      PendingEdits due = takeIfDue(contiId, now);
+      if (due != null) {
+        flush(contiId, due);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void flushAll() {
+    for (Long contiId : Set.copyOf(pending.keySet())) {
+      PendingEdits edits = pending.remove(contiId);
+      if (edits != null) {
+        flush(contiId, edits);
+      }
+    }
+  }
+
+  private PendingEdits takeIfDue(Long contiId, long now) {
+    PendingEdits[] taken = new PendingEdits[1];
+    pending.computeIfPresent(contiId, (id, edits) -> {
+      if (now - edits.lastAt >= debounceMillis || now - edits.firstAt >= maxDelayMillis) {
+        taken[0] = edits;
+        return null;
+      }
+      return edits;
+    });
+    return taken[0];
+  }
+
+  private void flush(Long contiId, PendingEdits edits) {
+    try {
+      contiCollaborationService.applyOperations(contiId, edits.operations);
+    } catch (OptimisticLockingFailureException e) {
+      if (edits.attempts + 1 >= maxRetries) {
+        log.warn("콘티 편집 연산을 저장하지 못했습니다. ID: {}, 연산: {}개", contiId,
+            edits.operations.size());
+        reject(contiId);
+        return;
+      }
+      requeue(contiId, edits);
+    } catch (RuntimeException e) {
+      log.error("콘티 편집 연산 저장 중 오류가 발생했습니다. ID: {}", contiId, e);
+      reject(contiId);
+    }
+  }
+
+  private void reject(Long contiId) {
+    Long lockVersion = null;
+    try {
+      lockVersion = contiCollaborationService.getLockVersion(contiId);
+    } catch (RuntimeException e) {
+      log.warn("콘티 잠금 버전을 읽지 못했습니다. ID: {}, {}", contiId, e.getMessage());
+    }
+    eventPublisher.publishEvent(new ContiEditRejectedEvent(contiId, lockVersion));
+  }
+
+  /**
+   * 실패한 연산을 그 사이 들어온 연산 앞에 다시 넣는다. 다음 차례에 바로 저장되도록 대기 시각은 되돌리지 않는다.
+   */
+  private void requeue(Long contiId, PendingEdits failed) {
+    pending.compute(contiId, (id, edits) -> {
+      PendingEdits retry = new PendingEdits();
+      retry.operations.addAll(failed.operations);
+      retry.firstAt = failed.firstAt;
+      retry.lastAt = failed.lastAt;
+      retry.attempts = failed.attempts + 1;
+      if (edits != null) {
+        retry.operations.addAll(edits.operations);
+        retry.lastAt = edits.lastAt;
+      }
+      return retry;
+    });
+  }
+}
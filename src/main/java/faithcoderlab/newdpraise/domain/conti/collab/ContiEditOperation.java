@@ -0,0 +1,26 @@
+package faithcoderlab.newdpraise.domain.conti.collab;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 협업 편집 채널로 주고받는 연산 하나. 곡은 위치가 아니라 ID로 가리켜, 다른 편집자의 이동과 겹쳐도 같은 곡에 적용된다.
+ * editorId, editorName, sequence는 서버가 채워서 방송한다.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiEditOperation {
+  private ContiEditOperationType type;
+  private Long songId;
+  private Integer toIndex;
+  private String performanceKey;
+  private String specialInstructions;
+  private String clientOperationId;
+  private Long editorId;
+  private String editorName;
+  private long sequence;
+}
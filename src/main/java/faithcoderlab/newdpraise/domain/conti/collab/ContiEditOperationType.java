@@ -0,0 +1,7 @@
+package faithcoderlab.newdpraise.domain.conti.collab;
+
+public enum ContiEditOperationType {
+  MOVE_SONG,
+  CHANGE_KEY,
+  EDIT_INSTRUCTIONS
+}
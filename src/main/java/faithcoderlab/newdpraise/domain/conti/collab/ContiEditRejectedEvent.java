@@ -0,0 +1,16 @@
+package faithcoderlab.newdpraise.domain.conti.collab;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미 방송한 편집 연산을 끝내 저장하지 못했을 때 발행한다. 편집자들은 담긴 잠금 버전의 콘티를 다시 받아야 한다.
+ * 콘티가 지워졌으면 잠금 버전은 {@code null}이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ContiEditRejectedEvent {
+
+  private final Long contiId;
+  private final Long lockVersion;
+}
@@ -0,0 +1,24 @@
+package faithcoderlab.newdpraise.domain.conti.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiParseCacheStats {
+  private int entries;
+  private int maxEntries;
+  private long hits;
+  private long misses;
+  private double hitRatio;
+  private long evictions;
+  private int blockEntries;
+  private int maxBlockEntries;
+  private long blockHits;
+  private long blockMisses;
+  private double blockHitRatio;
+}
@@ -1,5 +1,6 @@
 package faithcoderlab.newdpraise.domain.conti.dto;
 
+import faithcoderlab.newdpraise.domain.conti.Conti;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -30,4 +31,25 @@ public class ContiParseResponse {
     private String specialInstructions;
     private String bpm;
   }
+
+  public static ContiParseResponse fromConti(Conti conti) {
+    List<SongDto> songDtos = conti.getSongs().stream()
+        .map(song -> SongDto.builder()
+            .title(song.getTitle())
+            .originalKey(song.getOriginalKey())
+            .performanceKey(song.getPerformanceKey())
+            .youtubeUrl(song.getYoutubeUrl())
+            .specialInstructions(song.getSpecialInstructions())
+            .bpm(song.getBpm())
+            .build())
+        .toList();
+
+    return ContiParseResponse.builder()
+        .title(conti.getTitle())
+        .scheduledAt(conti.getScheduledAt())
+        .songs(songDtos)
+        .version(conti.getVersion())
+        .status(conti.getStatus().name())
+        .build();
+  }
 }
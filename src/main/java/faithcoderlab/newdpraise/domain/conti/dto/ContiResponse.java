@@ -9,7 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ContiResponse {
@@ -23,6 +23,7 @@ public class ContiResponse {
   private String status;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  private Long lockVersion;
   private boolean isShared;
   private boolean canEdit;
   private boolean canShare;
@@ -0,0 +1,23 @@
+package faithcoderlab.newdpraise.domain.conti.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiResponseCacheStats {
+  private int entries;
+  private int maxEntries;
+  private long hits;
+  private long misses;
+  private double hitRatio;
+  private int permissionEntries;
+  private long permissionHits;
+  private long permissionMisses;
+  private double permissionHitRatio;
+  private long invalidations;
+}
@@ -18,6 +18,8 @@ public class ContiUpdateRequest {
   private LocalDate scheduledAt;
   private ContiStatus status;
   private List<SongDto> songs;
+  private String contiText;
+  private Long lockVersion;
 
   @Data
   @Builder
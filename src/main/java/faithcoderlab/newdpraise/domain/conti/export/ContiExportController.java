@@ -0,0 +1,71 @@
+package faithcoderlab.newdpraise.domain.conti.export;
+
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.domain.user.UserRepository;
+import faithcoderlab.newdpraise.global.exception.AuthenticationException;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/conti/export")
+@RequiredArgsConstructor
+@Tag(name = "ContiExport", description = "콘티 내보내기 API")
+public class ContiExportController {
+
+  private final ContiExportService contiExportService;
+  private final UserRepository userRepository;
+
+  @Operation(summary = "콘티 내보내기",
+      description = "사용자가 만든 콘티와 공유받은 콘티를 예정일 내림차순으로 내보냅니다. "
+          + "NDJSON은 콘티 하나당 JSON 한 줄, CSV는 곡 하나당 한 줄이며 전체를 메모리에 모으지 않고 바로 씁니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+      @ApiResponse(responseCode = "400", description = "지원하지 않는 형식"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping
+  public void exportContis(
+      @RequestParam(defaultValue = "NDJSON") ContiExportFormat format,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate endDate,
+      Principal principal,
+      HttpServletResponse response
+  ) throws IOException {
+    User user = getUserFromPrincipal(principal);
+
+    response.setContentType(format.getContentType());
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+        .filename("contis." + format.getExtension(), StandardCharsets.UTF_8)
+        .build()
+        .toString());
+
+    contiExportService.export(user, format, startDate, endDate, response.getOutputStream());
+  }
+
+  private User getUserFromPrincipal(Principal principal) {
+    if (principal == null) {
+      throw new AuthenticationException("인증되지 않은 사용자입니다.");
+    }
+
+    return userRepository.findByEmail(principal.getName())
+        .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+  }
+}
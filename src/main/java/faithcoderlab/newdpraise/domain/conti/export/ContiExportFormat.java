@@ -0,0 +1,14 @@
+package faithcoderlab.newdpraise.domain.conti.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ContiExportFormat {
+  NDJSON("application/x-ndjson", "ndjson"), // 콘티 하나당 JSON 한 줄
+  CSV("text/csv", "csv"); // 곡 하나당 한 줄
+
+  private final String contentType;
+  private final String extension;
+}
@@ -0,0 +1,159 @@
+package faithcoderlab.newdpraise.domain.conti.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.conti.export.dto.ContiExportRow;
+import faithcoderlab.newdpraise.domain.user.User;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자가 볼 수 있는 콘티를 DB 커서로 한 행씩 읽어 NDJSON이나 CSV로 바로 내보낸다.
+ * 묶음 단위로 모아 곡을 한 번에 불러와 쓰고, 쓴 뒤에는 영속성 컨텍스트를 비워 콘티 수와 관계없이 묶음 하나만 메모리에 둔다.
+ */
+@Slf4j
+@Service
+public class ContiExportService {
+
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+  private static final List<String> CSV_HEADER = List.of(
+      "conti_id", "scheduled_at", "conti_title", "status", "creator", "position",
+      "song_title", "artist", "original_key", "performance_key", "bpm", "url",
+      "special_instructions");
+
+  private final ContiRepository contiRepository;
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+  private final int chunkSize;
+
+  public ContiExportService(
+      ContiRepository contiRepository,
+      EntityManager entityManager,
+      ObjectMapper objectMapper,
+      @Value("${conti-export.chunk-size:100}") int chunkSize
+  ) {
+    this.contiRepository = contiRepository;
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  /**
+   * 내보낸 콘티를 출력 스트림에 쓰고 콘티 수를 돌려준다. 출력 스트림은 닫지 않는다.
+   */
+  @Transactional(readOnly = true)
+  public int export(User user, ContiExportFormat format, LocalDate startDate, LocalDate endDate,
+      OutputStream outputStream) throws IOException {
+    Writer writer = new BufferedWriter(
+        new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    if (format == ContiExportFormat.CSV) {
+      // 엑셀이 한글을 UTF-8로 읽도록 BOM을 붙인다.
+      writer.write(BYTE_ORDER_MARK);
+      writeCsvLine(writer, CSV_HEADER);
+    }
+
+    int count = 0;
+    List<Conti> chunk = new ArrayList<>(chunkSize);
+    try (Stream<Conti> contis = contiRepository.streamAccessible(user, startDate, endDate)) {
+      Iterator<Conti> iterator = contis.iterator();
+      while (iterator.hasNext()) {
+        chunk.add(iterator.next());
+        if (chunk.size() >= chunkSize) {
+          count += writeChunk(chunk, format, writer);
+        }
+      }
+      count += writeChunk(chunk, format, writer);
+    }
+
+    log.debug("콘티 내보내기 완료: 사용자 {}, 형식 {}, {}개", user.getId(), format, count);
+    return count;
+  }
+
+  private int writeChunk(List<Conti> chunk, ContiExportFormat format, Writer writer)
+      throws IOException {
+    int size = chunk.size();
+    for (Conti conti : chunk) {
+      ContiExportRow row = ContiExportRow.of(conti);
+      if (format == ContiExportFormat.NDJSON) {
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+      } else {
+        writeCsvRows(writer, row);
+      }
+    }
+    writer.flush();
+    chunk.clear();
+    entityManager.clear();
+    return size;
+  }
+
+  /**
+   * 곡마다 한 줄을 쓰고, 곡이 없는 콘티는 곡 칸을 비운 한 줄을 쓴다.
+   */
+  private static void writeCsvRows(Writer writer, ContiExportRow row) throws IOException {
+    if (row.getSongs().isEmpty()) {
+      writeCsvLine(writer, contiColumns(row, null, null));
+      return;
+    }
+
+    int position = 1;
+    for (ContiExportRow.SongDto song : row.getSongs()) {
+      writeCsvLine(writer, contiColumns(row, position++, song));
+    }
+  }
+
+  private static List<String> contiColumns(ContiExportRow row, Integer position,
+      ContiExportRow.SongDto song) {
+    List<String> columns = new ArrayList<>(CSV_HEADER.size());
+    columns.add(String.valueOf(row.getId()));
+    columns.add(row.getScheduledAt() != null ? row.getScheduledAt().toString() : null);
+    columns.add(row.getTitle());
+    columns.add(row.getStatus());
+    columns.add(row.getCreatorName());
+    columns.add(position != null ? position.toString() : null);
+    columns.add(song != null ? song.getTitle() : null);
+    columns.add(song != null ? song.getArtist() : null);
+    columns.add(song != null ? song.getOriginalKey() : null);
+    columns.add(song != null ? song.getPerformanceKey() : null);
+    columns.add(song != null ? song.getBpm() : null);
+    columns.add(song != null ? song.getUrl() : null);
+    columns.add(song != null ? song.getSpecialInstructions() : null);
+    return columns;
+  }
+
+  private static void writeCsvLine(Writer writer, List<String> columns) throws IOException {
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(escapeCsv(columns.get(i)));
+    }
+    writer.write("\r\n");
+  }
+
+  static String escapeCsv(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
@@ -0,0 +1,73 @@
+package faithcoderlab.newdpraise.domain.conti.export.dto;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.song.Song;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiExportRow {
+  private Long id;
+  private String title;
+  private String description;
+  private LocalDate scheduledAt;
+  private String status;
+  private String version;
+  private String creatorName;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+  private List<SongDto> songs;
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class SongDto {
+    private String title;
+    private String artist;
+    private String originalKey;
+    private String performanceKey;
+    private String bpm;
+    private String url;
+    private String specialInstructions;
+  }
+
+  public static ContiExportRow of(Conti conti) {
+    List<SongDto> songs = new ArrayList<>();
+    if (conti.getSongs() != null) {
+      for (Song song : conti.getSongs()) {
+        songs.add(SongDto.builder()
+            .title(song.getTitle())
+            .artist(song.getArtist())
+            .originalKey(song.getOriginalKey())
+            .performanceKey(song.getPerformanceKey())
+            .bpm(song.getBpm())
+            .url(song.getUrl())
+            .specialInstructions(song.getSpecialInstructions())
+            .build());
+      }
+    }
+
+    return ContiExportRow.builder()
+        .id(conti.getId())
+        .title(conti.getTitle())
+        .description(conti.getDescription())
+        .scheduledAt(conti.getScheduledAt())
+        .status(conti.getStatus() != null ? conti.getStatus().name() : null)
+        .version(conti.getVersion())
+        .creatorName(conti.getCreator() != null ? conti.getCreator().getName() : null)
+        .createdAt(conti.getCreatedAt())
+        .updatedAt(conti.getUpdatedAt())
+        .songs(songs)
+        .build();
+  }
+}
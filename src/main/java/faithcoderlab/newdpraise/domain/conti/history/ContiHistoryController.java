@@ -0,0 +1,79 @@
+package faithcoderlab.newdpraise.domain.conti.history;
+
+import faithcoderlab.newdpraise.domain.conti.history.dto.ContiRevisionResponse;
+import faithcoderlab.newdpraise.domain.conti.history.dto.ContiRevisionSummary;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.domain.user.UserRepository;
+import faithcoderlab.newdpraise.global.exception.AuthenticationException;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.security.Principal;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/conti/{contiId}/history")
+@RequiredArgsConstructor
+@Tag(name = "ContiHistory", description = "콘티 버전 기록 관련 API")
+public class ContiHistoryController {
+
+  private final ContiHistoryService contiHistoryService;
+  private final UserRepository userRepository;
+
+  @Operation(summary = "콘티 버전 목록", description = "콘티의 수정 기록을 최신 버전부터 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "버전 목록 조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자 또는 조회 권한 없음"),
+      @ApiResponse(responseCode = "404", description = "콘티를 찾을 수 없음")
+  })
+  @GetMapping
+  public ResponseEntity<List<ContiRevisionSummary>> getRevisions(
+      @PathVariable Long contiId,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+    List<ContiRevisionSummary> revisions = contiHistoryService.getRevisions(contiId, user).stream()
+        .map(ContiRevisionSummary::from)
+        .toList();
+    return ResponseEntity.ok(revisions);
+  }
+
+  @Operation(summary = "콘티 버전 조회", description = "특정 버전의 콘티 내용을 만들어 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "버전 조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자 또는 조회 권한 없음"),
+      @ApiResponse(responseCode = "404", description = "콘티 또는 버전을 찾을 수 없음")
+  })
+  @GetMapping("/{revision}")
+  public ResponseEntity<ContiRevisionResponse> getRevision(
+      @PathVariable Long contiId,
+      @PathVariable long revision,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+    ContiRevision contiRevision = contiHistoryService.getRevision(contiId, revision, user);
+
+    return ResponseEntity.ok(ContiRevisionResponse.builder()
+        .contiId(contiId)
+        .revision(ContiRevisionSummary.from(contiRevision))
+        .content(contiHistoryService.getSnapshot(contiRevision))
+        .build());
+  }
+
+  private User getUserFromPrincipal(Principal principal) {
+    if (principal == null) {
+      throw new AuthenticationException("인증되지 않은 사용자입니다.");
+    }
+
+    return userRepository.findByEmail(principal.getName())
+        .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+  }
+}
@@ -0,0 +1,197 @@
+package faithcoderlab.newdpraise.domain.conti.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.conti.history.dto.ContiSnapshot;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareService;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.global.exception.AuthenticationException;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 콘티를 저장할 때마다 바로 앞 버전과의 차이를 JSON Patch로 기록하고, 일정 간격마다 전체 스냅샷을 남긴다.
+ * 특정 버전은 그 버전 이하의 가장 가까운 스냅샷에서 시작해 패치를 차례로 적용해 만든다.
+ * 콘티 원문은 줄 배열로 기록해, 한 줄을 고치면 원문 전체가 아니라 그 줄만 패치에 남는다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ContiHistoryService {
+
+  private static final String ORIGINAL_TEXT = "originalText";
+  private static final String LINE_SEPARATOR = "\n";
+
+  private final ContiRevisionRepository contiRevisionRepository;
+  private final ContiRepository contiRepository;
+  private final ContiShareService contiShareService;
+  private final ObjectMapper objectMapper;
+  private final int snapshotInterval;
+
+  public ContiHistoryService(
+      ContiRevisionRepository contiRevisionRepository,
+      ContiRepository contiRepository,
+      ContiShareService contiShareService,
+      ObjectMapper objectMapper,
+      @Value("${conti-history.snapshot-interval:20}") int snapshotInterval
+  ) {
+    this.contiRevisionRepository = contiRevisionRepository;
+    this.contiRepository = contiRepository;
+    this.contiShareService = contiShareService;
+    this.objectMapper = objectMapper;
+    this.snapshotInterval = Math.max(1, snapshotInterval);
+  }
+
+  /**
+   * 저장된 콘티의 현재 내용을 새 버전으로 남긴다. 직전 버전과 내용이 같으면 남기지 않는다.
+   * 패치가 스냅샷보다 커지면 패치 대신 스냅샷을 남긴다.
+   */
+  @Transactional
+  public ContiRevision record(Conti conti, User editor) {
+    JsonNode state = toState(ContiSnapshot.of(conti));
+    ContiRevision latest = contiRevisionRepository.findTopByContiIdOrderByRevisionDesc(conti.getId())
+        .orElse(null);
+    if (latest == null) {
+      return append(conti.getId(), 1L, editor, true, write(state), 0);
+    }
+
+    ArrayNode patch = JsonPatch.diff(materialize(conti.getId(), latest.getRevision()), state);
+    if (patch.isEmpty()) {
+      return latest;
+    }
+
+    long revision = latest.getRevision() + 1;
+    String patchJson = write(patch);
+    String stateJson = write(state);
+    if ((revision - 1) % snapshotInterval == 0 || patchJson.length() >= stateJson.length()) {
+      return append(conti.getId(), revision, editor, true, stateJson, patch.size());
+    }
+    return append(conti.getId(), revision, editor, false, patchJson, patch.size());
+  }
+
+  public List<ContiRevision> getRevisions(Long contiId, User user) {
+    checkViewPermission(contiId, user);
+    return contiRevisionRepository.findByContiIdOrderByRevisionDesc(contiId);
+  }
+
+  public ContiRevision getRevision(Long contiId, long revision, User user) {
+    checkViewPermission(contiId, user);
+    return contiRevisionRepository.findByContiIdAndRevision(contiId, revision)
+        .orElseThrow(() -> revisionNotFound(contiId, revision));
+  }
+
+  /**
+   * {@link #getRevision}으로 권한을 확인한 버전의 콘티 내용을 만든다.
+   */
+  public ContiSnapshot getSnapshot(ContiRevision revision) {
+    JsonNode state = materialize(revision.getContiId(), revision.getRevision());
+    try {
+      return objectMapper.treeToValue(fromState(state), ContiSnapshot.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("콘티 버전 기록을 읽을 수 없습니다.", e);
+    }
+  }
+
+  @Transactional
+  public void deleteHistory(Long contiId) {
+    contiRevisionRepository.deleteByContiId(contiId);
+  }
+
+  private JsonNode materialize(Long contiId, long revision) {
+    ContiRevision base = contiRevisionRepository
+        .findTopByContiIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(contiId,
+            revision)
+        .orElseThrow(() -> revisionNotFound(contiId, revision));
+
+    JsonNode state = read(base.getContent());
+    long applied = base.getRevision();
+    if (applied < revision) {
+      for (ContiRevision delta : contiRevisionRepository
+          .findByContiIdAndRevisionBetweenOrderByRevisionAsc(contiId, applied + 1, revision)) {
+        state = delta.isSnapshot()
+            ? read(delta.getContent())
+            : JsonPatch.apply(state, (ArrayNode) read(delta.getContent()));
+        applied = delta.getRevision();
+      }
+    }
+    if (applied != revision) {
+      throw revisionNotFound(contiId, revision);
+    }
+    return state;
+  }
+
+  /**
+   * 기록할 JSON 모양으로 바꾼다. 원문은 줄 배열로 두어 앞뒤의 같은 줄을 건너뛰고 비교하게 한다.
+   * 원문을 문자열로 남긴 이전 기록과 비교하면 그 버전에서 한 번만 원문 전체가 바뀐다.
+   */
+  private JsonNode toState(ContiSnapshot snapshot) {
+    ObjectNode state = objectMapper.valueToTree(snapshot);
+    JsonNode originalText = state.get(ORIGINAL_TEXT);
+    if (originalText != null && originalText.isTextual()) {
+      ArrayNode lines = state.putArray(ORIGINAL_TEXT);
+      for (String line : originalText.asText().split(LINE_SEPARATOR, -1)) {
+        lines.add(line);
+      }
+    }
+    return state;
+  }
+
+  private JsonNode fromState(JsonNode state) {
+    JsonNode originalText = state.get(ORIGINAL_TEXT);
+    if (originalText != null && originalText.isArray()) {
+      List<String> lines = new ArrayList<>(originalText.size());
+      originalText.forEach(line -> lines.add(line.asText()));
+      ((ObjectNode) state).put(ORIGINAL_TEXT, String.join(LINE_SEPARATOR, lines));
+    }
+    return state;
+  }
+
+  private ContiRevision append(Long contiId, long revision, User editor, boolean snapshot,
+      String content, int operationCount) {
+    return contiRevisionRepository.save(ContiRevision.builder()
+        .contiId(contiId)
+        .revision(revision)
+        .editor(editor)
+        .snapshot(snapshot)
+        .operationCount(operationCount)
+        .content(content)
+        .build());
+  }
+
+  private void checkViewPermission(Long contiId, User user) {
+    Conti conti = contiRepository.findById(contiId)
+        .orElseThrow(() -> new ResourceNotFoundException("콘티를 찾을 수 없습니다. ID: " + contiId));
+    if (!contiShareService.canViewConti(conti, user)) {
+      throw new AuthenticationException("콘티를 조회할 권한이 없습니다.");
+    }
+  }
+
+  private String write(JsonNode node) {
+    try {
+      return objectMapper.writeValueAsString(node);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("콘티 버전 기록을 만들 수 없습니다.", e);
+    }
+  }
+
+  private JsonNode read(String content) {
+    try {
+      return objectMapper.readTree(content);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("콘티 버전 기록을 읽을 수 없습니다.", e);
+    }
+  }
+
+  private static ResourceNotFoundException revisionNotFound(Long contiId, long revision) {
+    return new ResourceNotFoundException(
+        "콘티 버전을 찾을 수 없습니다. ID: " + contiId + ", 버전: " + revision);
+  }
+}
@@ -0,0 +1,65 @@
+package faithcoderlab.newdpraise.domain.conti.history;
+
+import faithcoderlab.newdpraise.domain.user.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 콘티 수정 기록 한 건. 추가만 하고 고치지 않는다.
+ * 스냅샷이면 그 버전의 콘티 전체를, 아니면 바로 앞 버전에서 바뀐 부분만 JSON Patch(RFC 6902)로 담는다.
+ */
+@Entity
+@Table(name = "conti_revisions", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"conti_id", "revision"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiRevision {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "conti_id", nullable = false, updatable = false)
+  private Long contiId;
+
+  @Column(nullable = false, updatable = false)
+  private long revision;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "editor_id", updatable = false)
+  private User editor;
+
+  @Column(nullable = false, updatable = false)
+  private boolean snapshot;
+
+  @Column(nullable = false, updatable = false)
+  private int operationCount;
+
+  @Column(columnDefinition = "TEXT", nullable = false, updatable = false)
+  private String content;
+
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  @PrePersist
+  protected void onCreate() {
+    createdAt = LocalDateTime.now();
+  }
+}
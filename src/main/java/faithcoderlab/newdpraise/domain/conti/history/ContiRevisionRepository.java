@@ -0,0 +1,34 @@
+package faithcoderlab.newdpraise.domain.conti.history;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContiRevisionRepository extends JpaRepository<ContiRevision, Long> {
+
+  @Query("SELECT r FROM ContiRevision r LEFT JOIN FETCH r.editor "
+      + "WHERE r.contiId = :contiId ORDER BY r.revision DESC")
+  List<ContiRevision> findByContiIdOrderByRevisionDesc(@Param("contiId") Long contiId);
+
+  @Query("SELECT r FROM ContiRevision r LEFT JOIN FETCH r.editor "
+      + "WHERE r.contiId = :contiId AND r.revision = :revision")
+  Optional<ContiRevision> findByContiIdAndRevision(@Param("contiId") Long contiId,
+      @Param("revision") long revision);
+
+  Optional<ContiRevision> findTopByContiIdOrderByRevisionDesc(Long contiId);
+
+  Optional<ContiRevision> findTopByContiIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(
+      Long contiId, long revision);
+
+  List<ContiRevision> findByContiIdAndRevisionBetweenOrderByRevisionAsc(Long contiId,
+      long fromRevision, long toRevision);
+
+  @Modifying
+  @Query("DELETE FROM ContiRevision r WHERE r.contiId = :contiId")
+  int deleteByContiId(@Param("contiId") Long contiId);
+}
@@ -0,0 +1,173 @@
+package faithcoderlab.newdpraise.domain.conti.history;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 버전 기록에 쓰는 JSON Patch(RFC 6902)의 add, remove, replace만 만들고 적용한다.
+ * 객체는 필드별로, 배열은 앞뒤의 같은 원소를 건너뛴 가운데만 비교해 곡 하나를 넣거나 빼도 연산이 몇 개로 끝난다.
+ */
+final class JsonPatch {
+
+  private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+  private JsonPatch() {
+  }
+
+  static ArrayNode diff(JsonNode source, JsonNode target) {
+    ArrayNode operations = NODES.arrayNode();
+    diff("", source, target, operations);
+    return operations;
+  }
+
+  static JsonNode apply(JsonNode document, ArrayNode operations) {
+    JsonNode result = document.deepCopy();
+    for (JsonNode operation : operations) {
+      String op = operation.path("op").asText();
+      String path = operation.path("path").asText();
+      if (path.isEmpty()) {
+        if (!"replace".equals(op)) {
+          throw new IllegalArgumentException("지원하지 않는 패치입니다: " + operation);
+        }
+        result = operation.get("value").deepCopy();
+        continue;
+      }
+
+      int slash = path.lastIndexOf('/');
+      JsonNode parent = locate(result, path.substring(0, slash));
+      String key = unescape(path.substring(slash + 1));
+      switch (op) {
+        case "add" -> add(parent, key, operation.get("value").deepCopy());
+        case "remove" -> remove(parent, key);
+        case "replace" -> {
+          remove(parent, key);
+          add(parent, key, operation.get("value").deepCopy());
+        }
+        default -> throw new IllegalArgumentException("지원하지 않는 패치입니다: " + operation);
+      }
+    }
+    return result;
+  }
+
+  private static void diff(String path, JsonNode source, JsonNode target, ArrayNode operations) {
+    if (source.equals(target)) {
+      return;
+    }
+    if (source.isObject() && target.isObject()) {
+      diffObjects(path, source, target, operations);
+    } else if (source.isArray() && target.isArray()) {
+      diffArrays(path, source, target, operations);
+    } else {
+      operations.add(operation("replace", path, target));
+    }
+  }
+
+  private static void diffObjects(String path, JsonNode source, JsonNode target,
+      ArrayNode operations) {
+    Iterator<Map.Entry<String, JsonNode>> sourceFields = source.fields();
+    while (sourceFields.hasNext()) {
+      Map.Entry<String, JsonNode> field = sourceFields.next();
+      String fieldPath = path + "/" + escape(field.getKey());
+      if (!target.has(field.getKey())) {
+        operations.add(operation("remove", fieldPath, null));
+      } else {
+        diff(fieldPath, field.getValue(), target.get(field.getKey()), operations);
+      }
+    }
+
+    Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+    while (targetFields.hasNext()) {
+      Map.Entry<String, JsonNode> field = targetFields.next();
+      if (!source.has(field.getKey())) {
+        operations.add(operation("add", path + "/" + escape(field.getKey()), field.getValue()));
+      }
+    }
+  }
+
+  private static void diffArrays(String path, JsonNode source, JsonNode target,
+      ArrayNode operations) {
+    int sourceSize = source.size();
+    int targetSize = target.size();
+    int prefix = 0;
+    while (prefix < sourceSize && prefix < targetSize
+        && source.get(prefix).equals(target.get(prefix))) {
+      prefix++;
+    }
+    int suffix = 0;
+    while (suffix < sourceSize - prefix && suffix < targetSize - prefix
+        && source.get(sourceSize - 1 - suffix).equals(target.get(targetSize - 1 - suffix))) {
+      suffix++;
+    }
+
+    int sourceMiddle = sourceSize - prefix - suffix;
+    int targetMiddle = targetSize - prefix - suffix;
+    int common = Math.min(sourceMiddle, targetMiddle);
+    for (int i = 0; i < common; i++) {
+      int index = prefix + i;
+      diff(path + "/" + index, source.get(index), target.get(index), operations);
+    }
+    for (int i = common; i < sourceMiddle; i++) {
+      operations.add(operation("remove", path + "/" + (prefix + common), null));
+    }
+    for (int i = common; i < targetMiddle; i++) {
+      operations.add(operation("add", path + "/" + (prefix + i), target.get(prefix + i)));
+    }
+  }
+
+  private static ObjectNode operation(String op, String path, JsonNode value) {
+    ObjectNode operation = NODES.objectNode();
+    operation.put("op", op);
+    operation.put("path", path);
+    if (value != null) {
+      operation.set("value", value.deepCopy());
+    }
+    return operation;
+  }
+
+  private static JsonNode locate(JsonNode document, String pointer) {
+    JsonNode node = document;
+    if (pointer.isEmpty()) {
+      return node;
+    }
+    for (String token : pointer.substring(1).split("/", -1)) {
+      String key = unescape(token);
+      node = node.isArray() ? node.get(Integer.parseInt(key)) : node.get(key);
+      if (node == null) {
+        throw new IllegalArgumentException("패치 경로를 찾을 수 없습니다: " + pointer);
+      }
+    }
+    return node;
+  }
+
+  private static void add(JsonNode parent, String key, JsonNode value) {
+    if (parent instanceof ArrayNode array) {
+      if ("-".equals(key)) {
+        array.add(value);
+      } else {
+        array.insert(Integer.parseInt(key), value);
+      }
+    } else {
+      ((ObjectNode) parent).set(key, value);
+    }
+  }
+
+  private static void remove(JsonNode parent, String key) {
+    if (parent instanceof ArrayNode array) {
+      array.remove(Integer.parseInt(key));
+    } else {
+      ((ObjectNode) parent).remove(key);
+    }
+  }
+
+  private static String escape(String token) {
+    return token.replace("~", "~0").replace("/", "~1");
+  }
+
+  private static String unescape(String token) {
+    return token.replace("~1", "/").replace("~0", "~");
+  }
+}
@@ -0,0 +1,16 @@
+package faithcoderlab.newdpraise.domain.conti.history.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiRevisionResponse {
+  private Long contiId;
+  private ContiRevisionSummary revision;
+  private ContiSnapshot content;
+}
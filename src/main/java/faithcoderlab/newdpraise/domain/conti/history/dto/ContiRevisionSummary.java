@@ -0,0 +1,32 @@
+package faithcoderlab.newdpraise.domain.conti.history.dto;
+
+import faithcoderlab.newdpraise.domain.conti.history.ContiRevision;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiRevisionSummary {
+  private long revision;
+  private Long editorId;
+  private String editorName;
+  private boolean snapshot;
+  private int operationCount;
+  private LocalDateTime createdAt;
+
+  public static ContiRevisionSummary from(ContiRevision revision) {
+    return ContiRevisionSummary.builder()
+        .revision(revision.getRevision())
+        .editorId(revision.getEditor() != null ? revision.getEditor().getId() : null)
+        .editorName(revision.getEditor() != null ? revision.getEditor().getName() : null)
+        .snapshot(revision.isSnapshot())
+        .operationCount(revision.getOperationCount())
+        .createdAt(revision.getCreatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,73 @@
+package faithcoderlab.newdpraise.domain.conti.history.dto;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.song.Song;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 버전 기록에 남기는 콘티 내용. 기록끼리의 JSON Patch는 이 모양의 JSON을 비교해 만든다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiSnapshot {
+  private String title;
+  private String description;
+  private LocalDate scheduledAt;
+  private String status;
+  private String version;
+  private String originalText;
+  private List<SongDto> songs;
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class SongDto {
+    private Long id;
+    private String title;
+    private String originalKey;
+    private String performanceKey;
+    private String artist;
+    private String youtubeUrl;
+    private String referenceUrl;
+    private String specialInstructions;
+    private String bpm;
+  }
+
+  public static ContiSnapshot of(Conti conti) {
+    List<SongDto> songs = new ArrayList<>();
+    if (conti.getSongs() != null) {
+      for (Song song : conti.getSongs()) {
+        songs.add(SongDto.builder()
+            .id(song.getId())
+            .title(song.getTitle())
+            .originalKey(song.getOriginalKey())
+            .performanceKey(song.getPerformanceKey())
+            .artist(song.getArtist())
+            .youtubeUrl(song.getYoutubeUrl())
+            .referenceUrl(song.getReferenceUrl())
+            .specialInstructions(song.getSpecialInstructions())
+            .bpm(song.getBpm())
+            .build());
+      }
+    }
+
+    return ContiSnapshot.builder()
+        .title(conti.getTitle())
+        .description(conti.getDescription())
+        .scheduledAt(conti.getScheduledAt())
+        .status(conti.getStatus() != null ? conti.getStatus().name() : null)
+        .version(conti.getVersion())
+        .originalText(conti.getOriginalText())
+        .songs(songs)
+        .build();
+  }
+}
@@ -0,0 +1,71 @@
+package faithcoderlab.newdpraise.domain.conti.search;
+
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.conti.dto.ContiSearchRequest;
+import faithcoderlab.newdpraise.domain.conti.search.dto.ContiTextSearchResponse;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.domain.user.UserRepository;
+import faithcoderlab.newdpraise.global.exception.AuthenticationException;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.security.Principal;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/conti/search")
+@RequiredArgsConstructor
+@Tag(name = "ContiSearch", description = "콘티 전문 검색 API")
+public class ContiSearchController {
+
+  private final ContiSearchService contiSearchService;
+  private final UserRepository userRepository;
+
+  @Operation(summary = "콘티 전문 검색",
+      description = "콘티 제목, 설명, 원본 텍스트, 곡 제목과 특이사항에서 검색어를 찾아 관련도 순으로 조회합니다. 내가 만들었거나 공유받은 콘티만 검색되며, 일치한 부분은 <em>으로 표시됩니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "검색 성공"),
+      @ApiResponse(responseCode = "400", description = "검색어 누락"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/text")
+  public ResponseEntity<ContiTextSearchResponse> searchText(
+      @RequestParam String q,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate endDate,
+      @RequestParam(required = false) ContiStatus status,
+      @RequestParam(required = false) Long creatorId,
+      @RequestParam(defaultValue = "20") int limit,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+
+    ContiSearchRequest filter = ContiSearchRequest.builder()
+        .startDate(startDate)
+        .endDate(endDate)
+        .status(status)
+        .creatorId(creatorId)
+        .build();
+
+    return ResponseEntity.ok(contiSearchService.search(q, filter, limit, user));
+  }
+
+  private User getUserFromPrincipal(Principal principal) {
+    if (principal == null) {
+      throw new AuthenticationException("인증되지 않은 사용자입니다.");
+    }
+
+    return userRepository.findByEmail(principal.getName())
+        .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+  }
+}
@@ -0,0 +1,70 @@
+package faithcoderlab.newdpraise.domain.conti.search;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.song.Song;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/**
+ * 검색 색인에 넣을 콘티 값. 트랜잭션 안에서 엔티티로부터 만들어 두므로, 커밋 뒤에 지연 로딩 없이 색인할 수 있다.
+ */
+@Getter
+public final class ContiSearchDocument {
+
+  private final Long id;
+  private final Long creatorId;
+  private final LocalDate scheduledAt;
+  private final ContiStatus status;
+  private final String title;
+  private final String description;
+  private final String originalText;
+  private final List<String> songTitles;
+  private final List<String> songNotes;
+
+  ContiSearchDocument(Long id, Long creatorId, LocalDate scheduledAt, ContiStatus status,
+      String title, String description, String originalText, List<String> songTitles,
+      List<String> songNotes) {
+    this.id = id;
+    this.creatorId = creatorId;
+    this.scheduledAt = scheduledAt;
+    this.status = status;
+    this.title = title;
+    this.description = description;
+    this.originalText = originalText;
+    this.songTitles = songTitles;
+    this.songNotes = songNotes;
+  }
+
+  public static ContiSearchDocument of(Conti conti) {
+    List<String> songTitles = new ArrayList<>();
+    List<String> songNotes = new ArrayList<>();
+    if (conti.getSongs() != null) {
+      for (Song song : conti.getSongs()) {
+        if (StringUtils.hasText(song.getArtist())) {
+          songTitles.add(song.getTitle() + " - " + song.getArtist());
+        } else if (StringUtils.hasText(song.getTitle())) {
+          songTitles.add(song.getTitle());
+        }
+        if (StringUtils.hasText(song.getSpecialInstructions())) {
+          songNotes.add(song.getSpecialInstructions());
+        }
+      }
+    }
+
+    return new ContiSearchDocument(
+        conti.getId(),
+        conti.getCreator() != null ? conti.getCreator().getId() : null,
+        conti.getScheduledAt(),
+        conti.getStatus(),
+        conti.getTitle(),
+        conti.getDescription(),
+        conti.getOriginalText(),
+        List.copyOf(songTitles),
+        List.copyOf(songNotes)
+    );
+  }
+}
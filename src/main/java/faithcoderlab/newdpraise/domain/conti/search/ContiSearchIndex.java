@@ -0,0 +1,455 @@
+package faithcoderlab.newdpraise.domain.conti.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 콘티 제목, 설명, 원본 텍스트, 곡 제목과 특이사항을 메모리 역색인으로 검색한다.
+ * 글자와 숫자가 이어진 단어를 2글자 조각으로 나누어 색인하므로 조사가 붙은 한글 단어도 찾고,
+ * 만든 사람별 콘티 목록도 두어, 사용자가 볼 수 있는 콘티와 검색어 조각 중 가장 드문 조각의 문서 목록 중 작은 쪽부터
+ * 교집합을 구한다. 흔한 조각을 검색해도 다른 사용자의 콘티를 훑지 않으므로 검색 시간은 볼 수 있는 콘티 수에 묶인다.
+ * 한 글자 검색어는 한 글자로 된 단어만 찾는다.
+ */
+@Component
+public class ContiSearchIndex {
+
+  private static final double TITLE_WEIGHT = 3.0;
+  private static final double SONG_TITLE_WEIGHT = 2.0;
+  private static final double SONG_NOTE_WEIGHT = 1.0;
+  private static final double DESCRIPTION_WEIGHT = 1.0;
+  private static final double ORIGINAL_TEXT_WEIGHT = 0.5;
+  private static final double TERM_SATURATION = 1.2;
+  private static final double TITLE_PHRASE_BONUS = 2.0;
+
+  private static final int SNIPPET_BEFORE = 30;
+  private static final int SNIPPET_LENGTH = 120;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Entry> entries = new HashMap<>();
+  private final Map<String, Set<Long>> postings = new HashMap<>();
+  private final Map<Long, Set<Long>> idsByCreator = new HashMap<>();
+  private final Set<Long> removedWhileLoading = new HashSet<>();
+  private boolean loading;
+
+  public enum Field {
+    TITLE, SONG, SONG_NOTE, DESCRIPTION, ORIGINAL_TEXT
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Hit {
+
+    private final ContiSearchDocument document;
+    private final double score;
+    private final Field matchedField;
+    private final String snippet;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Result {
+
+    private final int totalHits;
+    private final List<Hit> hits;
+  }
+
+  private static final class Entry {
+
+    final ContiSearchDocument document;
+    final String normalizedTitle;
+    final Map<String, Double> termWeights;
+
+    Entry(ContiSearchDocument document) {
+      this.document = document;
+      this.normalizedTitle = normalize(document.getTitle());
+      this.termWeights = new HashMap<>();
+      addTerms(termWeights, document.getTitle(), TITLE_WEIGHT);
+      for (String songTitle : document.getSongTitles()) {
+        addTerms(termWeights, songTitle, SONG_TITLE_WEIGHT);
+      }
+      for (String songNote : document.getSongNotes()) {
+        addTerms(termWeights, songNote, SONG_NOTE_WEIGHT);
+      }
+      addTerms(termWeights, document.getDescription(), DESCRIPTION_WEIGHT);
+      addTerms(termWeights, document.getOriginalText(), ORIGINAL_TEXT_WEIGHT);
+    }
+  }
+
+  /**
+   * 콘티 하나를 색인에 넣는다. 같은 ID가 있으면 바꾼다.
+   */
+  public void put(ContiSearchDocument document) {
+    Entry entry = new Entry(document);
+    lock.writeLock().lock();
+    try {
+      removedWhileLoading.remove(document.getId());
+      replace(entry);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long contiId) {
+    lock.writeLock().lock();
+    try {
+      if (loading) {
+        removedWhileLoading.add(contiId);
+      }
+      Entry previous = entries.remove(contiId);
+      if (previous != null) {
+        unindex(previous);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 전체 적재를 시작한다. 적재 중에 들어온 변경이 적재한 옛 값에 덮이지 않도록, 이미 있거나 지워진 콘티는 건너뛴다.
+   */
+  public void beginLoad() {
+    lock.writeLock().lock();
+    try {
+      entries.clear();
+      postings.clear();
+      idsByCreator.clear();
+      removedWhileLoading.clear();
+      loading = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void load(List<ContiSearchDocument> documents) {
+    List<Entry> loaded = documents.stream().map(Entry::new).toList();
+    lock.writeLock().lock();
+    try {
+      for (Entry entry : loaded) {
+        Long id = entry.document.getId();
+        if (!entries.containsKey(id) && !removedWhileLoading.contains(id)) {
+          replace(entry);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void endLoad() {
+    lock.writeLock().lock();
+    try {
+      removedWhileLoading.clear();
+      loading = false;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어의 조각을 모두 가진 콘티 중 {@code creatorId}가 만들었거나 {@code sharedIds}에 든 것으로,
+   * {@code filter}를 통과한 것을 점수 순으로 최대 {@code limit}개 돌려준다.
+   * 점수는 조각마다 드문 정도와 필드 가중치를 곱해 더하고, 제목에 검색어가 그대로 있으면 더 준다.
+   */
+  public Result search(String query, Long creatorId, Set<Long> sharedIds,
+      Predicate<ContiSearchDocument> filter, int limit) {
+    return search(query, true, creatorId, sharedIds, filter, limit);
+  }
+
+  /**
+   * 모든 콘티를 대상으로 검색한다.
+   */
+  Result search(String query, Predicate<ContiSearchDocument> filter, int limit) {
+    return search(query, false, null, Set.of(), filter, limit);
+  }
+
+  private Result search(String query, boolean restricted, Long creatorId, Set<Long> sharedIds,
+      Predicate<ContiSearchDocument> filter, int limit) {
+    List<String> queryTerms = new ArrayList<>(new HashSet<>(terms(query)));
+    if (queryTerms.isEmpty() || limit <= 0) {
+      return new Result(0, List.of());
+    }
+    String normalizedQuery = normalize(query);
+
+    List<Hit> scored = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      List<Set<Long>> matched = new ArrayList<>(queryTerms.size());
+      for (String term : queryTerms) {
+        Set<Long> posting = postings.get(term);
+        if (posting == null) {
+          return new Result(0, List.of());
+        }
+        matched.add(posting);
+      }
+      matched.sort(Comparator.comparingInt(Set::size));
+
+      Collection<Long> candidates = matched.get(0);
+      int checkFrom = 1;
+      boolean checkVisible = restricted;
+      if (restricted) {
+        Set<Long> owned = idsByCreator.getOrDefault(creatorId, Set.of());
+        if (owned.size() + sharedIds.size() < candidates.size()) {
+          Set<Long> visible = new HashSet<>(owned);
+          visible.addAll(sharedIds);
+          candidates = visible;
+          checkFrom = 0;
+          checkVisible = false;
+        }
+      }
+
+      int documentCount = entries.size();
+      for (Long id : candidates) {
+        Entry entry = entries.get(id);
+        if (entry == null || !containsAll(matched, checkFrom, id)) {
+          continue;
+        }
+        if (checkVisible && !creatorId.equals(entry.document.getCreatorId())
+            && !sharedIds.contains(id)) {
+          continue;
+        }
+        if (!filter.test(entry.document)) {
+          continue;
+        }
+        scored.add(new Hit(entry.document, score(entry, queryTerms, normalizedQuery, documentCount),
+            null, null));
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    scored.sort(Comparator.comparingDouble(Hit::getScore).reversed()
+        .thenComparing(hit -> hit.getDocument().getScheduledAt(),
+            Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(hit -> hit.getDocument().getId(), Comparator.reverseOrder()));
+
+    List<String> words = words(query);
+    List<Hit> hits = new ArrayList<>(Math.min(limit, scored.size()));
+    for (Hit hit : scored.subList(0, Math.min(limit, scored.size()))) {
+      hits.add(highlight(hit, words));
+    }
+    return new Result(scored.size(), hits);
+  }
+
+  /**
+   * 색인할 단어 조각. NFKC 정규화와 소문자 변환 뒤 글자와 숫자가 이어진 단어를 2글자씩 겹쳐 자르고, 한 글자 단어는 그대로 둔다.
+   */
+  static List<String> terms(String text) {
+    String normalized = normalize(text);
+    List<String> terms = new ArrayList<>();
+    int start = -1;
+    for (int i = 0; i <= normalized.length(); i++) {
+      boolean wordChar = i < normalized.length()
+          && Character.isLetterOrDigit(normalized.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        if (i - start == 1) {
+          terms.add(normalized.substring(start, i));
+        } else {
+          for (int j = start; j + 2 <= i; j++) {
+            terms.add(normalized.substring(j, j + 2));
+          }
+        }
+        start = -1;
+      }
+    }
+    return terms;
+  }
+
+  private void replace(Entry entry) {
+    Entry previous = entries.put(entry.document.getId(), entry);
+    if (previous != null) {
+      unindex(previous);
+    }
+    for (String term : entry.termWeights.keySet()) {
+      postings.computeIfAbsent(term, key -> new HashSet<>()).add(entry.document.getId());
+    }
+    if (entry.document.getCreatorId() != null) {
+      idsByCreator.computeIfAbsent(entry.document.getCreatorId(), key -> new HashSet<>())
+          .add(entry.document.getId());
+    }
+  }
+
+  private void unindex(Entry entry) {
+    for (String term : entry.termWeights.keySet()) {
+      Set<Long> posting = postings.get(term);
+      if (posting != null) {
+        posting.remove(entry.document.getId());
+        if (posting.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+    Set<Long> owned = idsByCreator.get(entry.document.getCreatorId());
+    if (owned != null) {
+      owned.remove(entry.document.getId());
+      if (owned.isEmpty()) {
+        idsByCreator.remove(entry.document.getCreatorId());
+      }
+    }
+  }
+
+  private double score(Entry entry, List<String> queryTerms, String normalizedQuery,
+      int documentCount) {
+    double score = 0;
+    for (String term : queryTerms) {
+      double weight = entry.termWeights.get(term);
+      double idf = Math.log(1.0 + (double) documentCount / postings.get(term).size());
+      score += idf * weight / (weight + TERM_SATURATION);
+    }
+    if (!normalizedQuery.isBlank() && entry.normalizedTitle.contains(normalizedQuery)) {
+      score += TITLE_PHRASE_BONUS;
+    }
+    return score;
+  }
+
+  /**
+   * 검색어 단어가 처음 나오는 필드에서 앞뒤 글자를 잘라 단어를 {@code <em>}으로 감싼다.
+   * 원문에 단어가 그대로 없으면 제목 앞부분을 돌려준다.
+   */
+  private Hit highlight(Hit hit, List<String> words) {
+    ContiSearchDocument document = hit.getDocument();
+    for (Field field : Field.values()) {
+      String text = fieldText(document, field);
+      if (text == null || text.isEmpty()) {
+        continue;
+      }
+      int first = firstOccurrence(text, words);
+      if (first >= 0) {
+        return new Hit(document, hit.getScore(), field, snippet(text, first, words));
+      }
+    }
+
+    String title = document.getTitle() != null ? document.getTitle() : "";
+    return new Hit(document, hit.getScore(), Field.TITLE,
+        HtmlUtils.htmlEscape(title.length() > SNIPPET_LENGTH
+            ? title.substring(0, SNIPPET_LENGTH) + "…"
+            : title));
+  }
+
+  private static String fieldText(ContiSearchDocument document, Field field) {
+    return switch (field) {
+      case TITLE -> document.getTitle();
+      case SONG -> String.join(" / ", document.getSongTitles());
+      case SONG_NOTE -> String.join(" / ", document.getSongNotes());
+      case DESCRIPTION -> document.getDescription();
+      case ORIGINAL_TEXT -> document.getOriginalText();
+    };
+  }
+
+  private static String snippet(String text, int first, List<String> words) {
+    int from = Math.max(0, first - SNIPPET_BEFORE);
+    int to = Math.min(text.length(), from + SNIPPET_LENGTH);
+    String window = text.substring(from, to).replace('\n', ' ');
+
+    StringBuilder snippet = new StringBuilder();
+    if (from > 0) {
+      snippet.append('…');
+    }
+    int position = 0;
+    while (position < window.length()) {
+      int match = -1;
+      int matchLength = 0;
+      for (String word : words) {
+        int index = indexOfIgnoreCase(window, word, position);
+        if (index >= 0 && (match < 0 || index < match
+            || (index == match && word.length() > matchLength))) {
+          match = index;
+          matchLength = word.length();
+        }
+      }
+      if (match < 0) {
+        snippet.append(HtmlUtils.htmlEscape(window.substring(position)));
+        break;
+      }
+      snippet.append(HtmlUtils.htmlEscape(window.substring(position, match)))
+          .append("<em>")
+          .append(HtmlUtils.htmlEscape(window.substring(match, match + matchLength)))
+          .append("</em>");
+      position = match + matchLength;
+    }
+    if (to < text.length()) {
+      snippet.append('…');
+    }
+    return snippet.toString();
+  }
+
+  private static int firstOccurrence(String text, List<String> words) {
+    int first = -1;
+    for (String word : words) {
+      int index = indexOfIgnoreCase(text, word, 0);
+      if (index >= 0 && (first < 0 || index < first)) {
+        first = index;
+      }
+    }
+    return first;
+  }
+
+  private static int indexOfIgnoreCase(String text, String word, int from) {
+    for (int i = from; i + word.length() <= text.length(); i++) {
+      if (text.regionMatches(true, i, word, 0, word.length())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean containsAll(List<Set<Long>> postings, int from, Long id) {
+    for (int i = from; i < postings.size(); i++) {
+      if (!postings.get(i).contains(id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static List<String> words(String query) {
+    List<String> words = new ArrayList<>();
+    for (String word : query.trim().split("\\s+")) {
+      if (!word.isEmpty()) {
+        words.add(word);
+      }
+    }
+    return words;
+  }
+
+  private static void addTerms(Map<String, Double> termWeights, String text, double weight) {
+    if (text == null || text.isEmpty()) {
+      return;
+    }
+    for (String term : terms(text)) {
+      termWeights.merge(term, weight, Double::sum);
+    }
+  }
+
+  private static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,73 @@
+package faithcoderlab.newdpraise.domain.conti.search;
+
+import faithcoderlab.newdpraise.domain.conti.ContiChangedEvent;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 시작할 때 모든 콘티를 검색 색인에 적재하고, 이후에는 커밋된 콘티 변경만 색인에 반영한다.
+ * 롤백된 변경은 색인에 들어가지 않는다.
+ */
+@Slf4j
+@Component
+public class ContiSearchIndexer {
+
+  private final ContiSearchIndex contiSearchIndex;
+  private final ContiRepository contiRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int loadPageSize;
+
+  public ContiSearchIndexer(
+      ContiSearchIndex contiSearchIndex,
+      ContiRepository contiRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${conti-search.load-page-size:200}") int loadPageSize
+  ) {
+    this.contiSearchIndex = contiSearchIndex;
+    this.contiRepository = contiRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.loadPageSize = loadPageSize;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadAll() {
+    contiSearchIndex.beginLoad();
+    try {
+      long afterId = 0L;
+      while (true) {
+        long from = afterId;
+        List<ContiSearchDocument> documents = transactionTemplate.execute(status ->
+            contiRepository.findAllAfterId(from, PageRequest.of(0, loadPageSize)).stream()
+                .map(ContiSearchDocument::of)
+                .toList());
+        if (documents == null || documents.isEmpty()) {
+          break;
+        }
+        contiSearchIndex.load(documents);
+        afterId = documents.get(documents.size() - 1).getId();
+      }
+    } finally {
+      contiSearchIndex.endLoad();
+    }
+    log.info("콘티 검색 색인 완료: {}개", contiSearchIndex.size());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onContiChanged(ContiChangedEvent event) {
+    if (event.isDeleted()) {
+      contiSearchIndex.remove(event.getContiId());
+    } else {
+      contiSearchIndex.put(event.getDocument());
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package faithcoderlab.newdpraise.domain.conti.search;
+
+import faithcoderlab.newdpraise.domain.conti.dto.ContiSearchRequest;
+import faithcoderlab.newdpraise.domain.conti.search.dto.ContiTextSearchResponse;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareService;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+/**
+ * 콘티 전문 검색. 색인에서 찾은 콘티 중 사용자가 만들었거나 공유받은 콘티만 조건에 맞춰 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ContiSearchService {
+
+  public static final int MAX_LIMIT = 50;
+
+  private final ContiSearchIndex contiSearchIndex;
+  private final ContiShareService contiShareService;
+
+  public ContiTextSearchResponse search(String query, ContiSearchRequest filter, int limit,
+      User user) {
+    if (!StringUtils.hasText(query)) {
+      throw new IllegalArgumentException("검색어를 입력해 주세요.");
+    }
+
+    Set<Long> sharedContiIds = contiShareService.getSharedContis(user).stream()
+        .map(share -> share.getConti().getId())
+        .collect(Collectors.toSet());
+    ContiSearchIndex.Result result = contiSearchIndex.search(query, user.getId(), sharedContiIds,
+        matches(filter), Math.max(1, Math.min(limit, MAX_LIMIT)));
+
+    return ContiTextSearchResponse.builder()
+        .query(query)
+        .totalHits(result.getTotalHits())
+        .hits(result.getHits().stream().map(ContiTextSearchResponse.Hit::fromHit).toList())
+        .build();
+  }
+
+  /**
+   * 검색 조건에 맞는 문서인지 본다. 기간 조건이 있으면 예정일이 없는 콘티는 기간에 들지 않는 것으로 본다.
+   */
+  static Predicate<ContiSearchDocument> matches(ContiSearchRequest filter) {
+    String title = StringUtils.hasText(filter.getTitle())
+        ? filter.getTitle().toLowerCase(Locale.ROOT)
+        : null;
+    return document ->
+        (filter.getStartDate() == null || (document.getScheduledAt() != null
+            && !document.getScheduledAt().isBefore(filter.getStartDate())))
+            && (filter.getEndDate() == null || (document.getScheduledAt() != null
+            && !document.getScheduledAt().isAfter(filter.getEndDate())))
+            && (filter.getStatus() == null || filter.getStatus() == document.getStatus())
+            && (filter.getCreatorId() == null || filter.getCreatorId().equals(document.getCreatorId()))
+            && (title == null || (document.getTitle() != null
+            && document.getTitle().toLowerCase(Locale.ROOT).contains(title)));
+  }
+}
@@ -0,0 +1,47 @@
+package faithcoderlab.newdpraise.domain.conti.search.dto;
+
+import faithcoderlab.newdpraise.domain.conti.search.ContiSearchDocument;
+import faithcoderlab.newdpraise.domain.conti.search.ContiSearchIndex;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContiTextSearchResponse {
+  private String query;
+  private int totalHits;
+  private List<Hit> hits;
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Hit {
+    private Long contiId;
+    private String title;
+    private LocalDate scheduledAt;
+    private String status;
+    private double score;
+    private String matchedField;
+    private String snippet;
+
+    public static Hit fromHit(ContiSearchIndex.Hit hit) {
+      ContiSearchDocument document = hit.getDocument();
+      return Hit.builder()
+          .contiId(document.getId())
+          .title(document.getTitle())
+          .scheduledAt(document.getScheduledAt())
+          .status(document.getStatus() != null ? document.getStatus().name() : null)
+          .score(hit.getScore())
+          .matchedField(hit.getMatchedField().name())
+          .snippet(hit.getSnippet())
+          .build();
+    }
+  }
+}
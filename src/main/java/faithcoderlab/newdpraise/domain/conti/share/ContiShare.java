@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -25,6 +26,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "conti_shares", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"conti_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_conti_shares_user_accepted", columnList = "user_id, accepted, conti_id")
 })
 @Data
 @Builder
@@ -0,0 +1,14 @@
+package faithcoderlab.newdpraise.domain.conti.share;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 콘티의 수락된 공유가 생기거나, 권한이 바뀌거나, 지워졌을 때 트랜잭션 안에서 발행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ContiShareChangedEvent {
+
+  private final Long contiId;
+}
@@ -2,6 +2,7 @@ package faithcoderlab.newdpraise.domain.conti.share;
 
 import faithcoderlab.newdpraise.domain.conti.Conti;
 import faithcoderlab.newdpraise.domain.user.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -31,6 +32,9 @@ public interface ContiShareRepository extends JpaRepository<ContiShare, Long> {
   @Query("SELECT COUNT(cs) > 0 FROM ContiShare cs WHERE cs.conti.id = :contiId AND cs.user.id = :userId AND cs.permission IN :permissions AND cs.accepted = true")
   boolean hasPermission(@Param("contiId") Long contiId, @Param("userId") Long userId, @Param("permissions") List<ContiSharePermission> permissions);
 
+  @Query("SELECT cs FROM ContiShare cs WHERE cs.conti.id IN :contiIds AND cs.accepted = true")
+  List<ContiShare> findAcceptedSharesByContiIds(@Param("contiIds") Collection<Long> contiIds);
+
   void deleteByConti(Conti conti);
 
   void deleteByContiAndUser(Conti conti, User user);
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,7 @@ public class ContiShareService {
   private final ContiShareRepository contiShareRepository;
   private final ContiRepository contiRepository;
   private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public ContiShare createShare(ContiShareRequest request, User currentUser) {
@@ -71,7 +73,9 @@ public class ContiShareService {
     share.setAccepted(true);
     share.setAcceptedAt(LocalDateTime.now());
 
-    return contiShareRepository.save(share);
+    ContiShare savedShare = contiShareRepository.save(share);
+    eventPublisher.publishEvent(new ContiShareChangedEvent(share.getConti().getId()));
+    return savedShare;
   }
 
   @Transactional
@@ -86,6 +90,7 @@ public class ContiShareService {
     }
 
     contiShareRepository.delete(share);
+    eventPublisher.publishEvent(new ContiShareChangedEvent(share.getConti().getId()));
   }
 
   @Transactional
@@ -101,7 +106,9 @@ public class ContiShareService {
 
     share.setPermission(permission);
 
-    return contiShareRepository.save(share);
+    ContiShare savedShare = contiShareRepository.save(share);
+    eventPublisher.publishEvent(new ContiShareChangedEvent(share.getConti().getId()));
+    return savedShare;
   }
 
   public List<ContiShare> getSharedContis(User user) {
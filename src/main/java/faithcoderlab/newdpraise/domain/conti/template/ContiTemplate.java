@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -26,7 +27,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "conti_templates")
+@Table(name = "conti_templates", indexes = {
+    @Index(name = "idx_conti_templates_creator_created", columnList = "creator_id, created_at, id"),
+    @Index(name = "idx_conti_templates_public_created", columnList = "is_public, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
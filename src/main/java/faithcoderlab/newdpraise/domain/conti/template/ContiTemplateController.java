@@ -10,6 +10,7 @@ import faithcoderlab.newdpraise.domain.user.User;
 import faithcoderlab.newdpraise.domain.user.UserRepository;
 import faithcoderlab.newdpraise.global.exception.AuthenticationException;
 import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import faithcoderlab.newdpraise.global.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -173,6 +174,27 @@ public class ContiTemplateController {
     return ResponseEntity.ok(responsePage);
   }
 
+  @Operation(summary = "내 템플릿 목록 커서 조회",
+      description = "사용자가 생성한 템플릿을 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘기며, 전체 개수는 세지 않습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/my/cursor")
+  public ResponseEntity<CursorPage<ContiTemplateResponse>> getMyTemplatesByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+
+    CursorPage<ContiTemplate> templatePage =
+        contiTemplateService.getUserTemplates(user, cursor, size);
+
+    return ResponseEntity.ok(templatePage.map(template -> mapToTemplateResponse(template, user)));
+  }
+
   @Operation(summary = "공개 템플릿 목록 조회", description = "공개된 템플릿 목록을 조회합니다.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -218,6 +240,26 @@ public class ContiTemplateController {
     return ResponseEntity.ok(responsePage);
   }
 
+  @Operation(summary = "공개 템플릿 목록 커서 조회",
+      description = "공개된 템플릿을 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘기며, 전체 개수는 세지 않습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/public/cursor")
+  public ResponseEntity<CursorPage<ContiTemplateResponse>> getPublicTemplatesByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+
+    CursorPage<ContiTemplate> templatePage = contiTemplateService.getPublicTemplates(cursor, size);
+
+    return ResponseEntity.ok(templatePage.map(template -> mapToTemplateResponse(template, user)));
+  }
+
   @Operation(summary = "접근 가능한 템플릿 목록 조회", description = "사용자가 접근 가능한 모든 템플릿 목록을 조회합니다.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -341,6 +383,7 @@ public class ContiTemplateController {
         .status(conti.getStatus().name())
         .createdAt(conti.getCreatedAt())
         .updatedAt(conti.getUpdatedAt())
+        .lockVersion(conti.getLockVersion())
         .canEdit(true)
         .build();
   }
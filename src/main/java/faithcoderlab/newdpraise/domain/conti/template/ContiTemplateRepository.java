@@ -1,6 +1,7 @@
 package faithcoderlab.newdpraise.domain.conti.template;
 
 import faithcoderlab.newdpraise.domain.user.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +29,27 @@ public interface ContiTemplateRepository extends JpaRepository<ContiTemplate, Lo
   @Query("SELECT t FROM ContiTemplate t WHERE t.creator.id = :userId OR t.isPublic = true")
   Page<ContiTemplate> findAccessibleTemplates(@Param("userId") Long userId, Pageable pageable);
 
+  @Query("SELECT t FROM ContiTemplate t WHERE t.creator = :creator AND "
+      + "(:cursorId IS NULL OR t.createdAt < :cursorCreatedAt "
+      + "OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) "
+      + "ORDER BY t.createdAt DESC, t.id DESC")
+  List<ContiTemplate> findByCreatorBeforeCursor(
+      @Param("creator") User creator,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable
+  );
+
+  @Query("SELECT t FROM ContiTemplate t WHERE t.isPublic = true AND "
+      + "(:cursorId IS NULL OR t.createdAt < :cursorCreatedAt "
+      + "OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) "
+      + "ORDER BY t.createdAt DESC, t.id DESC")
+  List<ContiTemplate> findPublicBeforeCursor(
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable
+  );
+
   @Query("SELECT t FROM ContiTemplate t WHERE t.isPublic = true ORDER BY t.usageCount DESC")
   List<ContiTemplate> findPopularTemplates(Pageable pageable);
 }
@@ -1,6 +1,7 @@
 package faithcoderlab.newdpraise.domain.conti.template;
 
 import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiChangedEvent;
 import faithcoderlab.newdpraise.domain.conti.ContiRepository;
 import faithcoderlab.newdpraise.domain.conti.ContiService;
 import faithcoderlab.newdpraise.domain.conti.ContiStatus;
@@ -9,8 +10,11 @@ import faithcoderlab.newdpraise.domain.conti.template.dto.ContiTemplateUpdateReq
 import faithcoderlab.newdpraise.domain.user.User;
 import faithcoderlab.newdpraise.global.exception.AuthenticationException;
 import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import faithcoderlab.newdpraise.global.pagination.CursorPage;
+import faithcoderlab.newdpraise.global.pagination.CursorToken;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,6 +28,7 @@ public class ContiTemplateService {
   private final ContiTemplateRepository contiTemplateRepository;
   private final ContiRepository contiRepository;
   private final ContiService contiService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public ContiTemplate createTemplate(ContiTemplateCreateRequest request, User creator) {
@@ -112,6 +117,19 @@ public class ContiTemplateService {
     return contiTemplateRepository.findByCreator(user, pageable);
   }
 
+  /**
+   * (생성 시각, ID) 내림차순 키셋 페이지. 커서 뒤의 행만 읽고 전체 개수는 세지 않는다.
+   */
+  public CursorPage<ContiTemplate> getUserTemplates(User user, String cursor, int size) {
+    CursorToken token = CursorToken.decode(cursor);
+    int pageSize = CursorPage.pageSize(size);
+    List<ContiTemplate> rows = contiTemplateRepository.findByCreatorBeforeCursor(user,
+        token != null ? token.keyAsDateTime() : null,
+        token != null ? token.getId() : null,
+        CursorPage.fetchRange(pageSize));
+    return CursorPage.of(rows, pageSize, ContiTemplateService::cursorOf);
+  }
+
   public List<ContiTemplate> getPublicTemplates() {
     return contiTemplateRepository.findByIsPublicTrue();
   }
@@ -120,6 +138,16 @@ public class ContiTemplateService {
     return contiTemplateRepository.findByIsPublicTrue(pageable);
   }
 
+  public CursorPage<ContiTemplate> getPublicTemplates(String cursor, int size) {
+    CursorToken token = CursorToken.decode(cursor);
+    int pageSize = CursorPage.pageSize(size);
+    List<ContiTemplate> rows = contiTemplateRepository.findPublicBeforeCursor(
+        token != null ? token.keyAsDateTime() : null,
+        token != null ? token.getId() : null,
+        CursorPage.fetchRange(pageSize));
+    return CursorPage.of(rows, pageSize, ContiTemplateService::cursorOf);
+  }
+
   public List<ContiTemplate> getAccessibleTemplates(User user) {
     return contiTemplateRepository.findAccessibleTemplates(user.getId());
   }
@@ -141,6 +169,12 @@ public class ContiTemplateService {
 
     contiTemplateRepository.save(template);
 
-    return contiRepository.save(conti);
+    Conti savedConti = contiRepository.save(conti);
+    eventPublisher.publishEvent(ContiChangedEvent.saved(savedConti));
+    return savedConti;
+  }
+
+  private static String cursorOf(ContiTemplate template) {
+    return CursorToken.encode(template.getCreatedAt(), template.getId());
   }
 }
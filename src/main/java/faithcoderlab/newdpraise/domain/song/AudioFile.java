@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -20,7 +21,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "audio_files")
+@Table(name = "audio_files", indexes = {
+    @Index(name = "idx_audio_files_user_created", columnList = "user_id, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -72,6 +75,10 @@ public class AudioFile {
   @Column
   private LocalDateTime updatedAt;
 
+  private LocalDateTime lastAccessedAt;
+
+  private LocalDateTime evictedAt;
+
   @PrePersist
   protected void onCreate() {
     createdAt = LocalDateTime.now();
@@ -83,6 +90,11 @@ public class AudioFile {
     updatedAt = LocalDateTime.now();
   }
 
+  @Transient
+  public boolean isEvicted() {
+    return evictedAt != null;
+  }
+
   @Transient
   public String getDownloadUrl() {
     return "/api/songs/youtube/stream/" + videoId;
@@ -1,11 +1,14 @@
 package faithcoderlab.newdpraise.domain.song;
 
 import faithcoderlab.newdpraise.domain.user.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +22,17 @@ public interface AudioFileRepository extends JpaRepository<AudioFile, Long> {
 
   Page<AudioFile> findByUploader(User uploader, Pageable pageable);
 
+  @Query("SELECT a FROM AudioFile a WHERE a.uploader = :uploader AND "
+      + "(:cursorId IS NULL OR a.createdAt < :cursorCreatedAt "
+      + "OR (a.createdAt = :cursorCreatedAt AND a.id < :cursorId)) "
+      + "ORDER BY a.createdAt DESC, a.id DESC")
+  List<AudioFile> findByUploaderBeforeCursor(
+      @Param("uploader") User uploader,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable
+  );
+
   @Query("SELECT a FROM AudioFile a WHERE a.title LIKE %:keyword% OR a.artist LIKE %:keyword%")
   Page<AudioFile> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
@@ -27,4 +41,16 @@ public interface AudioFileRepository extends JpaRepository<AudioFile, Long> {
   @Query("SELECT a FROM AudioFile a WHERE a.videoId = :videoId AND a.uploader.id = :uploaderId")
   Optional<AudioFile> findByVideoIdAndUploaderId(@Param("videoId") String videoId,
       @Param("uploaderId") Long uploaderId);
+
+  List<AudioFile> findByVideoIdIn(Collection<String> videoIds);
+
+  @Modifying
+  @Query("UPDATE AudioFile a SET a.lastAccessedAt = :accessedAt WHERE a.videoId = :videoId")
+  int updateLastAccessedAt(@Param("videoId") String videoId,
+      @Param("accessedAt") LocalDateTime accessedAt);
+
+  @Query("SELECT a FROM AudioFile a WHERE a.evictedAt IS NULL AND NOT EXISTS "
+      + "(SELECT v FROM AudioVariant v WHERE v.audioFile = a AND v.quality = :quality) "
+      + "ORDER BY a.createdAt DESC")
+  List<AudioFile> findWithoutVariant(@Param("quality") AudioQuality quality, Pageable pageable);
 }
@@ -0,0 +1,60 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import java.util.Optional;
+import java.util.Set;
+
+public enum AudioQuality {
+  ORIGINAL("original"),
+  LOW("low");
+
+  private static final Set<String> SLOW_CONNECTIONS = Set.of("slow-2g", "2g", "3g");
+  private static final double LOW_DOWNLINK_MBPS = 1.5;
+
+  private final String value;
+
+  AudioQuality(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public static Optional<AudioQuality> fromValue(String value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    for (AudioQuality candidate : values()) {
+      if (candidate.value.equalsIgnoreCase(value) || candidate.name().equalsIgnoreCase(value)) {
+        return Optional.of(candidate);
+      }
+    }
+    return Optional.empty();
+  }
+
+  public static AudioQuality resolve(String quality, String saveData, String ect, String downlink) {
+    if (quality != null && !quality.isBlank() && !quality.equalsIgnoreCase("auto")) {
+      return fromValue(quality).orElse(ORIGINAL);
+    }
+
+    if (saveData != null && saveData.trim().equalsIgnoreCase("on")) {
+      return LOW;
+    }
+
+    if (ect != null && SLOW_CONNECTIONS.contains(ect.trim().toLowerCase())) {
+      return LOW;
+    }
+
+    if (downlink != null) {
+      try {
+        if (Double.parseDouble(downlink.trim()) < LOW_DOWNLINK_MBPS) {
+          return LOW;
+        }
+      } catch (NumberFormatException ignored) {
+        // 잘못된 클라이언트 힌트는 무시한다.
+      }
+    }
+
+    return ORIGINAL;
+  }
+}
@@ -0,0 +1,19 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AudioVariantRepository extends JpaRepository<AudioVariant, Long> {
+
+  @Query("SELECT v FROM AudioVariant v WHERE v.audioFile.videoId = :videoId AND v.quality = :quality AND v.status = :status")
+  Optional<AudioVariant> findByVideoIdAndQualityAndStatus(@Param("videoId") String videoId,
+      @Param("quality") AudioQuality quality, @Param("status") AudioVariantStatus status);
+
+  @Query("SELECT v FROM AudioVariant v WHERE v.audioFile.videoId = :videoId")
+  List<AudioVariant> findByVideoId(@Param("videoId") String videoId);
+}
@@ -0,0 +1,6 @@
+package faithcoderlab.newdpraise.domain.song;
+
+public enum AudioVariantStatus {
+  READY, // 재생 가능
+  FAILED // 변환 실패
+}
@@ -0,0 +1,71 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정규화한 제목과 아티스트로 구분하는 곡 카탈로그 항목. 여러 콘티의 {@link Song}이 같은 항목을 가리키며,
+ * 원래 키, BPM처럼 곡 자체에 속한 정보를 한 곳에서 공유한다. 유튜브 링크처럼 팀마다 고르는 값은 담지 않는다.
+ */
+@Entity
+@Table(
+    name = "song_catalog",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_song_catalog_normalized",
+        columnNames = {"normalized_title", "normalized_artist"}
+    )
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogSong {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private String title;
+
+  private String artist;
+
+  @Column(nullable = false)
+  private String normalizedTitle;
+
+  @Column(nullable = false)
+  private String normalizedArtist;
+
+  private String originalKey;
+
+  private String bpm;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column
+  private LocalDateTime updatedAt;
+
+  @PrePersist
+  protected void onCreate() {
+    createdAt = LocalDateTime.now();
+    updatedAt = LocalDateTime.now();
+  }
+
+  @PreUpdate
+  protected void onUpdate() {
+    updatedAt = LocalDateTime.now();
+  }
+}
@@ -0,0 +1,27 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogSongRepository extends JpaRepository<CatalogSong, Long> {
+
+  Optional<CatalogSong> findByNormalizedTitleAndNormalizedArtist(String normalizedTitle,
+      String normalizedArtist);
+
+  @Query("SELECT c FROM CatalogSong c ORDER BY c.id")
+  List<CatalogSong> findAllOrderById();
+
+  @Modifying
+  @Query("UPDATE CatalogSong c SET "
+      + "c.originalKey = COALESCE(c.originalKey, :originalKey), "
+      + "c.bpm = COALESCE(c.bpm, :bpm) "
+      + "WHERE c.id = :id")
+  int fillMissing(@Param("id") Long id, @Param("originalKey") String originalKey,
+      @Param("bpm") String bpm);
+}
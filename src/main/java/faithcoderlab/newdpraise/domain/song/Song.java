@@ -4,9 +4,12 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -14,9 +17,17 @@ import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.util.StringUtils;
 
+/**
+ * 콘티 하나에 들어간 곡. 연주 키, 특이사항처럼 콘티마다 다른 정보를 담고, 같은 곡끼리는 {@link CatalogSong}을 공유한다.
+ * 이 행은 곡이 콘티에 들어갈 때마다 하나씩 생기고, 콘티 안의 순서는 conti_songs.position에 있다.
+ * 카탈로그로 공유하는 것은 곡의 정체, 원래 키와 BPM(음원 분석 결과 포함), 사용 통계다. 음원 파일은 카탈로그가 아니라
+ * 유튜브 영상 ID로 공유하므로 같은 링크를 쓰는 곡끼리만 같은 파일을 쓴다.
+ */
 @Entity
 @Table(name = "songs")
 @Data
@@ -52,6 +63,12 @@ public class Song {
 
   private String bpm;
 
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "catalog_song_id")
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private CatalogSong catalogSong;
+
   @Column(nullable = false)
   private LocalDateTime createdAt;
 
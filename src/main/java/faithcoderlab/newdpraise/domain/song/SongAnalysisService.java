@@ -78,10 +78,7 @@ public class SongAnalysisService {
     File audioFile = null;
     try {
       audioFile = downloadAudio(videoId);
-      String key = detectKey(audioFile);
-      int bpm = detectBPM(audioFile);
-
-      return new MusicAnalysisResult(key, bpm);
+      return analyzeFile(audioFile);
     } finally {
       if (audioFile != null && audioFile.exists()) {
         audioFile.delete();
@@ -89,6 +86,13 @@ public class SongAnalysisService {
     }
   }
 
+  public MusicAnalysisResult analyzeFile(File audioFile) {
+    String key = detectKey(audioFile);
+    int bpm = detectBPM(audioFile);
+
+    return new MusicAnalysisResult(key, bpm);
+  }
+
   String extractVideoId(String youtubeUrl) {
     Matcher matcher = YOUTUBE_URL_PATTERN.matcher(youtubeUrl);
     return matcher.find() ? matcher.group(1) : null;
@@ -0,0 +1,18 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 곡 행의 값이 바뀌었을 때 발행한다. 곡 행은 템플릿에서 만든 콘티끼리 함께 쓰거나 콘티 저장 없이 고쳐질 수 있으므로,
+ * 그 곡을 담은 콘티의 캐시된 응답을 콘티 변경 이벤트만으로는 모두 비울 수 없다.
+ */
+@Getter
+public class SongChangedEvent {
+
+  private final Set<Long> songIds;
+
+  public SongChangedEvent(Set<Long> songIds) {
+    this.songIds = Set.copyOf(songIds);
+  }
+}
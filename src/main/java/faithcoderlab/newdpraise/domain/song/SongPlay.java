@@ -0,0 +1,18 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 확정된 콘티에서 카탈로그 곡을 한 번 연주한 기록. 콘티, 콘티 곡, 곡 테이블을 조인해 읽고 사용 통계로 모은다.
+ */
+@Getter
+@AllArgsConstructor
+public class SongPlay {
+
+  private final Long catalogSongId;
+  private final String songKey;
+  private final String bpm;
+  private final LocalDate playedOn;
+}
@@ -1,9 +1,15 @@
 package faithcoderlab.newdpraise.domain.song;
 
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SongRepository extends JpaRepository<Song, Long> {
 
+  @Query("SELECT s FROM Song s WHERE s.catalogSong IS NULL AND s.id > :afterId ORDER BY s.id")
+  List<Song> findUncataloguedAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
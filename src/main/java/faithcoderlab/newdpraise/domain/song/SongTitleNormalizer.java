@@ -0,0 +1,39 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 같은 곡을 같은 키로 묶기 위해 제목과 아티스트를 정규화한다.
+ * 호환 문자를 NFKC로 합치고 대소문자를 접은 뒤 띄어쓰기와 문장 부호를 모두 뺀다.
+ * "주님 나라 이를 때까지"와 "주님나라 이를때까지!"는 같은 키가 된다.
+ */
+public final class SongTitleNormalizer {
+
+  private SongTitleNormalizer() {
+  }
+
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+
+    String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    StringBuilder normalized = new StringBuilder(folded.length());
+    StringBuilder withoutSpaces = new StringBuilder(folded.length());
+    for (int i = 0; i < folded.length(); ) {
+      int codePoint = folded.codePointAt(i);
+      i += Character.charCount(codePoint);
+
+      if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint)) {
+        continue;
+      }
+      withoutSpaces.appendCodePoint(codePoint);
+      if (Character.isLetterOrDigit(codePoint)) {
+        normalized.appendCodePoint(codePoint);
+      }
+    }
+
+    return normalized.isEmpty() ? withoutSpaces.toString() : normalized.toString();
+  }
+}
@@ -0,0 +1,37 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 콘티가 마지막으로 사용 통계에 반영된 (팀, 월). 콘티의 예정일이 다른 달로 옮겨지거나 콘티가 지워졌을 때
+ * 예전 달의 통계도 다시 모으기 위해 남겨 둔다.
+ */
+@Entity
+@Table(name = "song_usage_contributions", indexes = {
+    @Index(name = "idx_song_usage_contribution_team", columnList = "team_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongUsageContribution {
+
+  @Id
+  @Column(name = "conti_id")
+  private Long contiId;
+
+  @Column(name = "team_id", nullable = false)
+  private Long teamId;
+
+  @Column(name = "usage_month", nullable = false)
+  private LocalDate usageMonth;
+}
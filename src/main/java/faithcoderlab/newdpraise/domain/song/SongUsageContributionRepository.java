@@ -0,0 +1,22 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SongUsageContributionRepository extends
+    JpaRepository<SongUsageContribution, Long> {
+
+  List<SongUsageContribution> findByTeamId(Long teamId);
+
+  @Query("SELECT DISTINCT c.teamId FROM SongUsageContribution c")
+  List<Long> findTeamIds();
+
+  @Modifying
+  @Query("DELETE FROM SongUsageContribution c WHERE c.teamId = :teamId")
+  void deleteByTeamId(@Param("teamId") Long teamId);
+}
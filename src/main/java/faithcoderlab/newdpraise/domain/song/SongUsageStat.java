@@ -0,0 +1,53 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팀, 카탈로그 곡, 월, 연주 키, 템포 구간마다 미리 모아 둔 연주 횟수와 마지막 연주일.
+ * 팀은 콘티를 만든 인도자로 구분하고, 템포는 BPM을 10 단위로 내린 값이다.
+ */
+@Entity
+@Table(name = "song_usage_stats", indexes = {
+    @Index(name = "idx_song_usage_team_month", columnList = "team_id, usage_month"),
+    @Index(name = "idx_song_usage_team_song", columnList = "team_id, catalog_song_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongUsageStat {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "team_id", nullable = false)
+  private Long teamId;
+
+  @Column(name = "catalog_song_id", nullable = false)
+  private Long catalogSongId;
+
+  @Column(name = "usage_month", nullable = false)
+  private LocalDate usageMonth;
+
+  private String songKey;
+
+  private Integer tempoBucket;
+
+  @Column(nullable = false)
+  private long playCount;
+
+  @Column(nullable = false)
+  private LocalDate lastPlayedOn;
+}
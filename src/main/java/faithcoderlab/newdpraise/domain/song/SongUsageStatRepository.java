@@ -0,0 +1,54 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import faithcoderlab.newdpraise.domain.song.dto.SongUsageSummary;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SongUsageStatRepository extends JpaRepository<SongUsageStat, Long> {
+
+  List<SongUsageStat> findByTeamId(Long teamId);
+
+  List<SongUsageStat> findByTeamIdAndUsageMonth(Long teamId, LocalDate usageMonth);
+
+  List<SongUsageStat> findByTeamIdAndCatalogSongId(Long teamId, Long catalogSongId);
+
+  List<SongUsageStat> findByTeamIdAndUsageMonthGreaterThanEqualAndUsageMonthLessThan(
+      Long teamId, LocalDate from, LocalDate to);
+
+  /**
+   * 기간 안에 많이 연주한 곡부터 곡마다 연주 횟수와 마지막 연주일을 합쳐 읽는다.
+   */
+  @Query("SELECT new faithcoderlab.newdpraise.domain.song.dto.SongUsageSummary("
+      + "cs.id, cs.title, cs.artist, SUM(u.playCount), MAX(u.lastPlayedOn)) "
+      + "FROM SongUsageStat u JOIN CatalogSong cs ON cs.id = u.catalogSongId "
+      + "WHERE u.teamId = :teamId AND u.usageMonth >= :from AND u.usageMonth < :to "
+      + "GROUP BY cs.id, cs.title, cs.artist "
+      + "ORDER BY SUM(u.playCount) DESC, MAX(u.lastPlayedOn) DESC")
+  List<SongUsageSummary> findTopSongs(
+      @Param("teamId") Long teamId,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to,
+      Pageable pageable
+  );
+
+  @Query("SELECT DISTINCT u.teamId FROM SongUsageStat u")
+  List<Long> findTeamIds();
+
+  @Modifying
+  @Query("DELETE FROM SongUsageStat u WHERE u.teamId = :teamId AND u.usageMonth = :usageMonth")
+  void deleteByTeamIdAndUsageMonth(
+      @Param("teamId") Long teamId,
+      @Param("usageMonth") LocalDate usageMonth
+  );
+
+  @Modifying
+  @Query("DELETE FROM SongUsageStat u WHERE u.teamId = :teamId")
+  void deleteByTeamId(@Param("teamId") Long teamId);
+}
@@ -10,6 +10,7 @@ import faithcoderlab.newdpraise.domain.user.User;
 import faithcoderlab.newdpraise.domain.user.UserRepository;
 import faithcoderlab.newdpraise.global.exception.AuthenticationException;
 import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import faithcoderlab.newdpraise.global.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -132,6 +133,25 @@ public class AudioFileController {
     return ResponseEntity.ok(audioFilePage);
   }
 
+  @Operation(summary = "사용자의 오디오 파일 목록 커서 조회",
+      description = "현재 사용자가 다운로드한 오디오 파일을 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 넘기며, 전체 개수는 세지 않습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/my/cursor")
+  public ResponseEntity<CursorPage<AudioFileDto>> getMyAudioFilesByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+    CursorPage<AudioFileDto> audioFilePage = audioFileService.getUserAudioFiles(user, cursor, size);
+
+    return ResponseEntity.ok(audioFilePage);
+  }
+
   @Operation(summary = "오디오 파일 검색", description = "제목이나 아티스트로 오디오 파일을 검색합니다.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "검색 성공"),
@@ -0,0 +1,45 @@
+package faithcoderlab.newdpraise.domain.song.controller;
+
+import faithcoderlab.newdpraise.domain.song.dto.SongSuggestion;
+import faithcoderlab.newdpraise.domain.song.service.SongSearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/songs")
+@RequiredArgsConstructor
+@Tag(name = "SongSearch", description = "곡 검색 API")
+public class SongSearchController {
+
+  private static final int MAX_LIMIT = 50;
+
+  private final SongSearchIndex songSearchIndex;
+
+  @Operation(summary = "곡 자동 완성",
+      description = "곡 카탈로그에서 제목이나 아티스트로 곡을 찾습니다. 띄어쓰기, 오타, 초성 검색어(예: ㅇㅅㄷ)도 찾습니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "검색 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/autocomplete")
+  public ResponseEntity<List<SongSuggestion>> autocomplete(
+      @RequestParam String q,
+      @RequestParam(defaultValue = "10") int limit
+  ) {
+    int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+    List<SongSuggestion> suggestions = songSearchIndex.search(q, size).stream()
+        .map(SongSuggestion::fromMatch)
+        .toList();
+
+    return ResponseEntity.ok(suggestions);
+  }
+}
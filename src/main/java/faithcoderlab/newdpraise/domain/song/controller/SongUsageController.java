@@ -0,0 +1,99 @@
+package faithcoderlab.newdpraise.domain.song.controller;
+
+import faithcoderlab.newdpraise.domain.song.dto.SongUsageDetail;
+import faithcoderlab.newdpraise.domain.song.dto.SongUsageOverview;
+import faithcoderlab.newdpraise.domain.song.dto.SongUsageSummary;
+import faithcoderlab.newdpraise.domain.song.service.SongUsageService;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.domain.user.UserRepository;
+import faithcoderlab.newdpraise.global.exception.AuthenticationException;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.security.Principal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/songs/usage")
+@RequiredArgsConstructor
+@Tag(name = "SongUsage", description = "곡 사용 통계 API")
+public class SongUsageController {
+
+  private static final int MAX_LIMIT = 100;
+
+  private final SongUsageService songUsageService;
+  private final UserRepository userRepository;
+
+  @Operation(summary = "많이 연주한 곡",
+      description = "내가 만든 확정, 보관 콘티에서 해당 연도에 많이 연주한 곡부터 조회합니다. 연도를 비우면 올해입니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/top")
+  public ResponseEntity<List<SongUsageSummary>> getTopSongs(
+      @RequestParam(required = false) Integer year,
+      @RequestParam(defaultValue = "20") int limit,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+    int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+    return ResponseEntity.ok(songUsageService.getTopSongs(user, yearOrCurrent(year), size));
+  }
+
+  @Operation(summary = "연도별 사용 통계",
+      description = "해당 연도의 전체 연주 횟수와 키, 템포, 월별 분포를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/overview")
+  public ResponseEntity<SongUsageOverview> getOverview(
+      @RequestParam(required = false) Integer year,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+    return ResponseEntity.ok(songUsageService.getOverview(user, yearOrCurrent(year)));
+  }
+
+  @Operation(summary = "곡별 사용 통계",
+      description = "카탈로그 곡 하나의 연도별 연주 횟수와 키, 템포, 월별 분포, 마지막으로 연주한 날을 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+      @ApiResponse(responseCode = "404", description = "곡을 찾을 수 없음")
+  })
+  @GetMapping("/{catalogSongId}")
+  public ResponseEntity<SongUsageDetail> getSongUsage(
+      @PathVariable Long catalogSongId,
+      @RequestParam(required = false) Integer year,
+      Principal principal
+  ) {
+    User user = getUserFromPrincipal(principal);
+    return ResponseEntity.ok(
+        songUsageService.getSongUsage(user, catalogSongId, yearOrCurrent(year)));
+  }
+
+  private static int yearOrCurrent(Integer year) {
+    return year != null ? year : LocalDate.now().getYear();
+  }
+
+  private User getUserFromPrincipal(Principal principal) {
+    if (principal == null) {
+      throw new AuthenticationException("인증되지 않은 사용자입니다.");
+    }
+
+    return userRepository.findByEmail(principal.getName())
+        .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+  }
+}
@@ -1,8 +1,15 @@
 package faithcoderlab.newdpraise.domain.song.controller;
 
+import faithcoderlab.newdpraise.domain.song.AudioQuality;
 import faithcoderlab.newdpraise.domain.song.dto.AudioDownloadResult;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import faithcoderlab.newdpraise.domain.song.dto.HlsPlaylist;
 import faithcoderlab.newdpraise.domain.song.dto.YoutubeDownloadRequest;
 import faithcoderlab.newdpraise.domain.song.dto.YoutubeVideoInfo;
+import faithcoderlab.newdpraise.domain.song.service.AudioHlsService;
+import faithcoderlab.newdpraise.domain.song.service.AudioStorageService;
+import faithcoderlab.newdpraise.domain.song.service.AudioStreamService;
+import faithcoderlab.newdpraise.domain.song.service.AudioTranscodeService;
 import faithcoderlab.newdpraise.domain.song.service.YoutubeDownloadService;
 import faithcoderlab.newdpraise.domain.user.User;
 import faithcoderlab.newdpraise.domain.user.UserRepository;
@@ -14,22 +21,24 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.security.Principal;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -40,7 +49,14 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "YoutubeDownload", description = "유튜브 음원 다운로드 관련 API")
 public class YoutubeDownloadController {
 
+  private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+  private static final String REVALIDATE_CACHE_CONTROL = "private, no-cache";
+
   private final YoutubeDownloadService youtubeDownloadService;
+  private final AudioStorageService audioStorageService;
+  private final AudioTranscodeService audioTranscodeService;
+  private final AudioStreamService audioStreamService;
+  private final AudioHlsService audioHlsService;
   private final UserRepository userRepository;
 
   @Operation(summary = "유튜브 URL 유효성 검사", description = "유튜브 URL의 유효성을 검사합니다.")
@@ -100,36 +116,136 @@ public class YoutubeDownloadController {
     return ResponseEntity.ok(files);
   }
 
-  @Operation(summary = "다운로드된 오디오 파일 스트리밍", description = "다운로드된 오디오 파일을 스트리밍합니다.")
+  @Operation(summary = "다운로드된 오디오 파일 스트리밍",
+      description = "다운로드된 오디오 파일을 스트리밍합니다. quality 파라미터(original, low, auto)나 "
+          + "Save-Data, ECT, Downlink 클라이언트 힌트에 따라 저비트레이트 변환본을 제공합니다. "
+          + "v 파라미터에 응답 ETag 값을 넣으면 해당 버전을 변경 불가 리소스로 캐싱할 수 있습니다.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "스트리밍 성공"),
+      @ApiResponse(responseCode = "206", description = "요청한 구간 스트리밍 성공"),
+      @ApiResponse(responseCode = "304", description = "캐시된 파일이 최신임"),
       @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-      @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
+      @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
+      @ApiResponse(responseCode = "416", description = "요청한 구간이 파일 범위를 벗어남")
   })
   @GetMapping("/stream/{videoId}")
-  public ResponseEntity<Resource> streamAudio(@PathVariable String videoId, Principal principal) {
+  public void streamAudio(
+      @PathVariable String videoId,
+      @RequestParam(required = false) String quality,
+      @RequestParam(name = "v", required = false) String version,
+      @RequestHeader(value = "Save-Data", required = false) String saveData,
+      @RequestHeader(value = "ECT", required = false) String ect,
+      @RequestHeader(value = "Downlink", required = false) String downlink,
+      Principal principal,
+      HttpServletRequest request,
+      HttpServletResponse response) throws IOException {
     getUserFromPrincipal(principal);
 
-    if (!youtubeDownloadService.isAudioFileExists(videoId)) {
-      return ResponseEntity.notFound().build();
+    Optional<AudioLibraryEntry> original = youtubeDownloadService.findAudioFile(videoId)
+        .or(() -> audioStorageService.restoreEvicted(videoId));
+    if (original.isEmpty()) {
+      response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+      return;
     }
 
-    String downloadDir = "uploads/audio";
-    File directory = new File(downloadDir);
-    File[] files = directory.listFiles((dir, name) -> name.startsWith(videoId + "."));
+    audioStorageService.recordAccess(videoId);
+
+    AudioQuality requested = AudioQuality.resolve(quality, saveData, ect, downlink);
+    AudioLibraryEntry entry = audioTranscodeService.findVariant(videoId, requested)
+        .orElse(original.get());
+
+    response.setHeader(HttpHeaders.VARY, "Save-Data, ECT, Downlink");
+    response.setHeader("Accept-CH", "Save-Data, ECT, Downlink");
+    response.setHeader(HttpHeaders.CACHE_CONTROL, entry.getVersion().equals(version)
+        ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+    audioStreamService.stream(entry, request, response);
+  }
 
-    if (files == null || files.length == 0) {
+  @Operation(summary = "HLS 마스터 재생 목록 조회",
+      description = "오디오를 HLS로 재생하기 위한 품질별 재생 목록 목록을 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+      @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
+  })
+  @GetMapping("/stream/{videoId}/hls/master.m3u8")
+  public ResponseEntity<String> getHlsMasterPlaylist(@PathVariable String videoId,
+      Principal principal) {
+    getUserFromPrincipal(principal);
+
+    Optional<AudioLibraryEntry> original = youtubeDownloadService.findAudioFile(videoId)
+        .or(() -> audioStorageService.restoreEvicted(videoId));
+    if (original.isEmpty()) {
       return ResponseEntity.notFound().build();
     }
 
-    FileSystemResource resource = new FileSystemResource(files[0]);
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.parseMediaType(
-        "audio/" + files[0].getName().substring(files[0].getName().lastIndexOf("." + 1))));
+    audioStorageService.recordAccess(videoId);
 
     return ResponseEntity.ok()
-        .headers(headers)
-        .body(resource);
+        .header(HttpHeaders.CONTENT_TYPE, AudioHlsService.PLAYLIST_CONTENT_TYPE)
+        .header(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL)
+        .body(audioHlsService.getMasterPlaylist(videoId));
+  }
+
+  @Operation(summary = "HLS 미디어 재생 목록 조회",
+      description = "품질별 HLS 재생 목록을 조회합니다. 세그먼트가 없으면 생성을 예약하고 "
+          + "503과 Retry-After를 응답합니다. 생성할 수 없으면 404를 응답하므로 /stream 주소로 재생합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+      @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없거나 세그먼트를 만들 수 없음"),
+      @ApiResponse(responseCode = "503", description = "세그먼트 생성 중")
+  })
+  @GetMapping("/stream/{videoId}/hls/{quality}/index.m3u8")
+  public ResponseEntity<String> getHlsMediaPlaylist(@PathVariable String videoId,
+      @PathVariable String quality, Principal principal) throws IOException {
+    getUserFromPrincipal(principal);
+
+    HlsPlaylist playlist = AudioQuality.fromValue(quality)
+        .map(resolved -> audioHlsService.getMediaPlaylist(videoId, resolved))
+        .orElseGet(HlsPlaylist::unavailable);
+    if (playlist.getStatus() == HlsPlaylist.Status.PENDING) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, String.valueOf(audioHlsService.getRetryAfterSeconds()))
+          .header(HttpHeaders.CACHE_CONTROL, "no-store")
+          .build();
+    }
+    if (playlist.getStatus() != HlsPlaylist.Status.READY) {
+      return ResponseEntity.notFound().build();
+    }
+
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_TYPE, AudioHlsService.PLAYLIST_CONTENT_TYPE)
+        .header(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL)
+        .body(Files.readString(playlist.getPath()));
+  }
+
+  @Operation(summary = "HLS 세그먼트 조회", description = "HLS 재생 목록이 가리키는 세그먼트를 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+      @ApiResponse(responseCode = "404", description = "세그먼트를 찾을 수 없음")
+  })
+  @GetMapping("/stream/{videoId}/hls/{quality}/{version}/{segment}")
+  public void getHlsSegment(
+      @PathVariable String videoId,
+      @PathVariable String quality,
+      @PathVariable String version,
+      @PathVariable String segment,
+      Principal principal,
+      HttpServletRequest request,
+      HttpServletResponse response) throws IOException {
+    getUserFromPrincipal(principal);
+
+    Optional<AudioLibraryEntry> entry = AudioQuality.fromValue(quality)
+        .flatMap(resolved -> audioHlsService.findSegment(videoId, resolved, version, segment));
+    if (entry.isEmpty()) {
+      response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+    audioStreamService.stream(entry.get(), request, response);
   }
 
   @Operation(summary = "다운로드된 오디오 파일 삭제", description = "다운로드된 오디오 파일을 삭제합니다.")
@@ -142,6 +258,7 @@ public class YoutubeDownloadController {
   public ResponseEntity<Void> deleteAudioFile(@PathVariable String videoId, Principal principal) {
     getUserFromPrincipal(principal);
     boolean deleted = youtubeDownloadService.deleteAudioFile(videoId);
+    audioHlsService.deleteSegments(videoId);
 
     if (deleted) {
       return ResponseEntity.noContent().build();
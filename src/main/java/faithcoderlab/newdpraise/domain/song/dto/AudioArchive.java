@@ -0,0 +1,35 @@
+package faithcoderlab.newdpraise.domain.song.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class AudioArchive {
+  private final Long contiId;
+  private final String contiTitle;
+  private final List<Item> items;
+  private final List<MissingSong> missingSongs;
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  public static class Item {
+    private final String entryName;
+    private final String songTitle;
+    private final AudioLibraryEntry entry;
+  }
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  public static class MissingSong {
+    private final String songTitle;
+    private final String youtubeUrl;
+    private final String reason;
+    private final boolean fetchQueued;
+  }
+}
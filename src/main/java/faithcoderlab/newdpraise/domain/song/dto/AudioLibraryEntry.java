@@ -0,0 +1,32 @@
+package faithcoderlab.newdpraise.domain.song.dto;
+
+import java.nio.file.Path;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class AudioLibraryEntry {
+  private final String videoId;
+  private final Path path;
+  private final long size;
+  private final long lastModified;
+  private final String mimeType;
+
+  public String getFileName() {
+    return path.getFileName().toString();
+  }
+
+  /**
+   * 파일 내용이 바뀌면 함께 바뀌는 버전 토큰. ETag와 버전이 붙은 스트리밍 URL에 쓴다.
+   */
+  public String getVersion() {
+    return Integer.toHexString(getFileName().hashCode())
+        + "-" + Long.toHexString(size)
+        + "-" + Long.toHexString(lastModified);
+  }
+}
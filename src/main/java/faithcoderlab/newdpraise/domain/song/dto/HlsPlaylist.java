@@ -0,0 +1,36 @@
+package faithcoderlab.newdpraise.domain.song.dto;
+
+import java.nio.file.Path;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 품질별 미디어 재생 목록 조회 결과. 세그먼트를 만드는 중이면 경로 없이 PENDING으로 돌려준다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class HlsPlaylist {
+
+  public enum Status {
+    READY,
+    PENDING,
+    UNAVAILABLE
+  }
+
+  private final Status status;
+  private final Path path;
+
+  public static HlsPlaylist ready(Path path) {
+    return new HlsPlaylist(Status.READY, path);
+  }
+
+  public static HlsPlaylist pending() {
+    return new HlsPlaylist(Status.PENDING, null);
+  }
+
+  public static HlsPlaylist unavailable() {
+    return new HlsPlaylist(Status.UNAVAILABLE, null);
+  }
+}
@@ -0,0 +1,30 @@
+package faithcoderlab.newdpraise.domain.song.dto;
+
+import faithcoderlab.newdpraise.domain.song.service.SongSearchIndex.Match;
+import faithcoderlab.newdpraise.domain.song.service.SongSearchIndex.MatchType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongSuggestion {
+  private Long catalogSongId;
+  private String title;
+  private String artist;
+  private MatchType matchType;
+  private double score;
+
+  public static SongSuggestion fromMatch(Match match) {
+    return SongSuggestion.builder()
+        .catalogSongId(match.getCatalogSongId())
+        .title(match.getTitle())
+        .artist(match.getArtist())
+        .matchType(match.getMatchType())
+        .score(match.getScore())
+        .build();
+  }
+}
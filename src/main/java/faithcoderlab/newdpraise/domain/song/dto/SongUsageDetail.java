@@ -0,0 +1,24 @@
+package faithcoderlab.newdpraise.domain.song.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongUsageDetail {
+  private Long catalogSongId;
+  private String title;
+  private String artist;
+  private int year;
+  private long playCount;
+  private LocalDate lastPlayedOn;
+  private Map<String, Long> keyCounts;
+  private Map<Integer, Long> tempoCounts;
+  private Map<Integer, Long> monthlyCounts;
+}
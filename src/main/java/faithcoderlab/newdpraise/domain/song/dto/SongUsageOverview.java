@@ -0,0 +1,20 @@
+package faithcoderlab.newdpraise.domain.song.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongUsageOverview {
+  private int year;
+  private long playCount;
+  private long songCount;
+  private Map<String, Long> keyCounts;
+  private Map<Integer, Long> tempoCounts;
+  private Map<Integer, Long> monthlyCounts;
+}
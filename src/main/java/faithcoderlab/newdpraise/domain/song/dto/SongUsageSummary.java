@@ -0,0 +1,19 @@
+package faithcoderlab.newdpraise.domain.song.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongUsageSummary {
+  private Long catalogSongId;
+  private String title;
+  private String artist;
+  private Long playCount;
+  private LocalDate lastPlayedOn;
+}
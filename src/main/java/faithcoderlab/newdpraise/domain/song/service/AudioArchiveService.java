@@ -0,0 +1,221 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiService;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.dto.AudioArchive;
+import faithcoderlab.newdpraise.domain.song.dto.AudioArchive.Item;
+import faithcoderlab.newdpraise.domain.song.dto.AudioArchive.MissingSong;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 콘티에 포함된 곡의 오디오를 하나의 ZIP으로 묶어 응답 스트림에 바로 쓴다.
+ * 오디오는 이미 압축된 형식이라 STORED 항목으로 담는다. 파일을 한 번 열어 그 핸들로 CRC와 크기를 구한 뒤
+ * 처음으로 되돌려 같은 핸들에서 복사하므로, 그 사이 경로의 파일이 교체되어도 항목 헤더와 내용이 어긋나지 않는다.
+ * 라이브러리에 없는 곡은 백그라운드 다운로드를 요청하고 manifest.json에 기록한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AudioArchiveService {
+
+  static final String MANIFEST_ENTRY_NAME = "manifest.json";
+
+  private final ContiService contiService;
+  private final YoutubeDownloadService youtubeDownloadService;
+  private final AudioPrefetchService audioPrefetchService;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(readOnly = true)
+  public AudioArchive prepareArchive(Long contiId, User user) {
+    Conti conti = contiService.getContiByIdAndCheckPermission(contiId, user);
+
+    List<Item> items = new ArrayList<>();
+    List<MissingSong> missingSongs = new ArrayList<>();
+    int order = 0;
+    for (Song song : conti.getSongs()) {
+      order++;
+      String videoId = youtubeDownloadService.extractVideoId(song.getYoutubeUrl());
+      if (videoId == null) {
+        missingSongs.add(missing(song, "유튜브 링크가 없습니다.", false));
+        continue;
+      }
+
+      Optional<AudioLibraryEntry> entry = youtubeDownloadService.findAudioFile(videoId);
+      if (entry.isEmpty()) {
+        boolean queued = audioPrefetchService.enqueueDownload(videoId, song.getYoutubeUrl(), user);
+        missingSongs.add(missing(song, "오디오 파일이 아직 준비되지 않았습니다.", queued));
+        continue;
+      }
+
+      items.add(Item.builder()
+          .entryName(toEntryName(order, song.getTitle(), entry.get()))
+          .songTitle(song.getTitle())
+          .entry(entry.get())
+          .build());
+    }
+
+    return AudioArchive.builder()
+        .contiId(conti.getId())
+        .contiTitle(conti.getTitle())
+        .items(items)
+        .missingSongs(missingSongs)
+        .build();
+  }
+
+  public void writeArchive(AudioArchive archive, OutputStream outputStream) throws IOException {
+    List<Map<String, Object>> files = new ArrayList<>();
+    List<Map<String, Object>> missing = new ArrayList<>();
+    archive.getMissingSongs().forEach(song -> missing.add(toManifest(song)));
+
+    ZipOutputStream zip = new ZipOutputStream(outputStream);
+    WritableByteChannel zipChannel = Channels.newChannel(zip);
+
+    for (Item item : archive.getItems()) {
+      AudioLibraryEntry entry = item.getEntry();
+      FileChannel channel;
+      try {
+        channel = FileChannel.open(entry.getPath(), StandardOpenOption.READ);
+      } catch (IOException e) {
+        log.warn("ZIP에 담을 오디오 파일을 읽을 수 없습니다: {}", entry.getPath());
+        missing.add(toManifest(MissingSong.builder()
+            .songTitle(item.getSongTitle())
+            .reason("오디오 파일을 읽을 수 없습니다.")
+            .build()));
+        continue;
+      }
+
+      long size;
+      try (channel) {
+        CRC32 crc = new CRC32();
+        size = checksum(channel, crc);
+        channel.position(0);
+
+        ZipEntry zipEntry = new ZipEntry(item.getEntryName());
+        zipEntry.setMethod(ZipEntry.STORED);
+        zipEntry.setSize(size);
+        zipEntry.setCompressedSize(size);
+        zipEntry.setCrc(crc.getValue());
+        if (entry.getLastModified() > 0) {
+          zipEntry.setTime(entry.getLastModified());
+        }
+
+        zip.putNextEntry(zipEntry);
+        copy(channel, size, zipChannel);
+        zip.closeEntry();
+      }
+
+      Map<String, Object> file = new LinkedHashMap<>();
+      file.put("name", item.getEntryName());
+      file.put("title", item.getSongTitle());
+      file.put("size", size);
+      files.add(file);
+    }
+
+    Map<String, Object> manifest = new LinkedHashMap<>();
+    manifest.put("contiId", archive.getContiId());
+    manifest.put("contiTitle", archive.getContiTitle());
+    manifest.put("generatedAt", LocalDateTime.now().toString());
+    manifest.put("files", files);
+    manifest.put("missing", missing);
+    writeStoredEntry(zip, MANIFEST_ENTRY_NAME, objectMapper.writeValueAsBytes(manifest));
+
+    zip.finish();
+    zip.flush();
+  }
+
+  static String toEntryName(int order, String title, AudioLibraryEntry entry) {
+    String fileName = entry.getFileName();
+    int dotIndex = fileName.lastIndexOf('.');
+    String extension = dotIndex >= 0 ? fileName.substring(dotIndex) : "";
+
+    String safeTitle = title == null ? "" : title.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").trim();
+    if (safeTitle.isEmpty()) {
+      safeTitle = entry.getVideoId();
+    }
+    return String.format("%02d - %s%s", order, safeTitle, extension);
+  }
+
+  private static long checksum(FileChannel channel, CRC32 crc) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    long size = 0;
+    int read;
+    while ((read = channel.read(buffer)) != -1) {
+      buffer.flip();
+      crc.update(buffer);
+      buffer.clear();
+      size += read;
+    }
+    return size;
+  }
+
+  private static void copy(FileChannel channel, long size, WritableByteChannel target)
+      throws IOException {
+    long copied = 0;
+    while (copied < size) {
+      long transferred = channel.transferTo(copied, size - copied, target);
+      if (transferred <= 0) {
+        throw new EOFException("복사 중 오디오 파일이 줄어들었습니다.");
+      }
+      copied += transferred;
+    }
+  }
+
+  private void writeStoredEntry(ZipOutputStream zip, String name, byte[] content)
+      throws IOException {
+    CRC32 crc = new CRC32();
+    crc.update(content);
+
+    ZipEntry zipEntry = new ZipEntry(name);
+    zipEntry.setMethod(ZipEntry.STORED);
+    zipEntry.setSize(content.length);
+    zipEntry.setCompressedSize(content.length);
+    zipEntry.setCrc(crc.getValue());
+
+    zip.putNextEntry(zipEntry);
+    zip.write(content);
+    zip.closeEntry();
+  }
+
+  private MissingSong missing(Song song, String reason, boolean fetchQueued) {
+    return MissingSong.builder()
+        .songTitle(song.getTitle())
+        .youtubeUrl(song.getYoutubeUrl())
+        .reason(reason)
+        .fetchQueued(fetchQueued)
+        .build();
+  }
+
+  private Map<String, Object> toManifest(MissingSong song) {
+    Map<String, Object> missing = new LinkedHashMap<>();
+    missing.put("title", song.getSongTitle());
+    missing.put("youtubeUrl", song.getYoutubeUrl());
+    missing.put("reason", song.getReason());
+    missing.put("fetchQueued", song.isFetchQueued());
+    return missing;
+  }
+
+}
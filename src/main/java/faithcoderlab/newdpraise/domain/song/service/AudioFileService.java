@@ -7,15 +7,22 @@ import faithcoderlab.newdpraise.domain.song.dto.AudioFileDto;
 import faithcoderlab.newdpraise.domain.user.User;
 import faithcoderlab.newdpraise.global.exception.ResourceAlreadyExistsException;
 import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import faithcoderlab.newdpraise.global.pagination.CursorPage;
+import faithcoderlab.newdpraise.global.pagination.CursorToken;
 import java.io.File;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,6 +30,9 @@ public class AudioFileService {
 
   private final AudioFileRepository audioFileRepository;
   private final YoutubeDownloadService youtubeDownloadService;
+  private final AudioTranscodeService audioTranscodeService;
+  private final AudioHlsService audioHlsService;
+  private final AudioLibraryIndex audioLibraryIndex;
 
   @Transactional
   public AudioFile saveAudioFile(AudioDownloadResult downloadResult, User uploader,
@@ -67,20 +77,64 @@ public class AudioFileService {
     return audioFilePage.map(this::mapToDto);
   }
 
+  /**
+   * (등록 시각, ID) 내림차순 키셋 페이지. 커서 뒤의 행만 읽고 전체 개수는 세지 않는다.
+   */
+  public CursorPage<AudioFileDto> getUserAudioFiles(User uploader, String cursor, int size) {
+    CursorToken token = CursorToken.decode(cursor);
+    int pageSize = CursorPage.pageSize(size);
+    List<AudioFile> rows = audioFileRepository.findByUploaderBeforeCursor(uploader,
+        token != null ? token.keyAsDateTime() : null,
+        token != null ? token.getId() : null,
+        CursorPage.fetchRange(pageSize));
+    return CursorPage.of(rows, pageSize,
+            audioFile -> CursorToken.encode(audioFile.getCreatedAt(), audioFile.getId()))
+        .map(this::mapToDto);
+  }
+
   public Page<AudioFileDto> searchAudioFiles(String keyword, Pageable pageable) {
     Page<AudioFile> audioFilePage = audioFileRepository.searchByKeyword(keyword, pageable);
     return audioFilePage.map(this::mapToDto);
   }
 
+  /**
+   * 기록을 지우고, 삭제가 커밋된 뒤에 원본과 변환본, HLS 세그먼트를 지우고 라이브러리 색인에서 뺀다.
+   * 트랜잭션이 롤백되면 파일과 색인은 그대로 남는다.
+   */
   @Transactional
   public boolean deleteAudioFile(String videoId, User uploader) {
     AudioFile audioFile = audioFileRepository.findByVideoIdAndUploaderId(videoId, uploader.getId())
         .orElseThrow(() -> new ResourceNotFoundException("오디오 파일을 찾을 수 없습니다: " + videoId));
 
+    List<Path> variantFiles = audioTranscodeService.removeVariants(videoId);
     audioFileRepository.delete(audioFile);
+    deleteAfterCommit(videoId, audioFile.getFilePath(), variantFiles);
+    return true;
+  }
+
+  private void deleteAfterCommit(String videoId, String filePath, List<Path> variantFiles) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      deleteFiles(videoId, filePath, variantFiles);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        deleteFiles(videoId, filePath, variantFiles);
+      }
+    });
+  }
 
-    File file = getFileFromPath(audioFile.getFilePath());
-    return file.delete();
+  private void deleteFiles(String videoId, String filePath, List<Path> variantFiles) {
+    variantFiles.forEach(variantFile -> getFileFromPath(variantFile.toString()).delete());
+    audioHlsService.deleteSegments(videoId);
+    File file = getFileFromPath(filePath);
+    if (file.exists() && !file.delete()) {
+      log.warn("오디오 파일 삭제 실패: {}", filePath);
+      return;
+    }
+    audioLibraryIndex.remove(videoId);
   }
 
   @Transactional
@@ -0,0 +1,361 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.song.AudioQuality;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import faithcoderlab.newdpraise.domain.song.dto.HlsPlaylist;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 저장된 오디오를 HLS 재생 목록과 짧은 fMP4 세그먼트로 나눠 제공한다.
+ * 세그먼트는 품질별 재생 목록이 처음 요청될 때 ffmpeg로 만들고, 원본 파일 버전별 디렉토리에 캐시한다.
+ * ffmpeg는 요청 스레드가 아닌 동시 실행 수가 제한된 실행기에서 돌리고, 만드는 동안에는 PENDING을 돌려준다.
+ */
+@Slf4j
+@Service
+public class AudioHlsService {
+
+  public static final String PLAYLIST_CONTENT_TYPE = "application/vnd.apple.mpegurl";
+
+  private static final String PLAYLIST_NAME = "index.m3u8";
+  private static final String INIT_SEGMENT_NAME = "init.mp4";
+  private static final String SEGMENT_CONTENT_TYPE = "audio/mp4";
+  private static final Pattern VIDEO_ID_PATTERN = Pattern.compile("^[A-Za-z0-9_-]+$");
+  private static final Pattern VERSION_PATTERN = Pattern.compile("^[0-9a-f]+-[0-9a-f]+-[0-9a-f]+$");
+  private static final Pattern SEGMENT_PATTERN = Pattern.compile("^(init\\.mp4|seg\\d{5}\\.m4s)$");
+  private static final Pattern MAP_URI_PATTERN = Pattern.compile("URI=\"([^\"]+)\"");
+  private static final long FAILURE_RETRY_INTERVAL_MILLIS = 10 * 60 * 1000L;
+
+  private final AppConfig appConfig;
+  private final YoutubeDownloadService youtubeDownloadService;
+  private final AudioTranscodeService audioTranscodeService;
+  private final TaskExecutor segmentExecutor;
+  private final String ffmpegPath;
+  private final int segmentSeconds;
+  private final int originalBitrate;
+  private final int lowBitrate;
+  private final long timeoutSeconds;
+  private final int retryAfterSeconds;
+
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+  private final Map<String, FailedSegmentation> failures = new ConcurrentHashMap<>();
+
+  public AudioHlsService(
+      AppConfig appConfig,
+      YoutubeDownloadService youtubeDownloadService,
+      AudioTranscodeService audioTranscodeService,
+      @Qualifier("hlsExecutor") TaskExecutor segmentExecutor,
+      @Value("${transcode.ffmpeg-path:ffmpeg}") String ffmpegPath,
+      @Value("${hls.segment-seconds:6}") int segmentSeconds,
+      @Value("${hls.original-bitrate:160}") int originalBitrate,
+      @Value("${transcode.low-bitrate:64}") int lowBitrate,
+      @Value("${hls.timeout-seconds:120}") long timeoutSeconds,
+      @Value("${hls.retry-after-seconds:2}") int retryAfterSeconds
+  ) {
+    this.appConfig = appConfig;
+    this.youtubeDownloadService = youtubeDownloadService;
+    this.audioTranscodeService = audioTranscodeService;
+    this.segmentExecutor = segmentExecutor;
+    this.ffmpegPath = ffmpegPath;
+    this.segmentSeconds = segmentSeconds;
+    this.originalBitrate = originalBitrate;
+    this.lowBitrate = lowBitrate;
+    this.timeoutSeconds = timeoutSeconds;
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  /**
+   * 재생 목록이 PENDING일 때 클라이언트에 다시 요청하라고 알려줄 간격(초).
+   */
+  public int getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+
+  /**
+   * 사용 가능한 품질을 나열한 마스터 재생 목록. 저비트레이트 변환본이 없으면 원본만 담는다.
+   */
+  public String getMasterPlaylist(String videoId) {
+    StringBuilder playlist = new StringBuilder("#EXTM3U\n#EXT-X-VERSION:7\n");
+    appendVariant(playlist, AudioQuality.ORIGINAL, originalBitrate);
+    if (audioTranscodeService.findVariant(videoId, AudioQuality.LOW).isPresent()) {
+      appendVariant(playlist, AudioQuality.LOW, lowBitrate);
+    }
+    return playlist.toString();
+  }
+
+  /**
+   * 품질별 미디어 재생 목록을 돌려준다. 아직 세그먼트가 없으면 생성을 예약하고 PENDING을 돌려준다.
+   * 같은 버전의 생성이 실패했으면 재시도 간격이 지날 때까지 UNAVAILABLE을 돌려준다.
+   */
+  public HlsPlaylist getMediaPlaylist(String videoId, AudioQuality quality) {
+    if (!VIDEO_ID_PATTERN.matcher(videoId).matches()) {
+      return HlsPlaylist.unavailable();
+    }
+
+    Optional<AudioLibraryEntry> source = findSource(videoId, quality);
+    if (source.isEmpty()) {
+      return HlsPlaylist.unavailable();
+    }
+
+    return ensureSegmented(videoId, quality, source.get());
+  }
+
+  public Optional<AudioLibraryEntry> findSegment(String videoId, AudioQuality quality,
+      String version, String segmentName) {
+    if (!VIDEO_ID_PATTERN.matcher(videoId).matches()
+        || !VERSION_PATTERN.matcher(version).matches()
+        || !SEGMENT_PATTERN.matcher(segmentName).matches()) {
+      return Optional.empty();
+    }
+
+    Path file = getQualityDirectory(videoId, quality).resolve(version).resolve(segmentName);
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      return Optional.of(AudioLibraryEntry.builder()
+          .videoId(videoId)
+          .path(file)
+          .size(attributes.size())
+          .lastModified(attributes.lastModifiedTime().toMillis())
+          .mimeType(SEGMENT_CONTENT_TYPE)
+          .build());
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 원본이 정리되거나 지워질 때 곡의 모든 품질과 버전의 세그먼트를 지운다.
+   */
+  public void deleteSegments(String videoId) {
+    if (!VIDEO_ID_PATTERN.matcher(videoId).matches()) {
+      return;
+    }
+    deleteQuietly(Paths.get(appConfig.getFileUploadDir(), "hls", videoId));
+    for (AudioQuality quality : AudioQuality.values()) {
+      failures.remove(segmentKey(videoId, quality));
+    }
+  }
+
+  private Optional<AudioLibraryEntry> findSource(String videoId, AudioQuality quality) {
+    if (quality == AudioQuality.LOW) {
+      return audioTranscodeService.findVariant(videoId, quality);
+    }
+    return youtubeDownloadService.findAudioFile(videoId);
+  }
+
+  private HlsPlaylist ensureSegmented(String videoId, AudioQuality quality,
+      AudioLibraryEntry source) {
+    String version = source.getVersion();
+    Path playlist = getQualityDirectory(videoId, quality).resolve(version).resolve(PLAYLIST_NAME);
+    if (Files.isRegularFile(playlist)) {
+      return HlsPlaylist.ready(playlist);
+    }
+
+    String key = segmentKey(videoId, quality);
+    if (hasRecentFailure(key, version)) {
+      return HlsPlaylist.unavailable();
+    }
+
+    if (inFlight.add(key)) {
+      try {
+        segmentExecutor.execute(() -> {
+          try {
+            if (createSegments(videoId, quality, source)) {
+              failures.remove(key);
+            } else {
+              failures.put(key, new FailedSegmentation(version, System.currentTimeMillis()));
+            }
+          } finally {
+            inFlight.remove(key);
+          }
+        });
+      } catch (TaskRejectedException e) {
+        inFlight.remove(key);
+        log.debug("HLS 세그먼트 생성 대기열이 가득 찼습니다. 다음 요청에 다시 시도합니다: {}", key);
+      }
+    }
+
+    if (Files.isRegularFile(playlist)) {
+      return HlsPlaylist.ready(playlist);
+    }
+    return hasRecentFailure(key, version) ? HlsPlaylist.unavailable() : HlsPlaylist.pending();
+  }
+
+  private boolean createSegments(String videoId, AudioQuality quality, AudioLibraryEntry source) {
+    String version = source.getVersion();
+    Path qualityDir = getQualityDirectory(videoId, quality);
+    Path workDir = qualityDir.resolve(version + ".tmp");
+    try {
+      deleteRecursively(workDir);
+      Files.createDirectories(workDir);
+      if (!segment(source, workDir)) {
+        deleteRecursively(workDir);
+        return false;
+      }
+
+      rewritePlaylist(workDir.resolve(PLAYLIST_NAME), version);
+      Files.move(workDir, qualityDir.resolve(version), StandardCopyOption.ATOMIC_MOVE);
+      removeStaleVersions(qualityDir, version);
+      log.debug("HLS 세그먼트 생성 완료: {} ({})", videoId, quality.getValue());
+      return true;
+    } catch (IOException e) {
+      log.warn("HLS 세그먼트 생성 실패: {} ({})", videoId, quality.getValue(), e);
+      deleteQuietly(workDir);
+      return false;
+    }
+  }
+
+  private boolean hasRecentFailure(String key, String version) {
+    FailedSegmentation failure = failures.get(key);
+    return failure != null && failure.version.equals(version)
+        && System.currentTimeMillis() - failure.failedAt < FAILURE_RETRY_INTERVAL_MILLIS;
+  }
+
+  private String segmentKey(String videoId, AudioQuality quality) {
+    return videoId + ":" + quality.getValue();
+  }
+
+  private boolean segment(AudioLibraryEntry source, Path workDir) throws IOException {
+    List<String> command = new ArrayList<>(List.of(
+        ffmpegPath, "-nostdin", "-y", "-loglevel", "error",
+        "-i", source.getPath().toString(), "-vn"));
+    if ("audio/mp4".equals(source.getMimeType())) {
+      command.addAll(List.of("-c:a", "copy"));
+    } else {
+      command.addAll(List.of("-c:a", "aac", "-b:a", originalBitrate + "k"));
+    }
+    command.addAll(List.of(
+        "-f", "hls",
+        "-hls_time", String.valueOf(segmentSeconds),
+        "-hls_playlist_type", "vod",
+        "-hls_segment_type", "fmp4",
+        "-hls_fmp4_init_filename", INIT_SEGMENT_NAME,
+        "-hls_segment_filename", workDir.resolve("seg%05d.m4s").toString(),
+        workDir.resolve(PLAYLIST_NAME).toString()));
+
+    Process process;
+    try {
+      process = new ProcessBuilder(command)
+          .redirectErrorStream(true)
+          .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+          .start();
+    } catch (IOException e) {
+      log.warn("ffmpeg를 실행할 수 없어 HLS 세그먼트를 만들 수 없습니다: {}", e.getMessage());
+      return false;
+    }
+
+    try {
+      if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+        log.warn("HLS 세그먼트 생성 시간 초과: {}", source.getVideoId());
+        return false;
+      }
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+      return false;
+    }
+
+    if (process.exitValue() != 0) {
+      log.warn("HLS 세그먼트 생성 실패: {} (exit={})", source.getVideoId(), process.exitValue());
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * 세그먼트 URI 앞에 버전 디렉토리를 붙여, 재생 목록은 재검증하고 세그먼트는 변경 불가로 캐시할 수 있게 한다.
+   */
+  static String rewritePlaylist(String playlist, String version) {
+    StringBuilder rewritten = new StringBuilder();
+    for (String line : playlist.split("\\R")) {
+      if (line.isBlank()) {
+        continue;
+      }
+      if (line.startsWith("#EXT-X-MAP:")) {
+        line = MAP_URI_PATTERN.matcher(line).replaceFirst("URI=\"" + version + "/$1\"");
+      } else if (!line.startsWith("#")) {
+        line = version + "/" + line;
+      }
+      rewritten.append(line).append('\n');
+    }
+    return rewritten.toString();
+  }
+
+  private void rewritePlaylist(Path playlist, String version) throws IOException {
+    String content = Files.readString(playlist, StandardCharsets.UTF_8);
+    Files.writeString(playlist, rewritePlaylist(content, version), StandardCharsets.UTF_8);
+  }
+
+  private void appendVariant(StringBuilder playlist, AudioQuality quality, int bitrateKbps) {
+    playlist.append("#EXT-X-STREAM-INF:BANDWIDTH=").append(bitrateKbps * 1000L)
+        .append(",CODECS=\"mp4a.40.2\"\n")
+        .append(quality.getValue()).append('/').append(PLAYLIST_NAME).append('\n');
+  }
+
+  private Path getQualityDirectory(String videoId, AudioQuality quality) {
+    return Paths.get(appConfig.getFileUploadDir(), "hls", videoId, quality.getValue());
+  }
+
+  private void removeStaleVersions(Path qualityDir, String currentVersion) {
+    try (Stream<Path> versions = Files.list(qualityDir)) {
+      versions.filter(dir -> !dir.getFileName().toString().equals(currentVersion))
+          .filter(dir -> !dir.getFileName().toString().endsWith(".tmp"))
+          .forEach(this::deleteQuietly);
+    } catch (IOException e) {
+      log.debug("이전 HLS 세그먼트 정리 실패: {}", qualityDir, e);
+    }
+  }
+
+  private void deleteQuietly(Path directory) {
+    try {
+      deleteRecursively(directory);
+    } catch (IOException e) {
+      log.debug("HLS 세그먼트 정리 실패: {}", directory, e);
+    }
+  }
+
+  private void deleteRecursively(Path directory) throws IOException {
+    if (!Files.exists(directory)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  private static class FailedSegmentation {
+
+    private final String version;
+    private final long failedAt;
+
+    FailedSegmentation(String version, long failedAt) {
+      this.version = version;
+      this.failedAt = failedAt;
+    }
+  }
+}
@@ -0,0 +1,270 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 다운로드된 오디오 디렉토리를 videoId 기준으로 메모리에 색인한다.
+ * 시작 시 한 번 전체를 스캔하고, 이후에는 WatchService 이벤트와 주기적인 재조정으로 최신 상태를 유지한다.
+ */
+@Slf4j
+@Component
+public class AudioLibraryIndex {
+
+  private static final Map<String, String> MIME_TYPES = Map.of(
+      "m4a", "audio/mp4",
+      "mp4", "audio/mp4",
+      "mp3", "audio/mpeg",
+      "webm", "audio/webm",
+      "weba", "audio/webm",
+      "ogg", "audio/ogg",
+      "opus", "audio/ogg",
+      "wav", "audio/wav"
+  );
+
+  private final AppConfig appConfig;
+  private final boolean watchEnabled;
+  private final Map<String, AudioLibraryEntry> entries = new ConcurrentHashMap<>();
+
+  private WatchService watchService;
+  private Thread watchThread;
+
+  public AudioLibraryIndex(AppConfig appConfig,
+      @Value("${file.audio-index.watch-enabled:true}") boolean watchEnabled) {
+    this.appConfig = appConfig;
+    this.watchEnabled = watchEnabled;
+  }
+
+  @PostConstruct
+  public void init() {
+    Path directory = getAudioDirectory();
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      log.warn("오디오 디렉토리를 생성할 수 없습니다: {}", directory, e);
+      return;
+    }
+
+    reconcile();
+
+    if (watchEnabled) {
+      startWatcher(directory);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (watchService != null) {
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        log.debug("WatchService 종료 중 오류 발생", e);
+      }
+    }
+  }
+
+  public Path getAudioDirectory() {
+    return Paths.get(appConfig.getFileUploadDir(), "audio");
+  }
+
+  public Optional<AudioLibraryEntry> find(String videoId) {
+    if (!StringUtils.hasText(videoId)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(entries.get(videoId));
+  }
+
+  public boolean contains(String videoId) {
+    return StringUtils.hasText(videoId) && entries.containsKey(videoId);
+  }
+
+  public List<String> getFileNames() {
+    return entries.values().stream()
+        .map(AudioLibraryEntry::getFileName)
+        .sorted()
+        .toList();
+  }
+
+  public List<AudioLibraryEntry> getEntries() {
+    return List.copyOf(entries.values());
+  }
+
+  public long getTotalSize() {
+    return entries.values().stream().mapToLong(AudioLibraryEntry::getSize).sum();
+  }
+
+  /**
+   * 단일 파일의 색인 정보를 갱신한다. 파일이 사라졌다면 색인에서도 제거한다.
+   */
+  public void refresh(Path file) {
+    if (file == null) {
+      return;
+    }
+
+    Path absolute = file.toAbsolutePath();
+    String videoId = toVideoId(absolute);
+    if (videoId == null) {
+      return;
+    }
+
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(absolute, BasicFileAttributes.class);
+      if (attributes.isRegularFile()) {
+        entries.put(videoId, toEntry(videoId, absolute, attributes));
+      }
+    } catch (IOException e) {
+      entries.computeIfPresent(videoId,
+          (id, entry) -> entry.getPath().equals(absolute) ? null : entry);
+    }
+  }
+
+  public void remove(String videoId) {
+    if (StringUtils.hasText(videoId)) {
+      entries.remove(videoId);
+    }
+  }
+
+  /**
+   * 디렉토리를 다시 스캔해 WatchService가 놓친 변경(OVERFLOW, 외부 마운트 등)을 바로잡는다.
+   */
+  @Scheduled(
+      initialDelayString = "${file.audio-index.reconcile-interval:300000}",
+      fixedDelayString = "${file.audio-index.reconcile-interval:300000}"
+  )
+  public void reconcile() {
+    Path directory = getAudioDirectory();
+    if (!Files.isDirectory(directory)) {
+      entries.clear();
+      return;
+    }
+
+    Map<String, AudioLibraryEntry> scanned = new HashMap<>();
+    try (Stream<Path> files = Files.list(directory)) {
+      files.forEach(file -> {
+        String videoId = toVideoId(file);
+        if (videoId == null) {
+          return;
+        }
+        try {
+          BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+          if (attributes.isRegularFile()) {
+            scanned.merge(videoId, toEntry(videoId, file, attributes),
+                (existing, candidate) -> Stream.of(existing, candidate)
+                    .max(Comparator.comparingLong(AudioLibraryEntry::getLastModified))
+                    .get());
+          }
+        } catch (IOException e) {
+          log.debug("파일 속성을 읽을 수 없습니다: {}", file, e);
+        }
+      });
+    } catch (IOException e) {
+      log.warn("오디오 디렉토리 스캔 실패: {}", directory, e);
+      return;
+    }
+
+    // 스캔한 뒤에 refresh로 들어온 항목이 지워지지 않도록, 스캔에 없던 항목은 파일이 정말 없을 때만 뺀다.
+    entries.putAll(scanned);
+    entries.entrySet().removeIf(entry -> !scanned.containsKey(entry.getKey())
+        && !Files.exists(entry.getValue().getPath()));
+    log.debug("오디오 색인 재조정 완료: {}개 파일", entries.size());
+  }
+
+  private void startWatcher(Path directory) {
+    try {
+      watchService = directory.getFileSystem().newWatchService();
+      directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+    } catch (IOException e) {
+      log.warn("오디오 디렉토리 감시를 시작할 수 없습니다. 주기적 재조정만 사용합니다: {}", directory, e);
+      return;
+    }
+
+    watchThread = new Thread(() -> watchLoop(directory), "audio-library-watcher");
+    watchThread.setDaemon(true);
+    watchThread.start();
+  }
+
+  private void watchLoop(Path directory) {
+    while (true) {
+      WatchKey key;
+      try {
+        key = watchService.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ClosedWatchServiceException e) {
+        return;
+      }
+
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == OVERFLOW) {
+          reconcile();
+          continue;
+        }
+        refresh(directory.resolve((Path) event.context()));
+      }
+
+      if (!key.reset()) {
+        log.warn("오디오 디렉토리 감시가 중단되었습니다: {}", directory);
+        return;
+      }
+    }
+  }
+
+  private AudioLibraryEntry toEntry(String videoId, Path file, BasicFileAttributes attributes) {
+    return AudioLibraryEntry.builder()
+        .videoId(videoId)
+        .path(file.toAbsolutePath())
+        .size(attributes.size())
+        .lastModified(attributes.lastModifiedTime().toMillis())
+        .mimeType(resolveMimeType(file))
+        .build();
+  }
+
+  static String resolveMimeType(Path file) {
+    String fileName = file.getFileName().toString();
+    int dotIndex = fileName.lastIndexOf('.');
+    if (dotIndex < 0 || dotIndex == fileName.length() - 1) {
+      return "application/octet-stream";
+    }
+    String extension = fileName.substring(dotIndex + 1).toLowerCase();
+    return MIME_TYPES.getOrDefault(extension, "audio/" + extension);
+  }
+
+  static String toVideoId(Path file) {
+    Path fileName = file.getFileName();
+    if (fileName == null) {
+      return null;
+    }
+    String name = fileName.toString();
+    int dotIndex = name.indexOf('.');
+    return dotIndex > 0 ? name.substring(0, dotIndex) : null;
+  }
+}
@@ -0,0 +1,281 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.song.AudioFile;
+import faithcoderlab.newdpraise.domain.song.AudioFileRepository;
+import faithcoderlab.newdpraise.domain.song.CatalogSong;
+import faithcoderlab.newdpraise.domain.song.CatalogSongRepository;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.SongAnalysisService;
+import faithcoderlab.newdpraise.domain.song.SongAnalysisService.MusicAnalysisResult;
+import faithcoderlab.newdpraise.domain.song.SongChangedEvent;
+import faithcoderlab.newdpraise.domain.song.SongRepository;
+import faithcoderlab.newdpraise.domain.song.dto.AudioDownloadResult;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+/**
+ * 가까운 일정의 콘티가 참조하는 곡의 오디오를 미리 받아 두고 키/BPM 분석을 수행한다.
+ * 작업은 낮은 우선순위의 전용 스레드 풀에서 동시 실행 수를 제한해 처리한다.
+ * 분석 결과는 곡 카탈로그에도 채워, 같은 곡의 카탈로그에 값이 이미 있으면 음원을 다시 분석하지 않는다.
+ */
+@Slf4j
+@Service
+public class AudioPrefetchService {
+
+  private final ContiRepository contiRepository;
+  private final SongRepository songRepository;
+  private final CatalogSongRepository catalogSongRepository;
+  private final SongCatalogService songCatalogService;
+  private final AudioFileRepository audioFileRepository;
+  private final AudioLibraryIndex audioLibraryIndex;
+  private final YoutubeDownloadService youtubeDownloadService;
+  private final SongAnalysisService songAnalysisService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TaskExecutor prefetchExecutor;
+  private final boolean enabled;
+  private final int days;
+
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+  public AudioPrefetchService(
+      ContiRepository contiRepository,
+      SongRepository songRepository,
+      CatalogSongRepository catalogSongRepository,
+      SongCatalogService songCatalogService,
+      AudioFileRepository audioFileRepository,
+      AudioLibraryIndex audioLibraryIndex,
+      YoutubeDownloadService youtubeDownloadService,
+      SongAnalysisService songAnalysisService,
+      ApplicationEventPublisher eventPublisher,
+      @Qualifier("prefetchExecutor") TaskExecutor prefetchExecutor,
+      @Value("${prefetch.enabled:true}") boolean enabled,
+      @Value("${prefetch.days:3}") int days
+  ) {
+    this.contiRepository = contiRepository;
+    this.songRepository = songRepository;
+    this.catalogSongRepository = catalogSongRepository;
+    this.songCatalogService = songCatalogService;
+    this.audioFileRepository = audioFileRepository;
+    this.audioLibraryIndex = audioLibraryIndex;
+    this.youtubeDownloadService = youtubeDownloadService;
+    this.songAnalysisService = songAnalysisService;
+    this.eventPublisher = eventPublisher;
+    this.prefetchExecutor = prefetchExecutor;
+    this.enabled = enabled;
+    this.days = days;
+  }
+
+  @Transactional(readOnly = true)
+  @Scheduled(
+      initialDelayString = "${prefetch.interval:1800000}",
+      fixedDelayString = "${prefetch.interval:1800000}"
+  )
+  public void prefetchUpcoming() {
+    if (!enabled) {
+      return;
+    }
+
+    LocalDate today = LocalDate.now();
+    LocalDate until = today.plusDays(days);
+
+    Map<String, PrefetchTask> tasks = new LinkedHashMap<>();
+    for (Conti conti : contiRepository.findByScheduledAtGreaterThanEqualOrderByScheduledAtAsc(today)) {
+      if (conti.getScheduledAt().isAfter(until)) {
+        break;
+      }
+
+      for (Song song : conti.getSongs()) {
+        String videoId = youtubeDownloadService.extractVideoId(song.getYoutubeUrl());
+        if (videoId == null) {
+          continue;
+        }
+
+        boolean needsAudio = !audioLibraryIndex.contains(videoId);
+        boolean needsAnalysis = !StringUtils.hasText(song.getBpm());
+        if (!needsAudio && !needsAnalysis) {
+          continue;
+        }
+
+        PrefetchTask task = tasks.computeIfAbsent(videoId,
+            id -> new PrefetchTask(id, song.getYoutubeUrl(), conti.getCreator()));
+        if (needsAnalysis) {
+          task.songIds.add(song.getId());
+        }
+      }
+    }
+
+    int submitted = 0;
+    for (PrefetchTask task : tasks.values()) {
+      if (submit(task)) {
+        submitted++;
+      }
+    }
+
+    if (submitted > 0) {
+      log.info("다가오는 콘티 {}일치 프리페치 작업 {}건 등록", days, submitted);
+    }
+  }
+
+  /**
+   * 라이브러리에 없는 곡 하나의 다운로드를 백그라운드 대기열에 넣는다. 이미 진행 중이면 무시한다.
+   */
+  public boolean enqueueDownload(String videoId, String youtubeUrl, User requester) {
+    if (videoId == null || audioLibraryIndex.contains(videoId)) {
+      return false;
+    }
+    return submit(new PrefetchTask(videoId, youtubeUrl, requester));
+  }
+
+  private boolean submit(PrefetchTask task) {
+    if (!inFlight.add(task.videoId)) {
+      return false;
+    }
+
+    try {
+      prefetchExecutor.execute(() -> {
+        try {
+          prefetch(task);
+        } finally {
+          inFlight.remove(task.videoId);
+        }
+      });
+      return true;
+    } catch (TaskRejectedException e) {
+      inFlight.remove(task.videoId);
+      log.debug("프리페치 대기열이 가득 찼습니다. 다음 주기에 다시 시도합니다: {}", task.videoId);
+      return false;
+    }
+  }
+
+  void prefetch(PrefetchTask task) {
+    Optional<AudioLibraryEntry> entry = audioLibraryIndex.find(task.videoId);
+    if (entry.isEmpty()) {
+      entry = download(task);
+    }
+
+    if (entry.isEmpty() || task.songIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      List<Song> songs = songRepository.findAllById(task.songIds);
+      Map<Long, CatalogSong> catalog = catalogSongsOf(songs);
+      MusicAnalysisResult result = null;
+      for (Song song : songs) {
+        CatalogSong shared = song.getCatalogSong() != null
+            ? catalog.get(song.getCatalogSong().getId())
+            : null;
+        String bpm = shared != null ? shared.getBpm() : null;
+        String originalKey = shared != null ? shared.getOriginalKey() : null;
+        if (bpm == null || originalKey == null) {
+          if (result == null) {
+            result = songAnalysisService.analyzeFile(entry.get().getPath().toFile());
+          }
+          if (bpm == null && result.getBpm() > 0) {
+            bpm = String.valueOf(result.getBpm());
+          }
+          if (originalKey == null) {
+            originalKey = result.getKey();
+          }
+        }
+
+        if (!StringUtils.hasText(song.getBpm()) && bpm != null) {
+          song.setBpm(bpm);
+        }
+        if (!StringUtils.hasText(song.getOriginalKey())) {
+          song.setOriginalKey(originalKey);
+        }
+      }
+      songRepository.saveAll(songs);
+      // 곡 행만 고쳐져 콘티 잠금 버전이 그대로이므로, 캐시된 콘티 응답을 따로 무효화한다.
+      eventPublisher.publishEvent(new SongChangedEvent(
+          songs.stream().map(Song::getId).collect(Collectors.toSet())));
+
+      if (result != null && !catalog.isEmpty()) {
+        songCatalogService.fillAnalysis(catalog.keySet(), result.getKey(),
+            result.getBpm() > 0 ? String.valueOf(result.getBpm()) : null);
+      }
+    } catch (Exception e) {
+      log.warn("프리페치 분석 실패: {} - {}", task.videoId, e.getMessage());
+    }
+  }
+
+  private Map<Long, CatalogSong> catalogSongsOf(List<Song> songs) {
+    Set<Long> catalogSongIds = songs.stream()
+        .filter(song -> song.getCatalogSong() != null)
+        .map(song -> song.getCatalogSong().getId())
+        .collect(Collectors.toSet());
+    if (catalogSongIds.isEmpty()) {
+      return Map.of();
+    }
+    return catalogSongRepository.findAllById(catalogSongIds).stream()
+        .collect(Collectors.toMap(CatalogSong::getId, Function.identity()));
+  }
+
+  private Optional<AudioLibraryEntry> download(PrefetchTask task) {
+    try {
+      AudioDownloadResult result = youtubeDownloadService.downloadAudio(task.youtubeUrl);
+
+      Optional<AudioFile> existing = audioFileRepository.findByVideoId(task.videoId);
+      AudioFile audioFile = existing.orElseGet(() -> AudioFile.builder()
+          .videoId(result.getVideoId())
+          .title(result.getTitle())
+          .artist(result.getArtist())
+          .mimeType(result.getMimeType())
+          .extension(result.getExtension())
+          .bitrate(result.getBitrate())
+          .durationSeconds(result.getDurationSeconds())
+          .thumbnailUrl(result.getThumbnailUrl())
+          .originalUrl(task.youtubeUrl)
+          .uploader(task.requester)
+          .build());
+      audioFile.setFilePath(result.getFilePath());
+      audioFile.setFileName(result.getFileName());
+      audioFile.setFileSize(result.getFileSize());
+      audioFile.setEvictedAt(null);
+      audioFileRepository.save(audioFile);
+
+      log.debug("프리페치 다운로드 완료: {}", task.videoId);
+      return audioLibraryIndex.find(task.videoId);
+    } catch (Exception e) {
+      log.warn("프리페치 다운로드 실패: {} - {}", task.videoId, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  static class PrefetchTask {
+
+    private final String videoId;
+    private final String youtubeUrl;
+    private final User requester;
+    final List<Long> songIds = new ArrayList<>();
+
+    PrefetchTask(String videoId, String youtubeUrl, User requester) {
+      this.videoId = videoId;
+      this.youtubeUrl = youtubeUrl;
+      this.requester = requester;
+    }
+  }
+}
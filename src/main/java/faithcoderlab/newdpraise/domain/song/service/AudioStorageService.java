@@ -0,0 +1,225 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.song.AudioFile;
+import faithcoderlab.newdpraise.domain.song.AudioFileRepository;
+import faithcoderlab.newdpraise.domain.song.dto.AudioDownloadResult;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 오디오 라이브러리의 디스크 사용량을 예산 이하로 유지한다.
+ * 가장 오래 재생되지 않은 파일부터 변환본, HLS 세그먼트와 함께 지우되 DB 행은 남겨 두어 다음 재생 시 다시 받아올 수 있게 하고,
+ * 가까운 일정의 콘티가 참조하는 곡은 지우지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AudioStorageService {
+
+  private final AppConfig appConfig;
+  private final AudioLibraryIndex audioLibraryIndex;
+  private final AudioFileRepository audioFileRepository;
+  private final ContiRepository contiRepository;
+  private final YoutubeDownloadService youtubeDownloadService;
+  private final AudioTranscodeService audioTranscodeService;
+  private final AudioHlsService audioHlsService;
+
+  private final Map<String, LocalDateTime> pendingAccesses = new ConcurrentHashMap<>();
+  private final Map<String, Object> restoreLocks = new ConcurrentHashMap<>();
+
+  public void recordAccess(String videoId) {
+    pendingAccesses.put(videoId, LocalDateTime.now());
+  }
+
+  @Transactional
+  @Scheduled(fixedDelayString = "${file.audio-storage.access-flush-interval:60000}")
+  public void flushAccessTimes() {
+    for (String videoId : Set.copyOf(pendingAccesses.keySet())) {
+      LocalDateTime accessedAt = pendingAccesses.remove(videoId);
+      if (accessedAt != null) {
+        audioFileRepository.updateLastAccessedAt(videoId, accessedAt);
+      }
+    }
+  }
+
+  @Transactional
+  @Scheduled(
+      initialDelayString = "${file.audio-storage.eviction-interval:600000}",
+      fixedDelayString = "${file.audio-storage.eviction-interval:600000}"
+  )
+  public void enforceQuota() {
+    long budget = appConfig.getAudioStorageMaxBytes();
+    long usage = audioLibraryIndex.getTotalSize();
+    if (usage <= budget) {
+      return;
+    }
+
+    List<AudioLibraryEntry> entries = audioLibraryIndex.getEntries();
+    Map<String, AudioFile> audioFiles = audioFileRepository.findByVideoIdIn(
+            entries.stream().map(AudioLibraryEntry::getVideoId).toList())
+        .stream()
+        .collect(Collectors.toMap(AudioFile::getVideoId, Function.identity(), (a, b) -> a));
+    Set<String> pinned = getPinnedVideoIds();
+
+    Map<String, LocalDateTime> lastAccesses = new HashMap<>();
+    for (AudioLibraryEntry entry : entries) {
+      lastAccesses.put(entry.getVideoId(), resolveLastAccess(entry, audioFiles.get(entry.getVideoId())));
+    }
+
+    // DB 행이 없는 파일(/download로 받은 파일 등)은 다시 받아올 원본 URL이 없으므로 지우지 않는다.
+    List<AudioLibraryEntry> candidates = entries.stream()
+        .filter(entry -> audioFiles.containsKey(entry.getVideoId()))
+        .filter(entry -> !pinned.contains(entry.getVideoId()))
+        .sorted(Comparator.comparing(entry -> lastAccesses.get(entry.getVideoId())))
+        .toList();
+
+    List<AudioLibraryEntry> evicted = new ArrayList<>();
+    List<Path> variantFiles = new ArrayList<>();
+    for (AudioLibraryEntry entry : candidates) {
+      if (usage <= budget) {
+        break;
+      }
+
+      audioFiles.get(entry.getVideoId()).setEvictedAt(LocalDateTime.now());
+      variantFiles.addAll(audioTranscodeService.removeVariants(entry.getVideoId()));
+      evicted.add(entry);
+      usage -= entry.getSize();
+    }
+    deleteAfterCommit(evicted, variantFiles);
+
+    if (usage > budget) {
+      log.warn("고정된 곡과 다시 받을 수 없는 파일만으로 저장 공간 예산을 초과합니다: 사용량={}, 예산={}",
+          usage, budget);
+    }
+    log.info("오디오 파일 {}개 정리 완료: 사용량={}, 예산={}", evicted.size(), usage, budget);
+  }
+
+  /**
+   * 정리된 오디오 파일을 원본 URL에서 다시 받아온다. 같은 곡에 대한 동시 요청은 한 번만 다운로드한다.
+   * 다운로드하는 동안 DB 연결을 잡고 있지 않도록 트랜잭션 밖에서 받고, 행은 저장할 때만 짧게 갱신한다.
+   */
+  public Optional<AudioLibraryEntry> restoreEvicted(String videoId) {
+    Optional<AudioFile> found = audioFileRepository.findByVideoId(videoId);
+    if (found.isEmpty() || !found.get().isEvicted()) {
+      return Optional.empty();
+    }
+
+    Object lock = restoreLocks.computeIfAbsent(videoId, id -> new Object());
+    synchronized (lock) {
+      try {
+        Optional<AudioLibraryEntry> existing = audioLibraryIndex.find(videoId);
+        if (existing.isPresent()) {
+          return existing;
+        }
+
+        AudioFile audioFile = found.get();
+        log.info("정리된 오디오 파일 재다운로드: {}", videoId);
+        AudioDownloadResult result = youtubeDownloadService.downloadAudio(audioFile.getOriginalUrl());
+
+        audioFile.setFilePath(result.getFilePath());
+        audioFile.setFileName(result.getFileName());
+        audioFile.setFileSize(result.getFileSize());
+        audioFile.setEvictedAt(null);
+        audioFile.setLastAccessedAt(LocalDateTime.now());
+        audioFileRepository.save(audioFile);
+
+        audioLibraryIndex.refresh(Paths.get(result.getFilePath()));
+        return audioLibraryIndex.find(videoId);
+      } finally {
+        restoreLocks.remove(videoId);
+      }
+    }
+  }
+
+  /**
+   * 정리 표시가 커밋된 뒤에 원본과 변환본, HLS 세그먼트를 지운다. 트랜잭션이 롤백되면 파일과 색인은 그대로 남는다.
+   */
+  private void deleteAfterCommit(List<AudioLibraryEntry> evicted, List<Path> variantFiles) {
+    if (evicted.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      deleteFiles(evicted, variantFiles);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        deleteFiles(evicted, variantFiles);
+      }
+    });
+  }
+
+  private void deleteFiles(List<AudioLibraryEntry> evicted, List<Path> variantFiles) {
+    for (Path variantFile : variantFiles) {
+      try {
+        Files.deleteIfExists(variantFile);
+      } catch (IOException e) {
+        log.warn("변환본 파일 정리 실패: {}", variantFile, e);
+      }
+    }
+
+    for (AudioLibraryEntry entry : evicted) {
+      audioHlsService.deleteSegments(entry.getVideoId());
+      try {
+        Files.deleteIfExists(entry.getPath());
+      } catch (IOException e) {
+        log.warn("오디오 파일 정리 실패: {}", entry.getPath(), e);
+        continue;
+      }
+      audioLibraryIndex.remove(entry.getVideoId());
+    }
+  }
+
+  Set<String> getPinnedVideoIds() {
+    LocalDate today = LocalDate.now();
+    return contiRepository.findYoutubeUrlsScheduledBetween(
+            today, today.plusDays(appConfig.getAudioStoragePinDays()))
+        .stream()
+        .map(youtubeDownloadService::extractVideoId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
+  private LocalDateTime resolveLastAccess(AudioLibraryEntry entry, AudioFile audioFile) {
+    LocalDateTime pending = pendingAccesses.get(entry.getVideoId());
+    if (pending != null) {
+      return pending;
+    }
+
+    if (audioFile != null && audioFile.getLastAccessedAt() != null) {
+      return audioFile.getLastAccessedAt();
+    }
+
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getLastModified()),
+        ZoneId.systemDefault());
+  }
+}
@@ -0,0 +1,224 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 오디오 파일 본문을 HTTP 조건부 요청과 Range 규칙(RFC 9110)에 맞춰 전송한다.
+ * 본문은 FileChannel.transferTo로 복사 없이 내보내고, 톰캣이 sendfile을 지원하면 단일 구간은 sendfile에 맡긴다.
+ */
+@Slf4j
+@Service
+public class AudioStreamService {
+
+  static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private static final String CRLF = "\r\n";
+
+  public void stream(AudioLibraryEntry entry, HttpServletRequest request,
+      HttpServletResponse response) throws IOException {
+    String etag = "\"" + entry.getVersion() + "\"";
+    if (new ServletWebRequest(request, response).checkNotModified(etag, entry.getLastModified())) {
+      return;
+    }
+
+    try (FileChannel channel = FileChannel.open(entry.getPath(), StandardOpenOption.READ)) {
+      long length = channel.size();
+      response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+      String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+      if (!StringUtils.hasText(rangeHeader)
+          || !ifRangeMatches(request, etag, entry.getLastModified())) {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.getMimeType());
+        response.setContentLengthLong(length);
+        writeBody(entry, channel, 0, length, request, response);
+        return;
+      }
+
+      List<long[]> ranges = resolveRanges(rangeHeader, length);
+      if (ranges == null) {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.getMimeType());
+        response.setContentLengthLong(length);
+        writeBody(entry, channel, 0, length, request, response);
+        return;
+      }
+
+      if (ranges.isEmpty()) {
+        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+        response.setContentLength(0);
+        return;
+      }
+
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      if (ranges.size() == 1) {
+        long start = ranges.get(0)[0];
+        long end = ranges.get(0)[1];
+        response.setContentType(entry.getMimeType());
+        response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, length));
+        response.setContentLengthLong(end - start + 1);
+        writeBody(entry, channel, start, end - start + 1, request, response);
+        return;
+      }
+
+      writeMultipart(entry, channel, ranges, length, request, response);
+    }
+  }
+
+  /**
+   * Range 헤더를 [시작, 끝] 구간 목록으로 바꾼다. 형식이 잘못되었으면 null(전체 전송),
+   * 만족할 수 있는 구간이 하나도 없으면 빈 목록(416)을 돌려준다. 겹치거나 맞닿은 구간은 합친다.
+   */
+  static List<long[]> resolveRanges(String rangeHeader, long length) {
+    List<HttpRange> httpRanges;
+    try {
+      httpRanges = HttpRange.parseRanges(rangeHeader);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+
+    List<long[]> satisfiable = new ArrayList<>();
+    for (HttpRange httpRange : httpRanges) {
+      if (length == 0) {
+        break;
+      }
+      long start;
+      long end;
+      try {
+        start = httpRange.getRangeStart(length);
+        end = httpRange.getRangeEnd(length);
+      } catch (IllegalArgumentException e) {
+        continue;
+      }
+      if (start < length && start <= end) {
+        satisfiable.add(new long[]{start, end});
+      }
+    }
+
+    satisfiable.sort(Comparator.comparingLong(range -> range[0]));
+    List<long[]> merged = new ArrayList<>();
+    for (long[] range : satisfiable) {
+      long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+      if (last != null && range[0] <= last[1] + 1) {
+        last[1] = Math.max(last[1], range[1]);
+      } else {
+        merged.add(range);
+      }
+    }
+    return merged;
+  }
+
+  private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (!StringUtils.hasText(ifRange)) {
+      return true;
+    }
+
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      return ifRange.equals(etag);
+    }
+
+    try {
+      return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private void writeMultipart(AudioLibraryEntry entry, FileChannel channel, List<long[]> ranges,
+      long length, HttpServletRequest request, HttpServletResponse response) throws IOException {
+    String boundary = UUID.randomUUID().toString().replace("-", "");
+    List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+    long contentLength = 0;
+    for (long[] range : ranges) {
+      byte[] header = (CRLF + "--" + boundary + CRLF
+          + HttpHeaders.CONTENT_TYPE + ": " + entry.getMimeType() + CRLF
+          + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range[0], range[1], length) + CRLF
+          + CRLF).getBytes(StandardCharsets.US_ASCII);
+      partHeaders.add(header);
+      contentLength += header.length + range[1] - range[0] + 1;
+    }
+    byte[] closing = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+    contentLength += closing.length;
+
+    response.setContentType("multipart/byteranges; boundary=" + boundary);
+    response.setContentLengthLong(contentLength);
+    if (isHead(request)) {
+      return;
+    }
+
+    try {
+      WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+      for (int i = 0; i < ranges.size(); i++) {
+        long[] range = ranges.get(i);
+        response.getOutputStream().write(partHeaders.get(i));
+        transfer(channel, range[0], range[1] - range[0] + 1, target);
+      }
+      response.getOutputStream().write(closing);
+    } catch (IOException e) {
+      log.debug("클라이언트가 스트리밍을 중단했습니다: {}", entry.getVideoId());
+    }
+  }
+
+  private void writeBody(AudioLibraryEntry entry, FileChannel channel, long position, long count,
+      HttpServletRequest request, HttpServletResponse response) throws IOException {
+    if (isHead(request) || count == 0) {
+      return;
+    }
+
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, entry.getPath().toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, position);
+      request.setAttribute(SENDFILE_END, position + count);
+      return;
+    }
+
+    try {
+      transfer(channel, position, count, Channels.newChannel(response.getOutputStream()));
+    } catch (IOException e) {
+      log.debug("클라이언트가 스트리밍을 중단했습니다: {}", entry.getVideoId());
+    }
+  }
+
+  private void transfer(FileChannel channel, long position, long count, WritableByteChannel target)
+      throws IOException {
+    while (count > 0) {
+      long transferred = channel.transferTo(position, count, target);
+      if (transferred <= 0) {
+        break;
+      }
+      position += transferred;
+      count -= transferred;
+    }
+  }
+
+  private boolean isHead(HttpServletRequest request) {
+    return "HEAD".equalsIgnoreCase(request.getMethod());
+  }
+
+  private static String contentRange(long start, long end, long length) {
+    return "bytes " + start + "-" + end + "/" + length;
+  }
+}
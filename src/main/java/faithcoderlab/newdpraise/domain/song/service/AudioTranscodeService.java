@@ -0,0 +1,256 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.song.AudioFile;
+import faithcoderlab.newdpraise.domain.song.AudioFileRepository;
+import faithcoderlab.newdpraise.domain.song.AudioQuality;
+import faithcoderlab.newdpraise.domain.song.AudioVariant;
+import faithcoderlab.newdpraise.domain.song.AudioVariantRepository;
+import faithcoderlab.newdpraise.domain.song.AudioVariantStatus;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 모바일 재생용 저비트레이트 변환본을 백그라운드에서 만든다.
+ * 변환은 ffmpeg 프로세스로 수행하며, ffmpeg를 찾을 수 없으면 변환을 건너뛰고 원본을 그대로 제공한다.
+ */
+@Slf4j
+@Service
+public class AudioTranscodeService {
+
+  private static final String LOW_VARIANT_SUFFIX = "-low.m4a";
+  private static final String LOW_VARIANT_MIME_TYPE = "audio/mp4";
+
+  private final AppConfig appConfig;
+  private final AudioFileRepository audioFileRepository;
+  private final AudioVariantRepository audioVariantRepository;
+  private final AudioLibraryIndex audioLibraryIndex;
+  private final TaskExecutor transcodeExecutor;
+  private final boolean enabled;
+  private final String ffmpegPath;
+  private final int lowBitrate;
+  private final int batchSize;
+  private final long timeoutSeconds;
+
+  private final Map<String, AudioLibraryEntry> readyVariants = new ConcurrentHashMap<>();
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+  private volatile boolean ffmpegAvailable = true;
+
+  public AudioTranscodeService(
+      AppConfig appConfig,
+      AudioFileRepository audioFileRepository,
+      AudioVariantRepository audioVariantRepository,
+      AudioLibraryIndex audioLibraryIndex,
+      @Qualifier("prefetchExecutor") TaskExecutor transcodeExecutor,
+      @Value("${transcode.enabled:true}") boolean enabled,
+      @Value("${transcode.ffmpeg-path:ffmpeg}") String ffmpegPath,
+      @Value("${transcode.low-bitrate:64}") int lowBitrate,
+      @Value("${transcode.batch-size:20}") int batchSize,
+      @Value("${transcode.timeout-seconds:300}") long timeoutSeconds
+  ) {
+    this.appConfig = appConfig;
+    this.audioFileRepository = audioFileRepository;
+    this.audioVariantRepository = audioVariantRepository;
+    this.audioLibraryIndex = audioLibraryIndex;
+    this.transcodeExecutor = transcodeExecutor;
+    this.enabled = enabled;
+    this.ffmpegPath = ffmpegPath;
+    this.lowBitrate = lowBitrate;
+    this.batchSize = batchSize;
+    this.timeoutSeconds = timeoutSeconds;
+  }
+
+  @Scheduled(
+      initialDelayString = "${transcode.interval:600000}",
+      fixedDelayString = "${transcode.interval:600000}"
+  )
+  public void transcodePending() {
+    if (!enabled || !ffmpegAvailable) {
+      return;
+    }
+
+    List<AudioFile> pending = audioFileRepository.findWithoutVariant(
+        AudioQuality.LOW, PageRequest.of(0, batchSize));
+
+    for (AudioFile audioFile : pending) {
+      String videoId = audioFile.getVideoId();
+      if (!inFlight.add(videoId)) {
+        continue;
+      }
+
+      try {
+        transcodeExecutor.execute(() -> {
+          try {
+            transcode(audioFile);
+          } finally {
+            inFlight.remove(videoId);
+          }
+        });
+      } catch (TaskRejectedException e) {
+        inFlight.remove(videoId);
+        log.debug("변환 대기열이 가득 찼습니다. 다음 주기에 다시 시도합니다: {}", videoId);
+        return;
+      }
+    }
+  }
+
+  public Optional<AudioLibraryEntry> findVariant(String videoId, AudioQuality quality) {
+    if (quality != AudioQuality.LOW) {
+      return Optional.empty();
+    }
+
+    AudioLibraryEntry cached = readyVariants.get(videoId);
+    if (cached != null) {
+      if (Files.isRegularFile(cached.getPath())) {
+        return Optional.of(cached);
+      }
+      readyVariants.remove(videoId, cached);
+    }
+
+    Optional<AudioVariant> variant = audioVariantRepository
+        .findByVideoIdAndQualityAndStatus(videoId, quality, AudioVariantStatus.READY);
+    if (variant.isEmpty()) {
+      return Optional.empty();
+    }
+
+    AudioLibraryEntry entry = toEntry(videoId, variant.get());
+    if (!Files.isRegularFile(entry.getPath())) {
+      // 행을 지워 두면 다음 변환 주기에 다시 변환하고, 그동안은 원본을 제공한다.
+      log.info("변환본 파일이 없어 다시 변환합니다: {}", videoId);
+      audioVariantRepository.delete(variant.get());
+      return Optional.empty();
+    }
+
+    readyVariants.put(videoId, entry);
+    return Optional.of(entry);
+  }
+
+  /**
+   * 원본이 정리되거나 지워질 때 변환본 행과 캐시를 지우고, 지워야 할 변환본 파일 경로를 돌려준다.
+   * 파일은 부른 쪽이 행 삭제가 확정된 뒤에 지운다.
+   */
+  public List<Path> removeVariants(String videoId) {
+    List<AudioVariant> variants = audioVariantRepository.findByVideoId(videoId);
+    readyVariants.remove(videoId);
+    if (variants.isEmpty()) {
+      return List.of();
+    }
+
+    audioVariantRepository.deleteAll(variants);
+    return variants.stream()
+        .map(AudioVariant::getFilePath)
+        .filter(Objects::nonNull)
+        .map(Paths::get)
+        .toList();
+  }
+
+  void transcode(AudioFile audioFile) {
+    String videoId = audioFile.getVideoId();
+    Optional<AudioLibraryEntry> source = audioLibraryIndex.find(videoId);
+    if (source.isEmpty()) {
+      return;
+    }
+
+    Path variantDir = Paths.get(appConfig.getFileUploadDir(), "audio-variants");
+    Path target = variantDir.resolve(videoId + LOW_VARIANT_SUFFIX);
+    Path temp = variantDir.resolve(videoId + ".tmp" + LOW_VARIANT_SUFFIX);
+
+    Process process;
+    try {
+      Files.createDirectories(variantDir);
+      process = new ProcessBuilder(
+          ffmpegPath, "-nostdin", "-y", "-loglevel", "error",
+          "-i", source.get().getPath().toString(),
+          "-vn", "-c:a", "aac", "-b:a", lowBitrate + "k",
+          temp.toString())
+          .redirectErrorStream(true)
+          .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+          .start();
+    } catch (IOException e) {
+      ffmpegAvailable = false;
+      log.warn("ffmpeg를 실행할 수 없어 저비트레이트 변환을 중단합니다: {}", e.getMessage());
+      return;
+    }
+
+    boolean succeeded = false;
+    try {
+      if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+        log.warn("오디오 변환 시간 초과: {}", videoId);
+      } else if (process.exitValue() != 0) {
+        log.warn("오디오 변환 실패: {} (exit={})", videoId, process.exitValue());
+      } else {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        succeeded = true;
+      }
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+      return;
+    } catch (IOException e) {
+      log.warn("변환된 파일 저장 실패: {}", videoId, e);
+    } finally {
+      try {
+        Files.deleteIfExists(temp);
+      } catch (IOException ignored) {
+        // 임시 파일은 다음 변환 때 덮어쓴다.
+      }
+    }
+
+    AudioVariant variant = AudioVariant.builder()
+        .audioFile(audioFile)
+        .quality(AudioQuality.LOW)
+        .status(succeeded ? AudioVariantStatus.READY : AudioVariantStatus.FAILED)
+        .build();
+
+    if (succeeded) {
+      try {
+        variant.setFilePath(target.toAbsolutePath().toString());
+        variant.setFileSize(Files.size(target));
+        variant.setMimeType(LOW_VARIANT_MIME_TYPE);
+        variant.setBitrate(lowBitrate * 1000);
+      } catch (IOException e) {
+        variant.setStatus(AudioVariantStatus.FAILED);
+      }
+    }
+
+    AudioVariant saved = audioVariantRepository.save(variant);
+    if (saved.getStatus() == AudioVariantStatus.READY) {
+      readyVariants.put(videoId, toEntry(videoId, saved));
+      log.debug("저비트레이트 변환 완료: {}", videoId);
+    }
+  }
+
+  private AudioLibraryEntry toEntry(String videoId, AudioVariant variant) {
+    return AudioLibraryEntry.builder()
+        .videoId(videoId)
+        .path(Paths.get(variant.getFilePath()))
+        .size(variant.getFileSize())
+        .lastModified(variant.getUpdatedAt() != null
+            ? variant.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : 0L)
+        .mimeType(variant.getMimeType())
+        .build();
+  }
+}
@@ -0,0 +1,334 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import faithcoderlab.newdpraise.domain.song.CatalogSong;
+import faithcoderlab.newdpraise.domain.song.CatalogSongRepository;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.SongChangedEvent;
+import faithcoderlab.newdpraise.domain.song.SongRepository;
+import faithcoderlab.newdpraise.domain.song.SongTitleNormalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 곡 제목과 아티스트를 정규화해 같은 곡을 카탈로그 항목 하나로 모은다.
+ * 정규화 키별 카탈로그 항목을 메모리에 색인해 두어, 콘티를 저장할 때 곡마다 카탈로그 테이블을 검색하지 않는다.
+ * 트랜잭션 안에서 새로 만든 항목은 커밋된 뒤에 색인과 자동 완성 검색 색인에 반영한다.
+ * 새 항목은 별도 트랜잭션에서 만들어, 두 요청이 같은 곡을 동시에 추가해도 나중 요청이 먼저 만든 항목을 다시 읽어 쓴다.
+ */
+@Slf4j
+@Service
+public class SongCatalogService {
+
+  private static final int BACKFILL_PAGE_SIZE = 500;
+  private static final CatalogEntry AMBIGUOUS =
+      new CatalogEntry(-1L, null, null, null, null);
+
+  private final CatalogSongRepository catalogSongRepository;
+  private final SongRepository songRepository;
+  private final SongSearchIndex songSearchIndex;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate newTransactionTemplate;
+  private final boolean backfillEnabled;
+
+  private final Map<String, CatalogEntry> entriesByKey = new ConcurrentHashMap<>();
+  private final Map<String, CatalogEntry> entriesByTitle = new ConcurrentHashMap<>();
+
+  public SongCatalogService(
+      CatalogSongRepository catalogSongRepository,
+      SongRepository songRepository,
+      SongSearchIndex songSearchIndex,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${song-catalog.backfill-enabled:true}") boolean backfillEnabled
+  ) {
+    this.catalogSongRepository = catalogSongRepository;
+    this.songRepository = songRepository;
+    this.songSearchIndex = songSearchIndex;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.newTransactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.backfillEnabled = backfillEnabled;
+  }
+
+  /**
+   * 카탈로그 항목 하나에서 색인에 필요한 값만 담는다.
+   */
+  static final class CatalogEntry {
+
+    final long id;
+    final String title;
+    final String artist;
+    final String originalKey;
+    final String bpm;
+
+    CatalogEntry(long id, String title, String artist, String originalKey, String bpm) {
+      this.id = id;
+      this.title = title;
+      this.artist = artist;
+      this.originalKey = originalKey;
+      this.bpm = bpm;
+    }
+
+    static CatalogEntry of(CatalogSong catalogSong) {
+      return new CatalogEntry(catalogSong.getId(), catalogSong.getTitle(),
+          catalogSong.getArtist(), catalogSong.getOriginalKey(), catalogSong.getBpm());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    loadIndex();
+    if (backfillEnabled) {
+      backfill();
+    }
+  }
+
+  public void loadIndex() {
+    entriesByKey.clear();
+    entriesByTitle.clear();
+    songSearchIndex.clear();
+    for (CatalogSong catalogSong : catalogSongRepository.findAllOrderById()) {
+      index(catalogSong.getNormalizedTitle(), catalogSong.getNormalizedArtist(),
+          CatalogEntry.of(catalogSong));
+    }
+    log.info("곡 카탈로그 색인 완료: {}곡", entriesByKey.size());
+  }
+
+  /**
+   * 카탈로그에 연결되지 않은 기존 곡을 페이지 단위 트랜잭션으로 연결한다.
+   */
+  public void backfill() {
+    long afterId = 0L;
+    int linked = 0;
+    while (true) {
+      long from = afterId;
+      List<Song> songs = transactionTemplate.execute(status -> {
+        List<Song> page = songRepository.findUncataloguedAfter(from,
+            PageRequest.of(0, BACKFILL_PAGE_SIZE));
+        resolveAll(page);
+        List<Song> saved = songRepository.saveAll(page);
+        if (!saved.isEmpty()) {
+          // 카탈로그 값으로 키/BPM이 채워진 곡을 담은 콘티 응답이 캐시에 남지 않게 한다.
+          eventPublisher.publishEvent(new SongChangedEvent(
+              saved.stream().map(Song::getId).collect(Collectors.toSet())));
+        }
+        return saved;
+      });
+      if (songs == null || songs.isEmpty()) {
+        break;
+      }
+      linked += songs.size();
+      afterId = songs.get(songs.size() - 1).getId();
+    }
+
+    if (linked > 0) {
+      log.info("기존 곡 {}개를 카탈로그 {}곡에 연결", linked, entriesByKey.size());
+    }
+  }
+
+  /**
+   * 곡마다 같은 카탈로그 항목을 찾아 연결하고, 없으면 새로 만든다.
+   * 아직 저장되지 않은 새 곡만 빠진 원래 키와 BPM을 카탈로그와 서로 채운다. 사용자가 수정한 기존 곡은
+   * 연결만 바꿔, 일부러 지운 값이 되살아나거나 한 팀의 수정이 카탈로그를 거쳐 다른 팀에 퍼지지 않게 한다.
+   * 유튜브 링크는 팀마다 고르는 값이라 카탈로그로 공유하지 않는다.
+   */
+  @Transactional
+  public void resolveAll(List<Song> songs) {
+    Map<String, CatalogEntry> pending = pendingEntries();
+    for (Song song : songs) {
+      resolve(song, pending);
+    }
+  }
+
+  /**
+   * 음원 분석으로 얻은 원래 키와 BPM을 카탈로그 항목의 빈 값에만 채운다. 같은 곡이 다른 콘티에 새로 들어오면
+   * 다시 분석하지 않고 이 값을 받는다. 커밋되면 색인의 항목도 바꾼다.
+   */
+  @Transactional
+  public void fillAnalysis(Collection<Long> catalogSongIds, String originalKey, String bpm) {
+    Map<String, CatalogEntry> pending = pendingEntries();
+    for (CatalogSong catalogSong : catalogSongRepository.findAllById(catalogSongIds)) {
+      CatalogEntry entry = CatalogEntry.of(catalogSong);
+      CatalogEntry filled = fillCatalog(entry, textOrNull(originalKey), textOrNull(bpm));
+      if (filled != entry) {
+        pending.put(key(catalogSong.getNormalizedTitle(), catalogSong.getNormalizedArtist()),
+            filled);
+      }
+    }
+  }
+
+  public Optional<Long> findCatalogSongId(String title, String artist) {
+    String normalizedTitle = SongTitleNormalizer.normalize(title);
+    String normalizedArtist = SongTitleNormalizer.normalize(artist);
+    CatalogEntry entry = lookup(normalizedTitle, normalizedArtist, Map.of());
+    return Optional.ofNullable(entry).map(found -> found.id);
+  }
+
+  public int size() {
+    return entriesByKey.size();
+  }
+
+  private void resolve(Song song, Map<String, CatalogEntry> pending) {
+    if (!StringUtils.hasText(song.getTitle())) {
+      return;
+    }
+
+    String title = SongTitleNormalizer.normalize(song.getTitle());
+    String artist = SongTitleNormalizer.normalize(song.getArtist());
+    String key = key(title, artist);
+
+    CatalogEntry entry = lookup(title, artist, pending);
+    if (entry == null) {
+      CatalogSong catalogSong = catalogSongRepository
+          .findByNormalizedTitleAndNormalizedArtist(title, artist)
+          .orElseGet(() -> create(song, title, artist));
+      entry = CatalogEntry.of(catalogSong);
+      pending.put(key, entry);
+      song.setCatalogSong(catalogSong);
+    } else {
+      song.setCatalogSong(catalogSongRepository.getReferenceById(entry.id));
+    }
+
+    if (song.getId() != null) {
+      return;
+    }
+
+    CatalogEntry filled = fillCatalog(entry, textOrNull(song.getOriginalKey()),
+        textOrNull(song.getBpm()));
+    if (filled != entry) {
+      pending.put(key, filled);
+      entry = filled;
+    }
+    fillSong(song, entry);
+  }
+
+  /**
+   * 유일 제약에 걸리면 다른 요청이 그 사이 같은 항목을 만든 것이므로, 새 트랜잭션에서 커밋된 항목을 다시 읽는다.
+   * 바깥 트랜잭션은 시작 시점의 스냅숏을 보므로 그 안에서 다시 읽으면 찾지 못한다.
+   */
+  private CatalogSong create(Song song, String title, String artist) {
+    try {
+      return newTransactionTemplate.execute(status -> catalogSongRepository.save(
+          CatalogSong.builder()
+              .title(song.getTitle().trim())
+              .artist(StringUtils.hasText(song.getArtist()) ? song.getArtist().trim() : null)
+              .normalizedTitle(title)
+              .normalizedArtist(artist)
+              .originalKey(textOrNull(song.getOriginalKey()))
+              .bpm(textOrNull(song.getBpm()))
+              .build()));
+    } catch (DataIntegrityViolationException e) {
+      log.debug("다른 요청이 먼저 만든 카탈로그 항목을 다시 읽습니다: {}", song.getTitle());
+      return newTransactionTemplate.execute(status -> catalogSongRepository
+          .findByNormalizedTitleAndNormalizedArtist(title, artist)
+          .orElseThrow(() -> e));
+    }
+  }
+
+  private CatalogEntry lookup(String title, String artist, Map<String, CatalogEntry> pending) {
+    String key = key(title, artist);
+    CatalogEntry entry = pending.get(key);
+    if (entry == null) {
+      entry = entriesByKey.get(key);
+    }
+    if (entry == null && artist.isEmpty()) {
+      entry = entriesByTitle.get(title);
+    }
+    return entry == AMBIGUOUS ? null : entry;
+  }
+
+  private CatalogEntry fillCatalog(CatalogEntry entry, String knownKey, String knownBpm) {
+    String originalKey = entry.originalKey == null ? knownKey : null;
+    String bpm = entry.bpm == null ? knownBpm : null;
+    if (originalKey == null && bpm == null) {
+      return entry;
+    }
+
+    catalogSongRepository.fillMissing(entry.id, originalKey, bpm);
+    return new CatalogEntry(entry.id, entry.title, entry.artist,
+        entry.originalKey != null ? entry.originalKey : originalKey,
+        entry.bpm != null ? entry.bpm : bpm);
+  }
+
+  private void fillSong(Song song, CatalogEntry entry) {
+    if (!StringUtils.hasText(song.getOriginalKey()) && entry.originalKey != null) {
+      song.setOriginalKey(entry.originalKey);
+    }
+    if (!StringUtils.hasText(song.getBpm()) && entry.bpm != null) {
+      song.setBpm(entry.bpm);
+    }
+  }
+
+  /**
+   * 현재 트랜잭션에서 만들거나 바꾼 항목. 커밋되면 색인에 반영하고, 롤백되면 버린다.
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, CatalogEntry> pendingEntries() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return new HashMap<>();
+    }
+
+    Map<String, CatalogEntry> pending =
+        (Map<String, CatalogEntry>) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      Map<String, CatalogEntry> created = new HashMap<>();
+      TransactionSynchronizationManager.bindResource(this, created);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          created.forEach(SongCatalogService.this::indexByKey);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(SongCatalogService.this);
+        }
+      });
+      pending = created;
+    }
+    return pending;
+  }
+
+  private void indexByKey(String key, CatalogEntry entry) {
+    int separator = key.indexOf('\n');
+    index(key.substring(0, separator), key.substring(separator + 1), entry);
+  }
+
+  private void index(String title, String artist, CatalogEntry entry) {
+    entriesByKey.put(key(title, artist), entry);
+    entriesByTitle.merge(title, entry,
+        (existing, added) -> existing.id == added.id ? added : AMBIGUOUS);
+    songSearchIndex.put(entry.id, entry.title, entry.artist);
+  }
+
+  private static String key(String normalizedTitle, String normalizedArtist) {
+    return normalizedTitle + "\n" + normalizedArtist;
+  }
+
+  private static String textOrNull(String text) {
+    return StringUtils.hasText(text) ? text.trim() : null;
+  }
+}
@@ -0,0 +1,344 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import faithcoderlab.newdpraise.domain.song.SongTitleNormalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 곡 카탈로그의 제목과 아티스트를 메모리에 색인해 자동 완성에 쓴다.
+ * 정규화한 글자의 2글자 조각과 한글 초성 문자열의 2글자 조각을 역색인으로 두어,
+ * 오타가 섞인 검색어나 "ㅇㅅㄷ" 같은 초성 검색어도 테이블을 훑지 않고 찾는다.
+ */
+@Component
+public class SongSearchIndex {
+
+  private static final char[] CHOSUNG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+  private static final char HANGUL_FIRST = '가';
+  private static final char HANGUL_LAST = '힣';
+  private static final int HANGUL_CHOSUNG_PERIOD = 21 * 28;
+  private static final char JAMO_CONSONANT_FIRST = 'ㄱ';
+  private static final char JAMO_CONSONANT_LAST = 'ㅎ';
+
+  private static final double MIN_GRAM_OVERLAP = 0.5;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Document> documents = new HashMap<>();
+  private final Map<String, Set<Long>> gramPostings = new HashMap<>();
+  private final Map<String, Set<Long>> chosungPostings = new HashMap<>();
+
+  public enum MatchType {
+    EXACT, PREFIX, CONTAINS, CHOSUNG, FUZZY
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Match {
+
+    private final Long catalogSongId;
+    private final String title;
+    private final String artist;
+    private final MatchType matchType;
+    private final double score;
+  }
+
+  private static final class Document {
+
+    final long id;
+    final String title;
+    final String artist;
+    final String normalizedTitle;
+    final String normalizedArtist;
+    final String titleChosung;
+    final String artistChosung;
+    final Set<String> titleGrams;
+    final Set<String> artistGrams;
+
+    Document(long id, String title, String artist) {
+      this.id = id;
+      this.title = title;
+      this.artist = artist;
+      this.normalizedTitle = SongTitleNormalizer.normalize(title);
+      this.normalizedArtist = SongTitleNormalizer.normalize(artist);
+      this.titleChosung = chosung(normalizedTitle);
+      this.artistChosung = chosung(normalizedArtist);
+      this.titleGrams = grams(normalizedTitle);
+      this.artistGrams = grams(normalizedArtist);
+    }
+  }
+
+  /**
+   * 곡 하나를 색인에 넣는다. 같은 ID가 있으면 바꾼다.
+   */
+  public void put(long catalogSongId, String title, String artist) {
+    Document document = new Document(catalogSongId, title, artist);
+    lock.writeLock().lock();
+    try {
+      Document previous = documents.put(catalogSongId, document);
+      if (previous != null) {
+        unindex(previous);
+      }
+      addPostings(gramPostings, document.titleGrams, catalogSongId);
+      addPostings(gramPostings, document.artistGrams, catalogSongId);
+      addPostings(chosungPostings, grams(document.titleChosung), catalogSongId);
+      addPostings(chosungPostings, grams(document.artistChosung), catalogSongId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long catalogSongId) {
+    lock.writeLock().lock();
+    try {
+      Document previous = documents.remove(catalogSongId);
+      if (previous != null) {
+        unindex(previous);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      documents.clear();
+      gramPostings.clear();
+      chosungPostings.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어와 맞는 곡을 점수 순으로 최대 {@code limit}개 돌려준다.
+   * 초성만으로 된 검색어는 초성 문자열에서 찾고, 그 밖에는 제목 시작, 포함, 2글자 조각 겹침 순으로 점수를 매긴다.
+   */
+  public List<Match> search(String query, int limit) {
+    String normalized = SongTitleNormalizer.normalize(query);
+    if (normalized.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    // NFKC 정규화는 초성(호환 자모)을 조합용 자모로 바꾸므로 초성 검색어는 원문에서 가려낸다.
+    String chosungQuery = toChosungQuery(query);
+
+    lock.readLock().lock();
+    try {
+      List<Match> matches = chosungQuery != null
+          ? searchChosung(chosungQuery)
+          : searchText(normalized);
+      matches.sort(Comparator.comparingDouble(Match::getScore).reversed()
+          .thenComparing(match -> match.getTitle().length())
+          .thenComparing(Match::getCatalogSongId));
+      return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  static String chosung(String text) {
+    StringBuilder chosung = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+        chosung.append(CHOSUNG[(c - HANGUL_FIRST) / HANGUL_CHOSUNG_PERIOD]);
+      } else {
+        chosung.append(c);
+      }
+    }
+    return chosung.toString();
+  }
+
+  private List<Match> searchChosung(String query) {
+    Set<Long> candidates = query.length() == 1
+        ? documents.keySet()
+        : intersectPostings(chosungPostings, grams(query));
+
+    List<Match> matches = new ArrayList<>();
+    for (Long id : candidates) {
+      Document document = documents.get(id);
+      double score = containmentScore(document.titleChosung, query);
+      double artistScore = containmentScore(document.artistChosung, query) * 0.5;
+      score = Math.max(score, artistScore);
+      if (score > 0) {
+        matches.add(new Match(document.id, document.title, document.artist, MatchType.CHOSUNG,
+            score));
+      }
+    }
+    return matches;
+  }
+
+  private List<Match> searchText(String query) {
+    if (query.length() == 1) {
+      List<Match> matches = new ArrayList<>();
+      for (Document document : documents.values()) {
+        if (document.normalizedTitle.startsWith(query)) {
+          matches.add(toMatch(document, query, 1.0));
+        }
+      }
+      return matches;
+    }
+
+    Set<String> queryGrams = grams(query);
+    Map<Long, Integer> hits = new HashMap<>();
+    for (String gram : queryGrams) {
+      Set<Long> posting = gramPostings.get(gram);
+      if (posting != null) {
+        for (Long id : posting) {
+          hits.merge(id, 1, Integer::sum);
+        }
+      }
+    }
+
+    List<Match> matches = new ArrayList<>();
+    int minHits = (int) Math.ceil(queryGrams.size() * MIN_GRAM_OVERLAP);
+    for (Map.Entry<Long, Integer> hit : hits.entrySet()) {
+      if (hit.getValue() < minHits) {
+        continue;
+      }
+      Document document = documents.get(hit.getKey());
+      double overlap = Math.max(
+          overlap(queryGrams, document.titleGrams),
+          overlap(queryGrams, document.artistGrams) * 0.5);
+      if (overlap >= MIN_GRAM_OVERLAP) {
+        matches.add(toMatch(document, query, overlap));
+      }
+    }
+    return matches;
+  }
+
+  private Match toMatch(Document document, String query, double overlap) {
+    MatchType matchType;
+    double score;
+    if (document.normalizedTitle.equals(query)) {
+      matchType = MatchType.EXACT;
+      score = 4.0;
+    } else if (document.normalizedTitle.startsWith(query)) {
+      matchType = MatchType.PREFIX;
+      score = 2.0 + overlap;
+    } else if (document.normalizedTitle.contains(query)) {
+      matchType = MatchType.CONTAINS;
+      score = 1.5 + overlap;
+    } else {
+      matchType = MatchType.FUZZY;
+      score = overlap;
+    }
+    return new Match(document.id, document.title, document.artist, matchType, score);
+  }
+
+  /**
+   * 시작 위치가 앞일수록 높은 점수. 포함하지 않으면 0.
+   */
+  private static double containmentScore(String text, String query) {
+    int index = text.indexOf(query);
+    if (index < 0) {
+      return 0;
+    }
+    return index == 0 ? 2.0 : 1.0 + 1.0 / (index + 1);
+  }
+
+  private static double overlap(Set<String> queryGrams, Set<String> grams) {
+    if (grams.isEmpty()) {
+      return 0;
+    }
+    int shared = 0;
+    for (String gram : queryGrams) {
+      if (grams.contains(gram)) {
+        shared++;
+      }
+    }
+    return (double) shared / queryGrams.size();
+  }
+
+  private Set<Long> intersectPostings(Map<String, Set<Long>> postings, Set<String> grams) {
+    Set<Long> result = null;
+    for (String gram : grams) {
+      Set<Long> posting = postings.get(gram);
+      if (posting == null) {
+        return Set.of();
+      }
+      if (result == null) {
+        result = new HashSet<>(posting);
+      } else {
+        result.retainAll(posting);
+      }
+    }
+    return result != null ? result : Set.of();
+  }
+
+  private void unindex(Document document) {
+    removePostings(gramPostings, document.titleGrams, document.id);
+    removePostings(gramPostings, document.artistGrams, document.id);
+    removePostings(chosungPostings, grams(document.titleChosung), document.id);
+    removePostings(chosungPostings, grams(document.artistChosung), document.id);
+  }
+
+  private static void addPostings(Map<String, Set<Long>> postings, Set<String> grams, long id) {
+    for (String gram : grams) {
+      postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+    }
+  }
+
+  private static void removePostings(Map<String, Set<Long>> postings, Set<String> grams,
+      long id) {
+    for (String gram : grams) {
+      Set<Long> posting = postings.get(gram);
+      if (posting != null) {
+        posting.remove(id);
+        if (posting.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    }
+  }
+
+  private static Set<String> grams(String text) {
+    if (text.length() < 2) {
+      return text.isEmpty() ? Set.of() : Set.of(text);
+    }
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + 2 <= text.length(); i++) {
+      grams.add(text.substring(i, i + 2));
+    }
+    return grams;
+  }
+
+  /**
+   * 공백을 뺀 검색어가 초성으로만 되어 있으면 그 초성 문자열, 아니면 null.
+   */
+  private static String toChosungQuery(String query) {
+    StringBuilder chosung = new StringBuilder(query.length());
+    for (int i = 0; i < query.length(); i++) {
+      char c = query.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (c < JAMO_CONSONANT_FIRST || c > JAMO_CONSONANT_LAST) {
+        return null;
+      }
+      chosung.append(c);
+    }
+    return chosung.isEmpty() ? null : chosung.toString();
+  }
+}
@@ -0,0 +1,287 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.song.CatalogSong;
+import faithcoderlab.newdpraise.domain.song.CatalogSongRepository;
+import faithcoderlab.newdpraise.domain.song.SongPlay;
+import faithcoderlab.newdpraise.domain.song.SongUsageContribution;
+import faithcoderlab.newdpraise.domain.song.SongUsageContributionRepository;
+import faithcoderlab.newdpraise.domain.song.SongUsageStat;
+import faithcoderlab.newdpraise.domain.song.SongUsageStatRepository;
+import faithcoderlab.newdpraise.domain.song.dto.SongUsageDetail;
+import faithcoderlab.newdpraise.domain.song.dto.SongUsageOverview;
+import faithcoderlab.newdpraise.domain.song.dto.SongUsageSummary;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+/**
+ * 확정되거나 보관된 콘티의 곡을 (팀, 곡, 월, 키, 템포)마다 미리 모아 두고, 대시보드는 모아 둔 행만 읽는다.
+ * 콘티가 바뀌면 그 콘티가 들어 있던 달과 지금 들어갈 달만 다시 모으고, 밤마다 팀 전체를 다시 모아 어긋난 행을 바로잡는다.
+ * 팀은 따로 없으므로 콘티를 만든 인도자로 구분한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SongUsageService {
+
+  public static final Set<ContiStatus> PLAYED_STATUSES =
+      EnumSet.of(ContiStatus.FINALIZED, ContiStatus.ARCHIVED);
+
+  private static final Pattern BPM_PATTERN = Pattern.compile("\\d{2,3}");
+  private static final int TEMPO_BUCKET_SIZE = 10;
+
+  private final SongUsageStatRepository songUsageStatRepository;
+  private final SongUsageContributionRepository songUsageContributionRepository;
+  private final ContiRepository contiRepository;
+  private final CatalogSongRepository catalogSongRepository;
+
+  /**
+   * 바뀐 콘티들이 예전에 들어 있던 달과 지금 들어갈 달의 통계를 다시 모은다. 같은 달은 한 번만 모은다.
+   * 예정일이 없는 콘티는 들어갈 달이 없으므로 지워진 콘티처럼 예전 자리만 정리한다.
+   */
+  @Transactional
+  public void refresh(Collection<Long> contiIds) {
+    Map<Long, SongUsageContribution> previous = songUsageContributionRepository
+        .findAllById(contiIds).stream()
+        .collect(Collectors.toMap(SongUsageContribution::getContiId, Function.identity()));
+    Map<Long, Conti> current = contiRepository.findAllById(contiIds).stream()
+        .collect(Collectors.toMap(Conti::getId, Function.identity()));
+
+    Map<Long, Set<LocalDate>> monthsByTeam = new HashMap<>();
+    for (Long contiId : contiIds) {
+      SongUsageContribution contribution = previous.get(contiId);
+      if (contribution != null) {
+        monthsByTeam.computeIfAbsent(contribution.getTeamId(), id -> new TreeSet<>())
+            .add(contribution.getUsageMonth());
+      }
+
+      Conti conti = current.get(contiId);
+      if (conti == null || conti.getCreator() == null || conti.getScheduledAt() == null) {
+        if (contribution != null) {
+          songUsageContributionRepository.delete(contribution);
+        }
+        continue;
+      }
+
+      Long teamId = conti.getCreator().getId();
+      LocalDate month = monthOf(conti.getScheduledAt());
+      monthsByTeam.computeIfAbsent(teamId, id -> new TreeSet<>()).add(month);
+      if (contribution == null) {
+        songUsageContributionRepository.save(SongUsageContribution.builder()
+            .contiId(contiId)
+            .teamId(teamId)
+            .usageMonth(month)
+            .build());
+      } else {
+        contribution.setTeamId(teamId);
+        contribution.setUsageMonth(month);
+      }
+    }
+
+    monthsByTeam.forEach((teamId, months) -> months.forEach(month -> {
+      List<SongPlay> plays = contiRepository.findSongPlays(teamId, PLAYED_STATUSES, month,
+          month.plusMonths(1));
+      songUsageStatRepository.deleteByTeamIdAndUsageMonth(teamId, month);
+      songUsageStatRepository.saveAll(aggregate(teamId, plays));
+    }));
+  }
+
+  /**
+   * 팀의 모든 콘티에서 통계를 처음부터 다시 모아 저장된 행과 비교하고, 다르면 바꿔 쓴다.
+   *
+   * @return 저장된 통계가 어긋나 있었으면 true
+   */
+  @Transactional
+  public boolean reconcileTeam(Long teamId) {
+    List<SongUsageStat> expected = aggregate(teamId,
+        contiRepository.findSongPlays(teamId, PLAYED_STATUSES, null, null));
+    List<SongUsageStat> actual = songUsageStatRepository.findByTeamId(teamId);
+    boolean drifted = !signaturesOf(expected).equals(signaturesOf(actual));
+    if (drifted) {
+      songUsageStatRepository.deleteByTeamId(teamId);
+      songUsageStatRepository.saveAll(expected);
+    }
+
+    Map<Long, SongUsageContribution> contributions = songUsageContributionRepository
+        .findByTeamId(teamId).stream()
+        .collect(Collectors.toMap(SongUsageContribution::getContiId, Function.identity()));
+    for (SongUsageContribution found : contiRepository.findUsageContributions(teamId)) {
+      if (found.getUsageMonth() == null) {
+        continue;
+      }
+      LocalDate month = monthOf(found.getUsageMonth());
+      SongUsageContribution contribution = contributions.remove(found.getContiId());
+      if (contribution == null) {
+        found.setUsageMonth(month);
+        songUsageContributionRepository.save(found);
+      } else {
+        contribution.setUsageMonth(month);
+      }
+    }
+    songUsageContributionRepository.deleteAll(contributions.values());
+
+    return drifted;
+  }
+
+  public Set<Long> getTeamIds() {
+    Set<Long> teamIds = new TreeSet<>(contiRepository.findCreatorIds());
+    teamIds.addAll(songUsageStatRepository.findTeamIds());
+    teamIds.addAll(songUsageContributionRepository.findTeamIds());
+    return teamIds;
+  }
+
+  public List<SongUsageSummary> getTopSongs(User user, int year, int limit) {
+    return songUsageStatRepository.findTopSongs(user.getId(), LocalDate.of(year, 1, 1),
+        LocalDate.of(year + 1, 1, 1), PageRequest.of(0, limit));
+  }
+
+  public SongUsageDetail getSongUsage(User user, Long catalogSongId, int year) {
+    CatalogSong catalogSong = catalogSongRepository.findById(catalogSongId)
+        .orElseThrow(() -> new ResourceNotFoundException("곡을 찾을 수 없습니다. ID: " + catalogSongId));
+
+    List<SongUsageStat> stats = songUsageStatRepository.findByTeamIdAndCatalogSongId(
+        user.getId(), catalogSongId);
+    LocalDate lastPlayedOn = stats.stream()
+        .map(SongUsageStat::getLastPlayedOn)
+        .max(Comparator.naturalOrder())
+        .orElse(null);
+    List<SongUsageStat> yearStats = stats.stream()
+        .filter(stat -> stat.getUsageMonth().getYear() == year)
+        .toList();
+
+    return SongUsageDetail.builder()
+        .catalogSongId(catalogSong.getId())
+        .title(catalogSong.getTitle())
+        .artist(catalogSong.getArtist())
+        .year(year)
+        .playCount(yearStats.stream().mapToLong(SongUsageStat::getPlayCount).sum())
+        .lastPlayedOn(lastPlayedOn)
+        .keyCounts(keyCountsOf(yearStats))
+        .tempoCounts(tempoCountsOf(yearStats))
+        .monthlyCounts(monthlyCountsOf(yearStats))
+        .build();
+  }
+
+  public SongUsageOverview getOverview(User user, int year) {
+    List<SongUsageStat> stats = songUsageStatRepository
+        .findByTeamIdAndUsageMonthGreaterThanEqualAndUsageMonthLessThan(user.getId(),
+            LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1));
+
+    return SongUsageOverview.builder()
+        .year(year)
+        .playCount(stats.stream().mapToLong(SongUsageStat::getPlayCount).sum())
+        .songCount(stats.stream().map(SongUsageStat::getCatalogSongId).distinct().count())
+        .keyCounts(keyCountsOf(stats))
+        .tempoCounts(tempoCountsOf(stats))
+        .monthlyCounts(monthlyCountsOf(stats))
+        .build();
+  }
+
+  static List<SongUsageStat> aggregate(Long teamId, List<SongPlay> plays) {
+    Map<List<Object>, SongUsageStat> stats = new LinkedHashMap<>();
+    for (SongPlay play : plays) {
+      if (play.getPlayedOn() == null) {
+        continue;
+      }
+      LocalDate month = monthOf(play.getPlayedOn());
+      String songKey = normalizeKey(play.getSongKey());
+      Integer tempoBucket = tempoBucketOf(play.getBpm());
+      SongUsageStat stat = stats.computeIfAbsent(
+          Arrays.asList(play.getCatalogSongId(), month, songKey, tempoBucket),
+          key -> SongUsageStat.builder()
+              .teamId(teamId)
+              .catalogSongId(play.getCatalogSongId())
+              .usageMonth(month)
+              .songKey(songKey)
+              .tempoBucket(tempoBucket)
+              .lastPlayedOn(play.getPlayedOn())
+              .build());
+      stat.setPlayCount(stat.getPlayCount() + 1);
+      if (play.getPlayedOn().isAfter(stat.getLastPlayedOn())) {
+        stat.setLastPlayedOn(play.getPlayedOn());
+      }
+    }
+    return new ArrayList<>(stats.values());
+  }
+
+  static Integer tempoBucketOf(String bpm) {
+    if (!StringUtils.hasText(bpm)) {
+      return null;
+    }
+    Matcher matcher = BPM_PATTERN.matcher(bpm);
+    if (!matcher.find()) {
+      return null;
+    }
+    return Integer.parseInt(matcher.group()) / TEMPO_BUCKET_SIZE * TEMPO_BUCKET_SIZE;
+  }
+
+  private static String normalizeKey(String songKey) {
+    return StringUtils.hasText(songKey) ? songKey.trim() : null;
+  }
+
+  private static LocalDate monthOf(LocalDate date) {
+    return date.withDayOfMonth(1);
+  }
+
+  private static Set<List<Object>> signaturesOf(List<SongUsageStat> stats) {
+    Set<List<Object>> signatures = new HashSet<>();
+    for (SongUsageStat stat : stats) {
+      signatures.add(Arrays.asList(stat.getCatalogSongId(), stat.getUsageMonth(),
+          stat.getSongKey(), stat.getTempoBucket(), stat.getPlayCount(), stat.getLastPlayedOn()));
+    }
+    return signatures;
+  }
+
+  /**
+   * 키를 모르는 곡은 키 분포에서 뺀다. 많이 연주한 키부터 담는다.
+   */
+  private static Map<String, Long> keyCountsOf(List<SongUsageStat> stats) {
+    Map<String, Long> counts = stats.stream()
+        .filter(stat -> stat.getSongKey() != null)
+        .collect(Collectors.groupingBy(SongUsageStat::getSongKey,
+            Collectors.summingLong(SongUsageStat::getPlayCount)));
+    return counts.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey()))
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, Long::sum,
+            LinkedHashMap::new));
+  }
+
+  private static Map<Integer, Long> tempoCountsOf(List<SongUsageStat> stats) {
+    return stats.stream()
+        .filter(stat -> stat.getTempoBucket() != null)
+        .collect(Collectors.groupingBy(SongUsageStat::getTempoBucket, TreeMap::new,
+            Collectors.summingLong(SongUsageStat::getPlayCount)));
+  }
+
+  private static Map<Integer, Long> monthlyCountsOf(List<SongUsageStat> stats) {
+    return stats.stream()
+        .collect(Collectors.groupingBy(stat -> stat.getUsageMonth().getMonthValue(),
+            TreeMap::new, Collectors.summingLong(SongUsageStat::getPlayCount)));
+  }
+}
@@ -0,0 +1,66 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import faithcoderlab.newdpraise.domain.conti.ContiChangedEvent;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 콘티 변경을 모아 두었다가 주기적으로 한 번에 곡 사용 통계에 반영하고, 밤마다 전체를 다시 모아 어긋난 통계를 바로잡는다.
+ * 협업 편집처럼 같은 콘티가 잇달아 저장되어도 한 번만 다시 모은다. 갱신에 실패한 변경도 밤의 재집계가 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongUsageUpdater {
+
+  private final SongUsageService songUsageService;
+
+  private final Set<Long> pendingContiIds = ConcurrentHashMap.newKeySet();
+  private final Object updateLock = new Object();
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onContiChanged(ContiChangedEvent event) {
+    pendingContiIds.add(event.getContiId());
+  }
+
+  @Scheduled(fixedDelayString = "${song-usage.refresh-interval:5000}")
+  public void refreshPending() {
+    if (pendingContiIds.isEmpty()) {
+      return;
+    }
+
+    synchronized (updateLock) {
+      List<Long> contiIds = List.copyOf(pendingContiIds);
+      pendingContiIds.removeAll(contiIds);
+      try {
+        songUsageService.refresh(contiIds);
+      } catch (RuntimeException e) {
+        log.warn("곡 사용 통계 갱신에 실패했습니다. 콘티 {}개: {}", contiIds.size(), e.getMessage());
+      }
+    }
+  }
+
+  @Scheduled(cron = "${song-usage.reconcile-cron:0 30 3 * * *}")
+  public void reconcile() {
+    synchronized (updateLock) {
+      Set<Long> teamIds = songUsageService.getTeamIds();
+      int drifted = 0;
+      for (Long teamId : teamIds) {
+        try {
+          if (songUsageService.reconcileTeam(teamId)) {
+            drifted++;
+          }
+        } catch (RuntimeException e) {
+          log.warn("곡 사용 통계 재집계에 실패했습니다. 팀: {}, {}", teamId, e.getMessage());
+        }
+      }
+      log.info("곡 사용 통계 재집계 완료: 팀 {}개 중 {}개 보정", teamIds.size(), drifted);
+    }
+  }
+}
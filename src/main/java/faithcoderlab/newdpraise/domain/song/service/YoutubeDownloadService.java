@@ -8,6 +8,7 @@ import com.github.kiulian.downloader.model.videos.VideoInfo;
 import com.github.kiulian.downloader.model.videos.formats.AudioFormat;
 import faithcoderlab.newdpraise.config.AppConfig;
 import faithcoderlab.newdpraise.domain.song.dto.AudioDownloadResult;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
 import faithcoderlab.newdpraise.domain.song.dto.YoutubeVideoInfo;
 import faithcoderlab.newdpraise.global.exception.YoutubeDownloadException;
 import java.io.File;
@@ -15,9 +16,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.springframework.stereotype.Service;
@@ -31,10 +32,13 @@ public class YoutubeDownloadService {
 
   private final YoutubeDownloader youtubeDownloader;
   private final AppConfig appConfig;
+  private final AudioLibraryIndex audioLibraryIndex;
 
-  public YoutubeDownloadService(YoutubeDownloader youtubeDownloader, AppConfig appConfig) {
+  public YoutubeDownloadService(YoutubeDownloader youtubeDownloader, AppConfig appConfig,
+      AudioLibraryIndex audioLibraryIndex) {
     this.youtubeDownloader = youtubeDownloader;
     this.appConfig = appConfig;
+    this.audioLibraryIndex = audioLibraryIndex;
   }
 
   public boolean isValidYoutubeUrl(String url) {
@@ -126,6 +130,8 @@ public class YoutubeDownloadService {
         throw new YoutubeDownloadException("오디오 파일 다운로드 실패: " + videoId);
       }
 
+      audioLibraryIndex.refresh(downloadFile.toPath());
+
       return AudioDownloadResult.builder()
           .videoId(videoId)
           .title(videoInfo.details().title())
@@ -149,69 +155,29 @@ public class YoutubeDownloadService {
   }
 
   public List<String> getDownloadedAudioFiles() {
-    String downloadDir = appConfig.getFileUploadDir() + "/audio";
-    Path downloadPath = Paths.get(downloadDir);
-    List<String> files = new ArrayList<>();
-
-    try {
-      if (Files.exists(downloadPath)) {
-        Files.list(downloadPath)
-            .filter(path -> !Files.isDirectory(path))
-            .forEach(path -> files.add(path.getFileName().toString()));
-      }
-    } catch (IOException e) {
-      throw new YoutubeDownloadException("다운로드된 파일 목록을 가져오는데 실패했습니다: " + e.getMessage(), e);
-    }
+    return audioLibraryIndex.getFileNames();
+  }
 
-    return files;
+  public Optional<AudioLibraryEntry> findAudioFile(String videoId) {
+    return audioLibraryIndex.find(videoId);
   }
 
   public boolean isAudioFileExists(String videoId) {
-    if (!StringUtils.hasText(videoId)) {
-      return false;
-    }
-
-    String downloadDir = appConfig.getFileUploadDir() + "/audio";
-    Path downloadPath = Paths.get(downloadDir);
-
-    try {
-      if (Files.exists(downloadPath)) {
-        return Files.list(downloadPath)
-            .anyMatch(path -> path.getFileName().toString().startsWith(videoId + "."));
-      }
-    } catch (IOException e) {
-      throw new YoutubeDownloadException("파일 확인 중 오류 발생: " + e.getMessage(), e);
-    }
-
-    return false;
+    return audioLibraryIndex.contains(videoId);
   }
 
   public boolean deleteAudioFile(String videoId) {
-    if (!StringUtils.hasText(videoId)) {
+    Optional<AudioLibraryEntry> entry = audioLibraryIndex.find(videoId);
+    if (entry.isEmpty()) {
       return false;
     }
 
-    String downloadDir = appConfig.getFileUploadDir() + "/audio";
-    Path downloadPath = Paths.get(downloadDir);
-
     try {
-      if (Files.exists(downloadPath)) {
-        return Files.list(downloadPath)
-            .filter(path -> path.getFileName().toString().startsWith(videoId + "."))
-            .findFirst()
-            .map(path -> {
-              try {
-                return Files.deleteIfExists(path);
-              } catch (IOException e) {
-                throw new YoutubeDownloadException("파일 삭제 중 오류 발생: " + e.getMessage(), e);
-              }
-            })
-            .orElse(false);
-      }
+      boolean deleted = Files.deleteIfExists(entry.get().getPath());
+      audioLibraryIndex.remove(videoId);
+      return deleted;
     } catch (IOException e) {
       throw new YoutubeDownloadException("파일 삭제 중 오류 발생: " + e.getMessage(), e);
     }
-
-    return false;
   }
 }
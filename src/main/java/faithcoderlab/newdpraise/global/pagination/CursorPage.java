@@ -0,0 +1,53 @@
+package faithcoderlab.newdpraise.global.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 키셋 페이지네이션 결과. 전체 개수를 세지 않고, 한 행을 더 읽어 다음 페이지가 있는지 안다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+  public static final int DEFAULT_SIZE = 20;
+  public static final int MAX_SIZE = 100;
+
+  private final List<T> items;
+  private final String nextCursor;
+  private final boolean hasNext;
+
+  /**
+   * 요청 크기를 1 ~ {@link #MAX_SIZE}로 맞춘다.
+   */
+  public static int pageSize(int requested) {
+    return Math.max(1, Math.min(requested, MAX_SIZE));
+  }
+
+  /**
+   * 다음 페이지가 있는지 알 수 있도록 한 행을 더 읽는 조회 범위.
+   */
+  public static Pageable fetchRange(int size) {
+    return PageRequest.of(0, size + 1);
+  }
+
+  /**
+   * {@link #fetchRange(int)}로 읽은 행에서 페이지를 만든다. 다음 커서는 페이지 마지막 행으로 만든다.
+   */
+  public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+    if (rows.size() <= size) {
+      return new CursorPage<>(rows, null, false);
+    }
+
+    List<T> items = rows.subList(0, size);
+    return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)), true);
+  }
+
+  public <R> CursorPage<R> map(Function<T, R> mapper) {
+    return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor, hasNext);
+  }
+}
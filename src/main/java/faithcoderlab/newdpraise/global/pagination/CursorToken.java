@@ -0,0 +1,82 @@
+package faithcoderlab.newdpraise.global.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 키셋 페이지네이션에서 마지막 행의 정렬 값과 ID. 클라이언트에는 해석할 필요 없는 문자열로 넘긴다.
+ * 정렬 값이 null인 행은 빈 키로 인코딩하고, 풀 때 다시 null로 돌려준다.
+ */
+@Getter
+public final class CursorToken {
+
+  private static final char SEPARATOR = '|';
+
+  private final String key;
+  private final long id;
+
+  private CursorToken(String key, long id) {
+    this.key = key;
+    this.id = id;
+  }
+
+  public static String encode(Object key, Long id) {
+    String raw = (key == null ? "" : key.toString()) + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 문자열을 푼다. 비어 있으면 첫 페이지라는 뜻으로 null을 돌려준다.
+   */
+  public static CursorToken decode(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new IllegalArgumentException("잘못된 커서입니다.");
+      }
+      return new CursorToken(raw.substring(0, separator),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다.", e);
+    }
+  }
+
+  public boolean hasKey() {
+    return !key.isEmpty();
+  }
+
+  /**
+   * 날짜 키를 푼다. 정렬 값이 없던 행의 커서면 null을 돌려준다.
+   */
+  public LocalDate keyAsDate() {
+    if (!hasKey()) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(key);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다.", e);
+    }
+  }
+
+  public LocalDateTime keyAsDateTime() {
+    if (!hasKey()) {
+      throw new IllegalArgumentException("잘못된 커서입니다.");
+    }
+    try {
+      return LocalDateTime.parse(key);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다.", e);
+    }
+  }
+}
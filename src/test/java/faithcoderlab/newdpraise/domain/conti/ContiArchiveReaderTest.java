@@ -0,0 +1,82 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContiArchiveReaderTest {
+
+  private List<ContiArchiveReader.Entry> readAll(String archive, int maxEntryLength) {
+    List<ContiArchiveReader.Entry> entries = new ArrayList<>();
+    ContiArchiveReader reader = new ContiArchiveReader(new StringReader(archive), maxEntryLength);
+    reader.forEachRemaining(entries::add);
+    return entries;
+  }
+
+  @Test
+  @DisplayName("날짜로 시작하는 줄마다 콘티를 나누고 앞부분은 건너뜀")
+  void splitOnDateHeaders() {
+    // given
+    String archive = "2024년 콘티 모음\n"
+        + "\n"
+        + "20250405 청년부 예배\r\n"
+        + "1. 물댄 동산 G\n"
+        + "2. 정직한 예배 A / 제이어스\n"
+        + "\n"
+        + "2025.04.12 청년부 예배\n"
+        + "1. 주님 나라 이를 때까지 D\n";
+
+    // when
+    List<ContiArchiveReader.Entry> entries = readAll(archive, 1000);
+
+    // then
+    assertThat(entries).hasSize(2);
+    assertThat(entries.get(0).getIndex()).isEqualTo(1);
+    assertThat(entries.get(0).getLineNumber()).isEqualTo(3L);
+    assertThat(entries.get(0).getText())
+        .isEqualTo("20250405 청년부 예배\n1. 물댄 동산 G\n2. 정직한 예배 A / 제이어스\n");
+    assertThat(entries.get(1).getLineNumber()).isEqualTo(7L);
+    assertThat(entries.get(1).getText()).startsWith("2025.04.12 청년부 예배\n1. 주님 나라");
+  }
+
+  @Test
+  @DisplayName("카카오톡 내보내기의 날짜 구분선과 보낸 사람 머리를 제거")
+  void stripKakaoTalkExport() {
+    // given
+    String archive = "--------------- 2025년 4월 5일 토요일 ---------------\n"
+        + "[수밍] [오후 3:12] 4/6 주일 콘티\n"
+        + "1. 물댄 동산 G\n"
+        + "--------------- 2025년 4월 12일 토요일 ---------------\n"
+        + "[수밍] [오후 9:01] 4/13 주일 콘티\n"
+        + "1. 정직한 예배 A\n";
+
+    // when
+    List<ContiArchiveReader.Entry> entries = readAll(archive, 1000);
+
+    // then
+    assertThat(entries).extracting(ContiArchiveReader.Entry::getText)
+        .containsExactly("4/6 주일 콘티\n1. 물댄 동산 G", "4/13 주일 콘티\n1. 정직한 예배 A");
+  }
+
+  @Test
+  @DisplayName("최대 길이를 넘는 콘티는 내용 없이 표시하고 다음 콘티부터 계속 읽음")
+  void tooLongEntry() {
+    // given
+    String archive = "20250405 청년부 예배\n"
+        + "1. " + "가".repeat(500) + "\n"
+        + "20250412 청년부 예배\n"
+        + "1. 물댄 동산 G\n";
+
+    // when
+    List<ContiArchiveReader.Entry> entries = readAll(archive, 100);
+
+    // then
+    assertThat(entries).hasSize(2);
+    assertThat(entries.get(0).isTooLong()).isTrue();
+    assertThat(entries.get(1).getText()).isEqualTo("20250412 청년부 예배\n1. 물댄 동산 G");
+  }
+}
@@ -20,6 +20,7 @@ import faithcoderlab.newdpraise.config.TestConfig;
 import faithcoderlab.newdpraise.config.TestSecurityConfig;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiCreateRequest;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiParseRequest;
+import faithcoderlab.newdpraise.domain.conti.dto.ContiParseResponse;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiSearchRequest;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiUpdateRequest;
 import faithcoderlab.newdpraise.domain.song.Song;
@@ -67,6 +68,9 @@ class ContiControllerTest {
   @MockBean
   private ContiParserService contiParserService;
 
+  @MockBean
+  private ContiParseCache contiParseCache;
+
   @MockBean
   private UserRepository userRepository;
 
@@ -128,7 +132,8 @@ class ContiControllerTest {
         .build();
 
     when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
-    when(contiParserService.parseContiText(anyString(), any(User.class))).thenReturn(parsedConti);
+    when(contiParseCache.parse(anyString(), any(User.class)))
+        .thenReturn(ContiParseResponse.fromConti(parsedConti));
 
     // when & then
     mockMvc.perform(post("/conti/parse")
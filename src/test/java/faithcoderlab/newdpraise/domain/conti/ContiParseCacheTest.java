@@ -0,0 +1,98 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import faithcoderlab.newdpraise.domain.conti.dto.ContiParseCacheStats;
+import faithcoderlab.newdpraise.domain.conti.dto.ContiParseResponse;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContiParseCacheTest {
+
+  private static final String CONTI_TEXT = "20250405 찬양집회 콘티\n\n"
+      + "1. 물댄 동산 G (교제송)\n\n"
+      + "2. 정직한 예배 G-Ab / 제이어스\n"
+      + "https://youtu.be/R9tUikvBv5M\n\n"
+      + "3. 아름다우신 Ab / 캠퍼스워십\n";
+
+  private ContiParserService contiParserService;
+  private ContiParseCache contiParseCache;
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    contiParserService = spy(new ContiParserService(null));
+    contiParseCache = new ContiParseCache(contiParserService, 10, 100);
+    testUser = User.builder()
+        .id(1L)
+        .email("suming@example.com")
+        .name("수밍")
+        .role(Role.USER)
+        .build();
+  }
+
+  @Test
+  @DisplayName("줄바꿈과 끝 공백만 다른 텍스트는 캐시된 응답을 그대로 사용")
+  void parse_SameNormalizedText_Hit() {
+    // given
+    ContiParseResponse first = contiParseCache.parse(CONTI_TEXT, testUser);
+
+    // when
+    ContiParseResponse second = contiParseCache.parse(
+        "  " + CONTI_TEXT.replace("\n", "\r\n") + "\n\n  ", testUser);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(second.getSongs()).hasSize(3);
+    ContiParseCacheStats stats = contiParseCache.getStats();
+    assertThat(stats.getHits()).isEqualTo(1);
+    assertThat(stats.getMisses()).isEqualTo(1);
+    assertThat(stats.getHitRatio()).isEqualTo(0.5);
+  }
+
+  @Test
+  @DisplayName("곡 하나만 바뀌면 그 곡만 다시 파싱")
+  void parse_ChangedBlock_ReusesOthers() {
+    // given
+    contiParseCache.parse(CONTI_TEXT, testUser);
+    String edited = CONTI_TEXT.replace("아름다우신 Ab", "아름다우신 A");
+
+    // when
+    ContiParseResponse response = contiParseCache.parse(edited, testUser);
+
+    // then
+    verify(contiParserService, times(4)).parseSongBlock(anyString(), anyString());
+    assertThat(response.getSongs()).extracting(ContiParseResponse.SongDto::getPerformanceKey)
+        .containsExactly("G", "G-Ab", "A");
+    assertThat(response).isEqualTo(
+        ContiParseResponse.fromConti(contiParserService.parseContiText(edited, testUser)));
+    ContiParseCacheStats stats = contiParseCache.getStats();
+    assertThat(stats.getBlockHits()).isEqualTo(2);
+    assertThat(stats.getBlockMisses()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("최대 개수를 넘으면 가장 오래 쓰지 않은 응답을 버림")
+  void parse_OverCapacity_EvictsLeastRecentlyUsed() {
+    // given
+    ContiParseCache smallCache = new ContiParseCache(contiParserService, 1, 100);
+    smallCache.parse(CONTI_TEXT, testUser);
+
+    // when
+    smallCache.parse(CONTI_TEXT + "\n4. 예수 우리 왕이여 C", testUser);
+    smallCache.parse(CONTI_TEXT, testUser);
+
+    // then
+    ContiParseCacheStats stats = smallCache.getStats();
+    assertThat(stats.getEntries()).isEqualTo(1);
+    assertThat(stats.getMisses()).isEqualTo(3);
+    assertThat(stats.getEvictions()).isEqualTo(2);
+  }
+}
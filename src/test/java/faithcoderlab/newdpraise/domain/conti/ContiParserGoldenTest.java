@@ -0,0 +1,120 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import faithcoderlab.newdpraise.domain.song.SongRepository;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ContiParserGoldenTest {
+
+  private static final String GOLDEN_DIRECTORY = "/conti-golden";
+
+  private static final String[] FRAGMENTS = {
+      "1", "12", "2025", "04", "31", ".", "-", "/", "/ ", " ", "\n", "\r\n", "\r", "\t",
+      "G", "Ab", "C#m", "G-Ab", "C->D", "F♯", "b", "m", "(", ")", "[", "]", "(교제송)", "[후렴 2번]",
+      "주제", "주제 : ", ":", "youtu.be/", "youtube.com/watch?v=", "https://", "www.", "R9tUikvBv5M",
+      "?si=x_y", "&t=1", "년", "월", "일", "물댄 동산", "제이어스", "naver.com", ".co.kr/path?a=b",
+      "é", "́", " ", "\u0085", "_", "@", "%", "~", "=", "+", "　"
+  };
+
+  @Mock
+  private SongRepository songRepository;
+
+  private ContiParserService contiParserService;
+  private LegacyContiParser legacyContiParser;
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    contiParserService = new ContiParserService(songRepository);
+    legacyContiParser = new LegacyContiParser();
+    testUser = User.builder()
+        .id(1L)
+        .email("suming@example.com")
+        .name("수밍")
+        .role(Role.USER)
+        .build();
+  }
+
+  static Stream<Path> goldenFiles() throws Exception {
+    URL directory = ContiParserGoldenTest.class.getResource(GOLDEN_DIRECTORY);
+    try (Stream<Path> files = Files.list(Path.of(directory.toURI()))) {
+      List<Path> sorted = files.filter(file -> file.toString().endsWith(".txt")).sorted().toList();
+      return sorted.stream();
+    }
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("goldenFiles")
+  @DisplayName("골든 콘티 파일을 이전 정규식 파서와 같은 결과로 파싱")
+  void parseGoldenFile_MatchesLegacyParser(Path file) throws Exception {
+    // given
+    String contiText = Files.readString(file, StandardCharsets.UTF_8);
+
+    // when
+    Conti expected = legacyContiParser.parseContiText(contiText, testUser);
+    Conti actual = contiParserService.parseContiText(contiText, testUser);
+
+    // then
+    assertThat(actual.getSongs()).isNotEmpty();
+    assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("무작위로 조합한 콘티 텍스트도 특이사항 외에는 이전 정규식 파서와 같은 결과로 파싱")
+  void parseRandomText_MatchesLegacyParser() {
+    Random random = new Random(20250405L);
+
+    for (int i = 0; i < 2000; i++) {
+      // given
+      String contiText = randomContiText(random);
+
+      // when
+      Conti[] results = new Conti[2];
+      Throwable expectedError = catchThrowable(
+          () -> results[0] = legacyContiParser.parseContiText(contiText, testUser));
+      Throwable actualError = catchThrowable(
+          () -> results[1] = contiParserService.parseContiText(contiText, testUser));
+
+      // then
+      assertThat(actualError).as(contiText).isNull();
+      if (expectedError == null) {
+        assertThat(results[1]).as(contiText)
+            .usingRecursiveComparison()
+            .ignoringFields("songs.specialInstructions")
+            .isEqualTo(results[0]);
+      }
+    }
+  }
+
+  private String randomContiText(Random random) {
+    StringBuilder text = new StringBuilder();
+    int length = random.nextInt(60);
+    for (int i = 0; i < length; i++) {
+      if (random.nextInt(8) == 0) {
+        text.append('\n').append(1 + random.nextInt(9)).append(". ");
+      } else {
+        text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+      }
+    }
+    return text.toString();
+  }
+}
@@ -265,4 +265,32 @@ class ContiParserServiceTest {
     assertThat(result.getTitle()).isEqualTo("2025년 2월 15일 찬양집회 콘티");
     assertThat(result.getScheduledAt()).isEqualTo(LocalDate.of(2025, 2, 15));
   }
+
+  @Test
+  @DisplayName("정규식 특수문자가 들어간 제목도 특이사항을 글자 그대로 추출")
+  void parseSpecialInstructionsWithRegexCharactersInTitle() {
+    // given
+    String contiText = "20250405 찬양집회 콘티\n\n" +
+        "1. 왜? [ 주님 G\n" +
+        "간주 후 Gospel 느낌으로\n\n" +
+        "2. 주님 나라 이를 때까지+ Ab (후렴 반복)\n" +
+        "https://youtu.be/R9tUikvBv5M";
+
+    // when
+    Conti result = contiParserService.parseContiText(contiText, testUser);
+
+    // then
+    assertThat(result.getSongs()).hasSize(2);
+
+    Song firstSong = result.getSongs().get(0);
+    assertThat(firstSong.getTitle()).isEqualTo("왜? [ 주님");
+    assertThat(firstSong.getPerformanceKey()).isEqualTo("G");
+    assertThat(firstSong.getSpecialInstructions()).isEqualTo("간주 후 Gospel 느낌으로");
+
+    Song secondSong = result.getSongs().get(1);
+    assertThat(secondSong.getTitle()).isEqualTo("주님 나라 이를 때까지+");
+    assertThat(secondSong.getPerformanceKey()).isEqualTo("Ab");
+    assertThat(secondSong.getYoutubeUrl()).isEqualTo("https://youtube.com/watch?v=R9tUikvBv5M");
+    assertThat(secondSong.getSpecialInstructions()).isEqualTo("후렴 반복");
+  }
 }
@@ -0,0 +1,167 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import faithcoderlab.newdpraise.domain.conti.dto.ContiResponse;
+import faithcoderlab.newdpraise.domain.conti.dto.ContiResponseCacheStats;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShare;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareChangedEvent;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareRepository;
+import faithcoderlab.newdpraise.domain.conti.share.ContiSharePermission;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.SongChangedEvent;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContiResponseCacheTest {
+
+  private ContiShareRepository contiShareRepository;
+  private ContiResponseCache contiResponseCache;
+  private User creator;
+  private User member;
+  private Conti conti;
+
+  @BeforeEach
+  void setUp() {
+    contiShareRepository = mock(ContiShareRepository.class);
+    contiResponseCache = new ContiResponseCache(contiShareRepository, 10);
+
+    creator = User.builder().id(1L).email("creator@example.com").name("인도자").role(Role.USER)
+        .build();
+    member = User.builder().id(2L).email("member@example.com").name("건반").role(Role.USER)
+        .build();
+
+    List<Song> songs = new ArrayList<>();
+    songs.add(Song.builder().id(10L).title("물댄 동산").originalKey("G").build());
+    conti = Conti.builder()
+        .id(100L)
+        .title("주일 예배")
+        .scheduledAt(LocalDate.of(2025, 4, 6))
+        .creator(creator)
+        .songs(songs)
+        .status(ContiStatus.DRAFT)
+        .version("1.0")
+        .updatedAt(LocalDateTime.of(2025, 4, 1, 9, 0))
+        .build();
+
+    when(contiShareRepository.findAcceptedSharesByContiIds(anyCollection())).thenReturn(List.of(
+        ContiShare.builder()
+            .conti(conti)
+            .user(member)
+            .permission(ContiSharePermission.EDIT)
+            .accepted(true)
+            .build()));
+  }
+
+  @Test
+  @DisplayName("같은 잠금 버전의 콘티는 캐시한 응답에 사용자별 권한만 덧씌운다")
+  void render_SameVersion_HitWithPermissionOverlay() {
+    // when
+    ContiResponse forCreator = contiResponseCache.render(conti, creator);
+    conti.getSongs().get(0).setTitle("바뀐 제목");
+    ContiResponse forMember = contiResponseCache.render(conti, member);
+    ContiResponse forMemberAgain = contiResponseCache.render(conti, member);
+
+    // then
+    assertThat(forCreator.getPermissionType()).isEqualTo("CREATOR");
+    assertThat(forMember.getPermissionType()).isEqualTo("EDIT");
+    assertThat(forMember.isCanEdit()).isTrue();
+    assertThat(forMember.isCanShare()).isFalse();
+    assertThat(forMember.getSongs().get(0).getTitle()).isEqualTo("물댄 동산");
+    assertThat(forMemberAgain.getPermissionType()).isEqualTo("EDIT");
+    verify(contiShareRepository, times(1)).findAcceptedSharesByContiIds(anyCollection());
+
+    ContiResponseCacheStats stats = contiResponseCache.getStats();
+    assertThat(stats.getHits()).isEqualTo(2);
+    assertThat(stats.getMisses()).isEqualTo(1);
+    assertThat(stats.getPermissionHits()).isEqualTo(1);
+    assertThat(stats.getPermissionMisses()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("잠금 버전이 바뀌거나 변경 이벤트를 받으면 응답을 새로 만든다")
+  void render_ChangedOrInvalidated_Miss() {
+    // given
+    contiResponseCache.render(conti, creator);
+
+    // when
+    conti.setTitle("주일 2부 예배");
+    conti.setLockVersion(1);
+    ContiResponse afterUpdate = contiResponseCache.render(conti, creator);
+    conti.setDescription("설명 추가");
+    contiResponseCache.onContiChanged(ContiChangedEvent.saved(conti));
+    ContiResponse afterEvent = contiResponseCache.render(conti, creator);
+
+    // then
+    assertThat(afterUpdate.getTitle()).isEqualTo("주일 2부 예배");
+    assertThat(afterEvent.getDescription()).isEqualTo("설명 추가");
+    assertThat(contiResponseCache.getStats().getMisses()).isEqualTo(3);
+    verify(contiShareRepository, never()).findAcceptedSharesByContiIds(anyCollection());
+  }
+
+  @Test
+  @DisplayName("담긴 곡이 바뀌면 잠금 버전이 같아도 응답을 새로 만든다")
+  void render_SongChanged_Miss() {
+    // given
+    contiResponseCache.render(conti, creator);
+
+    // when
+    conti.getSongs().get(0).setOriginalKey("A");
+    contiResponseCache.onSongChanged(new SongChangedEvent(Set.of(11L)));
+    ContiResponse unrelated = contiResponseCache.render(conti, creator);
+    contiResponseCache.onSongChanged(new SongChangedEvent(Set.of(10L)));
+    ContiResponse afterEvent = contiResponseCache.render(conti, creator);
+
+    // then
+    assertThat(unrelated.getSongs().get(0).getOriginalKey()).isEqualTo("G");
+    assertThat(afterEvent.getSongs().get(0).getOriginalKey()).isEqualTo("A");
+    assertThat(contiResponseCache.getStats().getHits()).isEqualTo(1);
+    assertThat(contiResponseCache.getStats().getMisses()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("공유가 바뀌면 권한만 다시 읽는다")
+  void render_ShareChanged_ReloadsPermissions() {
+    // given
+    contiResponseCache.render(conti, member);
+
+    // when
+    contiResponseCache.onShareChanged(new ContiShareChangedEvent(conti.getId()));
+    when(contiShareRepository.findAcceptedSharesByContiIds(anyCollection())).thenReturn(List.of());
+    ContiResponse response = contiResponseCache.render(conti, member);
+
+    // then
+    assertThat(response.getPermissionType()).isEqualTo("NONE");
+    assertThat(response.isCanEdit()).isFalse();
+    assertThat(contiResponseCache.getStats().getHits()).isEqualTo(1);
+    verify(contiShareRepository, times(2)).findAcceptedSharesByContiIds(anyCollection());
+  }
+
+  @Test
+  @DisplayName("행에 담긴 공유 권한으로 응답을 만들고 공유는 다시 읽지 않는다")
+  void renderAccessible_UsesRowPermission() {
+    // when
+    List<ContiResponse> responses = contiResponseCache.renderAccessible(
+        List.of(new AccessibleConti(conti, ContiSharePermission.ADMIN)), member);
+
+    // then
+    assertThat(responses.get(0).getPermissionType()).isEqualTo("ADMIN");
+    assertThat(responses.get(0).isCanShare()).isTrue();
+    assertThat(responses.get(0).isShared()).isTrue();
+    verify(contiShareRepository, never()).findAcceptedSharesByContiIds(anyCollection());
+  }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,11 +13,17 @@ import static org.mockito.Mockito.when;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiCreateRequest;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiSearchRequest;
 import faithcoderlab.newdpraise.domain.conti.dto.ContiUpdateRequest;
+import faithcoderlab.newdpraise.domain.conti.history.ContiHistoryService;
+import faithcoderlab.newdpraise.domain.conti.share.ContiSharePermission;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareService;
 import faithcoderlab.newdpraise.domain.song.Song;
 import faithcoderlab.newdpraise.domain.song.SongRepository;
+import faithcoderlab.newdpraise.domain.song.service.SongCatalogService;
 import faithcoderlab.newdpraise.domain.user.Role;
 import faithcoderlab.newdpraise.domain.user.User;
 import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import faithcoderlab.newdpraise.global.pagination.CursorPage;
+import faithcoderlab.newdpraise.global.pagination.CursorToken;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -24,6 +31,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,12 +39,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 @ExtendWith(MockitoExtension.class)
 class ContiServiceTest {
@@ -50,6 +60,18 @@ class ContiServiceTest {
   @Mock
   private ContiParserService contiParserService;
 
+  @Mock
+  private SongCatalogService songCatalogService;
+
+  @Mock
+  private ContiShareService contiShareService;
+
+  @Mock
+  private ContiHistoryService contiHistoryService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private ContiService contiService;
 
@@ -105,6 +127,8 @@ class ContiServiceTest {
     assertThat(result.getId()).isEqualTo(1L);
     verify(contiParserService).parseContiText(request.getContiText(), testUser);
     verify(contiRepository).save(any(Conti.class));
+    verify(eventPublisher).publishEvent(argThat(
+        (ContiChangedEvent event) -> !event.isDeleted() && event.getContiId().equals(1L)));
   }
 
   @Test
@@ -213,7 +237,7 @@ class ContiServiceTest {
     List<Song> updatedSongs = Arrays.asList(updatedSong, newSong);
 
     when(contiRepository.findById(contiId)).thenReturn(Optional.of(testConti));
-    when(songRepository.findById(1L)).thenReturn(Optional.of(testSong));
+    when(contiShareService.canEditConti(testConti, testUser)).thenReturn(true);
     when(songRepository.saveAll(anyList())).thenReturn(updatedSongs);
     when(contiRepository.save(any(Conti.class))).thenReturn(testConti);
 
@@ -222,9 +246,216 @@ class ContiServiceTest {
 
     // then
     assertThat(result).isNotNull();
-    verify(songRepository).findById(1L);
-    verify(songRepository).saveAll(anyList());
+    assertThat(result.getSongs()).extracting(Song::getTitle).containsExactly("업데이트된 곡", "새 곡");
+    assertThat(result.getSongs().get(0)).isSameAs(testSong);
+    verify(songRepository, never()).findAllById(any());
+    verify(songRepository).saveAll(List.of(result.getSongs().get(1)));
     verify(contiRepository).save(testConti);
+    verify(contiHistoryService).record(testConti, testUser);
+  }
+
+  @Test
+  @DisplayName("콘티 업데이트 - 곡 목록은 한 번에 읽고 바뀐 곡과 새 곡만 쓴다")
+  void updateContiWithSongs_SetBasedQueries() {
+    // given
+    Song unchangedSong = Song.builder().id(2L).title("그대로인 곡").originalKey("G").build();
+    Song otherContiSong = Song.builder().id(3L).title("다른 콘티의 곡").originalKey("A").build();
+    Song otherContiSong2 = Song.builder().id(4L).title("다른 콘티의 곡 2").originalKey("B").build();
+    testConti.getSongs().add(unchangedSong);
+
+    List<ContiUpdateRequest.SongDto> songDtos = Arrays.asList(
+        ContiUpdateRequest.SongDto.builder().id(2L).title("그대로인 곡").originalKey("G").build(),
+        ContiUpdateRequest.SongDto.builder().id(3L).title("다른 콘티의 곡").originalKey("Bb")
+            .build(),
+        ContiUpdateRequest.SongDto.builder().id(4L).title("다른 콘티의 곡 2").originalKey("B")
+            .build(),
+        ContiUpdateRequest.SongDto.builder().title("새 곡").originalKey("F").build()
+    );
+    ContiUpdateRequest request = ContiUpdateRequest.builder().songs(songDtos).build();
+
+    when(contiRepository.findById(1L)).thenReturn(Optional.of(testConti));
+    when(contiShareService.canEditConti(testConti, testUser)).thenReturn(true);
+    when(songRepository.findAllById(any())).thenReturn(List.of(otherContiSong, otherContiSong2));
+    when(contiRepository.save(any(Conti.class))).thenReturn(testConti);
+
+    // when
+    Conti result = contiService.updateConti(1L, request, testUser);
+
+    // then
+    assertThat(result.getSongs()).extracting(Song::getTitle)
+        .containsExactly("그대로인 곡", "다른 콘티의 곡", "다른 콘티의 곡 2", "새 곡");
+    assertThat(otherContiSong.getOriginalKey()).isEqualTo("Bb");
+    verify(songRepository).findAllById(Set.of(3L, 4L));
+    verify(songRepository, never()).findById(any());
+    verify(songRepository).saveAll(List.of(result.getSongs().get(3)));
+    verify(songCatalogService).resolveAll(List.of(otherContiSong, result.getSongs().get(3)));
+  }
+
+  @Test
+  @DisplayName("콘티 업데이트 - 읽은 뒤 다른 사람이 수정했으면 예외")
+  void updateContiStaleLockVersion() {
+    // given
+    testConti.setLockVersion(3L);
+    ContiUpdateRequest request = ContiUpdateRequest.builder()
+        .title("늦게 고친 제목")
+        .lockVersion(2L)
+        .build();
+
+    when(contiRepository.findById(1L)).thenReturn(Optional.of(testConti));
+    when(contiShareService.canEditConti(testConti, testUser)).thenReturn(true);
+
+    // when & then
+    assertThatThrownBy(() -> contiService.updateConti(1L, request, testUser))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThat(testConti.getTitle()).isEqualTo("테스트 콘티");
+    verify(contiRepository, never()).save(any(Conti.class));
+    verify(contiHistoryService, never()).record(any(), any());
+  }
+
+  @Test
+  @DisplayName("콘티 업데이트 - 없는 곡 ID가 있으면 예외")
+  void updateContiWithSongs_MissingSong() {
+    // given
+    ContiUpdateRequest request = ContiUpdateRequest.builder()
+        .songs(List.of(ContiUpdateRequest.SongDto.builder().id(99L).title("없는 곡").build()))
+        .build();
+
+    when(contiRepository.findById(1L)).thenReturn(Optional.of(testConti));
+    when(contiShareService.canEditConti(testConti, testUser)).thenReturn(true);
+    when(songRepository.findAllById(any())).thenReturn(List.of());
+
+    // when & then
+    assertThatThrownBy(() -> contiService.updateConti(1L, request, testUser))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessageContaining("99");
+    verify(songRepository, never()).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("콘티 업데이트 - 텍스트 한 곡만 수정하면 그 곡만 고침")
+  void updateContiFromText_OneSongChanged() {
+    // given
+    String originalText = "20250405 찬양집회 콘티\n\n"
+        + "1. 물댄 동산 G\n\n"
+        + "2. 정직한 예배 G-Ab / 제이어스\n\n"
+        + "3. 아름다우신 Ab / 캠퍼스워십";
+    String editedText = originalText.replace("정직한 예배 G-Ab", "정직한 예배 A");
+    Song first = Song.builder().id(1L).title("물댄 동산").performanceKey("G").build();
+    Song second = Song.builder().id(2L).title("정직한 예배").performanceKey("G-Ab").build();
+    Song third = Song.builder().id(3L).title("아름다우신").performanceKey("Ab").build();
+    List<Song> songs = new ArrayList<>(Arrays.asList(first, second, third));
+    testConti.setOriginalText(originalText);
+    testConti.setSongs(songs);
+
+    delegateToRealParser();
+    when(contiRepository.findById(1L)).thenReturn(Optional.of(testConti));
+    when(contiShareService.canEditConti(testConti, testUser)).thenReturn(true);
+    when(contiRepository.save(any(Conti.class))).thenReturn(testConti);
+
+    // when
+    Conti result = contiService.updateConti(1L,
+        ContiUpdateRequest.builder().contiText(editedText).build(), testUser);
+
+    // then
+    assertThat(result.getSongs()).isSameAs(songs);
+    assertThat(result.getSongs()).containsExactly(first, second, third);
+    assertThat(second.getPerformanceKey()).isEqualTo("A");
+    assertThat(first.getPerformanceKey()).isEqualTo("G");
+    assertThat(result.getOriginalText()).isEqualTo(editedText);
+    verify(songCatalogService).resolveAll(List.of(second));
+    verify(songRepository, never()).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("콘티 업데이트 - 텍스트에 곡을 끼워 넣으면 새 곡만 저장")
+  void updateContiFromText_SongInserted() {
+    // given
+    String originalText = "20250405 찬양집회 콘티\n\n1. 물댄 동산 G\n\n2. 아름다우신 Ab";
+    String editedText = "20250405 찬양집회 콘티\n\n1. 물댄 동산 G\n\n2. 은혜 D\n\n3. 아름다우신 Ab";
+    Song first = Song.builder().id(1L).title("물댄 동산").performanceKey("G").build();
+    Song last = Song.builder().id(2L).title("아름다우신").performanceKey("Ab").build();
+    testConti.setOriginalText(originalText);
+    testConti.setSongs(new ArrayList<>(Arrays.asList(first, last)));
+
+    delegateToRealParser();
+    when(contiRepository.findById(1L)).thenReturn(Optional.of(testConti));
+    when(contiShareService.canEditConti(testConti, testUser)).thenReturn(true);
+    when(contiRepository.save(any(Conti.class))).thenReturn(testConti);
+
+    // when
+    Conti result = contiService.updateConti(1L,
+        ContiUpdateRequest.builder().contiText(editedText).build(), testUser);
+
+    // then
+    assertThat(result.getSongs()).hasSize(3);
+    assertThat(result.getSongs().get(0)).isSameAs(first);
+    assertThat(result.getSongs().get(1).getTitle()).isEqualTo("은혜");
+    assertThat(result.getSongs().get(2)).isSameAs(last);
+    verify(songRepository).saveAll(List.of(result.getSongs().get(1)));
+  }
+
+  private void delegateToRealParser() {
+    ContiParserService realParser = new ContiParserService(songRepository);
+    when(contiParserService.parseContiText(anyString(), any(User.class), any()))
+        .thenAnswer(invocation -> realParser.parseContiText(invocation.getArgument(0),
+            invocation.getArgument(1), invocation.getArgument(2)));
+    when(contiParserService.parseSongBlock(anyString(), anyString()))
+        .thenAnswer(invocation -> realParser.parseSongBlock(invocation.getArgument(0),
+            invocation.getArgument(1)));
+    when(contiParserService.scheduledAtOf(anyString(), any()))
+        .thenAnswer(invocation -> realParser.scheduledAtOf(invocation.getArgument(0),
+            invocation.getArgument(1)));
+  }
+
+  @Test
+  @DisplayName("콘티 업데이트 - 텍스트의 날짜와 제목을 고치지 않으면 예정일과 제목을 그대로 둔다")
+  void updateContiFromText_KeepsHeader() {
+    // given
+    String originalText = "3/5 주일 예배\n\n1. 물댄 동산 G";
+    String editedText = "3/5 주일 예배\n\n1. 물댄 동산 A";
+    testConti.setTitle("지난해 주일 예배");
+    testConti.setScheduledAt(LocalDate.of(2024, 3, 5));
+    testConti.setOriginalText(originalText);
+    testConti.setSongs(new ArrayList<>(List.of(
+        Song.builder().id(1L).title("물댄 동산").performanceKey("G").build())));
+
+    delegateToRealParser();
+    when(contiRepository.findById(1L)).thenReturn(Optional.of(testConti));
+    when(contiShareService.canEditConti(testConti, testUser)).thenReturn(true);
+    when(contiRepository.save(any(Conti.class))).thenReturn(testConti);
+
+    // when
+    Conti result = contiService.updateConti(1L,
+        ContiUpdateRequest.builder().contiText(editedText).build(), testUser);
+
+    // then
+    assertThat(result.getScheduledAt()).isEqualTo(LocalDate.of(2024, 3, 5));
+    assertThat(result.getTitle()).isEqualTo("지난해 주일 예배");
+    assertThat(result.getSongs().get(0).getPerformanceKey()).isEqualTo("A");
+  }
+
+  @Test
+  @DisplayName("콘티 업데이트 - 텍스트의 날짜를 고치면 연도 없는 날짜는 기존 예정일의 연도로 옮긴다")
+  void updateContiFromText_DateChanged() {
+    // given
+    String originalText = "3/5 주일 예배\n\n1. 물댄 동산 G";
+    String editedText = "3/12 주일 예배\n\n1. 물댄 동산 G";
+    testConti.setScheduledAt(LocalDate.of(2024, 3, 5));
+    testConti.setOriginalText(originalText);
+    testConti.setSongs(new ArrayList<>(List.of(
+        Song.builder().id(1L).title("물댄 동산").performanceKey("G").build())));
+
+    delegateToRealParser();
+    when(contiRepository.findById(1L)).thenReturn(Optional.of(testConti));
+    when(contiShareService.canEditConti(testConti, testUser)).thenReturn(true);
+    when(contiRepository.save(any(Conti.class))).thenReturn(testConti);
+
+    // when
+    Conti result = contiService.updateConti(1L,
+        ContiUpdateRequest.builder().contiText(editedText).build(), testUser);
+
+    // then
+    assertThat(result.getScheduledAt()).isEqualTo(LocalDate.of(2024, 3, 12));
   }
 
   @Test
@@ -275,6 +506,32 @@ class ContiServiceTest {
     assertThat(result.get(0).getId()).isEqualTo(1L);
   }
 
+  @Test
+  @DisplayName("사용자 콘티 커서 페이지 - 예정일 없는 콘티가 페이지 경계에 걸쳐도 이어서 읽는다")
+  void getUserContiListWithCursor_UndatedAcrossPages() {
+    // given
+    Conti dated = Conti.builder().id(5L).title("주일 콘티")
+        .scheduledAt(LocalDate.of(2025, 4, 6)).creator(testUser).build();
+    Conti undatedFirst = Conti.builder().id(4L).title("날짜 없는 콘티").creator(testUser).build();
+    Conti undatedSecond = Conti.builder().id(3L).title("날짜 없는 콘티 2").creator(testUser).build();
+
+    when(contiRepository.findByCreatorBeforeCursor(testUser, null, null, PageRequest.of(0, 3)))
+        .thenReturn(List.of(dated, undatedFirst, undatedSecond));
+    when(contiRepository.findByCreatorBeforeCursor(testUser, null, 4L, PageRequest.of(0, 3)))
+        .thenReturn(List.of(undatedSecond));
+
+    // when
+    CursorPage<Conti> first = contiService.getUserContiList(testUser, null, 2);
+    CursorPage<Conti> second = contiService.getUserContiList(testUser, first.getNextCursor(), 2);
+
+    // then
+    assertThat(first.getItems()).extracting(Conti::getId).containsExactly(5L, 4L);
+    assertThat(first.isHasNext()).isTrue();
+    assertThat(CursorToken.decode(first.getNextCursor()).keyAsDate()).isNull();
+    assertThat(second.getItems()).extracting(Conti::getId).containsExactly(3L);
+    assertThat(second.isHasNext()).isFalse();
+  }
+
   @Test
   @DisplayName("페이징 처리된 사용자 콘티 목록 조회")
   void getUserContiListWithPaging() {
@@ -292,6 +549,76 @@ class ContiServiceTest {
     assertThat(result.getContent().get(0).getId()).isEqualTo(1L);
   }
 
+  @Test
+  @DisplayName("만든 콘티와 공유받은 콘티 - 각각 한 페이지씩 읽어 순서대로 합친다")
+  void getAllUserContis() {
+    // given
+    Conti sharedConti = Conti.builder()
+        .id(2L)
+        .title("공유받은 콘티")
+        .scheduledAt(LocalDate.of(2025, 3, 30))
+        .status(ContiStatus.DRAFT)
+        .version("1.0")
+        .build();
+    Conti olderConti = Conti.builder()
+        .id(3L)
+        .title("지난 콘티")
+        .scheduledAt(LocalDate.of(2025, 3, 23))
+        .creator(testUser)
+        .status(ContiStatus.DRAFT)
+        .version("1.0")
+        .build();
+    String cursor = CursorToken.encode(LocalDate.of(2025, 4, 6), 9L);
+
+    when(contiRepository.findByCreatorBeforeCursor(testUser, LocalDate.of(2025, 4, 6), 9L,
+        PageRequest.of(0, 2))).thenReturn(List.of(olderConti));
+    when(contiRepository.findSharedBeforeCursor(testUser, LocalDate.of(2025, 4, 6), 9L,
+        PageRequest.of(0, 2))).thenReturn(List.of(
+        new AccessibleConti(sharedConti, ContiSharePermission.EDIT)));
+
+    // when
+    CursorPage<AccessibleConti> page = contiService.getAllUserContis(testUser, cursor, 1);
+
+    // then
+    assertThat(page.getItems()).hasSize(1);
+    assertThat(page.getItems().get(0).getSharePermission()).isEqualTo(ContiSharePermission.EDIT);
+    assertThat(page.isHasNext()).isTrue();
+    assertThat(CursorToken.decode(page.getNextCursor()).getId()).isEqualTo(2L);
+    verify(contiShareService, never()).getSharedContis(any());
+  }
+
+  @Test
+  @DisplayName("만든 콘티와 공유받은 콘티 - 예정일 없는 콘티가 페이지 경계에 걸쳐도 이어서 읽는다")
+  void getAllUserContis_UndatedAcrossPages() {
+    // given
+    Conti dated = Conti.builder().id(8L).title("주일 콘티")
+        .scheduledAt(LocalDate.of(2025, 4, 6)).creator(testUser).build();
+    Conti undatedShared = Conti.builder().id(7L).title("날짜 없는 공유 콘티").build();
+    Conti undatedOwn = Conti.builder().id(2L).title("날짜 없는 콘티").creator(testUser).build();
+
+    when(contiRepository.findByCreatorBeforeCursor(testUser, null, null, PageRequest.of(0, 3)))
+        .thenReturn(List.of(dated, undatedOwn));
+    when(contiRepository.findSharedBeforeCursor(testUser, null, null, PageRequest.of(0, 3)))
+        .thenReturn(List.of(new AccessibleConti(undatedShared, ContiSharePermission.VIEW)));
+    when(contiRepository.findByCreatorBeforeCursor(testUser, null, 7L, PageRequest.of(0, 3)))
+        .thenReturn(List.of(undatedOwn));
+    when(contiRepository.findSharedBeforeCursor(testUser, null, 7L, PageRequest.of(0, 3)))
+        .thenReturn(List.of());
+
+    // when
+    CursorPage<AccessibleConti> first = contiService.getAllUserContis(testUser, null, 2);
+    CursorPage<AccessibleConti> second =
+        contiService.getAllUserContis(testUser, first.getNextCursor(), 2);
+
+    // then
+    assertThat(first.getItems()).extracting(row -> row.getConti().getId())
+        .containsExactly(8L, 7L);
+    assertThat(CursorToken.decode(first.getNextCursor()).keyAsDate()).isNull();
+    assertThat(second.getItems()).extracting(row -> row.getConti().getId())
+        .containsExactly(2L);
+    assertThat(second.isHasNext()).isFalse();
+  }
+
   @Test
   @DisplayName("콘티 ID로 조회 - 성공")
   void getContiByIdSuccess() {
@@ -533,6 +860,8 @@ class ContiServiceTest {
 
     // then
     verify(contiRepository).delete(testConti);
+    verify(eventPublisher).publishEvent(argThat(
+        (ContiChangedEvent event) -> event.isDeleted() && event.getContiId().equals(1L)));
   }
 
   @Test
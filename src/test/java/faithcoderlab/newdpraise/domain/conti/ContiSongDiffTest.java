@@ -0,0 +1,53 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContiSongDiffTest {
+
+  @Test
+  @DisplayName("바뀐 블록은 같은 자리의 기존 곡을 고쳐 씀")
+  void compute_ChangedBlock_ReusesOldSong() {
+    // when
+    ContiSongDiff diff = ContiSongDiff.compute(List.of("a", "b", "c"), List.of("a", "B", "c"));
+
+    // then
+    assertThat(diff.oldIndexOf(0)).isEqualTo(0);
+    assertThat(diff.isUnchanged(0)).isTrue();
+    assertThat(diff.oldIndexOf(1)).isEqualTo(1);
+    assertThat(diff.isUnchanged(1)).isFalse();
+    assertThat(diff.oldIndexOf(2)).isEqualTo(2);
+    assertThat(diff.isUnchanged(2)).isTrue();
+  }
+
+  @Test
+  @DisplayName("끼워 넣은 블록만 새 곡이고 뺀 블록의 기존 곡은 남지 않음")
+  void compute_InsertAndRemove() {
+    // when
+    ContiSongDiff inserted = ContiSongDiff.compute(List.of("a", "b"), List.of("a", "x", "b"));
+    ContiSongDiff removed = ContiSongDiff.compute(List.of("a", "b", "c"), List.of("a", "c"));
+
+    // then
+    assertThat(inserted.oldIndexOf(1)).isEqualTo(ContiSongDiff.NEW_SONG);
+    assertThat(inserted.oldIndexOf(2)).isEqualTo(1);
+    assertThat(inserted.isUnchanged(2)).isTrue();
+    assertThat(removed.oldIndexOf(1)).isEqualTo(2);
+    assertThat(removed.isKept(1)).isFalse();
+  }
+
+  @Test
+  @DisplayName("순서를 옮긴 블록은 남은 기존 곡과 짝지음")
+  void compute_Moved() {
+    // when
+    ContiSongDiff diff = ContiSongDiff.compute(List.of("a", "b", "c"), List.of("c", "a", "b"));
+
+    // then
+    assertThat(diff.oldIndexOf(0)).isEqualTo(ContiSongDiff.NEW_SONG);
+    assertThat(diff.oldIndexOf(1)).isEqualTo(0);
+    assertThat(diff.oldIndexOf(2)).isEqualTo(1);
+    assertThat(diff.isKept(2)).isFalse();
+  }
+}
@@ -0,0 +1,224 @@
+package faithcoderlab.newdpraise.domain.conti;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import faithcoderlab.newdpraise.domain.conti.dto.ContiUpdateRequest;
+import faithcoderlab.newdpraise.domain.conti.history.ContiHistoryService;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareService;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.service.SongCatalogService;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 곡 목록 수정이 conti_songs에 실제로 보내는 SQL 문을 센다. 테스트용 schema.sql의 conti_songs는 기본 키가
+ * (conti_id, song_id)로 엔티티 매핑과 달라, Hibernate가 만든 스키마로 확인한다.
+ */
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import({ContiService.class, ContiSongUpdateJpaTest.SqlCountingConfig.class})
+class ContiSongUpdateJpaTest {
+
+  private static final List<String> EXECUTED_SQL = new CopyOnWriteArrayList<>();
+
+  @Autowired
+  private ContiService contiService;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @MockBean
+  private ContiParserService contiParserService;
+
+  @MockBean
+  private ContiShareService contiShareService;
+
+  @MockBean
+  private SongCatalogService songCatalogService;
+
+  @MockBean
+  private ContiHistoryService contiHistoryService;
+
+  private User user;
+  private Long contiId;
+  private List<Song> songs;
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    user = entityManager.persist(User.builder()
+        .email("leader@example.com")
+        .password("password")
+        .name("인도자")
+        .role(Role.USER)
+        .isActive(true)
+        .build());
+
+    songs = new ArrayList<>();
+    for (String title : List.of("물댄 동산", "주님의 선하심", "은혜", "예배합니다")) {
+      songs.add(entityManager.persist(Song.builder().title(title).originalKey("G").build()));
+    }
+    contiId = entityManager.persistAndGetId(Conti.builder()
+        .title("주일 예배")
+        .scheduledAt(LocalDate.of(2025, 4, 6))
+        .creator(user)
+        .songs(new ArrayList<>(songs))
+        .version("1.0")
+        .status(ContiStatus.DRAFT)
+        .build(), Long.class);
+    entityManager.flush();
+    entityManager.clear();
+
+    when(contiShareService.canEditConti(any(), any())).thenReturn(true);
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    EXECUTED_SQL.clear();
+  }
+
+  @Test
+  @DisplayName("곡 순서 변경 - 자리가 바뀐 두 행만 UPDATE하고 연결 행을 지우고 다시 넣지 않는다")
+  void reorder_UpdatesOnlyMovedPositions() {
+    // when
+    contiService.updateConti(contiId, ContiUpdateRequest.builder()
+        .songs(List.of(dto(songs.get(0)), dto(songs.get(2)), dto(songs.get(1)), dto(songs.get(3))))
+        .build(), user);
+    entityManager.flush();
+
+    // then
+    assertThat(count("update conti_songs")).isEqualTo(2);
+    assertThat(count("insert into conti_songs")).isZero();
+    assertThat(count("delete from conti_songs")).isZero();
+    assertThat(count("update songs")).isZero();
+    assertThat(count("update conti")).isEqualTo(1);
+    assertThat(statistics.getCollectionRecreateCount()).isZero();
+    assertThat(statistics.getCollectionRemoveCount()).isZero();
+    assertThat(statistics.getCollectionUpdateCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("곡 추가 - 새 곡과 그 연결 행만 INSERT하고 기존 연결 행은 건드리지 않는다")
+  void append_InsertsOnlyNewRow() {
+    // given
+    List<ContiUpdateRequest.SongDto> songDtos = new ArrayList<>();
+    for (Song song : songs) {
+      songDtos.add(dto(song));
+    }
+    songDtos.add(ContiUpdateRequest.SongDto.builder().title("새 노래").originalKey("A").build());
+
+    // when
+    contiService.updateConti(contiId, ContiUpdateRequest.builder().songs(songDtos).build(), user);
+    entityManager.flush();
+
+    // then
+    assertThat(count("insert into songs")).isEqualTo(1);
+    assertThat(count("insert into conti_songs")).isEqualTo(1);
+    assertThat(count("update conti_songs")).isZero();
+    assertThat(count("delete from conti_songs")).isZero();
+    assertThat(statistics.getCollectionRecreateCount()).isZero();
+  }
+
+  private static ContiUpdateRequest.SongDto dto(Song song) {
+    return ContiUpdateRequest.SongDto.builder()
+        .id(song.getId())
+        .title(song.getTitle())
+        .originalKey(song.getOriginalKey())
+        .build();
+  }
+
+  private static long count(String prefix) {
+    return EXECUTED_SQL.stream().filter(sql -> sql.startsWith(prefix + " ")).count();
+  }
+
+  /**
+   * 데이터 소스를 감싸 실행된 PreparedStatement의 SQL을 모은다. 배치로 쌓인 행도 한 문장씩 센다.
+   */
+  @TestConfiguration
+  static class SqlCountingConfig {
+
+    @Bean
+    static BeanPostProcessor sqlCountingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          return bean instanceof DataSource dataSource ? proxy(dataSource, (method, result, args) ->
+              result instanceof Connection connection ? countingConnection(connection) : result)
+              : bean;
+        }
+      };
+    }
+
+    private static Connection countingConnection(Connection connection) {
+      return proxy(connection, (method, result, args) ->
+          method.getName().equals("prepareStatement")
+              ? countingStatement((PreparedStatement) result, (String) args[0])
+              : result);
+    }
+
+    private static PreparedStatement countingStatement(PreparedStatement statement, String sql) {
+      String normalized = sql.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+      return proxy(statement, (method, result, args) -> {
+        String name = method.getName();
+        if (name.equals("executeUpdate") || name.equals("addBatch")
+            || (name.equals("execute") && args == null)) {
+          EXECUTED_SQL.add(normalized);
+        }
+        return result;
+      });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, ResultMapper mapper) {
+      return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(),
+          ClassUtils.getAllInterfacesForClass(target.getClass()),
+          (proxy, method, args) -> mapper.map(method, invoke(target, method, args), args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+
+    private interface ResultMapper {
+
+      Object map(Method method, Object result, Object[] args);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package faithcoderlab.newdpraise.domain.conti.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiParserService;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class ContiBulkImportServiceTest {
+
+  @Mock
+  private ContiBatchWriter contiBatchWriter;
+
+  @Mock
+  private AppConfig appConfig;
+
+  private ContiBulkImportService contiBulkImportService;
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    contiBulkImportService = new ContiBulkImportService(new ContiParserService(null),
+        contiBatchWriter, appConfig, new SyncTaskExecutor(), Runnable::run, 2, 1000, 10, 10);
+    testUser = User.builder()
+        .id(1L)
+        .email("suming@example.com")
+        .name("수밍")
+        .role(Role.USER)
+        .build();
+  }
+
+  @Test
+  @DisplayName("콘티를 묶음 단위로 저장하고 곡이 없는 콘티는 오류로 기록")
+  void importArchive_SavesInBatches() {
+    // given
+    String archive = "20250405 청년부 예배\n1. 물댄 동산 G\n2. 정직한 예배 A\n\n"
+        + "20250412 청년부 예배\n1. 주님 나라 이를 때까지 D\n\n"
+        + "20250419 청년부 예배\n기도회로 대체\n\n"
+        + "20250426 청년부 예배\n1. 은혜 C\n";
+    List<Integer> batchSizes = new ArrayList<>();
+    doAnswer(invocation -> {
+      List<Conti> contis = invocation.getArgument(0);
+      batchSizes.add(contis.size());
+      return null;
+    }).when(contiBatchWriter).insertAll(anyList());
+    ContiImportJob job = new ContiImportJob("job-1", 1L, "archive.txt", archive.length(), 10);
+
+    // when
+    contiBulkImportService.importArchive(job, toStream(archive), testUser);
+
+    // then
+    assertThat(job.getStatus()).isEqualTo(ContiImportStatus.COMPLETED);
+    assertThat(job.getProgress()).isEqualTo(100);
+    assertThat(batchSizes).containsExactly(2, 1);
+    assertThat(job.getImportedContis().get()).isEqualTo(3);
+    assertThat(job.getImportedSongs().get()).isEqualTo(4);
+    assertThat(job.getFailedEntries().get()).isEqualTo(1);
+    assertThat(job.getErrors()).singleElement()
+        .satisfies(error -> {
+          assertThat(error.getEntryIndex()).isEqualTo(3);
+          assertThat(error.getLineNumber()).isEqualTo(8L);
+        });
+  }
+
+  @Test
+  @DisplayName("묶음 저장이 실패하면 한 개씩 다시 저장해 실패한 콘티만 오류로 기록")
+  void importArchive_BatchFailure_RetriesOneByOne() {
+    // given
+    String archive = "20250405 청년부 예배\n1. 물댄 동산 G\n\n"
+        + "20250412 청년부 예배\n1. 주님 나라 이를 때까지 D\n";
+    doAnswer(invocation -> {
+      List<Conti> contis = invocation.getArgument(0);
+      if (contis.size() > 1 || contis.get(0).getTitle().startsWith("20250412")) {
+        throw new DataIntegrityViolationException("중복");
+      }
+      return null;
+    }).when(contiBatchWriter).insertAll(anyList());
+    ContiImportJob job = new ContiImportJob("job-2", 1L, "archive.txt", archive.length(), 10);
+
+    // when
+    contiBulkImportService.importArchive(job, toStream(archive), testUser);
+
+    // then
+    verify(contiBatchWriter, times(3)).insertAll(anyList());
+    assertThat(job.getStatus()).isEqualTo(ContiImportStatus.COMPLETED);
+    assertThat(job.getImportedContis().get()).isEqualTo(1);
+    assertThat(job.getFailedEntries().get()).isEqualTo(1);
+    assertThat(job.getErrors().get(0).getLineNumber()).isEqualTo(4L);
+    assertThat(job.getErrors().get(0).getMessage()).startsWith("저장 실패");
+  }
+
+  private ByteArrayInputStream toStream(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,163 @@
+package faithcoderlab.newdpraise.domain.conti.collab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiChangedEvent;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.conti.history.ContiHistoryService;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareService;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.SongChangedEvent;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.domain.user.UserRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ContiCollaborationServiceTest {
+
+  @Mock
+  private ContiRepository contiRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private ContiShareService contiShareService;
+
+  @Mock
+  private ContiHistoryService contiHistoryService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private ContiCollaborationService contiCollaborationService;
+
+  private User editor;
+  private Conti conti;
+
+  @BeforeEach
+  void setUp() {
+    editor = User.builder().id(1L).email("leader@example.com").name("인도자").role(Role.USER)
+        .build();
+
+    List<Song> songs = new ArrayList<>();
+    songs.add(Song.builder().id(10L).title("물댄 동산").performanceKey("G").build());
+    songs.add(Song.builder().id(11L).title("주 은혜임을").performanceKey("A").build());
+    songs.add(Song.builder().id(12L).title("은혜 아니면").performanceKey("D").build());
+    conti = Conti.builder()
+        .id(100L)
+        .title("토요 연습")
+        .scheduledAt(LocalDate.of(2025, 4, 5))
+        .creator(editor)
+        .songs(songs)
+        .status(ContiStatus.DRAFT)
+        .version("1.0")
+        .build();
+  }
+
+  @Test
+  @DisplayName("연산 합치기 - 같은 곡의 키와 특이사항은 마지막 값만, 이어진 이동은 마지막 위치만 남긴다")
+  void coalesce() {
+    // given
+    List<ContiEditOperation> operations = List.of(
+        changeKey(10L, "A"),
+        editInstructions(11L, "전"),
+        changeKey(10L, "Bb"),
+        move(12L, 2),
+        move(12L, 0),
+        editInstructions(11L, "전주 길게"),
+        move(10L, 1));
+
+    // when
+    List<ContiEditOperation> coalesced = ContiCollaborationService.coalesce(operations);
+
+    // then
+    assertThat(coalesced).containsExactly(
+        changeKey(10L, "Bb"),
+        editInstructions(11L, "전주 길게"),
+        move(12L, 0),
+        move(10L, 1));
+  }
+
+  @Test
+  @DisplayName("연산 적용 - 모아 둔 연산을 한 번에 저장하고 기록을 남긴다")
+  void applyOperations() {
+    // given
+    when(contiRepository.findById(100L)).thenReturn(Optional.of(conti));
+    when(contiRepository.save(conti)).thenReturn(conti);
+    when(userRepository.findById(1L)).thenReturn(Optional.of(editor));
+
+    // when
+    boolean saved = contiCollaborationService.applyOperations(100L, List.of(
+        changeKey(11L, "B"),
+        move(12L, 0),
+        editInstructions(10L, "후렴 두 번"),
+        changeKey(11L, "Bb"),
+        changeKey(99L, "C")));
+
+    // then
+    assertThat(saved).isTrue();
+    assertThat(conti.getSongs()).extracting(Song::getId).containsExactly(12L, 10L, 11L);
+    assertThat(conti.getSongs().get(2).getPerformanceKey()).isEqualTo("Bb");
+    assertThat(conti.getSongs().get(1).getSpecialInstructions()).isEqualTo("후렴 두 번");
+    verify(contiRepository, times(1)).save(conti);
+    verify(contiHistoryService).record(conti, editor);
+    verify(eventPublisher).publishEvent(any(ContiChangedEvent.class));
+    verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof SongChangedEvent
+        && ((SongChangedEvent) event).getSongIds().equals(Set.of(10L, 11L))));
+  }
+
+  @Test
+  @DisplayName("연산 적용 - 바뀐 것이 없으면 저장하지 않는다")
+  void applyOperationsUnchanged() {
+    // given
+    when(contiRepository.findById(100L)).thenReturn(Optional.of(conti));
+
+    // when
+    boolean saved = contiCollaborationService.applyOperations(100L, List.of(
+        changeKey(10L, "G"),
+        move(11L, 1)));
+
+    // then
+    assertThat(saved).isFalse();
+    verify(contiRepository, never()).save(any(Conti.class));
+    verify(contiHistoryService, never()).record(any(), any());
+  }
+
+  private static ContiEditOperation changeKey(Long songId, String key) {
+    return ContiEditOperation.builder().type(ContiEditOperationType.CHANGE_KEY).songId(songId)
+        .performanceKey(key).editorId(1L).build();
+  }
+
+  private static ContiEditOperation editInstructions(Long songId, String instructions) {
+    return ContiEditOperation.builder().type(ContiEditOperationType.EDIT_INSTRUCTIONS)
+        .songId(songId).specialInstructions(instructions).editorId(1L).build();
+  }
+
+  private static ContiEditOperation move(Long songId, int toIndex) {
+    return ContiEditOperation.builder().type(ContiEditOperationType.MOVE_SONG).songId(songId)
+        .toIndex(toIndex).editorId(1L).build();
+  }
+}
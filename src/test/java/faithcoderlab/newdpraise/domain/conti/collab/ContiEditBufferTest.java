@@ -0,0 +1,130 @@
+package faithcoderlab.newdpraise.domain.conti.collab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+class ContiEditBufferTest {
+
+  private ContiCollaborationService contiCollaborationService;
+  private ApplicationEventPublisher eventPublisher;
+  private ContiEditBuffer contiEditBuffer;
+  private final List<List<ContiEditOperation>> flushed = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    contiCollaborationService = mock(ContiCollaborationService.class);
+    when(contiCollaborationService.applyOperations(eq(1L), anyList())).thenAnswer(invocation -> {
+      flushed.add(List.copyOf(invocation.getArgument(1)));
+      return true;
+    });
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    contiEditBuffer = new ContiEditBuffer(contiCollaborationService, eventPublisher, 500, 3000,
+        3);
+  }
+
+  @Test
+  @DisplayName("입력이 멈춘 뒤에 모아 둔 연산을 한 번에 저장한다")
+  void flushAfterDebounce() {
+    // given
+    contiEditBuffer.submit(1L, operation(10L, "A"), 0);
+    contiEditBuffer.submit(1L, operation(10L, "B"), 100);
+    contiEditBuffer.submit(1L, operation(11L, "C"), 300);
+
+    // when
+    contiEditBuffer.flushDue(700);
+    List<List<ContiEditOperation>> beforeQuiet = List.copyOf(flushed);
+    contiEditBuffer.flushDue(800);
+
+    // then
+    assertThat(beforeQuiet).isEmpty();
+    assertThat(flushed).hasSize(1);
+    assertThat(flushed.get(0)).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("입력이 계속되어도 가장 오래된 연산이 오래 기다렸으면 저장한다")
+  void flushAfterMaxDelay() {
+    // given
+    for (long now = 0; now <= 3000; now += 200) {
+      contiEditBuffer.submit(1L, operation(10L, "A" + now), now);
+      contiEditBuffer.flushDue(now);
+    }
+
+    // then
+    assertThat(flushed).hasSize(1);
+    assertThat(flushed.get(0)).hasSize(16);
+  }
+
+  @Test
+  @DisplayName("잠금 버전이 부딪히면 연산을 되돌려 두었다가 다시 저장한다")
+  void retryOnOptimisticLockFailure() {
+    // given
+    when(contiCollaborationService.applyOperations(eq(1L), anyList()))
+        .thenThrow(new ObjectOptimisticLockingFailureException("Conti", 1L))
+        .thenAnswer(invocation -> {
+          flushed.add(List.copyOf(invocation.getArgument(1)));
+          return true;
+        });
+    contiEditBuffer.submit(1L, operation(10L, "A"), 0);
+
+    // when
+    contiEditBuffer.flushDue(600);
+    contiEditBuffer.submit(1L, operation(11L, "B"), 650);
+    contiEditBuffer.flushDue(1200);
+
+    // then
+    assertThat(flushed).hasSize(1);
+    assertThat(flushed.get(0)).extracting(ContiEditOperation::getPerformanceKey)
+        .containsExactly("A", "B");
+    verify(contiCollaborationService, times(2)).applyOperations(eq(1L), anyList());
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  @DisplayName("끝내 저장하지 못하면 편집자들이 다시 맞출 잠금 버전을 알린다")
+  void rejectAfterRetriesExhausted() {
+    // given
+    when(contiCollaborationService.applyOperations(eq(1L), anyList()))
+        .thenThrow(new ObjectOptimisticLockingFailureException("Conti", 1L));
+    when(contiCollaborationService.getLockVersion(1L)).thenReturn(7L);
+    contiEditBuffer.submit(1L, operation(10L, "A"), 0);
+
+    // when
+    contiEditBuffer.flushDue(600);
+    contiEditBuffer.flushDue(1200);
+    contiEditBuffer.flushDue(1800);
+    contiEditBuffer.flushDue(2400);
+
+    // then
+    verify(contiCollaborationService, times(3)).applyOperations(eq(1L), anyList());
+    ArgumentCaptor<ContiEditRejectedEvent> captor =
+        ArgumentCaptor.forClass(ContiEditRejectedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertThat(captor.getValue().getContiId()).isEqualTo(1L);
+    assertThat(captor.getValue().getLockVersion()).isEqualTo(7L);
+  }
+
+  private static ContiEditOperation operation(Long songId, String key) {
+    return ContiEditOperation.builder()
+        .type(ContiEditOperationType.CHANGE_KEY)
+        .songId(songId)
+        .performanceKey(key)
+        .build();
+  }
+}
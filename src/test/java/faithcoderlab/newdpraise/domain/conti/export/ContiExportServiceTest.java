@@ -0,0 +1,119 @@
+package faithcoderlab.newdpraise.domain.conti.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContiExportServiceTest {
+
+  private ContiRepository contiRepository;
+  private EntityManager entityManager;
+  private ObjectMapper objectMapper;
+  private ContiExportService contiExportService;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    contiRepository = mock(ContiRepository.class);
+    entityManager = mock(EntityManager.class);
+    objectMapper = new ObjectMapper().findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    contiExportService = new ContiExportService(contiRepository, entityManager, objectMapper, 2);
+    user = User.builder().id(1L).email("leader@example.com").name("인도자").role(Role.USER)
+        .build();
+  }
+
+  @Test
+  @DisplayName("NDJSON 내보내기 - 콘티마다 한 줄씩 쓰고 묶음마다 영속성 컨텍스트를 비운 뒤 커서를 닫는다")
+  void exportNdjson() throws Exception {
+    // given
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<Conti> contis = Stream.of(
+            conti(3L, "주일 3부", LocalDate.of(2025, 4, 13), song("물댄 동산", "G")),
+            conti(2L, "토요 연습", LocalDate.of(2025, 4, 12)),
+            conti(1L, "주일 2부", LocalDate.of(2025, 4, 6), song("주 은혜임을", "A")))
+        .onClose(() -> closed.set(true));
+    when(contiRepository.streamAccessible(user, null, null)).thenReturn(contis);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // when
+    int count = contiExportService.export(user, ContiExportFormat.NDJSON, null, null, output);
+
+    // then
+    List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+    assertThat(count).isEqualTo(3);
+    assertThat(lines).hasSize(3);
+    JsonNode first = objectMapper.readTree(lines.get(0));
+    assertThat(first.get("id").asLong()).isEqualTo(3L);
+    assertThat(first.get("scheduledAt").asText()).isEqualTo("2025-04-13");
+    assertThat(first.get("creatorName").asText()).isEqualTo("인도자");
+    assertThat(first.get("songs").get(0).get("performanceKey").asText()).isEqualTo("G");
+    assertThat(objectMapper.readTree(lines.get(1)).get("songs")).isEmpty();
+    verify(entityManager, times(2)).clear();
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  @DisplayName("CSV 내보내기 - 곡마다 한 줄을 쓰고 쉼표, 따옴표, 줄바꿈이 든 값은 따옴표로 감싼다")
+  void exportCsv() throws Exception {
+    // given
+    Song song = song("주 은혜임을", "A");
+    song.setSpecialInstructions("전주 \"길게\",\n후렴 두 번");
+    when(contiRepository.streamAccessible(user, LocalDate.of(2025, 4, 1), null))
+        .thenReturn(Stream.of(
+            conti(1L, "주일 2부", LocalDate.of(2025, 4, 6), song("물댄 동산", "G"), song),
+            conti(2L, "토요 연습", LocalDate.of(2025, 4, 12))));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // when
+    contiExportService.export(user, ContiExportFormat.CSV, LocalDate.of(2025, 4, 1), null,
+        output);
+
+    // then
+    String csv = output.toString(StandardCharsets.UTF_8);
+    assertThat(csv).startsWith("\uFEFFconti_id,scheduled_at,conti_title");
+    List<String> lines = List.of(csv.substring(1).split("\r\n"));
+    assertThat(lines).hasSize(4);
+    assertThat(lines.get(1)).isEqualTo("1,2025-04-06,주일 2부,FINALIZED,인도자,1,물댄 동산,,,G,,,");
+    assertThat(lines.get(2)).endsWith(",\"전주 \"\"길게\"\",\n후렴 두 번\"");
+    assertThat(lines.get(3)).isEqualTo("2,2025-04-12,토요 연습,FINALIZED,인도자,,,,,,,,");
+  }
+
+  private Conti conti(Long id, String title, LocalDate scheduledAt, Song... songs) {
+    return Conti.builder()
+        .id(id)
+        .title(title)
+        .scheduledAt(scheduledAt)
+        .creator(user)
+        .status(ContiStatus.FINALIZED)
+        .songs(new ArrayList<>(List.of(songs)))
+        .build();
+  }
+
+  private static Song song(String title, String performanceKey) {
+    return Song.builder().title(title).performanceKey(performanceKey).build();
+  }
+}
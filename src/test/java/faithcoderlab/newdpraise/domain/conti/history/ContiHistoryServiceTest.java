@@ -0,0 +1,174 @@
+package faithcoderlab.newdpraise.domain.conti.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.conti.history.dto.ContiSnapshot;
+import faithcoderlab.newdpraise.domain.conti.share.ContiShareService;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import faithcoderlab.newdpraise.global.exception.ResourceNotFoundException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContiHistoryServiceTest {
+
+  private final List<ContiRevision> rows = new ArrayList<>();
+  private ContiHistoryService contiHistoryService;
+  private User editor;
+  private Conti conti;
+
+  @BeforeEach
+  void setUp() {
+    ContiRevisionRepository repository = mock(ContiRevisionRepository.class);
+    when(repository.save(any(ContiRevision.class))).thenAnswer(invocation -> {
+      ContiRevision row = invocation.getArgument(0);
+      row.setId((long) rows.size() + 1);
+      rows.add(row);
+      return row;
+    });
+    when(repository.findTopByContiIdOrderByRevisionDesc(anyLong())).thenAnswer(invocation ->
+        rows.stream()
+            .filter(row -> row.getContiId().equals(invocation.getArgument(0)))
+            .max(Comparator.comparingLong(ContiRevision::getRevision)));
+    when(repository.findTopByContiIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(
+        anyLong(), anyLong())).thenAnswer(invocation -> rows.stream()
+        .filter(row -> row.getContiId().equals(invocation.getArgument(0)))
+        .filter(row -> row.isSnapshot() && row.getRevision() <= (long) invocation.getArgument(1))
+        .max(Comparator.comparingLong(ContiRevision::getRevision)));
+    when(repository.findByContiIdAndRevisionBetweenOrderByRevisionAsc(anyLong(), anyLong(),
+        anyLong())).thenAnswer(invocation -> rows.stream()
+        .filter(row -> row.getContiId().equals(invocation.getArgument(0)))
+        .filter(row -> row.getRevision() >= (long) invocation.getArgument(1)
+            && row.getRevision() <= (long) invocation.getArgument(2))
+        .sorted(Comparator.comparingLong(ContiRevision::getRevision))
+        .toList());
+
+    contiHistoryService = new ContiHistoryService(repository, mock(ContiRepository.class),
+        mock(ContiShareService.class), new ObjectMapper().findAndRegisterModules(), 3);
+
+    editor = User.builder().id(1L).email("leader@example.com").name("인도자").role(Role.USER)
+        .build();
+    List<Song> songs = new ArrayList<>();
+    songs.add(Song.builder().id(10L).title("물댄 동산").originalKey("G").build());
+    songs.add(Song.builder().id(11L).title("주 은혜임을").originalKey("A").build());
+    conti = Conti.builder()
+        .id(100L)
+        .title("주일 예배")
+        .scheduledAt(LocalDate.of(2025, 4, 6))
+        .creator(editor)
+        .songs(songs)
+        .status(ContiStatus.DRAFT)
+        .version("1.0")
+        .build();
+  }
+
+  @Test
+  @DisplayName("기록 - 첫 버전은 스냅샷, 이후는 바뀐 부분만 패치로 남긴다")
+  void recordStoresPatches() {
+    // when
+    contiHistoryService.record(conti, editor);
+    conti.setTitle("주일 2부 예배");
+    contiHistoryService.record(conti, editor);
+    conti.getSongs().add(0, Song.builder().id(12L).title("은혜 아니면").originalKey("D").build());
+    ContiRevision inserted = contiHistoryService.record(conti, editor);
+
+    // then
+    assertThat(rows).extracting(ContiRevision::getRevision).containsExactly(1L, 2L, 3L);
+    assertThat(rows.get(0).isSnapshot()).isTrue();
+    assertThat(rows.get(1).isSnapshot()).isFalse();
+    assertThat(rows.get(1).getOperationCount()).isEqualTo(1);
+    assertThat(rows.get(1).getContent()).contains("/title").doesNotContain("물댄 동산");
+    assertThat(inserted.isSnapshot()).isFalse();
+    assertThat(inserted.getOperationCount()).isEqualTo(1);
+    assertThat(inserted.getContent()).contains("\"add\"", "/songs/0");
+  }
+
+  @Test
+  @DisplayName("기록 - 원문은 고친 줄만 패치로 남기고 조회하면 원문 그대로 돌려준다")
+  void recordStoresLinePatchesForOriginalText() {
+    // given
+    String text = "20250406 주일 예배\r\n\n1. 물댄 동산 G\n2. 주 은혜임을 A\n\n주제 : 은혜";
+    conti.setOriginalText(text);
+    contiHistoryService.record(conti, editor);
+
+    // when
+    String edited = text.replace("2. 주 은혜임을 A", "2. 주 은혜임을 Bb");
+    conti.setOriginalText(edited);
+    ContiRevision revision = contiHistoryService.record(conti, editor);
+
+    // then
+    assertThat(revision.isSnapshot()).isFalse();
+    assertThat(revision.getOperationCount()).isEqualTo(1);
+    assertThat(revision.getContent()).contains("/originalText/3", "2. 주 은혜임을 Bb")
+        .doesNotContain("물댄 동산");
+    assertThat(contiHistoryService.getSnapshot(rows.get(0)).getOriginalText()).isEqualTo(text);
+    assertThat(contiHistoryService.getSnapshot(revision).getOriginalText()).isEqualTo(edited);
+  }
+
+  @Test
+  @DisplayName("기록 - 내용이 같으면 새 버전을 남기지 않는다")
+  void recordSkipsUnchanged() {
+    // when
+    ContiRevision first = contiHistoryService.record(conti, editor);
+    ContiRevision second = contiHistoryService.record(conti, editor);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(rows).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("조회 - 가장 가까운 스냅샷부터 패치를 적용해 버전을 만든다")
+  void getSnapshotReplaysFromNearestSnapshot() {
+    // given
+    for (String title : List.of("1부", "2부", "3부", "4부")) {
+      conti.setTitle(title);
+      contiHistoryService.record(conti, editor);
+    }
+    conti.getSongs().get(1).setPerformanceKey("Bb");
+    contiHistoryService.record(conti, editor);
+    conti.getSongs().remove(0);
+    contiHistoryService.record(conti, editor);
+
+    // when
+    ContiSnapshot second = contiHistoryService.getSnapshot(rows.get(1));
+    ContiSnapshot latest = contiHistoryService.getSnapshot(rows.get(5));
+
+    // then
+    assertThat(rows).extracting(ContiRevision::isSnapshot)
+        .containsExactly(true, false, false, true, false, false);
+    assertThat(second.getTitle()).isEqualTo("2부");
+    assertThat(second.getSongs()).extracting(ContiSnapshot.SongDto::getTitle)
+        .containsExactly("물댄 동산", "주 은혜임을");
+    assertThat(latest).isEqualTo(ContiSnapshot.of(conti));
+    assertThat(latest.getSongs()).extracting(ContiSnapshot.SongDto::getPerformanceKey)
+        .containsExactly("Bb");
+  }
+
+  @Test
+  @DisplayName("조회 - 없는 버전이면 예외")
+  void getSnapshotNotFound() {
+    // given
+    contiHistoryService.record(conti, editor);
+    ContiRevision missing = ContiRevision.builder().contiId(100L).revision(5L).build();
+
+    // when & then
+    assertThatThrownBy(() -> contiHistoryService.getSnapshot(missing))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+}
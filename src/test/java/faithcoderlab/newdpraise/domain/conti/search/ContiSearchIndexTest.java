@@ -0,0 +1,161 @@
+package faithcoderlab.newdpraise.domain.conti.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.conti.dto.ContiSearchRequest;
+import faithcoderlab.newdpraise.domain.conti.search.ContiSearchIndex.Field;
+import faithcoderlab.newdpraise.domain.conti.search.ContiSearchIndex.Hit;
+import faithcoderlab.newdpraise.domain.conti.search.ContiSearchIndex.Result;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContiSearchIndexTest {
+
+  private ContiSearchIndex contiSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    contiSearchIndex = new ContiSearchIndex();
+    contiSearchIndex.put(document(1L, 10L, LocalDate.of(2024, 3, 31), ContiStatus.DRAFT,
+        "부활절 찬양 예배", "주님의 은혜를 기억하는 예배",
+        List.of("주 은혜임을 - 마커스", "물댄 동산"), List.of("후렴 두 번 <반복>")));
+    contiSearchIndex.put(document(2L, 10L, LocalDate.of(2024, 4, 7), ContiStatus.FINALIZED,
+        "청년부 예배", null,
+        List.of("은혜 아니면 - 어노인팅"), List.of()));
+    contiSearchIndex.put(document(3L, 20L, LocalDate.of(2024, 4, 14), ContiStatus.DRAFT,
+        "Easter Service", null,
+        List.of("Way Maker"), List.of()));
+  }
+
+  @Test
+  @DisplayName("검색 - 조사가 붙은 단어도 찾고 일치한 부분을 표시한다")
+  void searchBigrams() {
+    // when
+    Result result = contiSearchIndex.search("은혜", document -> true, 10);
+
+    // then
+    assertThat(result.getTotalHits()).isEqualTo(2);
+    assertThat(result.getHits()).extracting(hit -> hit.getDocument().getId())
+        .containsExactlyInAnyOrder(1L, 2L);
+    assertThat(result.getHits()).allSatisfy(hit -> {
+      assertThat(hit.getMatchedField()).isEqualTo(Field.SONG);
+      assertThat(hit.getSnippet()).contains("<em>은혜</em>");
+    });
+  }
+
+  @Test
+  @DisplayName("검색 - 특이사항을 찾고 스니펫의 HTML은 이스케이프한다")
+  void searchSongNotes() {
+    // when
+    Result result = contiSearchIndex.search("반복", document -> true, 10);
+
+    // then
+    assertThat(result.getHits()).hasSize(1);
+    Hit hit = result.getHits().get(0);
+    assertThat(hit.getMatchedField()).isEqualTo(Field.SONG_NOTE);
+    assertThat(hit.getSnippet()).isEqualTo("후렴 두 번 &lt;<em>반복</em>&gt;");
+  }
+
+  @Test
+  @DisplayName("검색 - 조건에 맞지 않거나 지운 콘티는 빠진다")
+  void searchWithFilterAndRemove() {
+    // when
+    Result draftOnly = contiSearchIndex.search("은혜",
+        document -> document.getStatus() == ContiStatus.DRAFT, 10);
+    contiSearchIndex.remove(1L);
+    Result afterRemove = contiSearchIndex.search("은혜", document -> true, 10);
+
+    // then
+    assertThat(draftOnly.getHits()).extracting(hit -> hit.getDocument().getId())
+        .containsExactly(1L);
+    assertThat(afterRemove.getHits()).extracting(hit -> hit.getDocument().getId())
+        .containsExactly(2L);
+    assertThat(contiSearchIndex.search("없는 말", document -> true, 10).getTotalHits())
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("적재 - 적재 중 바뀌거나 지워진 콘티는 옛 값으로 덮지 않는다")
+  void loadDoesNotOverwriteLiveChanges() {
+    // given
+    contiSearchIndex.beginLoad();
+    contiSearchIndex.put(document(1L, 10L, LocalDate.of(2024, 3, 31), ContiStatus.DRAFT,
+        "새 제목", null, List.of(), List.of()));
+    contiSearchIndex.remove(2L);
+
+    // when
+    contiSearchIndex.load(List.of(
+        document(1L, 10L, LocalDate.of(2024, 3, 31), ContiStatus.DRAFT,
+            "옛 제목", null, List.of(), List.of()),
+        document(2L, 10L, LocalDate.of(2024, 4, 7), ContiStatus.DRAFT,
+            "지운 콘티", null, List.of(), List.of())));
+    contiSearchIndex.endLoad();
+
+    // then
+    assertThat(contiSearchIndex.size()).isEqualTo(1);
+    assertThat(contiSearchIndex.search("새 제목", document -> true, 10).getTotalHits())
+        .isEqualTo(1);
+    assertThat(contiSearchIndex.search("옛 제목", document -> true, 10).getTotalHits())
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("검색 - 예정일 없는 콘티는 같은 점수에서 맨 뒤에 오고, 기간 조건에는 들지 않는다")
+  void searchUndatedConti() {
+    // given
+    contiSearchIndex.put(document(4L, 10L, null, ContiStatus.DRAFT,
+        "Way Maker 연습", null, List.of(), List.of()));
+    contiSearchIndex.put(document(5L, 10L, LocalDate.of(2024, 5, 5), ContiStatus.DRAFT,
+        "Way Maker 연습", null, List.of(), List.of()));
+    ContiSearchRequest april = ContiSearchRequest.builder()
+        .startDate(LocalDate.of(2024, 4, 1))
+        .endDate(LocalDate.of(2024, 4, 30))
+        .build();
+
+    // when
+    Result all = contiSearchIndex.search("연습", document -> true, 10);
+    Result inApril = contiSearchIndex.search("Way Maker",
+        ContiSearchService.matches(april), 10);
+
+    // then
+    assertThat(all.getHits()).extracting(hit -> hit.getDocument().getId())
+        .containsExactly(5L, 4L);
+    assertThat(inApril.getHits()).extracting(hit -> hit.getDocument().getId())
+        .containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("검색 - 사용자가 만들었거나 공유받은 콘티만 찾는다")
+  void searchVisibleOnly() {
+    // given
+    contiSearchIndex.put(document(4L, 20L, LocalDate.of(2024, 4, 21), ContiStatus.DRAFT,
+        "은혜 찬양", null, List.of(), List.of()));
+    contiSearchIndex.put(document(5L, 30L, LocalDate.of(2024, 4, 28), ContiStatus.DRAFT,
+        "은혜의 강가로", null, List.of(), List.of()));
+
+    // when
+    Result owned = contiSearchIndex.search("은혜", 20L, Set.of(), document -> true, 10);
+    Result withShared = contiSearchIndex.search("은혜", 20L, Set.of(1L, 99L),
+        document -> true, 10);
+    Result stranger = contiSearchIndex.search("은혜", 40L, Set.of(), document -> true, 10);
+
+    // then
+    assertThat(owned.getHits()).extracting(hit -> hit.getDocument().getId())
+        .containsExactly(4L);
+    assertThat(withShared.getHits()).extracting(hit -> hit.getDocument().getId())
+        .containsExactlyInAnyOrder(4L, 1L);
+    assertThat(stranger.getTotalHits()).isZero();
+  }
+
+  private ContiSearchDocument document(Long id, Long creatorId, LocalDate scheduledAt,
+      ContiStatus status, String title, String description, List<String> songTitles,
+      List<String> songNotes) {
+    return new ContiSearchDocument(id, creatorId, scheduledAt, status, title, description, null,
+        songTitles, songNotes);
+  }
+}
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class ContiShareServiceTest {
@@ -45,6 +46,9 @@ class ContiShareServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private ContiShareService contiShareService;
 
@@ -275,6 +279,7 @@ class ContiShareServiceTest {
 
     verify(contiShareRepository).findById(1L);
     verify(contiShareRepository).save(testShare);
+    verify(eventPublisher).publishEvent(any(ContiShareChangedEvent.class));
   }
 
   @Test
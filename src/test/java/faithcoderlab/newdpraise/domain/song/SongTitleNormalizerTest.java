@@ -0,0 +1,32 @@
+package faithcoderlab.newdpraise.domain.song;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SongTitleNormalizerTest {
+
+  @ParameterizedTest(name = "{0} = {1}")
+  @CsvSource({
+      "'주님 나라 이를 때까지', '주님나라 이를때까지!'",
+      "'Way Maker', 'waymaker'",
+      "'WAY　MAKER', 'Way-Maker'",
+      "'ＡＬＩＶＥ', 'alive'",
+      "'물댄 동산', ' 물댄  동산 '"
+  })
+  @DisplayName("띄어쓰기, 대소문자, 문장 부호, 전각 문자가 달라도 같은 키로 정규화")
+  void normalize_SameSong(String first, String second) {
+    assertThat(SongTitleNormalizer.normalize(first))
+        .isEqualTo(SongTitleNormalizer.normalize(second));
+  }
+
+  @Test
+  @DisplayName("문장 부호만 있는 제목은 띄어쓰기만 뺀 값을 키로 사용")
+  void normalize_PunctuationOnly() {
+    assertThat(SongTitleNormalizer.normalize("? !")).isEqualTo("?!");
+    assertThat(SongTitleNormalizer.normalize(null)).isEmpty();
+  }
+}
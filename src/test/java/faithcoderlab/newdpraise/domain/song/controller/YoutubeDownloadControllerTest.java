@@ -1,30 +1,41 @@
 package faithcoderlab.newdpraise.domain.song.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import faithcoderlab.newdpraise.domain.song.AudioQuality;
 import faithcoderlab.newdpraise.domain.song.dto.AudioDownloadResult;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
 import faithcoderlab.newdpraise.domain.song.dto.YoutubeDownloadRequest;
 import faithcoderlab.newdpraise.domain.song.dto.YoutubeVideoInfo;
+import faithcoderlab.newdpraise.domain.song.service.AudioStorageService;
+import faithcoderlab.newdpraise.domain.song.service.AudioTranscodeService;
 import faithcoderlab.newdpraise.domain.song.service.YoutubeDownloadService;
 import faithcoderlab.newdpraise.domain.user.Role;
 import faithcoderlab.newdpraise.domain.user.User;
 import faithcoderlab.newdpraise.domain.user.UserRepository;
 import faithcoderlab.newdpraise.global.exception.YoutubeDownloadException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -46,9 +57,18 @@ class YoutubeDownloadControllerTest {
   @MockBean
   private YoutubeDownloadService youtubeDownloadService;
 
+  @MockBean
+  private AudioStorageService audioStorageService;
+
+  @MockBean
+  private AudioTranscodeService audioTranscodeService;
+
   @MockBean
   private UserRepository userRepository;
 
+  @TempDir
+  Path tempDir;
+
   private User testUser;
   private YoutubeVideoInfo testVideoInfo;
   private AudioDownloadResult testDownloadResult;
@@ -262,6 +282,97 @@ class YoutubeDownloadControllerTest {
         .andExpect(status().isNotFound());
   }
 
+  @Test
+  @DisplayName("오디오 스트리밍 - 정리되지 않은 파일 없음")
+  @WithMockUser(username = "test@example.com")
+  void streamAudio_NotFound_ReturnsNotFound() throws Exception {
+    // given
+    String videoId = "nonexistent";
+    when(youtubeDownloadService.findAudioFile(videoId)).thenReturn(Optional.empty());
+    when(audioStorageService.restoreEvicted(videoId)).thenReturn(Optional.empty());
+
+    // when & then
+    mockMvc.perform(get("/api/songs/youtube/stream/{videoId}", videoId))
+        .andDo(print())
+        .andExpect(status().isNotFound());
+
+    verify(audioStorageService, never()).recordAccess(videoId);
+  }
+
+  @Test
+  @DisplayName("오디오 스트리밍 - Save-Data 요청 시 저비트레이트 변환본 제공")
+  @WithMockUser(username = "test@example.com")
+  void streamAudio_SaveData_ServesLowVariant() throws Exception {
+    // given
+    String videoId = "R9tUikvBv5M";
+    Path original = Files.write(tempDir.resolve(videoId + ".webm"), new byte[2048]);
+    Path low = Files.write(tempDir.resolve(videoId + "-low.m4a"), new byte[512]);
+
+    when(youtubeDownloadService.findAudioFile(videoId))
+        .thenReturn(Optional.of(entry(videoId, original, "audio/webm")));
+    when(audioTranscodeService.findVariant(videoId, AudioQuality.LOW))
+        .thenReturn(Optional.of(entry(videoId, low, "audio/mp4")));
+
+    // when & then
+    mockMvc.perform(get("/api/songs/youtube/stream/{videoId}", videoId)
+            .header("Save-Data", "on"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "audio/mp4"))
+        .andExpect(header().longValue("Content-Length", 512L))
+        .andExpect(header().string("Vary", "Save-Data, ECT, Downlink"));
+
+    verify(audioStorageService).recordAccess(videoId);
+  }
+
+  @Test
+  @DisplayName("오디오 스트리밍 - 변환본이 없으면 원본 제공")
+  @WithMockUser(username = "test@example.com")
+  void streamAudio_NoVariant_ServesOriginal() throws Exception {
+    // given
+    String videoId = "R9tUikvBv5M";
+    Path original = Files.write(tempDir.resolve(videoId + ".webm"), new byte[2048]);
+
+    when(youtubeDownloadService.findAudioFile(videoId))
+        .thenReturn(Optional.of(entry(videoId, original, "audio/webm")));
+    when(audioTranscodeService.findVariant(any(), any())).thenReturn(Optional.empty());
+
+    // when & then
+    mockMvc.perform(get("/api/songs/youtube/stream/{videoId}", videoId)
+            .param("quality", "low"))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "audio/webm"))
+        .andExpect(header().longValue("Content-Length", 2048L));
+  }
+
+  @Test
+  @DisplayName("오디오 스트리밍 - 버전이 붙은 요청은 변경 불가 캐시로 응답")
+  @WithMockUser(username = "test@example.com")
+  void streamAudio_VersionedUrl_ReturnsImmutableCacheControl() throws Exception {
+    // given
+    String videoId = "R9tUikvBv5M";
+    Path original = Files.write(tempDir.resolve(videoId + ".webm"), new byte[2048]);
+    AudioLibraryEntry entry = entry(videoId, original, "audio/webm");
+
+    when(youtubeDownloadService.findAudioFile(videoId)).thenReturn(Optional.of(entry));
+    when(audioTranscodeService.findVariant(any(), any())).thenReturn(Optional.empty());
+
+    // when & then
+    mockMvc.perform(get("/api/songs/youtube/stream/{videoId}", videoId)
+            .param("v", entry.getVersion()))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"" + entry.getVersion() + "\""))
+        .andExpect(header().string("Cache-Control", "private, max-age=31536000, immutable"));
+
+    mockMvc.perform(get("/api/songs/youtube/stream/{videoId}", videoId)
+            .header("If-None-Match", "\"" + entry.getVersion() + "\""))
+        .andDo(print())
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("Cache-Control", "private, no-cache"));
+  }
+
   @Test
   @DisplayName("인증되지 않은 사용자 접근 - 실패")
   void unauthenticatedAccess_ReturnsUnauthorized() throws Exception {
@@ -270,4 +381,14 @@ class YoutubeDownloadControllerTest {
         .andDo(print())
         .andExpect(status().isUnauthorized());
   }
+
+  private AudioLibraryEntry entry(String videoId, Path path, String mimeType) throws Exception {
+    return AudioLibraryEntry.builder()
+        .videoId(videoId)
+        .path(path)
+        .size(Files.size(path))
+        .lastModified(Files.getLastModifiedTime(path).toMillis())
+        .mimeType(mimeType)
+        .build();
+  }
 }
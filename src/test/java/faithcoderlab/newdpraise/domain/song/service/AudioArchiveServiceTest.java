@@ -0,0 +1,151 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiService;
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.dto.AudioArchive;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AudioArchiveServiceTest {
+
+  private static final String READY_URL = "https://youtube.com/watch?v=R9tUikvBv5M";
+  private static final String MISSING_URL = "https://youtu.be/abcdef12345";
+
+  @Mock
+  private ContiService contiService;
+
+  @Mock
+  private YoutubeDownloadService youtubeDownloadService;
+
+  @Mock
+  private AudioPrefetchService audioPrefetchService;
+
+  @TempDir
+  Path tempDir;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private AudioArchiveService audioArchiveService;
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    audioArchiveService = new AudioArchiveService(
+        contiService, youtubeDownloadService, audioPrefetchService, objectMapper);
+
+    testUser = User.builder()
+        .id(1L)
+        .email("suming@example.com")
+        .name("수밍")
+        .role(Role.USER)
+        .build();
+  }
+
+  @Test
+  @DisplayName("준비된 곡은 압축 없이 담고 빠진 곡은 다운로드 요청 후 manifest에 기록")
+  void prepareAndWriteArchive() throws Exception {
+    // given
+    Song ready = Song.builder().id(10L).title("정직한 예배").youtubeUrl(READY_URL).build();
+    Song missing = Song.builder().id(11L).title("주 품에").youtubeUrl(MISSING_URL).build();
+    Conti conti = Conti.builder()
+        .id(100L)
+        .title("수련회 콘티")
+        .scheduledAt(LocalDate.now())
+        .creator(testUser)
+        .songs(new ArrayList<>(List.of(ready, missing)))
+        .version("1.0")
+        .status(ContiStatus.DRAFT)
+        .build();
+
+    byte[] audio = "audio-bytes".getBytes();
+    Path file = Files.write(tempDir.resolve("R9tUikvBv5M.m4a"), audio);
+    AudioLibraryEntry entry = AudioLibraryEntry.builder()
+        .videoId("R9tUikvBv5M")
+        .path(file)
+        .size(audio.length)
+        .lastModified(Files.getLastModifiedTime(file).toMillis())
+        .mimeType("audio/mp4")
+        .build();
+
+    when(contiService.getContiByIdAndCheckPermission(100L, testUser)).thenReturn(conti);
+    when(youtubeDownloadService.extractVideoId(READY_URL)).thenReturn("R9tUikvBv5M");
+    when(youtubeDownloadService.extractVideoId(MISSING_URL)).thenReturn("abcdef12345");
+    when(youtubeDownloadService.findAudioFile("R9tUikvBv5M")).thenReturn(Optional.of(entry));
+    when(youtubeDownloadService.findAudioFile("abcdef12345")).thenReturn(Optional.empty());
+    when(audioPrefetchService.enqueueDownload("abcdef12345", MISSING_URL, testUser)).thenReturn(true);
+
+    // when
+    AudioArchive archive = audioArchiveService.prepareArchive(100L, testUser);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    audioArchiveService.writeArchive(archive, output);
+
+    // then
+    verify(audioPrefetchService).enqueueDownload("abcdef12345", MISSING_URL, testUser);
+
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    Map<String, Integer> methods = new LinkedHashMap<>();
+    try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+      ZipEntry zipEntry;
+      while ((zipEntry = zip.getNextEntry()) != null) {
+        methods.put(zipEntry.getName(), zipEntry.getMethod());
+        entries.put(zipEntry.getName(), zip.readAllBytes());
+      }
+    }
+
+    assertThat(entries).containsOnlyKeys("01 - 정직한 예배.m4a", AudioArchiveService.MANIFEST_ENTRY_NAME);
+    assertThat(entries.get("01 - 정직한 예배.m4a")).isEqualTo(audio);
+    assertThat(methods.get("01 - 정직한 예배.m4a")).isEqualTo(ZipEntry.STORED);
+    assertThat(methods.get(AudioArchiveService.MANIFEST_ENTRY_NAME)).isEqualTo(ZipEntry.STORED);
+
+    JsonNode manifest = objectMapper.readTree(entries.get(AudioArchiveService.MANIFEST_ENTRY_NAME));
+    assertThat(manifest.get("files")).hasSize(1);
+    assertThat(manifest.get("missing")).hasSize(1);
+    assertThat(manifest.get("missing").get(0).get("title").asText()).isEqualTo("주 품에");
+    assertThat(manifest.get("missing").get(0).get("fetchQueued").asBoolean()).isTrue();
+  }
+
+  @Test
+  @DisplayName("ZIP 항목 이름에서 경로 구분자와 금지 문자를 제거")
+  void toEntryName_SanitizesTitle() {
+    // given
+    AudioLibraryEntry entry = AudioLibraryEntry.builder()
+        .videoId("R9tUikvBv5M")
+        .path(Path.of("/tmp/R9tUikvBv5M.webm"))
+        .build();
+
+    // when & then
+    assertThat(AudioArchiveService.toEntryName(3, "../주님/찬양?", entry))
+        .isEqualTo("03 - .._주님_찬양_.webm");
+    assertThat(AudioArchiveService.toEntryName(12, " ", entry))
+        .isEqualTo("12 - R9tUikvBv5M.webm");
+  }
+}
@@ -34,6 +34,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class AudioFileServiceTest {
@@ -44,6 +46,15 @@ class AudioFileServiceTest {
   @Mock
   private YoutubeDownloadService youtubeDownloadService;
 
+  @Mock
+  private AudioTranscodeService audioTranscodeService;
+
+  @Mock
+  private AudioHlsService audioHlsService;
+
+  @Mock
+  private AudioLibraryIndex audioLibraryIndex;
+
   @InjectMocks
   private AudioFileService audioFileService;
 
@@ -243,10 +254,11 @@ class AudioFileServiceTest {
 
     when(audioFileRepository.findByVideoIdAndUploaderId(videoId, testUser.getId())).thenReturn(
         Optional.of(testAudioFile));
+    when(mockFile.exists()).thenReturn(true);
     when(mockFile.delete()).thenReturn(true);
 
     AudioFileService testService = new AudioFileService(audioFileRepository,
-        youtubeDownloadService) {
+        youtubeDownloadService, audioTranscodeService, audioHlsService, audioLibraryIndex) {
       @Override
       protected File getFileFromPath(String filePath) {
         return mockFile;
@@ -261,7 +273,51 @@ class AudioFileServiceTest {
 
     verify(audioFileRepository).findByVideoIdAndUploaderId(videoId, testUser.getId());
     verify(audioFileRepository).delete(testAudioFile);
+    verify(audioTranscodeService).removeVariants(videoId);
+    verify(audioHlsService).deleteSegments(videoId);
     verify(mockFile).delete();
+    verify(audioLibraryIndex).remove(videoId);
+  }
+
+  @Test
+  @DisplayName("오디오 파일 삭제 - 트랜잭션 안에서는 커밋된 뒤에 파일을 지운다")
+  void deleteAudioFile_InTransaction_DeletesAfterCommit() {
+    // given
+    String videoId = "R9tUikvBv5M";
+    File mockFile = mock(File.class);
+
+    when(audioFileRepository.findByVideoIdAndUploaderId(videoId, testUser.getId())).thenReturn(
+        Optional.of(testAudioFile));
+    when(mockFile.exists()).thenReturn(true);
+    when(mockFile.delete()).thenReturn(true);
+
+    AudioFileService testService = new AudioFileService(audioFileRepository,
+        youtubeDownloadService, audioTranscodeService, audioHlsService, audioLibraryIndex) {
+      @Override
+      protected File getFileFromPath(String filePath) {
+        return mockFile;
+      }
+    };
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // when
+      testService.deleteAudioFile(videoId, testUser);
+
+      // then
+      verify(audioFileRepository).delete(testAudioFile);
+      verify(mockFile, never()).delete();
+      verify(audioHlsService, never()).deleteSegments(any());
+      verify(audioLibraryIndex, never()).remove(any());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      verify(mockFile).delete();
+      verify(audioHlsService).deleteSegments(videoId);
+      verify(audioLibraryIndex).remove(videoId);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
   }
 
   @Test
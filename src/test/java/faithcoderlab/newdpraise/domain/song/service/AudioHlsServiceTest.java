@@ -0,0 +1,166 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.song.AudioQuality;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import faithcoderlab.newdpraise.domain.song.dto.HlsPlaylist;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+@ExtendWith(MockitoExtension.class)
+class AudioHlsServiceTest {
+
+  private static final String VIDEO_ID = "R9tUikvBv5M";
+  private static final String VERSION = "1a2b-400-18c";
+
+  @Mock
+  private AppConfig appConfig;
+
+  @Mock
+  private YoutubeDownloadService youtubeDownloadService;
+
+  @Mock
+  private AudioTranscodeService audioTranscodeService;
+
+  @TempDir
+  Path tempDir;
+
+  private AudioHlsService audioHlsService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(appConfig.getFileUploadDir()).thenReturn(tempDir.toString());
+    audioHlsService = new AudioHlsService(appConfig, youtubeDownloadService,
+        audioTranscodeService, new SyncTaskExecutor(), "nonexistent-ffmpeg-binary", 6, 160, 64, 30, 2);
+  }
+
+  @Test
+  @DisplayName("저비트레이트 변환본이 있으면 마스터 재생 목록에 함께 표시")
+  void getMasterPlaylist_WithLowVariant() {
+    // given
+    when(audioTranscodeService.findVariant(VIDEO_ID, AudioQuality.LOW))
+        .thenReturn(Optional.of(AudioLibraryEntry.builder().videoId(VIDEO_ID).build()));
+
+    // when
+    String playlist = audioHlsService.getMasterPlaylist(VIDEO_ID);
+
+    // then
+    assertThat(playlist).startsWith("#EXTM3U");
+    assertThat(playlist).contains("BANDWIDTH=160000", "original/index.m3u8");
+    assertThat(playlist).contains("BANDWIDTH=64000", "low/index.m3u8");
+  }
+
+  @Test
+  @DisplayName("세그먼트 URI에 버전 디렉토리를 붙임")
+  void rewritePlaylist_PrefixesVersion() {
+    // given
+    String playlist = "#EXTM3U\n"
+        + "#EXT-X-MAP:URI=\"init.mp4\"\n"
+        + "#EXTINF:6.000000,\n"
+        + "seg00000.m4s\n"
+        + "#EXT-X-ENDLIST\n";
+
+    // when
+    String rewritten = AudioHlsService.rewritePlaylist(playlist, VERSION);
+
+    // then
+    assertThat(rewritten).contains("#EXT-X-MAP:URI=\"" + VERSION + "/init.mp4\"");
+    assertThat(rewritten).contains("\n" + VERSION + "/seg00000.m4s\n");
+    assertThat(rewritten).contains("#EXT-X-ENDLIST");
+  }
+
+  @Test
+  @DisplayName("캐시된 세그먼트는 찾고 경로 조작 요청은 거부")
+  void findSegment_ValidatesNames() throws Exception {
+    // given
+    Path versionDir = tempDir.resolve("hls").resolve(VIDEO_ID).resolve("original").resolve(VERSION);
+    Files.createDirectories(versionDir);
+    Files.write(versionDir.resolve("seg00000.m4s"), new byte[128]);
+
+    // when & then
+    Optional<AudioLibraryEntry> segment =
+        audioHlsService.findSegment(VIDEO_ID, AudioQuality.ORIGINAL, VERSION, "seg00000.m4s");
+    assertThat(segment).isPresent();
+    assertThat(segment.get().getSize()).isEqualTo(128L);
+    assertThat(segment.get().getMimeType()).isEqualTo("audio/mp4");
+
+    assertThat(audioHlsService.findSegment(VIDEO_ID, AudioQuality.ORIGINAL, "..", "seg00000.m4s"))
+        .isEmpty();
+    assertThat(audioHlsService.findSegment("..", AudioQuality.ORIGINAL, VERSION, "seg00000.m4s"))
+        .isEmpty();
+    assertThat(audioHlsService.findSegment(VIDEO_ID, AudioQuality.ORIGINAL, VERSION, "index.m3u8"))
+        .isEmpty();
+  }
+
+  @Test
+  @DisplayName("ffmpeg를 실행할 수 없으면 재생 목록을 만들지 않고 UNAVAILABLE")
+  void getMediaPlaylist_FfmpegMissing_ReturnsUnavailable() throws Exception {
+    // given
+    when(youtubeDownloadService.findAudioFile(VIDEO_ID)).thenReturn(Optional.of(sourceEntry()));
+
+    // when
+    HlsPlaylist playlist = audioHlsService.getMediaPlaylist(VIDEO_ID, AudioQuality.ORIGINAL);
+
+    // then
+    assertThat(playlist.getStatus()).isEqualTo(HlsPlaylist.Status.UNAVAILABLE);
+    assertThat(tempDir.resolve("hls").resolve(VIDEO_ID).resolve("original")).isEmptyDirectory();
+  }
+
+  @Test
+  @DisplayName("세그먼트 생성이 끝나지 않았으면 요청 스레드에서 기다리지 않고 PENDING")
+  void getMediaPlaylist_Segmenting_ReturnsPending() throws Exception {
+    // given
+    AudioHlsService queued = new AudioHlsService(appConfig, youtubeDownloadService,
+        audioTranscodeService, task -> { }, "nonexistent-ffmpeg-binary", 6, 160, 64, 30, 2);
+    when(youtubeDownloadService.findAudioFile(VIDEO_ID)).thenReturn(Optional.of(sourceEntry()));
+
+    // when
+    HlsPlaylist playlist = queued.getMediaPlaylist(VIDEO_ID, AudioQuality.ORIGINAL);
+
+    // then
+    assertThat(playlist.getStatus()).isEqualTo(HlsPlaylist.Status.PENDING);
+    assertThat(queued.getRetryAfterSeconds()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("생성 대기열이 가득 차도 예외 없이 PENDING")
+  void getMediaPlaylist_QueueFull_ReturnsPending() throws Exception {
+    // given
+    AudioHlsService rejecting = new AudioHlsService(appConfig, youtubeDownloadService,
+        audioTranscodeService, task -> {
+          throw new TaskRejectedException("full");
+        }, "nonexistent-ffmpeg-binary", 6, 160, 64, 30, 2);
+    when(youtubeDownloadService.findAudioFile(VIDEO_ID)).thenReturn(Optional.of(sourceEntry()));
+
+    // when
+    HlsPlaylist playlist = rejecting.getMediaPlaylist(VIDEO_ID, AudioQuality.ORIGINAL);
+
+    // then
+    assertThat(playlist.getStatus()).isEqualTo(HlsPlaylist.Status.PENDING);
+  }
+
+  private AudioLibraryEntry sourceEntry() throws Exception {
+    Path source = Files.write(tempDir.resolve(VIDEO_ID + ".m4a"), new byte[16]);
+    return AudioLibraryEntry.builder()
+        .videoId(VIDEO_ID)
+        .path(source)
+        .size(16L)
+        .lastModified(Files.getLastModifiedTime(source).toMillis())
+        .mimeType("audio/mp4")
+        .build();
+  }
+}
@@ -0,0 +1,119 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AudioLibraryIndexTest {
+
+  @Mock
+  private AppConfig appConfig;
+
+  @TempDir
+  Path tempDir;
+
+  private Path audioDir;
+  private AudioLibraryIndex audioLibraryIndex;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    lenient().when(appConfig.getFileUploadDir()).thenReturn(tempDir.toString());
+    audioDir = Files.createDirectories(tempDir.resolve("audio"));
+    audioLibraryIndex = new AudioLibraryIndex(appConfig, false);
+  }
+
+  @Test
+  @DisplayName("시작 시 디렉토리 스캔으로 색인 생성")
+  void init_BuildsIndexFromDirectory() throws Exception {
+    // given
+    Files.writeString(audioDir.resolve("R9tUikvBv5M.m4a"), "audio-data");
+    Files.writeString(audioDir.resolve("abcdef12345.webm"), "webm");
+
+    // when
+    audioLibraryIndex.init();
+
+    // then
+    assertThat(audioLibraryIndex.contains("R9tUikvBv5M")).isTrue();
+    assertThat(audioLibraryIndex.contains("abcdef12345")).isTrue();
+    assertThat(audioLibraryIndex.getFileNames())
+        .containsExactly("R9tUikvBv5M.m4a", "abcdef12345.webm");
+
+    Optional<AudioLibraryEntry> entry = audioLibraryIndex.find("R9tUikvBv5M");
+    assertThat(entry).isPresent();
+    assertThat(entry.get().getSize()).isEqualTo(10L);
+    assertThat(entry.get().getMimeType()).isEqualTo("audio/mp4");
+  }
+
+  @Test
+  @DisplayName("단일 파일 갱신 및 삭제 반영")
+  void refresh_UpdatesAndRemovesEntry() throws Exception {
+    // given
+    audioLibraryIndex.init();
+    Path file = Files.writeString(audioDir.resolve("R9tUikvBv5M.m4a"), "audio");
+
+    // when
+    audioLibraryIndex.refresh(file);
+
+    // then
+    assertThat(audioLibraryIndex.contains("R9tUikvBv5M")).isTrue();
+
+    // when
+    Files.delete(file);
+    audioLibraryIndex.refresh(file);
+
+    // then
+    assertThat(audioLibraryIndex.contains("R9tUikvBv5M")).isFalse();
+  }
+
+  @Test
+  @DisplayName("재조정 시 사라진 파일 제거")
+  void reconcile_RemovesMissingFiles() throws Exception {
+    // given
+    Path file = Files.writeString(audioDir.resolve("R9tUikvBv5M.m4a"), "audio");
+    audioLibraryIndex.init();
+    Files.delete(file);
+
+    // when
+    audioLibraryIndex.reconcile();
+
+    // then
+    assertThat(audioLibraryIndex.getEntries()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("재조정 시 스캔에 없더라도 파일이 남아 있는 항목은 유지")
+  void reconcile_KeepsEntriesWhoseFilesExist() throws Exception {
+    // given
+    audioLibraryIndex.init();
+    Path outside = Files.createDirectories(tempDir.resolve("incoming"));
+    Path file = Files.writeString(outside.resolve("R9tUikvBv5M.m4a"), "audio");
+    audioLibraryIndex.refresh(file);
+
+    // when
+    audioLibraryIndex.reconcile();
+
+    // then
+    assertThat(audioLibraryIndex.contains("R9tUikvBv5M")).isTrue();
+  }
+
+  @Test
+  @DisplayName("확장자 기반 MIME 타입 결정")
+  void resolveMimeType() {
+    assertThat(AudioLibraryIndex.resolveMimeType(Path.of("a.mp3"))).isEqualTo("audio/mpeg");
+    assertThat(AudioLibraryIndex.resolveMimeType(Path.of("a.opus"))).isEqualTo("audio/ogg");
+    assertThat(AudioLibraryIndex.resolveMimeType(Path.of("a.flac"))).isEqualTo("audio/flac");
+  }
+}
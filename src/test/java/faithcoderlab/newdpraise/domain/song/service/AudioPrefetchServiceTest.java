@@ -0,0 +1,196 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.song.AudioFile;
+import faithcoderlab.newdpraise.domain.song.AudioFileRepository;
+import faithcoderlab.newdpraise.domain.song.CatalogSong;
+import faithcoderlab.newdpraise.domain.song.CatalogSongRepository;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.SongAnalysisService;
+import faithcoderlab.newdpraise.domain.song.SongAnalysisService.MusicAnalysisResult;
+import faithcoderlab.newdpraise.domain.song.SongChangedEvent;
+import faithcoderlab.newdpraise.domain.song.SongRepository;
+import faithcoderlab.newdpraise.domain.song.dto.AudioDownloadResult;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class AudioPrefetchServiceTest {
+
+  private static final String VIDEO_ID = "R9tUikvBv5M";
+  private static final String YOUTUBE_URL = "https://youtube.com/watch?v=" + VIDEO_ID;
+
+  @Mock
+  private ContiRepository contiRepository;
+
+  @Mock
+  private SongRepository songRepository;
+
+  @Mock
+  private CatalogSongRepository catalogSongRepository;
+
+  @Mock
+  private SongCatalogService songCatalogService;
+
+  @Mock
+  private AudioFileRepository audioFileRepository;
+
+  @Mock
+  private AudioLibraryIndex audioLibraryIndex;
+
+  @Mock
+  private YoutubeDownloadService youtubeDownloadService;
+
+  @Mock
+  private SongAnalysisService songAnalysisService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private AudioPrefetchService audioPrefetchService;
+
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    audioPrefetchService = new AudioPrefetchService(
+        contiRepository, songRepository, catalogSongRepository, songCatalogService,
+        audioFileRepository, audioLibraryIndex,
+        youtubeDownloadService, songAnalysisService, eventPublisher, Runnable::run, true, 3);
+
+    testUser = User.builder()
+        .id(1L)
+        .email("suming@example.com")
+        .name("수밍")
+        .role(Role.USER)
+        .build();
+  }
+
+  @Test
+  @DisplayName("다가오는 콘티의 곡을 다운로드하고 분석")
+  void prefetchUpcoming_DownloadsAndAnalyzes() {
+    // given
+    Song song = Song.builder().id(10L).title("정직한 예배").youtubeUrl(YOUTUBE_URL).build();
+    Conti conti = conti(LocalDate.now().plusDays(1), song);
+    AudioLibraryEntry entry = AudioLibraryEntry.builder()
+        .videoId(VIDEO_ID)
+        .path(Path.of("/tmp/" + VIDEO_ID + ".m4a"))
+        .size(1024L)
+        .mimeType("audio/mp4")
+        .build();
+
+    when(contiRepository.findByScheduledAtGreaterThanEqualOrderByScheduledAtAsc(any()))
+        .thenReturn(List.of(conti));
+    when(youtubeDownloadService.extractVideoId(YOUTUBE_URL)).thenReturn(VIDEO_ID);
+    when(audioLibraryIndex.contains(VIDEO_ID)).thenReturn(false);
+    when(audioLibraryIndex.find(VIDEO_ID))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(entry));
+    when(youtubeDownloadService.downloadAudio(YOUTUBE_URL)).thenReturn(
+        AudioDownloadResult.builder()
+            .videoId(VIDEO_ID)
+            .title("정직한 예배")
+            .filePath(entry.getPath().toString())
+            .fileName(VIDEO_ID + ".m4a")
+            .fileSize(1024L)
+            .mimeType("audio/mp4")
+            .build());
+    when(audioFileRepository.findByVideoId(VIDEO_ID)).thenReturn(Optional.empty());
+    when(songAnalysisService.analyzeFile(any())).thenReturn(new MusicAnalysisResult("G", 72));
+    when(songRepository.findAllById(List.of(10L))).thenReturn(List.of(song));
+
+    // when
+    audioPrefetchService.prefetchUpcoming();
+
+    // then
+    verify(audioFileRepository).save(any(AudioFile.class));
+    assertThat(song.getBpm()).isEqualTo("72");
+    assertThat(song.getOriginalKey()).isEqualTo("G");
+  }
+
+  @Test
+  @DisplayName("범위 밖 콘티와 이미 준비된 곡은 건너뜀")
+  void prefetchUpcoming_SkipsReadySongsAndLaterContis() {
+    // given
+    Song ready = Song.builder().id(10L).title("준비된 곡").youtubeUrl(YOUTUBE_URL).bpm("80").build();
+    Song later = Song.builder().id(11L).title("나중 곡").youtubeUrl("https://youtu.be/abcdef12345").build();
+
+    when(contiRepository.findByScheduledAtGreaterThanEqualOrderByScheduledAtAsc(any()))
+        .thenReturn(List.of(conti(LocalDate.now(), ready), conti(LocalDate.now().plusDays(10), later)));
+    when(youtubeDownloadService.extractVideoId(YOUTUBE_URL)).thenReturn(VIDEO_ID);
+    when(audioLibraryIndex.contains(VIDEO_ID)).thenReturn(true);
+
+    // when
+    audioPrefetchService.prefetchUpcoming();
+
+    // then
+    verify(youtubeDownloadService, never()).downloadAudio(anyString());
+    verify(songAnalysisService, never()).analyzeFile(any());
+  }
+
+  @Test
+  @DisplayName("카탈로그에 분석 값이 있는 곡은 다시 분석하지 않고 그 값을 받음")
+  void prefetch_UsesCatalogAnalysis() {
+    // given
+    CatalogSong catalogSong = CatalogSong.builder().id(7L).title("정직한 예배")
+        .originalKey("A").bpm("76").build();
+    Song song = Song.builder().id(10L).title("정직한 예배").youtubeUrl(YOUTUBE_URL)
+        .catalogSong(catalogSong).build();
+    AudioPrefetchService.PrefetchTask task =
+        new AudioPrefetchService.PrefetchTask(VIDEO_ID, YOUTUBE_URL, testUser);
+    task.songIds.add(10L);
+
+    when(audioLibraryIndex.find(VIDEO_ID)).thenReturn(Optional.of(AudioLibraryEntry.builder()
+        .videoId(VIDEO_ID)
+        .path(Path.of("/tmp/" + VIDEO_ID + ".m4a"))
+        .build()));
+    when(songRepository.findAllById(List.of(10L))).thenReturn(List.of(song));
+    when(catalogSongRepository.findAllById(Set.of(7L))).thenReturn(List.of(catalogSong));
+
+    // when
+    audioPrefetchService.prefetch(task);
+
+    // then
+    verify(songAnalysisService, never()).analyzeFile(any());
+    verify(songCatalogService, never()).fillAnalysis(any(), any(), any());
+    assertThat(song.getBpm()).isEqualTo("76");
+    assertThat(song.getOriginalKey()).isEqualTo("A");
+    verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof SongChangedEvent
+        && ((SongChangedEvent) event).getSongIds().equals(Set.of(10L))));
+  }
+
+  private Conti conti(LocalDate scheduledAt, Song... songs) {
+    return Conti.builder()
+        .title("테스트 콘티")
+        .scheduledAt(scheduledAt)
+        .creator(testUser)
+        .songs(new ArrayList<>(List.of(songs)))
+        .version("1.0")
+        .status(ContiStatus.DRAFT)
+        .build();
+  }
+}
@@ -0,0 +1,213 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.song.AudioFile;
+import faithcoderlab.newdpraise.domain.song.AudioFileRepository;
+import faithcoderlab.newdpraise.domain.song.dto.AudioDownloadResult;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AudioStorageServiceTest {
+
+  @Mock
+  private AppConfig appConfig;
+
+  @Mock
+  private AudioLibraryIndex audioLibraryIndex;
+
+  @Mock
+  private AudioFileRepository audioFileRepository;
+
+  @Mock
+  private ContiRepository contiRepository;
+
+  @Mock
+  private YoutubeDownloadService youtubeDownloadService;
+
+  @Mock
+  private AudioTranscodeService audioTranscodeService;
+
+  @Mock
+  private AudioHlsService audioHlsService;
+
+  @InjectMocks
+  private AudioStorageService audioStorageService;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("예산 이하 - 정리하지 않음")
+  void enforceQuota_UnderBudget_DoesNothing() {
+    // given
+    when(appConfig.getAudioStorageMaxBytes()).thenReturn(100L);
+    when(audioLibraryIndex.getTotalSize()).thenReturn(50L);
+
+    // when
+    audioStorageService.enforceQuota();
+
+    // then
+    verify(audioLibraryIndex, never()).remove(anyString());
+  }
+
+  @Test
+  @DisplayName("예산 초과 - 가장 오래 재생되지 않은 파일부터 정리하고 고정된 곡은 유지")
+  void enforceQuota_OverBudget_EvictsLeastRecentlyUsed() throws Exception {
+    // given
+    AudioLibraryEntry pinned = entry("pinned00001", 40L);
+    AudioLibraryEntry oldest = entry("oldest00001", 40L);
+    AudioLibraryEntry recent = entry("recent00001", 40L);
+
+    AudioFile oldestFile = AudioFile.builder().videoId("oldest00001")
+        .lastAccessedAt(LocalDateTime.now().minusDays(30)).build();
+    AudioFile recentFile = AudioFile.builder().videoId("recent00001")
+        .lastAccessedAt(LocalDateTime.now().minusHours(1)).build();
+    AudioFile pinnedFile = AudioFile.builder().videoId("pinned00001")
+        .lastAccessedAt(LocalDateTime.now().minusDays(60)).build();
+
+    when(appConfig.getAudioStorageMaxBytes()).thenReturn(100L);
+    when(appConfig.getAudioStoragePinDays()).thenReturn(7);
+    when(audioLibraryIndex.getTotalSize()).thenReturn(120L);
+    when(audioLibraryIndex.getEntries()).thenReturn(List.of(pinned, oldest, recent));
+    when(audioFileRepository.findByVideoIdIn(any()))
+        .thenReturn(List.of(oldestFile, recentFile, pinnedFile));
+    when(contiRepository.findYoutubeUrlsScheduledBetween(any(), any()))
+        .thenReturn(List.of("https://youtu.be/pinned00001"));
+    when(youtubeDownloadService.extractVideoId("https://youtu.be/pinned00001"))
+        .thenReturn("pinned00001");
+
+    // when
+    audioStorageService.enforceQuota();
+
+    // then
+    assertThat(oldest.getPath()).doesNotExist();
+    assertThat(pinned.getPath()).exists();
+    assertThat(recent.getPath()).exists();
+    assertThat(oldestFile.isEvicted()).isTrue();
+    assertThat(pinnedFile.isEvicted()).isFalse();
+    verify(audioLibraryIndex).remove("oldest00001");
+    verify(audioTranscodeService).removeVariants("oldest00001");
+    verify(audioHlsService).deleteSegments("oldest00001");
+    verify(audioLibraryIndex, never()).remove("pinned00001");
+    verify(audioLibraryIndex, never()).remove("recent00001");
+  }
+
+  @Test
+  @DisplayName("예산 초과 - DB 행이 없어 다시 받을 수 없는 파일은 지우지 않음")
+  void enforceQuota_OverBudget_KeepsFilesWithoutRow() throws Exception {
+    // given
+    AudioLibraryEntry untracked = entry("untracked01", 80L);
+    AudioLibraryEntry tracked = entry("tracked0001", 40L);
+    AudioFile trackedFile = AudioFile.builder().videoId("tracked0001")
+        .lastAccessedAt(LocalDateTime.now().minusDays(1)).build();
+
+    when(appConfig.getAudioStorageMaxBytes()).thenReturn(100L);
+    when(appConfig.getAudioStoragePinDays()).thenReturn(7);
+    when(audioLibraryIndex.getTotalSize()).thenReturn(120L);
+    when(audioLibraryIndex.getEntries()).thenReturn(List.of(untracked, tracked));
+    when(audioFileRepository.findByVideoIdIn(any())).thenReturn(List.of(trackedFile));
+    when(contiRepository.findYoutubeUrlsScheduledBetween(any(), any())).thenReturn(List.of());
+
+    // when
+    audioStorageService.enforceQuota();
+
+    // then
+    assertThat(untracked.getPath()).exists();
+    assertThat(tracked.getPath()).doesNotExist();
+    assertThat(trackedFile.isEvicted()).isTrue();
+    verify(audioLibraryIndex, never()).remove("untracked01");
+  }
+
+  @Test
+  @DisplayName("정리된 파일 재다운로드")
+  void restoreEvicted_Redownloads() throws Exception {
+    // given
+    AudioFile audioFile = AudioFile.builder()
+        .videoId("R9tUikvBv5M")
+        .originalUrl("https://youtu.be/R9tUikvBv5M")
+        .evictedAt(LocalDateTime.now())
+        .build();
+    AudioDownloadResult result = AudioDownloadResult.builder()
+        .videoId("R9tUikvBv5M")
+        .filePath(tempDir.resolve("R9tUikvBv5M.m4a").toString())
+        .fileName("R9tUikvBv5M.m4a")
+        .fileSize(1024L)
+        .build();
+    AudioLibraryEntry restored = entry("R9tUikvBv5M", 1024L);
+
+    when(audioFileRepository.findByVideoId("R9tUikvBv5M")).thenReturn(Optional.of(audioFile));
+    when(audioLibraryIndex.find("R9tUikvBv5M"))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(restored));
+    when(youtubeDownloadService.downloadAudio("https://youtu.be/R9tUikvBv5M")).thenReturn(result);
+
+    // when
+    Optional<AudioLibraryEntry> entry = audioStorageService.restoreEvicted("R9tUikvBv5M");
+
+    // then
+    assertThat(entry).contains(restored);
+    assertThat(audioFile.isEvicted()).isFalse();
+    verify(audioFileRepository).save(audioFile);
+  }
+
+  @Test
+  @DisplayName("정리되지 않은 파일은 재다운로드하지 않음")
+  void restoreEvicted_NotEvicted_ReturnsEmpty() {
+    // given
+    AudioFile audioFile = AudioFile.builder().videoId("R9tUikvBv5M").build();
+    when(audioFileRepository.findByVideoId("R9tUikvBv5M")).thenReturn(Optional.of(audioFile));
+
+    // when
+    Optional<AudioLibraryEntry> entry = audioStorageService.restoreEvicted("R9tUikvBv5M");
+
+    // then
+    assertThat(entry).isEmpty();
+    verify(youtubeDownloadService, never()).downloadAudio(anyString());
+  }
+
+  @Test
+  @DisplayName("재생 기록은 모아서 반영")
+  void flushAccessTimes_UpdatesPendingAccesses() {
+    // given
+    audioStorageService.recordAccess("R9tUikvBv5M");
+
+    // when
+    audioStorageService.flushAccessTimes();
+    audioStorageService.flushAccessTimes();
+
+    // then
+    verify(audioFileRepository).updateLastAccessedAt(eq("R9tUikvBv5M"), any(LocalDateTime.class));
+  }
+
+  private AudioLibraryEntry entry(String videoId, long size) throws Exception {
+    Path file = Files.write(tempDir.resolve(videoId + ".m4a"), new byte[(int) size]);
+    return AudioLibraryEntry.builder()
+        .videoId(videoId)
+        .path(file)
+        .size(size)
+        .lastModified(System.currentTimeMillis())
+        .mimeType("audio/mp4")
+        .build();
+  }
+}
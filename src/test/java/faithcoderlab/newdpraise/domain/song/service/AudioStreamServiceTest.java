@@ -0,0 +1,198 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AudioStreamServiceTest {
+
+  private static final String VIDEO_ID = "R9tUikvBv5M";
+
+  @TempDir
+  Path tempDir;
+
+  private AudioStreamService audioStreamService;
+  private AudioLibraryEntry entry;
+  private byte[] content;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    audioStreamService = new AudioStreamService();
+
+    content = new byte[1000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    Path file = Files.write(tempDir.resolve(VIDEO_ID + ".m4a"), content);
+    entry = AudioLibraryEntry.builder()
+        .videoId(VIDEO_ID)
+        .path(file)
+        .size(content.length)
+        .mimeType("audio/mp4")
+        .build();
+  }
+
+  @Test
+  @DisplayName("Range 헤더가 없으면 전체 파일을 200으로 전송")
+  void stream_NoRange_SendsWholeFile() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream/" + VIDEO_ID);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    audioStreamService.stream(entry, request, response);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+    assertThat(response.getContentType()).isEqualTo("audio/mp4");
+    assertThat(response.getHeader("Content-Length")).isEqualTo("1000");
+    assertThat(response.getContentAsByteArray()).isEqualTo(content);
+  }
+
+  @Test
+  @DisplayName("단일 구간 요청은 206과 해당 바이트만 전송")
+  void stream_SingleRange_SendsPartialContent() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream/" + VIDEO_ID);
+    request.addHeader("Range", "bytes=100-199");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    audioStreamService.stream(entry, request, response);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(206);
+    assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 100-199/1000");
+    assertThat(response.getHeader("Content-Length")).isEqualTo("100");
+    assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+  }
+
+  @Test
+  @DisplayName("접미사 구간 요청은 파일 끝부분을 전송")
+  void stream_SuffixRange_SendsTail() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream/" + VIDEO_ID);
+    request.addHeader("Range", "bytes=-50");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    audioStreamService.stream(entry, request, response);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(206);
+    assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 950-999/1000");
+    assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 950, 1000));
+  }
+
+  @Test
+  @DisplayName("파일 범위를 벗어난 구간 요청은 416")
+  void stream_UnsatisfiableRange_Returns416() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream/" + VIDEO_ID);
+    request.addHeader("Range", "bytes=5000-6000");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    audioStreamService.stream(entry, request, response);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(416);
+    assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */1000");
+    assertThat(response.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("여러 구간 요청은 multipart/byteranges로 전송하고 정확한 길이를 알림")
+  void stream_MultipleRanges_SendsMultipart() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream/" + VIDEO_ID);
+    request.addHeader("Range", "bytes=0-9, 500-509");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    audioStreamService.stream(entry, request, response);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(206);
+    assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+    assertThat(response.getHeader("Content-Length"))
+        .isEqualTo(String.valueOf(response.getContentAsByteArray().length));
+
+    String body = new String(response.getContentAsByteArray(), StandardCharsets.ISO_8859_1);
+    assertThat(body).contains("Content-Range: bytes 0-9/1000");
+    assertThat(body).contains("Content-Range: bytes 500-509/1000");
+  }
+
+  @Test
+  @DisplayName("겹치는 구간은 하나로 합침")
+  void resolveRanges_MergesOverlapping() {
+    // when & then
+    assertThat(AudioStreamService.resolveRanges("bytes=0-99, 50-149, 150-199", 1000))
+        .containsExactly(new long[]{0, 199});
+  }
+
+  @Test
+  @DisplayName("톰캣 sendfile을 지원하면 본문 대신 sendfile 속성을 설정")
+  void stream_SendfileSupported_DelegatesToContainer() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream/" + VIDEO_ID);
+    request.setAttribute(AudioStreamService.SENDFILE_SUPPORT, Boolean.TRUE);
+    request.addHeader("Range", "bytes=100-");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    audioStreamService.stream(entry, request, response);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(206);
+    assertThat(request.getAttribute(AudioStreamService.SENDFILE_START)).isEqualTo(100L);
+    assertThat(request.getAttribute(AudioStreamService.SENDFILE_END)).isEqualTo(1000L);
+    assertThat(response.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("If-None-Match가 현재 ETag와 같으면 304")
+  void stream_MatchingEtag_ReturnsNotModified() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream/" + VIDEO_ID);
+    request.addHeader("If-None-Match", "\"" + entry.getVersion() + "\"");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    audioStreamService.stream(entry, request, response);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(304);
+    assertThat(response.getHeader("ETag")).isEqualTo("\"" + entry.getVersion() + "\"");
+    assertThat(response.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("If-Range가 현재 ETag와 다르면 구간 요청을 무시하고 전체 전송")
+  void stream_StaleIfRange_SendsWholeFile() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream/" + VIDEO_ID);
+    request.addHeader("Range", "bytes=100-199");
+    request.addHeader("If-Range", "\"stale-version\"");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    audioStreamService.stream(entry, request, response);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getHeader("ETag")).isEqualTo("\"" + entry.getVersion() + "\"");
+    assertThat(response.getContentAsByteArray()).isEqualTo(content);
+  }
+}
@@ -0,0 +1,170 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import faithcoderlab.newdpraise.config.AppConfig;
+import faithcoderlab.newdpraise.domain.song.AudioFile;
+import faithcoderlab.newdpraise.domain.song.AudioFileRepository;
+import faithcoderlab.newdpraise.domain.song.AudioQuality;
+import faithcoderlab.newdpraise.domain.song.AudioVariant;
+import faithcoderlab.newdpraise.domain.song.AudioVariantRepository;
+import faithcoderlab.newdpraise.domain.song.AudioVariantStatus;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AudioTranscodeServiceTest {
+
+  private static final String VIDEO_ID = "R9tUikvBv5M";
+
+  @Mock
+  private AppConfig appConfig;
+
+  @Mock
+  private AudioFileRepository audioFileRepository;
+
+  @Mock
+  private AudioVariantRepository audioVariantRepository;
+
+  @Mock
+  private AudioLibraryIndex audioLibraryIndex;
+
+  @TempDir
+  Path tempDir;
+
+  private AudioTranscodeService audioTranscodeService;
+
+  @BeforeEach
+  void setUp() {
+    audioTranscodeService = new AudioTranscodeService(
+        appConfig, audioFileRepository, audioVariantRepository, audioLibraryIndex,
+        Runnable::run, true, "nonexistent-ffmpeg-binary", 64, 20, 30);
+  }
+
+  @Test
+  @DisplayName("원본 품질 요청은 변환본을 조회하지 않음")
+  void findVariant_Original_ReturnsEmpty() {
+    // when
+    Optional<AudioLibraryEntry> result = audioTranscodeService.findVariant(VIDEO_ID, AudioQuality.ORIGINAL);
+
+    // then
+    assertThat(result).isEmpty();
+    verify(audioVariantRepository, never()).findByVideoIdAndQualityAndStatus(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("준비된 변환본은 한 번만 조회하고 캐시")
+  void findVariant_Ready_CachesEntry() throws Exception {
+    // given
+    Path file = Files.write(tempDir.resolve(VIDEO_ID + "-low.m4a"), new byte[512]);
+    AudioVariant variant = AudioVariant.builder()
+        .quality(AudioQuality.LOW)
+        .status(AudioVariantStatus.READY)
+        .filePath(file.toString())
+        .fileSize(512L)
+        .mimeType("audio/mp4")
+        .updatedAt(LocalDateTime.now())
+        .build();
+    when(audioVariantRepository.findByVideoIdAndQualityAndStatus(
+        VIDEO_ID, AudioQuality.LOW, AudioVariantStatus.READY))
+        .thenReturn(Optional.of(variant));
+
+    // when
+    Optional<AudioLibraryEntry> first = audioTranscodeService.findVariant(VIDEO_ID, AudioQuality.LOW);
+    Optional<AudioLibraryEntry> second = audioTranscodeService.findVariant(VIDEO_ID, AudioQuality.LOW);
+
+    // then
+    assertThat(first).isPresent();
+    assertThat(first.get().getSize()).isEqualTo(512L);
+    assertThat(first.get().getMimeType()).isEqualTo("audio/mp4");
+    assertThat(second).contains(first.get());
+    verify(audioVariantRepository, times(1))
+        .findByVideoIdAndQualityAndStatus(VIDEO_ID, AudioQuality.LOW, AudioVariantStatus.READY);
+  }
+
+  @Test
+  @DisplayName("변환본 파일이 사라졌으면 캐시와 행을 지우고 원본을 쓰게 함")
+  void findVariant_FileMissing_RemovesVariant() throws Exception {
+    // given
+    Path file = Files.write(tempDir.resolve(VIDEO_ID + "-low.m4a"), new byte[512]);
+    AudioVariant variant = AudioVariant.builder()
+        .quality(AudioQuality.LOW)
+        .status(AudioVariantStatus.READY)
+        .filePath(file.toString())
+        .fileSize(512L)
+        .mimeType("audio/mp4")
+        .build();
+    when(audioVariantRepository.findByVideoIdAndQualityAndStatus(
+        VIDEO_ID, AudioQuality.LOW, AudioVariantStatus.READY))
+        .thenReturn(Optional.of(variant));
+    assertThat(audioTranscodeService.findVariant(VIDEO_ID, AudioQuality.LOW)).isPresent();
+    Files.delete(file);
+
+    // when
+    Optional<AudioLibraryEntry> result = audioTranscodeService.findVariant(VIDEO_ID, AudioQuality.LOW);
+
+    // then
+    assertThat(result).isEmpty();
+    verify(audioVariantRepository).delete(variant);
+  }
+
+  @Test
+  @DisplayName("원본을 지울 때 변환본 행을 지우고 지울 파일 경로를 돌려줌")
+  void removeVariants_ReturnsFilePaths() {
+    // given
+    AudioVariant variant = AudioVariant.builder()
+        .quality(AudioQuality.LOW)
+        .status(AudioVariantStatus.READY)
+        .filePath(tempDir.resolve(VIDEO_ID + "-low.m4a").toString())
+        .build();
+    when(audioVariantRepository.findByVideoId(VIDEO_ID)).thenReturn(List.of(variant));
+
+    // when
+    List<Path> files = audioTranscodeService.removeVariants(VIDEO_ID);
+
+    // then
+    assertThat(files).containsExactly(tempDir.resolve(VIDEO_ID + "-low.m4a"));
+    verify(audioVariantRepository).deleteAll(List.of(variant));
+  }
+
+  @Test
+  @DisplayName("ffmpeg가 없으면 변환을 중단하고 이후 주기도 건너뜀")
+  void transcodePending_FfmpegMissing_StopsTranscoding() throws Exception {
+    // given
+    Path source = Files.write(tempDir.resolve(VIDEO_ID + ".webm"), new byte[16]);
+    AudioFile audioFile = AudioFile.builder().id(1L).videoId(VIDEO_ID).build();
+
+    when(appConfig.getFileUploadDir()).thenReturn(tempDir.toString());
+    when(audioFileRepository.findWithoutVariant(any(), any())).thenReturn(List.of(audioFile));
+    when(audioLibraryIndex.find(VIDEO_ID)).thenReturn(Optional.of(AudioLibraryEntry.builder()
+        .videoId(VIDEO_ID)
+        .path(source)
+        .size(16L)
+        .mimeType("audio/webm")
+        .build()));
+
+    // when
+    audioTranscodeService.transcodePending();
+    audioTranscodeService.transcodePending();
+
+    // then
+    verify(audioFileRepository, times(1)).findWithoutVariant(any(), any());
+    verify(audioVariantRepository, never()).save(any());
+  }
+}
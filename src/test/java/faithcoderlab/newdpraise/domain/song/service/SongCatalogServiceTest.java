@@ -0,0 +1,178 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import faithcoderlab.newdpraise.domain.song.CatalogSong;
+import faithcoderlab.newdpraise.domain.song.CatalogSongRepository;
+import faithcoderlab.newdpraise.domain.song.Song;
+import faithcoderlab.newdpraise.domain.song.SongRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class SongCatalogServiceTest {
+
+  @Mock
+  private CatalogSongRepository catalogSongRepository;
+
+  @Mock
+  private SongRepository songRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private SongCatalogService songCatalogService;
+
+  @BeforeEach
+  void setUp() {
+    songCatalogService = new SongCatalogService(catalogSongRepository, songRepository,
+        new SongSearchIndex(), eventPublisher, transactionManager, false);
+  }
+
+  @Test
+  @DisplayName("표기가 다른 같은 곡은 카탈로그 항목 하나로 연결")
+  void resolveAll_SameSongOnce() {
+    // given
+    Song first = Song.builder().title("주님 나라 이를 때까지").artist("마커스").build();
+    Song second = Song.builder().title("주님나라 이를때까지").artist("마커스 ").build();
+    when(catalogSongRepository.findByNormalizedTitleAndNormalizedArtist(anyString(), anyString()))
+        .thenReturn(Optional.empty());
+    when(catalogSongRepository.save(any(CatalogSong.class))).thenAnswer(invocation -> {
+      CatalogSong catalogSong = invocation.getArgument(0);
+      catalogSong.setId(10L);
+      return catalogSong;
+    });
+
+    // when
+    songCatalogService.resolveAll(List.of(first, second));
+
+    // then
+    verify(catalogSongRepository, times(1)).save(any(CatalogSong.class));
+    assertThat(first.getCatalogSong().getTitle()).isEqualTo("주님 나라 이를 때까지");
+    assertThat(first.getCatalogSong().getNormalizedTitle()).isEqualTo("주님나라이를때까지");
+  }
+
+  @Test
+  @DisplayName("색인된 곡은 조회 없이 연결하고 새 곡에 빠진 BPM만 채우며 유튜브 링크는 공유하지 않음")
+  void resolveAll_IndexedSong_FillsSharedFields() {
+    // given
+    CatalogSong catalogSong = CatalogSong.builder()
+        .id(7L)
+        .title("Way Maker")
+        .artist("Sinach")
+        .normalizedTitle("waymaker")
+        .normalizedArtist("sinach")
+        .bpm("68")
+        .build();
+    when(catalogSongRepository.findAllOrderById()).thenReturn(List.of(catalogSong));
+    when(catalogSongRepository.getReferenceById(7L)).thenReturn(catalogSong);
+    songCatalogService.loadIndex();
+
+    Song song = Song.builder().title("WAY MAKER").artist("sinach").bpm("").build();
+
+    // when
+    songCatalogService.resolveAll(List.of(song));
+
+    // then
+    verify(catalogSongRepository, never()).findByNormalizedTitleAndNormalizedArtist(anyString(),
+        anyString());
+    verify(catalogSongRepository, never()).save(any(CatalogSong.class));
+    assertThat(song.getCatalogSong()).isSameAs(catalogSong);
+    assertThat(song.getBpm()).isEqualTo("68");
+    assertThat(song.getYoutubeUrl()).isNull();
+  }
+
+  @Test
+  @DisplayName("수정한 기존 곡은 연결만 하고 지운 값을 채우거나 카탈로그를 고치지 않음")
+  void resolveAll_EditedSong_LinksOnly() {
+    // given
+    CatalogSong catalogSong = CatalogSong.builder()
+        .id(7L)
+        .title("Way Maker")
+        .artist("Sinach")
+        .normalizedTitle("waymaker")
+        .normalizedArtist("sinach")
+        .bpm("68")
+        .build();
+    when(catalogSongRepository.findAllOrderById()).thenReturn(List.of(catalogSong));
+    when(catalogSongRepository.getReferenceById(7L)).thenReturn(catalogSong);
+    songCatalogService.loadIndex();
+
+    Song song = Song.builder().id(30L).title("Way Maker").artist("Sinach")
+        .originalKey("E").bpm(null).build();
+
+    // when
+    songCatalogService.resolveAll(List.of(song));
+
+    // then
+    assertThat(song.getCatalogSong()).isSameAs(catalogSong);
+    assertThat(song.getBpm()).isNull();
+    verify(catalogSongRepository, never()).fillMissing(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("같은 곡을 다른 요청이 먼저 만들었으면 그 항목을 다시 읽어 연결")
+  void resolveAll_ConcurrentCreate_ReadsExisting() {
+    // given
+    CatalogSong existing = CatalogSong.builder()
+        .id(7L)
+        .title("Way Maker")
+        .artist("Sinach")
+        .normalizedTitle("waymaker")
+        .normalizedArtist("sinach")
+        .build();
+    when(catalogSongRepository.findByNormalizedTitleAndNormalizedArtist("waymaker", "sinach"))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(existing));
+    when(catalogSongRepository.save(any(CatalogSong.class)))
+        .thenThrow(new DataIntegrityViolationException("uk_song_catalog_normalized"));
+
+    Song song = Song.builder().title("Way Maker").artist("Sinach").build();
+
+    // when
+    songCatalogService.resolveAll(List.of(song));
+
+    // then
+    assertThat(song.getCatalogSong()).isSameAs(existing);
+  }
+
+  @Test
+  @DisplayName("아티스트가 없는 곡은 제목이 같은 항목이 하나뿐일 때만 연결")
+  void findCatalogSongId_TitleOnly() {
+    // given
+    when(catalogSongRepository.findAllOrderById()).thenReturn(List.of(
+        CatalogSong.builder().id(1L).title("은혜").artist("손경민")
+            .normalizedTitle("은혜").normalizedArtist("손경민").build(),
+        CatalogSong.builder().id(2L).title("물댄 동산").artist("김도현")
+            .normalizedTitle("물댄동산").normalizedArtist("김도현").build(),
+        CatalogSong.builder().id(3L).title("물댄 동산").artist("제이어스")
+            .normalizedTitle("물댄동산").normalizedArtist("제이어스").build()));
+
+    // when
+    songCatalogService.loadIndex();
+
+    // then
+    assertThat(songCatalogService.size()).isEqualTo(3);
+    assertThat(songCatalogService.findCatalogSongId("은혜", null)).contains(1L);
+    assertThat(songCatalogService.findCatalogSongId("물댄 동산", null)).isEmpty();
+    assertThat(songCatalogService.findCatalogSongId("물댄동산", "제이어스")).contains(3L);
+  }
+}
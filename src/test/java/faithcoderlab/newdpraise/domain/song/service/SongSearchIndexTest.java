@@ -0,0 +1,77 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import faithcoderlab.newdpraise.domain.song.service.SongSearchIndex.Match;
+import faithcoderlab.newdpraise.domain.song.service.SongSearchIndex.MatchType;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SongSearchIndexTest {
+
+  private SongSearchIndex songSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    songSearchIndex = new SongSearchIndex();
+    songSearchIndex.put(1L, "주님 나라 이를 때까지", "마커스");
+    songSearchIndex.put(2L, "은혜", "손경민");
+    songSearchIndex.put(3L, "은혜 아니면", "어노인팅");
+    songSearchIndex.put(4L, "Way Maker", "Sinach");
+    songSearchIndex.put(5L, "이 땅에 오직", "예수전도단");
+  }
+
+  @Test
+  @DisplayName("제목이 검색어로 시작하는 곡을 먼저, 같으면 짧은 제목을 먼저")
+  void search_PrefixFirst() {
+    // when
+    List<Match> matches = songSearchIndex.search("은혜", 10);
+
+    // then
+    assertThat(matches).extracting(Match::getCatalogSongId).containsExactly(2L, 3L);
+    assertThat(matches).extracting(Match::getMatchType)
+        .containsExactly(MatchType.EXACT, MatchType.PREFIX);
+  }
+
+  @Test
+  @DisplayName("초성 검색어로 제목을 찾음")
+  void search_Chosung() {
+    // when
+    List<Match> matches = songSearchIndex.search("ㅈㄴㄴㄹ", 10);
+
+    // then
+    assertThat(matches).extracting(Match::getCatalogSongId).containsExactly(1L);
+    assertThat(matches.get(0).getMatchType()).isEqualTo(MatchType.CHOSUNG);
+  }
+
+  @Test
+  @DisplayName("띄어쓰기가 다르거나 한 글자가 틀린 검색어도 찾음")
+  void search_Fuzzy() {
+    // when
+    List<Match> spacing = songSearchIndex.search("waymak", 10);
+    List<Match> typo = songSearchIndex.search("주님나라 이룰 때까지", 10);
+
+    // then
+    assertThat(spacing).extracting(Match::getCatalogSongId).containsExactly(4L);
+    assertThat(typo).extracting(Match::getCatalogSongId).containsExactly(1L);
+    assertThat(typo.get(0).getMatchType()).isEqualTo(MatchType.FUZZY);
+  }
+
+  @Test
+  @DisplayName("아티스트로도 찾고, 바뀐 곡은 새 제목으로만 찾음")
+  void search_ArtistAndUpdate() {
+    // given
+    songSearchIndex.put(5L, "오직 주님만", "예수전도단");
+
+    // when
+    List<Match> byArtist = songSearchIndex.search("예수전도단", 10);
+    List<Match> oldTitle = songSearchIndex.search("이 땅에", 10);
+
+    // then
+    assertThat(byArtist).extracting(Match::getTitle).containsExactly("오직 주님만");
+    assertThat(oldTitle).isEmpty();
+    assertThat(songSearchIndex.size()).isEqualTo(5);
+  }
+}
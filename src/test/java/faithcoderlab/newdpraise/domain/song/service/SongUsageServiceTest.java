@@ -0,0 +1,207 @@
+package faithcoderlab.newdpraise.domain.song.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import faithcoderlab.newdpraise.domain.conti.Conti;
+import faithcoderlab.newdpraise.domain.conti.ContiRepository;
+import faithcoderlab.newdpraise.domain.conti.ContiStatus;
+import faithcoderlab.newdpraise.domain.song.CatalogSongRepository;
+import faithcoderlab.newdpraise.domain.song.SongPlay;
+import faithcoderlab.newdpraise.domain.song.SongUsageContribution;
+import faithcoderlab.newdpraise.domain.song.SongUsageContributionRepository;
+import faithcoderlab.newdpraise.domain.song.SongUsageStat;
+import faithcoderlab.newdpraise.domain.song.SongUsageStatRepository;
+import faithcoderlab.newdpraise.domain.user.Role;
+import faithcoderlab.newdpraise.domain.user.User;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SongUsageServiceTest {
+
+  @Mock
+  private SongUsageStatRepository songUsageStatRepository;
+
+  @Mock
+  private SongUsageContributionRepository songUsageContributionRepository;
+
+  @Mock
+  private ContiRepository contiRepository;
+
+  @Mock
+  private CatalogSongRepository catalogSongRepository;
+
+  @InjectMocks
+  private SongUsageService songUsageService;
+
+  private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+  private static final LocalDate APRIL = LocalDate.of(2025, 4, 1);
+
+  private User leader;
+
+  @BeforeEach
+  void setUp() {
+    leader = User.builder().id(1L).email("leader@example.com").name("인도자").role(Role.USER)
+        .build();
+  }
+
+  @Test
+  @DisplayName("통계 갱신 - 예정일이 다른 달로 옮겨진 콘티는 예전 달과 새 달을 모두 다시 모은다")
+  void refresh_MovedConti() {
+    // given
+    Conti conti = Conti.builder().id(100L).creator(leader).status(ContiStatus.FINALIZED)
+        .scheduledAt(LocalDate.of(2025, 4, 13)).build();
+    SongUsageContribution contribution = SongUsageContribution.builder()
+        .contiId(100L).teamId(1L).usageMonth(MARCH).build();
+    when(songUsageContributionRepository.findAllById(List.of(100L)))
+        .thenReturn(List.of(contribution));
+    when(contiRepository.findAllById(List.of(100L))).thenReturn(List.of(conti));
+    when(contiRepository.findSongPlays(1L, SongUsageService.PLAYED_STATUSES, MARCH, APRIL))
+        .thenReturn(List.of());
+    when(contiRepository.findSongPlays(1L, SongUsageService.PLAYED_STATUSES, APRIL,
+        LocalDate.of(2025, 5, 1)))
+        .thenReturn(List.of(
+            new SongPlay(10L, "G", "72", LocalDate.of(2025, 4, 6)),
+            new SongPlay(10L, " G ", "76", LocalDate.of(2025, 4, 13)),
+            new SongPlay(10L, "A", "120", LocalDate.of(2025, 4, 20)),
+            new SongPlay(11L, null, "빠르게", LocalDate.of(2025, 4, 20))));
+
+    // when
+    songUsageService.refresh(List.of(100L));
+
+    // then
+    assertThat(contribution.getUsageMonth()).isEqualTo(APRIL);
+    verify(songUsageStatRepository).deleteByTeamIdAndUsageMonth(1L, MARCH);
+    verify(songUsageStatRepository).deleteByTeamIdAndUsageMonth(1L, APRIL);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<SongUsageStat>> captor = ArgumentCaptor.forClass(List.class);
+    verify(songUsageStatRepository, times(2)).saveAll(captor.capture());
+    assertThat(captor.getAllValues().get(0)).isEmpty();
+    List<SongUsageStat> april = captor.getAllValues().get(1);
+    assertThat(april).hasSize(3);
+    assertThat(april.get(0).getSongKey()).isEqualTo("G");
+    assertThat(april.get(0).getTempoBucket()).isEqualTo(70);
+    assertThat(april.get(0).getPlayCount()).isEqualTo(2);
+    assertThat(april.get(0).getLastPlayedOn()).isEqualTo(LocalDate.of(2025, 4, 13));
+    assertThat(april.get(1).getTempoBucket()).isEqualTo(120);
+    assertThat(april.get(2).getSongKey()).isNull();
+    assertThat(april.get(2).getTempoBucket()).isNull();
+  }
+
+  @Test
+  @DisplayName("통계 갱신 - 지워진 콘티는 들어 있던 달을 다시 모으고 기록을 지운다")
+  void refresh_DeletedConti() {
+    // given
+    SongUsageContribution contribution = SongUsageContribution.builder()
+        .contiId(100L).teamId(1L).usageMonth(MARCH).build();
+    when(songUsageContributionRepository.findAllById(List.of(100L)))
+        .thenReturn(List.of(contribution));
+    when(contiRepository.findAllById(List.of(100L))).thenReturn(List.of());
+    when(contiRepository.findSongPlays(1L, SongUsageService.PLAYED_STATUSES, MARCH, APRIL))
+        .thenReturn(List.of());
+
+    // when
+    songUsageService.refresh(List.of(100L));
+
+    // then
+    verify(songUsageContributionRepository).delete(contribution);
+    verify(songUsageStatRepository).deleteByTeamIdAndUsageMonth(1L, MARCH);
+  }
+
+  @Test
+  @DisplayName("통계 갱신 - 예정일이 빠진 확정 콘티는 들어 있던 달만 다시 모으고 기록을 지운다")
+  void refresh_UndatedConti() {
+    // given
+    Conti conti = Conti.builder().id(100L).creator(leader).status(ContiStatus.FINALIZED)
+        .build();
+    SongUsageContribution contribution = SongUsageContribution.builder()
+        .contiId(100L).teamId(1L).usageMonth(MARCH).build();
+    when(songUsageContributionRepository.findAllById(List.of(100L)))
+        .thenReturn(List.of(contribution));
+    when(contiRepository.findAllById(List.of(100L))).thenReturn(List.of(conti));
+    when(contiRepository.findSongPlays(1L, SongUsageService.PLAYED_STATUSES, MARCH, APRIL))
+        .thenReturn(List.of());
+
+    // when
+    songUsageService.refresh(List.of(100L));
+
+    // then
+    verify(songUsageContributionRepository).delete(contribution);
+    verify(songUsageContributionRepository, never()).save(any());
+    verify(songUsageStatRepository).deleteByTeamIdAndUsageMonth(1L, MARCH);
+    verify(songUsageStatRepository, times(1)).deleteByTeamIdAndUsageMonth(any(), any());
+  }
+
+  @Test
+  @DisplayName("재집계 - 저장된 통계가 콘티와 같으면 다시 쓰지 않는다")
+  void reconcileTeam_NoDrift() {
+    // given
+    List<SongPlay> plays = List.of(new SongPlay(10L, "G", "72", LocalDate.of(2025, 4, 6)));
+    when(contiRepository.findSongPlays(1L, SongUsageService.PLAYED_STATUSES, null, null))
+        .thenReturn(plays);
+    when(songUsageStatRepository.findByTeamId(1L))
+        .thenReturn(SongUsageService.aggregate(1L, plays));
+    when(songUsageContributionRepository.findByTeamId(1L)).thenReturn(List.of());
+    when(contiRepository.findUsageContributions(1L)).thenReturn(List.of());
+
+    // when
+    boolean drifted = songUsageService.reconcileTeam(1L);
+
+    // then
+    assertThat(drifted).isFalse();
+    verify(songUsageStatRepository, never()).deleteByTeamId(any());
+    verify(songUsageStatRepository, never()).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("재집계 - 어긋난 통계는 다시 모은 값으로 바꾸고 빠진 콘티 기록을 채운다")
+  void reconcileTeam_Drift() {
+    // given
+    List<SongPlay> plays = List.of(
+        new SongPlay(10L, "G", "72", LocalDate.of(2025, 4, 6)),
+        new SongPlay(10L, "G", "72", LocalDate.of(2025, 4, 13)));
+    SongUsageStat stale = SongUsageStat.builder().teamId(1L).catalogSongId(10L).usageMonth(APRIL)
+        .songKey("G").tempoBucket(70).playCount(1).lastPlayedOn(LocalDate.of(2025, 4, 6))
+        .build();
+    SongUsageContribution found = new SongUsageContribution(100L, 1L, LocalDate.of(2025, 4, 13));
+    when(contiRepository.findSongPlays(1L, SongUsageService.PLAYED_STATUSES, null, null))
+        .thenReturn(plays);
+    when(songUsageStatRepository.findByTeamId(1L)).thenReturn(List.of(stale));
+    when(songUsageContributionRepository.findByTeamId(1L)).thenReturn(List.of());
+    when(contiRepository.findUsageContributions(1L)).thenReturn(List.of(found));
+
+    // when
+    boolean drifted = songUsageService.reconcileTeam(1L);
+
+    // then
+    assertThat(drifted).isTrue();
+    verify(songUsageStatRepository).deleteByTeamId(1L);
+    verify(songUsageStatRepository).saveAll(SongUsageService.aggregate(1L, plays));
+    assertThat(found.getUsageMonth()).isEqualTo(APRIL);
+    verify(songUsageContributionRepository).save(found);
+  }
+
+  @Test
+  @DisplayName("템포 구간 - BPM의 첫 숫자를 10 단위로 내리고 숫자가 없으면 비운다")
+  void tempoBucketOf() {
+    assertThat(SongUsageService.tempoBucketOf("72")).isEqualTo(70);
+    assertThat(SongUsageService.tempoBucketOf("약 128-132")).isEqualTo(120);
+    assertThat(SongUsageService.tempoBucketOf("느리게")).isNull();
+    assertThat(SongUsageService.tempoBucketOf(null)).isNull();
+  }
+}
@@ -18,16 +18,21 @@ import com.github.kiulian.downloader.model.videos.VideoInfo;
 import com.github.kiulian.downloader.model.videos.formats.AudioFormat;
 import faithcoderlab.newdpraise.config.AppConfig;
 import faithcoderlab.newdpraise.domain.song.dto.AudioDownloadResult;
+import faithcoderlab.newdpraise.domain.song.dto.AudioLibraryEntry;
 import faithcoderlab.newdpraise.domain.song.dto.YoutubeVideoInfo;
 import faithcoderlab.newdpraise.global.exception.YoutubeDownloadException;
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -44,6 +49,9 @@ class YoutubeDownloadServiceTest {
   @Mock
   private AppConfig appConfig;
 
+  @Mock
+  private AudioLibraryIndex audioLibraryIndex;
+
   @Mock
   private Response<VideoInfo> videoInfoResponse;
 
@@ -290,4 +298,62 @@ class YoutubeDownloadServiceTest {
     verify(youtubeDownloader).getVideoInfo(any(RequestVideoInfo.class));
     verify(youtubeDownloader, never()).downloadVideoFile(any(RequestVideoFileDownload.class));
   }
+
+  @Test
+  @DisplayName("다운로드된 파일 목록 조회 - 색인 사용")
+  void getDownloadedAudioFiles_UsesIndex() {
+    // given
+    when(audioLibraryIndex.getFileNames()).thenReturn(List.of("R9tUikvBv5M.m4a"));
+
+    // when
+    List<String> result = youtubeDownloadService.getDownloadedAudioFiles();
+
+    // then
+    assertThat(result).containsExactly("R9tUikvBv5M.m4a");
+    verify(audioLibraryIndex).getFileNames();
+  }
+
+  @Test
+  @DisplayName("오디오 파일 존재 확인 - 색인 사용")
+  void isAudioFileExists_UsesIndex() {
+    // given
+    when(audioLibraryIndex.contains("R9tUikvBv5M")).thenReturn(true);
+
+    // when & then
+    assertThat(youtubeDownloadService.isAudioFileExists("R9tUikvBv5M")).isTrue();
+  }
+
+  @Test
+  @DisplayName("오디오 파일 삭제 - 성공")
+  void deleteAudioFile_Success(@TempDir Path tempDir) throws Exception {
+    // given
+    Path file = Files.writeString(tempDir.resolve("R9tUikvBv5M.m4a"), "audio");
+    AudioLibraryEntry entry = AudioLibraryEntry.builder()
+        .videoId("R9tUikvBv5M")
+        .path(file)
+        .size(5L)
+        .lastModified(0L)
+        .mimeType("audio/mp4")
+        .build();
+    when(audioLibraryIndex.find("R9tUikvBv5M")).thenReturn(Optional.of(entry));
+
+    // when
+    boolean result = youtubeDownloadService.deleteAudioFile("R9tUikvBv5M");
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(file).doesNotExist();
+    verify(audioLibraryIndex).remove("R9tUikvBv5M");
+  }
+
+  @Test
+  @DisplayName("오디오 파일 삭제 - 색인에 없음")
+  void deleteAudioFile_NotIndexed_ReturnsFalse() {
+    // given
+    when(audioLibraryIndex.find("nonexistent")).thenReturn(Optional.empty());
+
+    // when & then
+    assertThat(youtubeDownloadService.deleteAudioFile("nonexistent")).isFalse();
+    verify(audioLibraryIndex, never()).remove(any());
+  }
 }
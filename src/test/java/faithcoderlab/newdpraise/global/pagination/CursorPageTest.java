@@ -0,0 +1,83 @@
+package faithcoderlab.newdpraise.global.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorPageTest {
+
+  @Test
+  @DisplayName("커서 - 정렬 값과 ID를 그대로 되돌린다")
+  void cursorTokenRoundTrip() {
+    // given
+    LocalDate scheduledAt = LocalDate.of(2024, 3, 10);
+    LocalDateTime createdAt = LocalDateTime.of(2024, 3, 10, 9, 30, 15, 123_000_000);
+
+    // when
+    CursorToken dateToken = CursorToken.decode(CursorToken.encode(scheduledAt, 42L));
+    CursorToken dateTimeToken = CursorToken.decode(CursorToken.encode(createdAt, 7L));
+
+    // then
+    assertThat(dateToken.keyAsDate()).isEqualTo(scheduledAt);
+    assertThat(dateToken.getId()).isEqualTo(42L);
+    assertThat(dateTimeToken.keyAsDateTime()).isEqualTo(createdAt);
+    assertThat(dateTimeToken.getId()).isEqualTo(7L);
+    assertThat(CursorToken.decode(null)).isNull();
+    assertThat(CursorToken.decode(" ")).isNull();
+  }
+
+  @Test
+  @DisplayName("커서 - 정렬 값이 없는 행은 빈 키로 인코딩하고 null로 되돌린다")
+  void cursorTokenWithoutKey() {
+    // when
+    CursorToken token = CursorToken.decode(CursorToken.encode(null, 42L));
+
+    // then
+    assertThat(token.hasKey()).isFalse();
+    assertThat(token.keyAsDate()).isNull();
+    assertThat(token.getId()).isEqualTo(42L);
+    assertThatThrownBy(token::keyAsDateTime)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("잘못된 커서입니다.");
+  }
+
+  @Test
+  @DisplayName("커서 - 잘못된 커서는 IllegalArgumentException")
+  void invalidCursor() {
+    assertThatThrownBy(() -> CursorToken.decode("%%%"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("잘못된 커서입니다.");
+    assertThatThrownBy(() -> CursorToken.decode(CursorToken.encode("2024-03-10", null)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CursorToken.decode(CursorToken.encode("어제", 1L)).keyAsDate())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("잘못된 커서입니다.");
+  }
+
+  @Test
+  @DisplayName("페이지 - 한 행을 더 읽었으면 다음 커서를 마지막 항목으로 만든다")
+  void pageFromRows() {
+    // given
+    List<Long> rows = List.of(5L, 4L, 3L);
+
+    // when
+    CursorPage<Long> full = CursorPage.of(rows, 2, id -> "c" + id);
+    CursorPage<Long> last = CursorPage.of(rows, 3, id -> "c" + id);
+
+    // then
+    assertThat(full.getItems()).containsExactly(5L, 4L);
+    assertThat(full.isHasNext()).isTrue();
+    assertThat(full.getNextCursor()).isEqualTo("c4");
+    assertThat(last.getItems()).containsExactly(5L, 4L, 3L);
+    assertThat(last.isHasNext()).isFalse();
+    assertThat(last.getNextCursor()).isNull();
+    assertThat(full.map(String::valueOf).getItems()).containsExactly("5", "4");
+    assertThat(CursorPage.fetchRange(CursorPage.pageSize(500)).getPageSize())
+        .isEqualTo(CursorPage.MAX_SIZE + 1);
+  }
+}